@@ -23,8 +23,37 @@ public class App extends Application {
     private static final Logger logger = Logger.getLogger(App.class.getName());
     private static final String APP_NAME = "Manufacturing Management System";
     private static final String APP_VERSION = "2.0";
+    // Loaded, not initialized, in the background while the database starts;
+    // the classes the login screen and the first screens need
+    private static final String[] PRELOADED_CLASSES = {
+        "com.mycompany.manufacturing_system.LoginView",
+        "com.mycompany.manufacturing_system.LoginHandler",
+        "com.mycompany.manufacturing_system.ModernMainMenuView",
+        "com.mycompany.manufacturing_system.NavigationController",
+        "com.mycompany.manufacturing_system.SessionOperations",
+        "com.mycompany.manufacturing_system.ProductionDashboardView",
+        "com.mycompany.manufacturing_system.MyTasksView",
+        "com.mycompany.manufacturing_system.ManufacturingOperations",
+        "com.mycompany.manufacturing_system.ProductionOrder",
+        "com.mycompany.manufacturing_system.DeltaSync",
+        "javafx.scene.control.TableView",
+        "javafx.scene.control.TableColumn",
+        "javafx.scene.control.ComboBox",
+        "javafx.scene.control.DatePicker",
+        "javafx.scene.control.TabPane",
+        "javafx.scene.control.TextArea",
+        "javafx.scene.control.PasswordField",
+        "javafx.scene.chart.LineChart",
+        "javafx.scene.chart.BarChart",
+        "javafx.scene.chart.PieChart",
+        "javafx.scene.effect.DropShadow",
+        "javafx.animation.FadeTransition",
+        "javafx.animation.ScaleTransition"
+    };
     private Stage primaryStage;
     private boolean shutdownInProgress = false;
+    private volatile ReportSnapshotScheduler reportSnapshotScheduler;
+    private StartupOrchestrator startup;
     
     static {
         initializeLogging();
@@ -57,17 +86,46 @@ public class App extends Application {
         super.init();
         logger.info("Initializing " + APP_NAME + " v" + APP_VERSION + "...");
         
-        try {
-            // Pre-initialize database connection with retry logic
+        // These run while start() builds the login screen. A login that
+        // comes before the database phase is done waits for it when it
+        // takes a connection.
+        startup = new StartupOrchestrator(logger);
+        startup.start("classes", App::preloadClasses);
+        startup.start("database", () -> {
+            // Schema setup and a connection test, with retry logic
             if (!initializeDatabaseWithRetry()) {
-                throw new Exception("Failed to initialize database connection after multiple attempts");
+                throw new IllegalStateException("Failed to initialize database connection after multiple attempts");
             }
-            
             logger.info("Database connection initialized successfully");
-            
-        } catch (Exception e) {
-            logger.severe("Failed to initialize database connection: " + e.getMessage());
-            throw e;
+        });
+        startup.start("pool", DatabaseConnection::fillPool, "database");
+        startup.start("services", this::startServices, "database");
+    }
+    
+    /**
+     * Start the background services that need the database
+     */
+    private void startServices() {
+        // Precompute morning reports off-peak
+        reportSnapshotScheduler = new ReportSnapshotScheduler();
+        reportSnapshotScheduler.start();
+        
+        // Role permissions are checked in memory from here on
+        RolePermissions.shared().start();
+    }
+    
+    /**
+     * Load the classes of the first screens so showing them does not
+     * wait on class loading
+     */
+    private static void preloadClasses() {
+        ClassLoader loader = App.class.getClassLoader();
+        for (String name : PRELOADED_CLASSES) {
+            try {
+                Class.forName(name, false, loader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                logger.fine("Could not preload " + name + ": " + e);
+            }
         }
     }
     
@@ -114,29 +172,38 @@ public class App extends Application {
         try {
             logger.info("Starting " + APP_NAME + " application...");
             
-            // Set application properties
-            configureStage(primaryStage);
-            
-            // Verify database connection before proceeding
-            if (!DatabaseConnection.testConnection()) {
-                showDatabaseError(primaryStage);
-                return;
-            }
-            
-            // Create and show login view
-            showLoginView(primaryStage);
-            
-            // Configure application shutdown handler
-            configureShutdownHandler(primaryStage);
-            
-            // Show the stage
-            primaryStage.show();
-            
-            // Center the stage on screen
-            centerStageOnScreen(primaryStage);
-            
+            startup.run("stage", () -> {
+                // Watch for UI stalls from the first screen on
+                FxPulseMonitor.shared().start(primaryStage, logger);
+                
+                // Set application properties
+                configureStage(primaryStage);
+                
+                // Create and show login view
+                showLoginView(primaryStage);
+                
+                // Configure application shutdown handler
+                configureShutdownHandler(primaryStage);
+                
+                // Show the stage
+                primaryStage.show();
+                
+                // Center the stage on screen
+                centerStageOnScreen(primaryStage);
+            });
+            startup.logMilestone("Login screen shown");
             logger.info(APP_NAME + " started successfully");
-            logSystemInfo();
+            
+            // The login screen does not wait for the database; a failure is shown over it
+            startup.phase("database").whenComplete((done, error) -> {
+                if (error != null) {
+                    Platform.runLater(() -> showDatabaseError(primaryStage));
+                } else {
+                    // Includes a connection test, so it stays off the FX thread
+                    logSystemInfo();
+                }
+            });
+            startup.reportWhenDone();
             
         } catch (Exception e) {
             logger.severe("Failed to start application: " + e.getMessage());
@@ -358,6 +425,16 @@ public class App extends Application {
         try {
             logger.info("Performing shutdown cleanup...");
             
+            if (reportSnapshotScheduler != null) {
+                reportSnapshotScheduler.stop();
+            }
+            RolePermissions.shared().stop();
+            DeltaSync.shared().stop();
+            FxPulseMonitor.shared().stop();
+            
+            // Write queued audit records while the connections are still open
+            AuditLog.shared().shutdown(5000);
+            
             // Close database connections
             DatabaseConnection.closeConnection();
             logger.info("Database connections closed");
@@ -453,14 +530,17 @@ public class App extends Application {
             if (result.isPresent() && result.get() == retryButton) {
                 logger.info("User requested database connection retry");
                 
-                // Retry database connection
-                if (initializeDatabaseWithRetry()) {
-                    logger.info("Database connection retry successful");
-                    showLoginView(primaryStage);
-                } else {
-                    logger.severe("Database connection retry failed");
-                    showDatabaseError(primaryStage); // Show error again
-                }
+                // Retry database connection off the FX thread, the login screen stays up
+                BackgroundExecutor.shared().execute(() -> {
+                    if (initializeDatabaseWithRetry()) {
+                        logger.info("Database connection retry successful");
+                        DatabaseConnection.fillPool();
+                        startServices();
+                    } else {
+                        logger.severe("Database connection retry failed");
+                        Platform.runLater(() -> showDatabaseError(primaryStage)); // Show error again
+                    }
+                });
             } else {
                 logger.info("User chose to exit due to database error");
                 performApplicationShutdown();
@@ -0,0 +1,317 @@
+package com.mycompany.manufacturing_system;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Asynchronous sink for audit_log and user_activity_log rows.
+ * Callers only put a record on a bounded queue; a background writer takes
+ * whatever has queued up and inserts it as JDBC batches, one transaction per
+ * batch. When the queue is full or the database is unavailable, records are
+ * appended to a local spill file (audit.spillFile) instead of being lost.
+ * shutdown() drains the queue before the connections are closed.
+ */
+public class AuditLog {
+    private static final Logger logger = Logger.getLogger(AuditLog.class.getName());
+
+    /**
+     * Whether the caller waits until its record is written
+     */
+    public enum Durability { FIRE_AND_FORGET, WAIT_FOR_FLUSH }
+
+    /**
+     * Durability used for security-critical events such as account lockouts
+     */
+    public static final Durability CRITICAL_DURABILITY =
+        Durability.valueOf(System.getProperty("audit.criticalDurability", "WAIT_FOR_FLUSH"));
+
+    private static final AuditLog SHARED = new AuditLog(
+        Integer.getInteger("audit.queueCapacity", 10000),
+        Integer.getInteger("audit.batchSize", 200),
+        Long.getLong("audit.flushTimeoutMillis", 2000),
+        Paths.get(System.getProperty("audit.spillFile", "audit_spill.log")));
+
+    private static final String INSERT_SECURITY_EVENT = """
+        INSERT INTO audit_log (username, action, status, description, timestamp)
+        VALUES (?, ?, ?, ?, ?)
+        """;
+
+    private static final String INSERT_USER_ACTIVITY = """
+        INSERT INTO user_activity_log (user_id, activity, description, timestamp)
+        VALUES (?, ?, ?, ?)
+        """;
+
+    private final BlockingQueue<AuditRecord> queue;
+    private final int batchSize;
+    private final long flushTimeoutMillis;
+    private final Path spillFile;
+    private final Thread writer;
+    private volatile boolean closed;
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+    private final AtomicLong lost = new AtomicLong();
+
+    public AuditLog(int capacity, int batchSize, long flushTimeoutMillis, Path spillFile) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushTimeoutMillis = flushTimeoutMillis;
+        this.spillFile = spillFile;
+        this.writer = new Thread(this::writeLoop, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * The audit log shared by the whole application
+     */
+    public static AuditLog shared() {
+        return SHARED;
+    }
+
+    /**
+     * Record a security event in audit_log
+     */
+    public void securityEvent(String username, String action, boolean success, String description,
+                              Durability durability) {
+        submit(new AuditRecord(AuditRecord.SECURITY_EVENT, username, 0, action, success, description), durability);
+    }
+
+    /**
+     * Record a user activity in user_activity_log. Never waits.
+     */
+    public void userActivity(int userId, String activity, String description) {
+        submit(new AuditRecord(AuditRecord.USER_ACTIVITY, null, userId, activity, true, description),
+            Durability.FIRE_AND_FORGET);
+    }
+
+    private void submit(AuditRecord record, Durability durability) {
+        if (durability == Durability.WAIT_FOR_FLUSH) {
+            record.flushed = new CompletableFuture<>();
+        }
+        if (closed || !queue.offer(record)) {
+            // Full queue or shutting down: the spill file keeps the record
+            List<AuditRecord> overflow = new ArrayList<>(1);
+            overflow.add(record);
+            spill(overflow);
+            return;
+        }
+        if (record.flushed != null) {
+            try {
+                record.flushed.get(flushTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                logger.warning("Audit record not flushed within " + flushTimeoutMillis + " ms: " + record.action);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                logger.warning("Audit record flush failed: " + e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Stop accepting records and wait for the queued ones to be written.
+     * Whatever is still queued after the timeout goes to the spill file.
+     */
+    public void shutdown(long timeoutMillis) {
+        closed = true;
+        try {
+            writer.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer.interrupt();
+        List<AuditRecord> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            spill(remaining);
+        }
+        logger.info("Audit log closed: " + written.get() + " written, " + spilled.get()
+            + " spilled, " + lost.get() + " lost");
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public long getSpilledCount() {
+        return spilled.get();
+    }
+
+    public long getLostCount() {
+        return lost.get();
+    }
+
+    private void writeLoop() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        while (true) {
+            try {
+                AuditRecord first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (closed) {
+                        return;
+                    }
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                // shutdown() spills whatever is left
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Insert a batch in one transaction, or spill it if the database fails
+     */
+    private void flush(List<AuditRecord> batch) {
+        Connection conn = null;
+        try {
+            conn = DatabaseConnection.getConnection();
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (PreparedStatement securityStmt = conn.prepareStatement(INSERT_SECURITY_EVENT);
+                 PreparedStatement activityStmt = conn.prepareStatement(INSERT_USER_ACTIVITY)) {
+                int securityCount = 0;
+                int activityCount = 0;
+                for (AuditRecord record : batch) {
+                    if (record.kind == AuditRecord.SECURITY_EVENT) {
+                        securityStmt.setString(1, record.username != null ? record.username : "unknown");
+                        securityStmt.setString(2, record.action);
+                        securityStmt.setBoolean(3, record.success);
+                        securityStmt.setString(4, record.description);
+                        securityStmt.setTimestamp(5, new Timestamp(record.createdAt));
+                        securityStmt.addBatch();
+                        securityCount++;
+                    } else {
+                        activityStmt.setInt(1, record.userId);
+                        activityStmt.setString(2, record.action);
+                        activityStmt.setString(3, record.description);
+                        activityStmt.setTimestamp(4, new Timestamp(record.createdAt));
+                        activityStmt.addBatch();
+                        activityCount++;
+                    }
+                }
+                if (securityCount > 0) {
+                    securityStmt.executeBatch();
+                }
+                if (activityCount > 0) {
+                    activityStmt.executeBatch();
+                }
+                conn.commit();
+                written.addAndGet(batch.size());
+                complete(batch);
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            logger.warning("Failed to write " + batch.size() + " audit records, spilling to "
+                + spillFile + ": " + e.getMessage());
+            spill(batch);
+        } finally {
+            DatabaseConnection.releaseConnection(conn);
+        }
+    }
+
+    /**
+     * Append records to the spill file, one tab-separated line each
+     */
+    private synchronized void spill(List<AuditRecord> records) {
+        try (BufferedWriter out = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (AuditRecord record : records) {
+                out.write(new Timestamp(record.createdAt).toString());
+                out.write('\t');
+                if (record.kind == AuditRecord.SECURITY_EVENT) {
+                    out.write("audit_log\t");
+                    out.write(escape(record.username));
+                    out.write('\t');
+                    out.write(escape(record.action));
+                    out.write('\t');
+                    out.write(record.success ? "1" : "0");
+                } else {
+                    out.write("user_activity_log\t");
+                    out.write(String.valueOf(record.userId));
+                    out.write('\t');
+                    out.write(escape(record.action));
+                }
+                out.write('\t');
+                out.write(escape(record.description));
+                out.newLine();
+            }
+            spilled.addAndGet(records.size());
+        } catch (IOException e) {
+            lost.addAndGet(records.size());
+            logger.severe("Failed to spill " + records.size() + " audit records: " + e.getMessage());
+        }
+        complete(records);
+    }
+
+    private static void complete(List<AuditRecord> records) {
+        for (AuditRecord record : records) {
+            if (record.flushed != null) {
+                record.flushed.complete(null);
+            }
+        }
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+    }
+}
+
+/**
+ * A queued audit_log or user_activity_log row
+ */
+class AuditRecord {
+    static final int SECURITY_EVENT = 0;
+    static final int USER_ACTIVITY = 1;
+
+    final int kind;
+    final String username;
+    final int userId;
+    final String action;
+    final boolean success;
+    final String description;
+    final long createdAt = System.currentTimeMillis();
+    // Set only when the caller waits for the write
+    CompletableFuture<Void> flushed;
+
+    AuditRecord(int kind, String username, int userId, String action, boolean success, String description) {
+        this.kind = kind;
+        this.username = username;
+        this.userId = userId;
+        this.action = action;
+        this.success = success;
+        this.description = description;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.mycompany.manufacturing_system;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executor shared by the views for work that must stay off the JavaFX
+ * thread: logins, database loads and view construction. Each task gets its
+ * own virtual thread, so a task blocked on JDBC costs no platform thread and
+ * tasks never queue behind each other.
+ */
+public final class BackgroundExecutor {
+    private static final ExecutorService SHARED = Executors.newVirtualThreadPerTaskExecutor();
+
+    private BackgroundExecutor() {
+    }
+
+    public static ExecutorService shared() {
+        return SHARED;
+    }
+
+    /**
+     * Executor that runs its tasks one at a time, in submission order, on
+     * the shared virtual threads. For work sharing one connection, such as
+     * the loads of a view's Operations object. Holds no thread while idle.
+     */
+    public static Executor serial() {
+        return new SerialExecutor(SHARED);
+    }
+}
+
+/**
+ * Runs tasks one after another on a backing executor
+ */
+class SerialExecutor implements Executor {
+    private final Executor backing;
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private Runnable active;
+
+    SerialExecutor(Executor backing) {
+        this.backing = backing;
+    }
+
+    @Override
+    public synchronized void execute(Runnable task) {
+        tasks.add(() -> {
+            try {
+                task.run();
+            } finally {
+                scheduleNext();
+            }
+        });
+        if (active == null) {
+            scheduleNext();
+        }
+    }
+
+    private synchronized void scheduleNext() {
+        active = tasks.poll();
+        if (active != null) {
+            backing.execute(active);
+        }
+    }
+}
\ No newline at end of file
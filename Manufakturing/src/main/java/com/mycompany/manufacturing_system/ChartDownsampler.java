@@ -0,0 +1,78 @@
+package com.mycompany.manufacturing_system;
+
+/**
+ * Largest-Triangle-Three-Buckets downsampling for line charts.
+ * Keeps the first and last point and, from each bucket in between, the point
+ * that forms the largest triangle with the previously kept point and the
+ * average of the next bucket. Peaks and dips survive, unlike with averaging or
+ * taking every n-th point, so a series reduced to one point per pixel column
+ * looks the same as the full series.
+ */
+final class ChartDownsampler {
+
+    private ChartDownsampler() {
+    }
+
+    /**
+     * Indices of the points to keep from x[from..to), at most threshold of
+     * them. x must be ascending. Returns every index when the range already
+     * fits.
+     */
+    static int[] largestTriangleThreeBuckets(double[] x, double[] y, int from, int to, int threshold) {
+        int count = to - from;
+        if (count <= 0) {
+            return new int[0];
+        }
+        if (threshold >= count || threshold < 3) {
+            int[] all = new int[count];
+            for (int i = 0; i < count; i++) {
+                all[i] = from + i;
+            }
+            return all;
+        }
+
+        int[] selected = new int[threshold];
+        int kept = 0;
+        selected[kept++] = from;
+
+        // The first and last points are fixed; the rest are split into buckets
+        double bucketSize = (double) (count - 2) / (threshold - 2);
+        int previous = from;
+
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            // Average of the next bucket is the third corner of the triangle
+            int nextStart = from + (int) ((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min(from + (int) ((bucket + 2) * bucketSize) + 1, to);
+            double averageX = 0;
+            double averageY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                averageX += x[i];
+                averageY += y[i];
+            }
+            int nextCount = nextEnd - nextStart;
+            averageX /= nextCount;
+            averageY /= nextCount;
+
+            int start = from + (int) (bucket * bucketSize) + 1;
+            int end = from + (int) ((bucket + 1) * bucketSize) + 1;
+            double previousX = x[previous];
+            double previousY = y[previous];
+            double maxArea = -1;
+            int chosen = start;
+            for (int i = start; i < end; i++) {
+                // Twice the triangle area; the factor does not change the winner
+                double area = Math.abs((previousX - averageX) * (y[i] - previousY)
+                    - (previousX - x[i]) * (averageY - previousY));
+                if (area > maxArea) {
+                    maxArea = area;
+                    chosen = i;
+                }
+            }
+            selected[kept++] = chosen;
+            previous = chosen;
+        }
+
+        selected[kept] = to - 1;
+        return selected;
+    }
+}
\ No newline at end of file
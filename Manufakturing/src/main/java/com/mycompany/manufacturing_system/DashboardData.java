@@ -0,0 +1,33 @@
+package com.mycompany.manufacturing_system;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Results of one parallel dashboard load
+ */
+class DashboardData {
+    ProductionSummary production;
+    QualitySummary quality;
+    InventorySummary inventory;
+    FinancialSummary financial;
+    List<TrendData> trend;
+    List<EfficiencyData> efficiency;
+    Map<String, Integer> defects;
+    List<OeeData> oee;
+    Map<String, Long> queryMillis;
+    long elapsedMillis;
+
+    public ProductionSummary getProduction() { return production; }
+    public QualitySummary getQuality() { return quality; }
+    public InventorySummary getInventory() { return inventory; }
+    public FinancialSummary getFinancial() { return financial; }
+    public List<TrendData> getTrend() { return trend; }
+    public List<EfficiencyData> getEfficiency() { return efficiency; }
+    public Map<String, Integer> getDefects() { return defects; }
+    public List<OeeData> getOee() { return oee; }
+
+    // Per-query wall time, for spotting the slowest query
+    public Map<String, Long> getQueryMillis() { return queryMillis; }
+    public long getElapsedMillis() { return elapsedMillis; }
+}
\ No newline at end of file
@@ -4,6 +4,9 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -12,7 +15,7 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public class DatabaseConnection {
     // Menggunakan MySQL Database
-    private static final String URL = "jdbc:mysql://localhost:3307/manufacturing_system?useSSL=false&serverTimezone=UTC";
+    private static final String URL = "jdbc:mysql://localhost:3307/manufacturing_system?useSSL=false&serverTimezone=UTC&rewriteBatchedStatements=true";
     private static final String USER = "root"; 
     private static final String PASSWORD = ""; // Sesuaikan dengan password MySQL Anda
 
@@ -26,7 +29,7 @@ public class DatabaseConnection {
         try {
             // Menggunakan driver MySQL
             Class.forName("com.mysql.cj.jdbc.Driver");
-            initializeConnectionPool();
+            // One connection for the schema; fillPool() opens the rest in parallel
             initializeDatabase();
             System.out.println("Manufacturing database connection pool initialized successfully.");
         } catch (ClassNotFoundException e) {
@@ -38,19 +41,40 @@ public class DatabaseConnection {
         }
     }
 
-    private static void initializeConnectionPool() throws SQLException {
-        for (int i = 0; i < MIN_CONNECTIONS; i++) {
-            connectionPool.offer(createNewConnection());
+    /**
+     * Open connections in parallel until the pool holds its minimum, so the
+     * first screens do not each wait for a connect
+     */
+    public static void fillPool() {
+        List<CompletableFuture<Void>> opening = new ArrayList<>();
+        for (int i = connectionPool.size(); i < MIN_CONNECTIONS; i++) {
+            opening.add(CompletableFuture.runAsync(() -> {
+                try {
+                    connectionPool.offer(createNewConnection());
+                } catch (SQLException e) {
+                    System.err.println("Failed to open pooled connection: " + e.getMessage());
+                }
+            }, BackgroundExecutor.shared()));
         }
+        CompletableFuture.allOf(opening.toArray(new CompletableFuture<?>[0])).join();
     }
 
     private static Connection createNewConnection() throws SQLException {
-        Connection conn = DriverManager.getConnection(URL, USER, PASSWORD);
+        Connection conn = FxThreadCheck.guard(DriverManager.getConnection(URL, USER, PASSWORD));
         connectionCount.incrementAndGet();
         return conn;
     }
 
     public static Connection getConnection() throws SQLException {
+        return getConnection(1000);
+    }
+
+    /**
+     * Check out a connection, waiting up to waitMillis for one to be
+     * released when the pool is at its maximum
+     */
+    public static Connection getConnection(long waitMillis) throws SQLException {
+        FxThreadCheck.checkNotFxThread("connection checkout");
         Connection conn = connectionPool.poll();
 
         if (conn == null || conn.isClosed()) {
@@ -58,7 +82,7 @@ public class DatabaseConnection {
                 conn = createNewConnection();
             } else {
                 // Wait for available connection
-                for (int i = 0; i < 10; i++) {
+                for (long waited = 0; waited < waitMillis; waited += 100) {
                     try {
                         Thread.sleep(100);
                         conn = connectionPool.poll();
@@ -79,6 +103,14 @@ public class DatabaseConnection {
         return conn;
     }
 
+    /**
+     * Connections that can be checked out now without waiting: the idle ones
+     * plus the ones the pool may still open
+     */
+    public static int availableConnections() {
+        return connectionPool.size() + Math.max(0, MAX_CONNECTIONS - connectionCount.get());
+    }
+
     public static void releaseConnection(Connection conn) {
         if (conn != null) {
             try {
@@ -95,10 +127,15 @@ public class DatabaseConnection {
     }
 
     public static boolean testConnection() {
-        try (Connection conn = getConnection()) {
-            return conn != null && !conn.isClosed();
+        Connection conn = null;
+        try {
+            conn = getConnection();
+            return !conn.isClosed();
         } catch (SQLException e) {
             return false;
+        } finally {
+            // Back to the pool, closing it would leak its slot
+            releaseConnection(conn);
         }
     }
 
@@ -118,8 +155,8 @@ public class DatabaseConnection {
     }
 
     private static void initializeDatabase() throws SQLException {
-        try (Connection conn = getConnection()) {
-            Statement stmt = conn.createStatement();
+        Connection conn = getConnection();
+        try (Statement stmt = conn.createStatement()) {
 
             // Create database if not exists
             // MySQL does not allow CREATE DATABASE and USE in the same statement block like H2
@@ -211,12 +248,13 @@ public class DatabaseConnection {
             createProductionLines(stmt);
             insertSampleData(stmt);
 
-            releaseConnection(conn);
             System.out.println("Manufacturing database initialized successfully.");
 
         } catch (SQLException e) {
             System.err.println("Failed to initialize database: " + e.getMessage());
             throw e;
+        } finally {
+            releaseConnection(conn);
         }
     }
 
@@ -0,0 +1,398 @@
+package com.mycompany.manufacturing_system;
+
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Keeps the open live views current without reloading them.
+ * Every subscriber has a high-water mark; a poll fetches only the rows
+ * whose updated_at moved past the oldest mark on the table, through an
+ * updated_at index, and hands each subscriber the rows past its own mark.
+ * updated_at is stamped when a row is written, not when its transaction
+ * commits, so a row can become visible with a stamp well behind the last
+ * poll. Marks therefore trail the server clock by sync.commitLagSeconds
+ * (30), longer than any write transaction should take, and the rows in that
+ * window are read again on every poll; a subscriber remembers the key and
+ * stamp of each row it was given there and is only handed rows it has not
+ * seen.
+ * A view that is hidden, such as a cached screen, is paused rather than
+ * dropped, and catches up on what it missed when shown again. An idle poll is a single statement
+ * of MAX(updated_at) lookups, which MySQL answers from the end of each index
+ * without reading rows. The interval drops to sync.minIntervalMillis (1000)
+ * after a change and doubles up to sync.maxIntervalMillis (15000) while
+ * nothing changes; with no view watching, nothing is polled. Deleted rows
+ * leave no updated_at trace and disappear on the view's next full refresh.
+ * A table whose rows are only ever inserted, such as stock_movements, is
+ * watched by its created_at instead.
+ */
+public class DeltaSync {
+    private static final Logger logger = Logger.getLogger(DeltaSync.class.getName());
+
+    /**
+     * Builds a model object from the current result set row
+     */
+    public interface RowMapper<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+
+    /**
+     * A table that can be watched, its key, the timestamp column its changes
+     * are found by, the query its rows are read with and the mapper for them
+     */
+    public static final class Table<T> {
+        public static final Table<ProductionOrder> PRODUCTION_ORDERS =
+            new Table<>("production_orders", "order_id", "updated_at", ManufacturingOperations::mapOrder);
+        public static final Table<InventoryItem> INVENTORY_ITEMS =
+            new Table<>("inventory_items", "item_id", "updated_at", InventoryOperations::mapInventoryItem);
+        // The same join as the inspection lists, so a delta row carries the order's product name
+        public static final Table<QualityInspection> QUALITY_INSPECTIONS =
+            new Table<>("quality_inspections", "inspection_id", "updated_at", """
+                SELECT qi.*, po.product_name
+                FROM quality_inspections qi
+                LEFT JOIN production_orders po ON qi.order_id = po.order_id
+                """, "qi.", QualityOperations::mapInspection);
+        public static final Table<StockMovementRecord> STOCK_MOVEMENTS =
+            new Table<>("stock_movements", "movement_id", "created_at", InventoryOperations::readStockMovement);
+
+        private final String name;
+        private final String keyColumn;
+        private final String stampColumn;
+        private final String select;
+        // Prefix of the stamp column in select, for a query that joins other tables
+        private final String alias;
+        private final RowMapper<T> mapper;
+
+        private Table(String name, String keyColumn, String stampColumn, RowMapper<T> mapper) {
+            this(name, keyColumn, stampColumn, "SELECT * FROM " + name + "\n", "", mapper);
+        }
+
+        private Table(String name, String keyColumn, String stampColumn, String select, String alias,
+                      RowMapper<T> mapper) {
+            this.name = name;
+            this.keyColumn = keyColumn;
+            this.stampColumn = stampColumn;
+            this.select = select;
+            this.alias = alias;
+            this.mapper = mapper;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    // A new subscriber also takes rows changed this long before it started, in
+    // case they landed between the view's full load and the watch or the local
+    // clock runs ahead of the server's. Views apply rows by key, so getting one
+    // twice is harmless.
+    private static final int LOOKBACK_SECONDS = 10;
+    // How far a row's stamp may be behind the commit that makes it visible
+    private static final int COMMIT_LAG_SECONDS = Integer.getInteger("sync.commitLagSeconds", 30);
+
+    private static final DeltaSync SHARED = new DeltaSync(
+        Long.getLong("sync.minIntervalMillis", 1000),
+        Long.getLong("sync.maxIntervalMillis", 15000));
+    private static final Set<String> indexedTables = ConcurrentHashMap.newKeySet();
+
+    private final long minIntervalMillis;
+    private final long maxIntervalMillis;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "delta-sync");
+        t.setDaemon(true);
+        return t;
+    });
+    private final Map<Table<?>, Watch<?>> watches = new ConcurrentHashMap<>();
+    private long intervalMillis; // only touched on the sync thread
+    // Server clock minus local clock, from the last poll
+    private volatile long clockOffsetMillis;
+    private ScheduledFuture<?> nextPoll; // guarded by this
+
+    public DeltaSync(long minIntervalMillis, long maxIntervalMillis) {
+        this.minIntervalMillis = minIntervalMillis;
+        this.maxIntervalMillis = maxIntervalMillis;
+        this.intervalMillis = minIntervalMillis;
+    }
+
+    /**
+     * The sync shared by the whole application
+     */
+    public static DeltaSync shared() {
+        return SHARED;
+    }
+
+    /**
+     * Pass the table's changed rows to onChange, on the sync thread, until
+     * the returned Runnable is run
+     */
+    public <T> Runnable subscribe(Table<T> table, Consumer<List<T>> onChange) {
+        Subscriber<T> subscriber = new Subscriber<>(onChange, startMark());
+        resume(table, subscriber);
+        return () -> watchFor(table).subscribers.remove(subscriber);
+    }
+
+    /**
+     * Pass the changed rows to onChange on the FX thread while the view is
+     * in a showing window. Rows that change while it is hidden are passed
+     * when it shows again. Call on the FX thread when the view's data is loaded.
+     */
+    public <T> void watch(Node view, Table<T> table, Consumer<List<T>> onChange) {
+        ObservableValue<Boolean> showing = view.sceneProperty()
+            .flatMap(Scene::windowProperty)
+            .flatMap(Window::showingProperty)
+            .orElse(false);
+        Subscriber<T> subscriber = new Subscriber<>(
+            rows -> Platform.runLater(() -> onChange.accept(rows)), startMark());
+        ChangeListener<Boolean> listener = (obs, wasShowing, isShowing) -> {
+            if (isShowing) {
+                resume(table, subscriber);
+            } else {
+                watchFor(table).subscribers.remove(subscriber);
+            }
+        };
+        showing.addListener(listener);
+        if (showing.getValue()) {
+            resume(table, subscriber);
+        }
+    }
+
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Watch<T> watchFor(Table<T> table) {
+        return (Watch<T>) watches.computeIfAbsent(table, t -> new Watch<>(table));
+    }
+
+    private <T> void resume(Table<T> table, Subscriber<T> subscriber) {
+        watchFor(table).subscribers.addIfAbsent(subscriber);
+        wake();
+    }
+
+    /**
+     * Where a new subscriber starts: the server's current time, less a
+     * lookback for rows that landed between the view's load and now, and
+     * the commit lag for rows committed since the load with older stamps
+     */
+    private Timestamp startMark() {
+        return new Timestamp(System.currentTimeMillis() + clockOffsetMillis
+            - TimeUnit.SECONDS.toMillis(LOOKBACK_SECONDS + COMMIT_LAG_SECONDS));
+    }
+
+    /**
+     * Poll right away unless polls are already scheduled
+     */
+    private synchronized void wake() {
+        if (nextPoll == null && !executor.isShutdown()) {
+            nextPoll = executor.schedule(this::poll, 0, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void poll() {
+        List<Watch<?>> active = new ArrayList<>();
+        for (Watch<?> watch : watches.values()) {
+            if (!watch.subscribers.isEmpty()) {
+                active.add(watch);
+            }
+        }
+
+        int changed = 0;
+        if (!active.isEmpty()) {
+            Connection connection = null;
+            try {
+                connection = DatabaseConnection.getConnection();
+                changed = pollTables(connection, active);
+            } catch (SQLException e) {
+                logger.warning("Delta sync poll failed: " + e.getMessage());
+            } finally {
+                DatabaseConnection.releaseConnection(connection);
+            }
+        }
+        intervalMillis = changed > 0 ? minIntervalMillis : Math.min(intervalMillis * 2, maxIntervalMillis);
+
+        synchronized (this) {
+            boolean watched = watches.values().stream().anyMatch(watch -> !watch.subscribers.isEmpty());
+            if (!watched || executor.isShutdown()) {
+                // Idle until the next subscribe
+                nextPoll = null;
+                intervalMillis = minIntervalMillis;
+                return;
+            }
+            nextPoll = executor.schedule(this::poll, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Fetch and deliver the rows changed since each subscriber's mark
+     *
+     * @return number of rows delivered that the subscribers had not seen
+     */
+    private int pollTables(Connection connection, List<Watch<?>> active) throws SQLException {
+        for (Watch<?> watch : active) {
+            ensureIndex(connection, watch.table);
+        }
+
+        // The server clock, the same one that stamps updated_at, and every
+        // table's newest change in one round trip. updated_at has one-second
+        // precision, so stop a second short of now: rows stamped in the
+        // current second are picked up by the next poll.
+        StringBuilder probe = new StringBuilder("SELECT CURRENT_TIMESTAMP - INTERVAL 1 SECOND");
+        for (Watch<?> watch : active) {
+            probe.append(", (SELECT MAX(").append(watch.table.stampColumn)
+                .append(") FROM ").append(watch.table.name).append(")");
+        }
+        Timestamp now;
+        Timestamp[] newest = new Timestamp[active.size()];
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(probe.toString())) {
+            rs.next();
+            now = rs.getTimestamp(1);
+            for (int i = 0; i < newest.length; i++) {
+                newest[i] = rs.getTimestamp(i + 2);
+            }
+        }
+        clockOffsetMillis = now.getTime() + TimeUnit.SECONDS.toMillis(1) - System.currentTimeMillis();
+
+        int changed = 0;
+        for (int i = 0; i < active.size(); i++) {
+            changed += active.get(i).fetch(connection, newest[i], now);
+        }
+        return changed;
+    }
+
+    private static void ensureIndex(Connection connection, Table<?> table) {
+        if (indexedTables.contains(table.name)) {
+            return;
+        }
+        String column = table.stampColumn;
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE INDEX idx_" + column + " ON " + table.name + " (" + column + ")");
+            indexedTables.add(table.name);
+        } catch (SQLException e) {
+            // 1061 = duplicate key name, the index already exists
+            if (e.getErrorCode() == 1061) {
+                indexedTables.add(table.name);
+            } else {
+                System.err.println("Failed to create " + column + " index on " + table.name + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * The subscribers of one table
+     */
+    private static final class Watch<T> {
+        final Table<T> table;
+        final CopyOnWriteArrayList<Subscriber<T>> subscribers = new CopyOnWriteArrayList<>();
+
+        Watch(Table<T> table) {
+            this.table = table;
+        }
+
+        /**
+         * Fetch the rows changed in (oldest mark, now] if the table's newest
+         * change is past that mark, give every subscriber the rows past its
+         * own mark that it has not been given yet, and move the marks to the
+         * commit lag before now
+         *
+         * @return number of rows delivered
+         */
+        int fetch(Connection connection, Timestamp newest, Timestamp now) throws SQLException {
+            // A subscriber resumed during the fetch waits for the next poll
+            List<Subscriber<T>> current = List.copyOf(subscribers);
+            Timestamp from = null;
+            for (Subscriber<T> subscriber : current) {
+                if (from == null || subscriber.mark.before(from)) {
+                    from = subscriber.mark;
+                }
+            }
+            if (from == null || newest == null || !newest.after(from)) {
+                return 0;
+            }
+
+            List<T> rows = new ArrayList<>();
+            List<String> keys = new ArrayList<>();
+            List<Timestamp> stamps = new ArrayList<>();
+            String column = table.alias + table.stampColumn;
+            try (PreparedStatement stmt = connection.prepareStatement(table.select
+                    + "WHERE " + column + " > ? AND " + column + " <= ? ORDER BY " + column)) {
+                stmt.setTimestamp(1, from);
+                stmt.setTimestamp(2, now);
+                ResultSet rs = stmt.executeQuery();
+                while (rs.next()) {
+                    rows.add(table.mapper.map(rs));
+                    keys.add(rs.getString(table.keyColumn));
+                    stamps.add(rs.getTimestamp(table.stampColumn));
+                }
+            }
+
+            Timestamp settled = new Timestamp(now.getTime() - TimeUnit.SECONDS.toMillis(COMMIT_LAG_SECONDS));
+            int delivered = 0;
+            for (Subscriber<T> subscriber : current) {
+                List<T> fresh = new ArrayList<>();
+                for (int i = 0; i < rows.size(); i++) {
+                    Timestamp stamp = stamps.get(i);
+                    if (stamp.after(subscriber.mark) && !stamp.equals(subscriber.seen.put(keys.get(i), stamp))) {
+                        fresh.add(rows.get(i));
+                    }
+                }
+                // Rows stamped before the lag are settled; forget them and move the mark up to there
+                if (settled.after(subscriber.mark)) {
+                    subscriber.mark = settled;
+                    subscriber.seen.values().removeIf(stamp -> !stamp.after(settled));
+                }
+                if (fresh.isEmpty()) {
+                    continue;
+                }
+                delivered += fresh.size();
+                try {
+                    subscriber.onChange.accept(Collections.unmodifiableList(fresh));
+                } catch (RuntimeException e) {
+                    logger.warning("Delta sync listener failed for " + table.name + ": " + e);
+                }
+            }
+            return delivered;
+        }
+    }
+
+    /**
+     * A listener, the updated_at it has seen every change up to, and the
+     * rows past that it has been given
+     */
+    private static final class Subscriber<T> {
+        final Consumer<List<T>> onChange;
+        // Set before the subscriber is added, then only touched on the sync thread
+        Timestamp mark;
+        // Key to updated_at of each row given with a stamp past mark; only touched on the sync thread
+        final Map<String, Timestamp> seen = new HashMap<>();
+
+        Subscriber(Consumer<List<T>> onChange, Timestamp mark) {
+            this.onChange = onChange;
+            this.mark = mark;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,226 @@
+package com.mycompany.manufacturing_system;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.geometry.Insets;
+import javafx.geometry.Orientation;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.*;
+import javafx.scene.layout.*;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+import javafx.scene.paint.Color;
+import javafx.scene.effect.DropShadow;
+import javafx.stage.Window;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admin screen for UI responsiveness: the layout pulse and FX thread
+ * counters of FxPulseMonitor, and the recorded stalls with the view, the
+ * action and the stack of each. Follows new stalls while it is showing.
+ */
+public class DiagnosticsView {
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final FxPulseMonitor monitor = FxPulseMonitor.shared();
+    private final Runnable onStall = this::refresh;
+    private TableView<FxPulseMonitor.Stall> stallsTable;
+    private TextArea stackArea;
+    private Label pulsesLabel;
+    private Label layoutLabel;
+    private Label slowPulsesLabel;
+    private Label busyLabel;
+    private Label stallsLabel;
+
+    public DiagnosticsView() {
+    }
+
+    public VBox getView() {
+        VBox mainContainer = new VBox(20);
+        mainContainer.setPadding(new Insets(20));
+        mainContainer.setStyle("""
+            -fx-background-color: linear-gradient(to bottom right, #f8f9fa, #e9ecef);
+            """);
+
+        VBox headerSection = createHeaderSection();
+        HBox statsSection = createStatsSection();
+        VBox stallsSection = createStallsSection();
+        VBox.setVgrow(stallsSection, Priority.ALWAYS);
+
+        mainContainer.getChildren().addAll(headerSection, new Separator(), statsSection, stallsSection);
+
+        // Follow new stalls only while on screen, so a cached screen holds no listener
+        ObservableValue<Boolean> showing = mainContainer.sceneProperty()
+            .flatMap(Scene::windowProperty)
+            .flatMap(Window::showingProperty)
+            .orElse(false);
+        showing.addListener((obs, wasShowing, isShowing) -> {
+            if (isShowing) {
+                monitor.addStallListener(onStall);
+                refresh();
+            } else {
+                monitor.removeStallListener(onStall);
+            }
+        });
+        refresh();
+        return mainContainer;
+    }
+
+    private VBox createHeaderSection() {
+        VBox header = new VBox(10);
+        header.setAlignment(Pos.CENTER_LEFT);
+
+        Text titleText = new Text("🩺 UI Diagnostics");
+        titleText.setFont(Font.font("Segoe UI", FontWeight.BOLD, 28));
+        titleText.setFill(Color.web("#2c3e50"));
+
+        Text subtitleText = new Text(FxPulseMonitor.ENABLED
+            ? "Screen freezes and layout pulse times since startup"
+            : "The UI monitor is off (ui.monitor=false)");
+        subtitleText.setFont(Font.font("Segoe UI", FontWeight.NORMAL, 16));
+        subtitleText.setFill(Color.web("#7f8c8d"));
+
+        header.getChildren().addAll(titleText, subtitleText);
+        return header;
+    }
+
+    private HBox createStatsSection() {
+        HBox container = new HBox(20);
+        container.setAlignment(Pos.CENTER);
+
+        pulsesLabel = new Label("0");
+        layoutLabel = new Label("0");
+        slowPulsesLabel = new Label("0");
+        busyLabel = new Label("0");
+        stallsLabel = new Label("0");
+
+        container.getChildren().addAll(
+            createStatCard("Layout Pulses", pulsesLabel, "#3498db"),
+            createStatCard("Layout ms (avg / max)", layoutLabel, "#9b59b6"),
+            createStatCard("Slow Pulses", slowPulsesLabel, "#f39c12"),
+            createStatCard("FX Busy ms (avg / max)", busyLabel, "#27ae60"),
+            createStatCard("Stalls", stallsLabel, "#e74c3c")
+        );
+        return container;
+    }
+
+    private VBox createStatCard(String title, Label valueLabel, String color) {
+        VBox card = new VBox(8);
+        card.setAlignment(Pos.CENTER);
+        card.setPadding(new Insets(15));
+        card.setPrefWidth(180);
+        card.setStyle(String.format("""
+            -fx-background-color: white;
+            -fx-background-radius: 12;
+            -fx-border-radius: 12;
+            -fx-border-color: %s;
+            -fx-border-width: 2;
+            """, color));
+
+        DropShadow shadow = new DropShadow();
+        shadow.setColor(Color.rgb(0, 0, 0, 0.1));
+        shadow.setRadius(8);
+        shadow.setOffsetY(2);
+        card.setEffect(shadow);
+
+        valueLabel.setFont(Font.font("Segoe UI", FontWeight.BOLD, 22));
+        valueLabel.setTextFill(Color.web(color));
+
+        Text titleText = new Text(title);
+        titleText.setFont(Font.font("Segoe UI", FontWeight.MEDIUM, 13));
+        titleText.setFill(Color.web("#7f8c8d"));
+
+        card.getChildren().addAll(valueLabel, titleText);
+        return card;
+    }
+
+    private VBox createStallsSection() {
+        VBox section = new VBox(10);
+        section.setPadding(new Insets(15));
+        section.setStyle("""
+            -fx-background-color: white;
+            -fx-background-radius: 12;
+            """);
+
+        Text sectionTitle = new Text("Recent Stalls");
+        sectionTitle.setFont(Font.font("Segoe UI", FontWeight.BOLD, 18));
+        sectionTitle.setFill(Color.web("#2c3e50"));
+
+        stallsTable = createStallsTable();
+        stackArea = new TextArea();
+        stackArea.setEditable(false);
+        stackArea.setPromptText("Select a stall to see where the FX thread was");
+        stackArea.setFont(Font.font("Monospaced", 12));
+        stallsTable.getSelectionModel().selectedItemProperty().addListener((obs, oldStall, stall) ->
+            stackArea.setText(stall != null ? stall.describe(Integer.MAX_VALUE) : ""));
+
+        SplitPane split = new SplitPane(stallsTable, stackArea);
+        split.setOrientation(Orientation.VERTICAL);
+        split.setDividerPositions(0.45);
+        VBox.setVgrow(split, Priority.ALWAYS);
+
+        Button refreshBtn = new Button("🔄 Refresh");
+        refreshBtn.setOnAction(e -> refresh());
+        Button clearBtn = new Button("🗑 Clear");
+        clearBtn.setOnAction(e -> {
+            monitor.clear();
+            refresh();
+        });
+        HBox actions = new HBox(10, refreshBtn, clearBtn);
+        actions.setAlignment(Pos.CENTER_RIGHT);
+
+        section.getChildren().addAll(sectionTitle, split, actions);
+        return section;
+    }
+
+    private TableView<FxPulseMonitor.Stall> createStallsTable() {
+        TableView<FxPulseMonitor.Stall> table = new TableView<>();
+        table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY_FLEX_LAST_COLUMN);
+        table.setPlaceholder(new Label("No stalls recorded"));
+
+        TableColumn<FxPulseMonitor.Stall, String> timeCol = new TableColumn<>("Started");
+        timeCol.setCellValueFactory(data ->
+            new SimpleStringProperty(data.getValue().startedAt().format(TIME_FORMAT)));
+        timeCol.setPrefWidth(150);
+
+        TableColumn<FxPulseMonitor.Stall, String> durationCol = new TableColumn<>("Duration");
+        durationCol.setCellValueFactory(data ->
+            new SimpleStringProperty(String.format("%,d ms", data.getValue().durationMillis())));
+        durationCol.setPrefWidth(90);
+
+        TableColumn<FxPulseMonitor.Stall, String> viewCol = new TableColumn<>("View");
+        viewCol.setCellValueFactory(data -> new SimpleStringProperty(data.getValue().view()));
+        viewCol.setPrefWidth(200);
+
+        TableColumn<FxPulseMonitor.Stall, String> actionCol = new TableColumn<>("Action");
+        actionCol.setCellValueFactory(data -> new SimpleStringProperty(data.getValue().action()));
+        actionCol.setPrefWidth(250);
+
+        table.getColumns().addAll(List.of(timeCol, durationCol, viewCol, actionCol));
+        return table;
+    }
+
+    private void refresh() {
+        FxPulseMonitor.Stats stats = monitor.getStats();
+        pulsesLabel.setText(String.format("%,d", stats.pulses()));
+        layoutLabel.setText(millis(stats.averageLayoutNanos()) + " / " + millis(stats.maxLayoutNanos()));
+        slowPulsesLabel.setText(String.format("%,d", stats.slowPulses()));
+        busyLabel.setText(millis(stats.averageBusyNanos()) + " / " + millis(stats.maxBusyNanos()));
+        stallsLabel.setText(String.format("%,d", stats.stalls()));
+
+        FxPulseMonitor.Stall selected = stallsTable.getSelectionModel().getSelectedItem();
+        stallsTable.setItems(FXCollections.observableArrayList(monitor.getStalls()));
+        if (selected != null && stallsTable.getItems().contains(selected)) {
+            stallsTable.getSelectionModel().select(selected);
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.1f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.mycompany.manufacturing_system;
+
+/**
+ * Efficiency Data class
+ */
+class EfficiencyData extends ReportData {
+    private String productionLine;
+    private int totalOrders;
+    private int completedOrders;
+    private double averageCompletion;
+    private int totalQuantity;
+    private double efficiency;
+
+    public void calculateEfficiency() {
+        if (totalOrders > 0) {
+            efficiency = (double) completedOrders / totalOrders * 100;
+        }
+    }
+
+    // Getters and Setters
+    public String getProductionLine() { return productionLine; }
+    public void setProductionLine(String productionLine) { this.productionLine = productionLine; }
+
+    public int getTotalOrders() { return totalOrders; }
+    public void setTotalOrders(int totalOrders) { this.totalOrders = totalOrders; }
+
+    public int getCompletedOrders() { return completedOrders; }
+    public void setCompletedOrders(int completedOrders) { this.completedOrders = completedOrders; }
+
+    public double getAverageCompletion() { return averageCompletion; }
+    public void setAverageCompletion(double averageCompletion) { this.averageCompletion = averageCompletion; }
+
+    public int getTotalQuantity() { return totalQuantity; }
+    public void setTotalQuantity(int totalQuantity) { this.totalQuantity = totalQuantity; }
+
+    public double getEfficiency() { return efficiency; }
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.mycompany.manufacturing_system;
+
+/**
+ * Financial Summary data class
+ */
+class FinancialSummary extends ReportData {
+    private double totalRevenue;
+    private double completedRevenue;
+    private int totalOrders;
+    private double averageOrderValue;
+
+    // Getters and Setters
+    public double getTotalRevenue() { return totalRevenue; }
+    public void setTotalRevenue(double totalRevenue) { this.totalRevenue = totalRevenue; }
+
+    public double getCompletedRevenue() { return completedRevenue; }
+    public void setCompletedRevenue(double completedRevenue) { this.completedRevenue = completedRevenue; }
+
+    public int getTotalOrders() { return totalOrders; }
+    public void setTotalOrders(int totalOrders) { this.totalOrders = totalOrders; }
+
+    public double getAverageOrderValue() { return averageOrderValue; }
+    public void setAverageOrderValue(double averageOrderValue) { this.averageOrderValue = averageOrderValue; }
+}
\ No newline at end of file
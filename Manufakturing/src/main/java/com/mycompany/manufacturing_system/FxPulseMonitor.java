@@ -0,0 +1,316 @@
+package com.mycompany.manufacturing_system;
+
+import javafx.application.Platform;
+import javafx.event.ActionEvent;
+import javafx.event.EventTarget;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.Labeled;
+import javafx.scene.control.TextInputControl;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.text.Text;
+import javafx.stage.Stage;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Watches how responsive the JavaFX Application Thread is, so "the screen
+ * froze" can be traced to a view, an action and a stack.
+ * A watchdog thread posts a heartbeat to the FX thread every
+ * ui.heartbeatMillis (100); the delay until it runs is how long the thread
+ * was busy. Once a heartbeat has waited ui.stallMillis (250) the watchdog
+ * takes the FX thread's stack while it is still stuck, and when the
+ * heartbeat finally runs the stall is logged with that stack, the current
+ * view and the last user action, and kept for the diagnostics screen.
+ * The pulse listeners of each scene on the stage time every layout pass;
+ * passes over ui.slowPulseMillis (50) count as slow. Set ui.monitor=false to
+ * turn it all off.
+ */
+final class FxPulseMonitor {
+    private static final Logger defaultLogger = Logger.getLogger(FxPulseMonitor.class.getName());
+
+    static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("ui.monitor", "true"));
+    private static final long HEARTBEAT_MILLIS = Long.getLong("ui.heartbeatMillis", 100);
+    private static final long STALL_NANOS = TimeUnit.MILLISECONDS.toNanos(Long.getLong("ui.stallMillis", 250));
+    private static final long SLOW_PULSE_NANOS = TimeUnit.MILLISECONDS.toNanos(Long.getLong("ui.slowPulseMillis", 50));
+    // An action this long before a stall began is taken as its cause
+    private static final long ACTION_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(2);
+    private static final int MAX_STALLS = 50;
+    private static final int LOGGED_FRAMES = 30;
+
+    private static final FxPulseMonitor SHARED = new FxPulseMonitor();
+
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "fx-pulse-monitor");
+        t.setDaemon(true);
+        return t;
+    });
+    private final Set<Scene> watchedScenes = Collections.newSetFromMap(new WeakHashMap<>()); // FX thread only
+    private final List<Runnable> stallListeners = new CopyOnWriteArrayList<>();
+    private volatile Logger log = defaultLogger;
+    private volatile Stage stage;
+    private volatile Thread fxThread;
+    private volatile String view;
+    private volatile String action;
+    private volatile long actionAt;
+
+    // Heartbeat in flight, and what the watchdog saw of it; guarded by this
+    private long heartbeatPostedAt;
+    private StackTraceElement[] stallStack;
+    private String stallView;
+    private String stallAction;
+    private final ArrayDeque<Stall> stalls = new ArrayDeque<>();
+    private long heartbeats;
+    private long busyNanos;
+    private long maxBusyNanos;
+    private long stallCount;
+
+    // Only touched on the FX thread
+    private long pulseStartedAt;
+    private long pulses;
+    private long layoutNanos;
+    private long maxLayoutNanos;
+    private long slowPulses;
+
+    private FxPulseMonitor() {
+    }
+
+    static FxPulseMonitor shared() {
+        return SHARED;
+    }
+
+    /**
+     * Start watching the FX thread and every scene shown on stage. Call on
+     * the FX thread.
+     *
+     * @param log where stalls are logged, e.g. the logger with the log file
+     */
+    void start(Stage stage, Logger log) {
+        if (!ENABLED || fxThread != null) {
+            return;
+        }
+        this.stage = stage;
+        this.log = log;
+        this.fxThread = Thread.currentThread();
+        if (stage.getScene() != null) {
+            watch(stage.getScene());
+        }
+        stage.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            // A new scene is a new screen, named by the stage title until someone names it
+            view = null;
+            if (newScene != null) {
+                watch(newScene);
+            }
+        });
+        watchdog.scheduleWithFixedDelay(this::tick, HEARTBEAT_MILLIS, HEARTBEAT_MILLIS, TimeUnit.MILLISECONDS);
+        log.info("UI monitor started: stall at " + TimeUnit.NANOSECONDS.toMillis(STALL_NANOS)
+            + " ms, slow pulse at " + TimeUnit.NANOSECONDS.toMillis(SLOW_PULSE_NANOS) + " ms");
+    }
+
+    void stop() {
+        watchdog.shutdownNow();
+    }
+
+    /**
+     * Name the screen now showing, for the stalls that follow. Any thread.
+     */
+    void setView(String view) {
+        this.view = view;
+    }
+
+    /**
+     * Run listener on the FX thread after each stall is recorded
+     */
+    void addStallListener(Runnable listener) {
+        stallListeners.add(listener);
+    }
+
+    void removeStallListener(Runnable listener) {
+        stallListeners.remove(listener);
+    }
+
+    /**
+     * The recorded stalls, newest first
+     */
+    synchronized List<Stall> getStalls() {
+        return new ArrayList<>(stalls);
+    }
+
+    synchronized void clear() {
+        stalls.clear();
+        heartbeats = 0;
+        busyNanos = 0;
+        maxBusyNanos = 0;
+        stallCount = 0;
+        if (Platform.isFxApplicationThread()) {
+            pulses = 0;
+            layoutNanos = 0;
+            maxLayoutNanos = 0;
+            slowPulses = 0;
+        }
+    }
+
+    /**
+     * Counters since start or the last clear(). Call on the FX thread.
+     */
+    synchronized Stats getStats() {
+        return new Stats(pulses, pulses > 0 ? layoutNanos / pulses : 0, maxLayoutNanos, slowPulses,
+            heartbeats > 0 ? busyNanos / heartbeats : 0, maxBusyNanos, stallCount);
+    }
+
+    private void watch(Scene scene) {
+        if (!watchedScenes.add(scene)) {
+            return;
+        }
+        scene.addPreLayoutPulseListener(() -> pulseStartedAt = System.nanoTime());
+        scene.addPostLayoutPulseListener(this::pulseDone);
+        scene.addEventFilter(ActionEvent.ACTION, e -> noteAction("Action", e.getTarget()));
+        scene.addEventFilter(MouseEvent.MOUSE_PRESSED, e -> noteAction("Click", e.getTarget()));
+        scene.addEventFilter(KeyEvent.KEY_PRESSED, e -> noteAction("Key " + e.getCode().getName(), e.getTarget()));
+    }
+
+    private void pulseDone() {
+        long elapsed = System.nanoTime() - pulseStartedAt;
+        pulses++;
+        layoutNanos += elapsed;
+        maxLayoutNanos = Math.max(maxLayoutNanos, elapsed);
+        if (elapsed >= SLOW_PULSE_NANOS) {
+            slowPulses++;
+            log.fine("Slow layout pulse: " + TimeUnit.NANOSECONDS.toMillis(elapsed) + " ms in " + currentView());
+        }
+    }
+
+    private void noteAction(String kind, EventTarget target) {
+        action = kind + " on " + describe(target);
+        actionAt = System.nanoTime();
+    }
+
+    /**
+     * A short name for what the user acted on: the nearest text up the scene graph
+     */
+    private static String describe(EventTarget target) {
+        Node node = target instanceof Node ? (Node) target : null;
+        for (int depth = 0; node != null && depth < 8; depth++, node = node.getParent()) {
+            String text = null;
+            if (node instanceof Labeled) {
+                text = ((Labeled) node).getText();
+            } else if (node instanceof TextInputControl) {
+                text = ((TextInputControl) node).getPromptText();
+            } else if (node instanceof Text) {
+                text = ((Text) node).getText();
+            }
+            if (text != null && !text.isBlank()) {
+                return node.getClass().getSimpleName() + " '" + text.strip() + "'";
+            }
+            if (node.getId() != null) {
+                return node.getClass().getSimpleName() + " #" + node.getId();
+            }
+        }
+        return target == null ? "unknown" : target.getClass().getSimpleName();
+    }
+
+    private String currentView() {
+        String current = view;
+        if (current == null && stage != null) {
+            current = stage.getTitle();
+        }
+        return current != null ? current : "unknown view";
+    }
+
+    /**
+     * On the watchdog: post a heartbeat, or catch the FX thread in the act
+     * if the last one is overdue
+     */
+    private synchronized void tick() {
+        long now = System.nanoTime();
+        if (heartbeatPostedAt == 0) {
+            heartbeatPostedAt = now;
+            Platform.runLater(() -> heartbeat(now));
+        } else if (stallStack == null && now - heartbeatPostedAt >= STALL_NANOS) {
+            stallStack = fxThread.getStackTrace();
+            stallView = currentView();
+            long at = actionAt;
+            String last = action;
+            stallAction = last != null && at >= heartbeatPostedAt - ACTION_WINDOW_NANOS ? last : "no recent action";
+        }
+    }
+
+    /**
+     * On the FX thread: the heartbeat posted at postedAt got through
+     */
+    private void heartbeat(long postedAt) {
+        long busy = System.nanoTime() - postedAt;
+        Stall stall = null;
+        synchronized (this) {
+            heartbeats++;
+            busyNanos += busy;
+            maxBusyNanos = Math.max(maxBusyNanos, busy);
+            if (busy >= STALL_NANOS) {
+                stallCount++;
+                stall = new Stall(LocalDateTime.now().minusNanos(busy), TimeUnit.NANOSECONDS.toMillis(busy),
+                    stallView != null ? stallView : currentView(),
+                    stallAction != null ? stallAction : "no recent action",
+                    stallStack != null ? stallStack : new StackTraceElement[0]);
+                stalls.addFirst(stall);
+                if (stalls.size() > MAX_STALLS) {
+                    stalls.removeLast();
+                }
+            }
+            heartbeatPostedAt = 0;
+            stallStack = null;
+            stallView = null;
+            stallAction = null;
+        }
+        if (stall != null) {
+            log.warning(stall.describe(LOGGED_FRAMES));
+            for (Runnable listener : stallListeners) {
+                listener.run();
+            }
+        }
+    }
+
+    /**
+     * One stall of the FX thread. The stack is where the thread was once
+     * the stall passed the threshold; it is empty when the stall ended
+     * before the watchdog looked.
+     */
+    record Stall(LocalDateTime startedAt, long durationMillis, String view, String action,
+                 StackTraceElement[] stack) {
+
+        /**
+         * The stall and the top frames of its stack, for the log
+         */
+        String describe(int maxFrames) {
+            StringBuilder text = new StringBuilder(String.format(
+                "UI stall: FX thread busy %d ms in %s after %s", durationMillis, view, action));
+            if (stack.length == 0) {
+                text.append(System.lineSeparator()).append("\t(ended before its stack was taken)");
+            }
+            for (int i = 0; i < Math.min(stack.length, maxFrames); i++) {
+                text.append(System.lineSeparator()).append("\tat ").append(stack[i]);
+            }
+            if (stack.length > maxFrames) {
+                text.append(System.lineSeparator()).append("\t... ").append(stack.length - maxFrames).append(" more");
+            }
+            return text.toString();
+        }
+    }
+
+    /**
+     * Counters of layout pulses and FX thread busy time, durations in nanoseconds
+     */
+    record Stats(long pulses, long averageLayoutNanos, long maxLayoutNanos, long slowPulses,
+                 long averageBusyNanos, long maxBusyNanos, long stalls) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.mycompany.manufacturing_system;
+
+import javafx.application.Platform;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Debug check that no JDBC work runs on the JavaFX Application Thread.
+ * The app.fxJdbcCheck property selects the mode: "log" logs each offending
+ * call with its stack trace, "fail" throws instead, "off" disables the check.
+ * It defaults to "log" in development mode (app.development) and "off"
+ * otherwise. Checked are connection checkouts and statement creation,
+ * commit and rollback on pooled connections.
+ */
+final class FxThreadCheck {
+    private static final Logger logger = Logger.getLogger(FxThreadCheck.class.getName());
+
+    private static final String MODE = System.getProperty("app.fxJdbcCheck",
+        "true".equalsIgnoreCase(System.getProperty("app.development", "false")) ? "log" : "off");
+    static final boolean ENABLED = !"off".equalsIgnoreCase(MODE);
+    private static final boolean FAIL = "fail".equalsIgnoreCase(MODE);
+
+    private static final Set<String> CHECKED_METHODS =
+        Set.of("createStatement", "prepareStatement", "prepareCall", "commit", "rollback");
+
+    private FxThreadCheck() {
+    }
+
+    /**
+     * Report the operation if it is running on the FX thread
+     */
+    static void checkNotFxThread(String operation) {
+        if (!ENABLED || !Platform.isFxApplicationThread()) {
+            return;
+        }
+        IllegalStateException violation =
+            new IllegalStateException("JDBC " + operation + " on the JavaFX Application Thread");
+        if (FAIL) {
+            throw violation;
+        }
+        logger.log(Level.WARNING, violation.getMessage(), violation);
+    }
+
+    /**
+     * Wrap a connection so statement creation, commit and rollback are
+     * checked. Returns the connection itself when the check is off.
+     */
+    static Connection guard(Connection connection) {
+        if (!ENABLED) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(FxThreadCheck.class.getClassLoader(),
+            new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                if (CHECKED_METHODS.contains(method.getName())) {
+                    checkNotFxThread(method.getName());
+                }
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+    }
+}
\ No newline at end of file
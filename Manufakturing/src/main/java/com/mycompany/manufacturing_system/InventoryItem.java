@@ -0,0 +1,180 @@
+package com.mycompany.manufacturing_system;
+
+import javafx.beans.property.*;
+
+/**
+ * Inventory Item model class, a table row over an InventoryItemRecord.
+ * Properties are created on first use, see PropertyRow; setters go through
+ * the property.
+ */
+class InventoryItem extends PropertyRow {
+    private static final int ITEM_ID = 0;
+    private static final int ITEM_CODE = 1;
+    private static final int DESCRIPTION = 2;
+    private static final int CATEGORY = 3;
+    private static final int UNIT_OF_MEASURE = 4;
+    private static final int UNIT_PRICE = 5;
+    private static final int QUANTITY_ON_HAND = 6;
+    private static final int MINIMUM_STOCK_LEVEL = 7;
+    private static final int MAXIMUM_STOCK_LEVEL = 8;
+    private static final int REORDER_POINT = 9;
+    private static final int REORDER_QUANTITY = 10;
+    private static final int LOCATION = 11;
+    private static final int SUPPLIER = 12;
+    private static final int STATUS = 13;
+    private static final int FIELD_COUNT = 14;
+
+    private InventoryItemRecord record;
+
+    public InventoryItem() {
+        this(InventoryItemRecord.EMPTY);
+    }
+
+    InventoryItem(InventoryItemRecord record) {
+        this.record = record;
+    }
+
+    @Override
+    protected int fieldCount() {
+        return FIELD_COUNT;
+    }
+
+    /**
+     * The row's current values
+     */
+    InventoryItemRecord toRecord() {
+        if (createdPropertyCount() == 0) {
+            return record;
+        }
+        return new InventoryItemRecord(getItemId(), getItemCode(), getDescription(), getCategory(),
+            getUnitOfMeasure(), getUnitPrice(), getQuantityOnHand(), getMinimumStockLevel(),
+            getMaximumStockLevel(), getReorderPoint(), getReorderQuantity(), getLocation(),
+            getSupplier(), getStatus());
+    }
+
+    // Getters
+    public int getItemId() { return getInt(ITEM_ID, record.itemId()); }
+    public String getItemCode() { return getString(ITEM_CODE, record.itemCode()); }
+    public String getDescription() { return getString(DESCRIPTION, record.description()); }
+    public String getCategory() { return getString(CATEGORY, record.category()); }
+    public String getUnitOfMeasure() { return getString(UNIT_OF_MEASURE, record.unitOfMeasure()); }
+    public double getUnitPrice() { return getDouble(UNIT_PRICE, record.unitPrice()); }
+    public int getQuantityOnHand() { return getInt(QUANTITY_ON_HAND, record.quantityOnHand()); }
+    public int getMinimumStockLevel() { return getInt(MINIMUM_STOCK_LEVEL, record.minimumStockLevel()); }
+    public int getMaximumStockLevel() { return getInt(MAXIMUM_STOCK_LEVEL, record.maximumStockLevel()); }
+    public int getReorderPoint() { return getInt(REORDER_POINT, record.reorderPoint()); }
+    public int getReorderQuantity() { return getInt(REORDER_QUANTITY, record.reorderQuantity()); }
+    public String getLocation() { return getString(LOCATION, record.location()); }
+    public String getSupplier() { return getString(SUPPLIER, record.supplier()); }
+    public String getStatus() { return getString(STATUS, record.status()); }
+
+    // Property getters, created on first use
+    public IntegerProperty itemIdProperty() {
+        return property(ITEM_ID, () -> new SimpleIntegerProperty(this, "itemId", record.itemId()));
+    }
+    public StringProperty itemCodeProperty() {
+        return property(ITEM_CODE, () -> new SimpleStringProperty(this, "itemCode", record.itemCode()));
+    }
+    public StringProperty descriptionProperty() {
+        return property(DESCRIPTION, () -> new SimpleStringProperty(this, "description", record.description()));
+    }
+    public StringProperty categoryProperty() {
+        return property(CATEGORY, () -> new SimpleStringProperty(this, "category", record.category()));
+    }
+    public StringProperty unitOfMeasureProperty() {
+        return property(UNIT_OF_MEASURE, () -> new SimpleStringProperty(this, "unitOfMeasure",
+            record.unitOfMeasure()));
+    }
+    public DoubleProperty unitPriceProperty() {
+        return property(UNIT_PRICE, () -> new SimpleDoubleProperty(this, "unitPrice", record.unitPrice()));
+    }
+    public IntegerProperty quantityOnHandProperty() {
+        return property(QUANTITY_ON_HAND, () -> new SimpleIntegerProperty(this, "quantityOnHand",
+            record.quantityOnHand()));
+    }
+    public IntegerProperty minimumStockLevelProperty() {
+        return property(MINIMUM_STOCK_LEVEL, () -> new SimpleIntegerProperty(this, "minimumStockLevel",
+            record.minimumStockLevel()));
+    }
+    public IntegerProperty maximumStockLevelProperty() {
+        return property(MAXIMUM_STOCK_LEVEL, () -> new SimpleIntegerProperty(this, "maximumStockLevel",
+            record.maximumStockLevel()));
+    }
+    public IntegerProperty reorderPointProperty() {
+        return property(REORDER_POINT, () -> new SimpleIntegerProperty(this, "reorderPoint",
+            record.reorderPoint()));
+    }
+    public IntegerProperty reorderQuantityProperty() {
+        return property(REORDER_QUANTITY, () -> new SimpleIntegerProperty(this, "reorderQuantity",
+            record.reorderQuantity()));
+    }
+    public StringProperty locationProperty() {
+        return property(LOCATION, () -> new SimpleStringProperty(this, "location", record.location()));
+    }
+    public StringProperty supplierProperty() {
+        return property(SUPPLIER, () -> new SimpleStringProperty(this, "supplier", record.supplier()));
+    }
+    public StringProperty statusProperty() {
+        return property(STATUS, () -> new SimpleStringProperty(this, "status", record.status()));
+    }
+
+    // Setters
+    public void setItemId(int itemId) { itemIdProperty().set(itemId); }
+    public void setItemCode(String itemCode) { itemCodeProperty().set(itemCode); }
+    public void setDescription(String description) { descriptionProperty().set(description); }
+    public void setCategory(String category) { categoryProperty().set(category); }
+    public void setUnitOfMeasure(String unitOfMeasure) { unitOfMeasureProperty().set(unitOfMeasure); }
+    public void setUnitPrice(double unitPrice) { unitPriceProperty().set(unitPrice); }
+    public void setQuantityOnHand(int quantityOnHand) { quantityOnHandProperty().set(quantityOnHand); }
+    public void setMinimumStockLevel(int minimumStockLevel) { minimumStockLevelProperty().set(minimumStockLevel); }
+    public void setMaximumStockLevel(int maximumStockLevel) { maximumStockLevelProperty().set(maximumStockLevel); }
+    public void setReorderPoint(int reorderPoint) { reorderPointProperty().set(reorderPoint); }
+    public void setReorderQuantity(int reorderQuantity) { reorderQuantityProperty().set(reorderQuantity); }
+    public void setLocation(String location) { locationProperty().set(location); }
+    public void setSupplier(String supplier) { supplierProperty().set(supplier); }
+    public void setStatus(String status) { statusProperty().set(status); }
+
+    /**
+     * Take the values of a freshly loaded copy of this item, touching only
+     * the properties that changed. Returns whether any value did.
+     */
+    public boolean updateFrom(InventoryItem other) {
+        InventoryItemRecord fresh = other.toRecord();
+        if (fresh.equals(toRecord())) {
+            return false;
+        }
+        record = fresh;
+        refreshProperty(ITEM_ID, fresh.itemId());
+        refreshProperty(ITEM_CODE, fresh.itemCode());
+        refreshProperty(DESCRIPTION, fresh.description());
+        refreshProperty(CATEGORY, fresh.category());
+        refreshProperty(UNIT_OF_MEASURE, fresh.unitOfMeasure());
+        refreshProperty(UNIT_PRICE, fresh.unitPrice());
+        refreshProperty(QUANTITY_ON_HAND, fresh.quantityOnHand());
+        refreshProperty(MINIMUM_STOCK_LEVEL, fresh.minimumStockLevel());
+        refreshProperty(MAXIMUM_STOCK_LEVEL, fresh.maximumStockLevel());
+        refreshProperty(REORDER_POINT, fresh.reorderPoint());
+        refreshProperty(REORDER_QUANTITY, fresh.reorderQuantity());
+        refreshProperty(LOCATION, fresh.location());
+        refreshProperty(SUPPLIER, fresh.supplier());
+        refreshProperty(STATUS, fresh.status());
+        return true;
+    }
+
+    // Utility methods
+    public boolean isLowStock() {
+        return getQuantityOnHand() <= getMinimumStockLevel() && getQuantityOnHand() > 0;
+    }
+
+    public boolean isOutOfStock() {
+        return getQuantityOnHand() == 0;
+    }
+
+    public boolean needsReorder() {
+        return getQuantityOnHand() <= getReorderPoint();
+    }
+
+    public double getTotalValue() {
+        return getQuantityOnHand() * getUnitPrice();
+    }
+}
\ No newline at end of file
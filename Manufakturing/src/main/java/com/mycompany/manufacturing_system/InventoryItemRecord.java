@@ -0,0 +1,26 @@
+package com.mycompany.manufacturing_system;
+
+/**
+ * An inventory_items row. Immutable; bulk loads, reports and exports use it
+ * directly, the inventory table wraps it in an InventoryItem.
+ */
+record InventoryItemRecord(int itemId, String itemCode, String description, String category,
+                           String unitOfMeasure, double unitPrice, int quantityOnHand,
+                           int minimumStockLevel, int maximumStockLevel, int reorderPoint,
+                           int reorderQuantity, String location, String supplier, String status) {
+
+    static final InventoryItemRecord EMPTY =
+        new InventoryItemRecord(0, "", "", "", "", 0.0, 0, 0, 0, 0, 0, "", "", "");
+
+    InventoryItemRecord {
+        category = StringPool.dedupe(category);
+        unitOfMeasure = StringPool.dedupe(unitOfMeasure);
+        location = StringPool.dedupe(location);
+        supplier = StringPool.dedupe(supplier);
+        status = StringPool.dedupe(status);
+    }
+
+    double totalValue() {
+        return quantityOnHand * unitPrice;
+    }
+}
\ No newline at end of file
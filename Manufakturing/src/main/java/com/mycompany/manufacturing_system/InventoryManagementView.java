@@ -1,6 +1,9 @@
 package com.mycompany.manufacturing_system;
 
+import javafx.animation.PauseTransition;
 import javafx.collections.FXCollections;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
@@ -10,32 +13,51 @@ import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 import javafx.scene.paint.Color;
 import javafx.scene.effect.DropShadow;
+import javafx.util.Duration;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 /**
  * Comprehensive Inventory Management View
  * Handles raw materials, finished goods, and inventory tracking
  */
 public class InventoryManagementView {
-    private InventoryOperations inventoryOps;
+    private final SessionOperations session;
+    private final Executor loader;
+    private final ViewLoader<InventoryData> inventoryLoader;
     private final User currentUser;
+    // Item code, description and supplier of every loaded item, for the search box
+    private final SearchIndex<InventoryItem, String> itemIndex = new SearchIndex<>(InventoryItem::getItemCode,
+        List.of(InventoryItem::getItemCode, InventoryItem::getDescription, InventoryItem::getSupplier));
+    private final PauseTransition searchDelay = new PauseTransition(Duration.millis(150));
     private TableView<InventoryItem> inventoryTable;
+    private FilteredList<InventoryItem> filteredItems;
+    private TextField searchField;
     private TabPane inventoryTabs;
     private Label totalItemsLabel;
     private Label lowStockItemsLabel;
     private Label totalValueLabel;
     private Label reorderItemsLabel;
 
-    public InventoryManagementView(User user) {
+    public InventoryManagementView(User user, SessionOperations session) {
         this.currentUser = user;
-        try {
-            this.inventoryOps = new InventoryOperations();
-        } catch (SQLException e) {
-            showError("Database Error", "Failed to connect to database: " + e.getMessage());
-        }
+        this.session = session;
+        this.loader = session.inventoryLoader();
+        this.inventoryLoader = new ViewLoader<>("refresh inventory data", loader,
+            this::loadInventoryData, this::showInventoryData);
+    }
+
+    /**
+     * The session's InventoryOperations, opened on first use. Only on the
+     * loader, so the view never blocks the FX thread on connection or table setup.
+     */
+    private InventoryOperations getInventoryOps() throws SQLException {
+        return session.inventory();
     }
 
     public VBox getView() {
@@ -64,6 +86,7 @@ public class InventoryManagementView {
         );
         
         refreshInventoryData();
+        DeltaSync.shared().watch(mainContainer, DeltaSync.Table.INVENTORY_ITEMS, this::applyItemChanges);
         return mainContainer;
     }
 
@@ -79,7 +102,10 @@ public class InventoryManagementView {
         subtitleText.setFont(Font.font("Segoe UI", FontWeight.NORMAL, 16));
         subtitleText.setFill(Color.web("#7f8c8d"));
 
-        header.getChildren().addAll(titleText, subtitleText);
+        HBox titleRow = new HBox(12, titleText, inventoryLoader.createIndicator());
+        titleRow.setAlignment(Pos.CENTER_LEFT);
+
+        header.getChildren().addAll(titleRow, subtitleText);
         return header;
     }
 
@@ -173,6 +199,11 @@ public class InventoryManagementView {
         // Inventory table
         inventoryTable = createInventoryTable();
         VBox.setVgrow(inventoryTable, Priority.ALWAYS);
+        // The loaded items, narrowed by the search box, in the table's sort order
+        filteredItems = new FilteredList<>(FXCollections.observableArrayList());
+        SortedList<InventoryItem> sortedItems = new SortedList<>(filteredItems);
+        sortedItems.comparatorProperty().bind(inventoryTable.comparatorProperty());
+        inventoryTable.setItems(sortedItems);
         
         // Action buttons
         HBox actionButtons = createActionButtons();
@@ -285,9 +316,15 @@ public class InventoryManagementView {
         filterBox.setAlignment(Pos.CENTER_LEFT);
         filterBox.setPadding(new Insets(0, 0, 10, 0));
         
-        TextField searchField = new TextField();
+        searchField = new TextField();
         searchField.setPromptText("🔍 Search items...");
         searchField.setPrefWidth(200);
+        searchDelay.setOnFinished(e -> applySearch());
+        searchField.textProperty().addListener((obs, oldVal, newVal) -> searchDelay.playFromStart());
+        searchField.setOnAction(e -> {
+            searchDelay.stop();
+            applySearch();
+        });
         
         ComboBox<String> statusFilter = new ComboBox<>();
         statusFilter.getItems().addAll("All Status", "ACTIVE", "INACTIVE", "DISCONTINUED");
@@ -405,7 +442,7 @@ public class InventoryManagementView {
                     String color = "ACTIVE".equals(status) ? "#27ae60" : 
                                   "INACTIVE".equals(status) ? "#f39c12" : "#e74c3c";
                     setStyle(String.format("""
-                        -fx-text-fill: %s; 
+                        -fx-text-fill: %s;
                         -fx-font-weight: bold;
                         -fx-background-color: %s20;
                         -fx-background-radius: 4;
@@ -633,29 +670,70 @@ public class InventoryManagementView {
     }
 
     private void refreshInventoryData() {
-        try {
-            // Refresh statistics
-            InventoryStatistics stats = inventoryOps.getInventoryStatistics();
-            totalItemsLabel.setText(String.valueOf(stats.getTotalItems()));
-            lowStockItemsLabel.setText(String.valueOf(stats.getLowStockItems()));
-            totalValueLabel.setText(String.format("$%,.2f", stats.getTotalValue()));
-            reorderItemsLabel.setText(String.valueOf(stats.getReorderItems()));
-            
-            // Refresh inventory table
-            List<InventoryItem> items = inventoryOps.getAllInventoryItems();
-            inventoryTable.setItems(FXCollections.observableArrayList(items));
-            
-        } catch (Exception e) {
-            showError("Error", "Failed to refresh inventory data: " + e.getMessage());
+        inventoryLoader.load();
+    }
+
+    /**
+     * Runs on the loader. The search index is rebuilt here too, so typing
+     * never waits for it.
+     */
+    private InventoryData loadInventoryData() throws SQLException {
+        InventoryOperations ops = getInventoryOps();
+        InventoryData data = new InventoryData(ops.getInventoryStatistics(), ops.getAllInventoryItems());
+        itemIndex.rebuild(data.items);
+        return data;
+    }
+
+    private void showInventoryData(InventoryData data) {
+        showStatistics(data.stats);
+
+        // Refresh inventory table
+        ListReconciler.reconcile(inventoryTable, data.items, InventoryItem::getItemCode, InventoryItem::updateFrom);
+        applySearch();
+    }
+
+    private void showStatistics(InventoryStatistics stats) {
+        totalItemsLabel.setText(String.valueOf(stats.getTotalItems()));
+        lowStockItemsLabel.setText(String.valueOf(stats.getLowStockItems()));
+        totalValueLabel.setText(String.format("$%,.2f", stats.getTotalValue()));
+        reorderItemsLabel.setText(String.valueOf(stats.getReorderItems()));
+    }
+
+    /**
+     * Items changed on any terminal, from DeltaSync
+     */
+    private void applyItemChanges(List<InventoryItem> changed) {
+        ListReconciler.upsert(inventoryTable, changed, InventoryItem::getItemCode, InventoryItem::updateFrom);
+        ViewLoader.submit("refresh inventory statistics", loader,
+            () -> getInventoryOps().getInventoryStatistics(), this::showStatistics);
+        ViewLoader.submit("index item changes", loader, () -> {
+            itemIndex.update(changed);
+            return null;
+        }, done -> applySearch());
+    }
+
+    /**
+     * Show only the items whose code, description or supplier has a word
+     * starting with the search text. Answered from the index, without a query.
+     */
+    private void applySearch() {
+        String query = SearchIndex.normalize(searchField.getText());
+        if (query.isEmpty()) {
+            filteredItems.setPredicate(null);
+            return;
         }
+        Set<String> matches = new HashSet<>(itemIndex.search(query, SearchIndex.MAX_RESULTS));
+        filteredItems.setPredicate(item -> matches.contains(item.getItemCode()));
     }
 
-    private void showError(String title, String content) {
-        Alert alert = new Alert(Alert.AlertType.ERROR);
-        alert.setTitle(title);
-        alert.setHeaderText(null);
-        alert.setContentText(content);
-        alert.showAndWait();
+    private static class InventoryData {
+        final InventoryStatistics stats;
+        final List<InventoryItem> items;
+
+        InventoryData(InventoryStatistics stats, List<InventoryItem> items) {
+            this.stats = stats;
+            this.items = items;
+        }
     }
 
     private void showInfo(String title, String content) {
@@ -0,0 +1,41 @@
+package com.mycompany.manufacturing_system;
+
+/**
+ * Inventory Statistics helper class
+ */
+class InventoryStatistics {
+    private int totalItems;
+    private int lowStockItems;
+    private int reorderItems;
+    private double totalValue;
+    private int activeItems;
+    private int inactiveItems;
+
+    public InventoryStatistics() {
+        this.totalItems = 0;
+        this.lowStockItems = 0;
+        this.reorderItems = 0;
+        this.totalValue = 0.0;
+        this.activeItems = 0;
+        this.inactiveItems = 0;
+    }
+
+    // Getters and Setters
+    public int getTotalItems() { return totalItems; }
+    public void setTotalItems(int totalItems) { this.totalItems = totalItems; }
+
+    public int getLowStockItems() { return lowStockItems; }
+    public void setLowStockItems(int lowStockItems) { this.lowStockItems = lowStockItems; }
+
+    public int getReorderItems() { return reorderItems; }
+    public void setReorderItems(int reorderItems) { this.reorderItems = reorderItems; }
+
+    public double getTotalValue() { return totalValue; }
+    public void setTotalValue(double totalValue) { this.totalValue = totalValue; }
+
+    public int getActiveItems() { return activeItems; }
+    public void setActiveItems(int activeItems) { this.activeItems = activeItems; }
+
+    public int getInactiveItems() { return inactiveItems; }
+    public void setInactiveItems(int inactiveItems) { this.inactiveItems = inactiveItems; }
+}
\ No newline at end of file
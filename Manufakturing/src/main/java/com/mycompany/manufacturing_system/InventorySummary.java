@@ -0,0 +1,47 @@
+package com.mycompany.manufacturing_system;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Inventory Summary data class
+ */
+class InventorySummary extends ReportData {
+    private int totalItems;
+    private double totalValue;
+    private int lowStockItems;
+    private int outOfStockItems;
+    private int reorderItems;
+    private Map<String, Integer> categoryCount;
+    private Map<String, Double> categoryValue;
+
+    // Getters and Setters
+    public int getTotalItems() { return totalItems; }
+    public void setTotalItems(int totalItems) { this.totalItems = totalItems; }
+
+    public double getTotalValue() { return totalValue; }
+    public void setTotalValue(double totalValue) { this.totalValue = totalValue; }
+
+    public int getLowStockItems() { return lowStockItems; }
+    public void setLowStockItems(int lowStockItems) { this.lowStockItems = lowStockItems; }
+
+    public int getOutOfStockItems() { return outOfStockItems; }
+    public void setOutOfStockItems(int outOfStockItems) { this.outOfStockItems = outOfStockItems; }
+
+    public int getReorderItems() { return reorderItems; }
+    public void setReorderItems(int reorderItems) { this.reorderItems = reorderItems; }
+
+    public Map<String, Integer> getCategoryCount() { return categoryCount; }
+    public void setCategoryCount(Map<String, Integer> categoryCount) { this.categoryCount = categoryCount; }
+
+    public Map<String, Double> getCategoryValue() { return categoryValue; }
+    public void setCategoryValue(Map<String, Double> categoryValue) { this.categoryValue = categoryValue; }
+
+    @Override
+    InventorySummary copy() {
+        InventorySummary copy = (InventorySummary) super.copy();
+        copy.categoryCount = categoryCount != null ? new HashMap<>(categoryCount) : null;
+        copy.categoryValue = categoryValue != null ? new HashMap<>(categoryValue) : null;
+        return copy;
+    }
+}
\ No newline at end of file
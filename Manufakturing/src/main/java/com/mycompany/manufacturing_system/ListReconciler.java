@@ -0,0 +1,266 @@
+package com.mycompany.manufacturing_system;
+
+import javafx.beans.property.Property;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import javafx.scene.control.TableView;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Patches a live ObservableList to match a fresh snapshot instead of
+ * replacing it, so a table keeps its selection, scroll position and cells.
+ * Rows are matched by key. Rows whose key is gone are removed, new keys are
+ * inserted, and rows in both keep their object and get the fresh values
+ * copied in, so bound cells repaint only the fields that changed.
+ * Out-of-order rows are moved; the rows left in place are a longest
+ * increasing subsequence of their new positions, so one moved row costs one
+ * remove and one insert. Adjacent removals and inserts go in as ranges.
+ */
+final class ListReconciler {
+
+    private ListReconciler() {
+    }
+
+    /**
+     * Make live hold the rows of fresh.
+     *
+     * @param update  copies the fresh row into the live one, returns whether anything changed
+     * @param ordered move rows into the order of fresh; when false, for a
+     *                table the user has sorted, kept rows stay where they are
+     *                and new rows are appended
+     * @return number of rows removed, inserted, moved or updated
+     */
+    static <T, K> int reconcile(ObservableList<T> live, List<T> fresh, Function<T, K> key,
+                                BiPredicate<T, T> update, boolean ordered) {
+        Map<K, Integer> freshIndex = new HashMap<>(fresh.size() * 4 / 3 + 1);
+        for (int i = 0; i < fresh.size(); i++) {
+            freshIndex.put(key.apply(fresh.get(i)), i);
+        }
+
+        int liveSize = live.size();
+        boolean[] remove = new boolean[liveSize];
+        int[] position = new int[liveSize];
+        // Live row kept for each fresh index, null for rows to insert
+        List<T> kept = new ArrayList<>(fresh.size());
+        for (int i = 0; i < fresh.size(); i++) {
+            kept.add(null);
+        }
+
+        int touched = 0;
+        int survivors = 0;
+        for (int i = 0; i < liveSize; i++) {
+            T row = live.get(i);
+            Integer index = freshIndex.get(key.apply(row));
+            if (index == null || kept.get(index) != null) {
+                // Gone, or a duplicate key
+                remove[i] = true;
+                touched++;
+                continue;
+            }
+            kept.set(index, row);
+            position[i] = index;
+            survivors++;
+            if (update.test(row, fresh.get(index))) {
+                touched++;
+            }
+        }
+
+        List<T> moved = new ArrayList<>();
+        if (ordered && survivors > 1) {
+            int[] sequence = new int[survivors];
+            int[] liveIndex = new int[survivors];
+            int n = 0;
+            for (int i = 0; i < liveSize; i++) {
+                if (!remove[i]) {
+                    sequence[n] = position[i];
+                    liveIndex[n++] = i;
+                }
+            }
+            boolean[] inOrder = longestIncreasing(sequence);
+            for (int s = 0; s < survivors; s++) {
+                if (!inOrder[s]) {
+                    // Taken out here and put back at its new position below
+                    remove[liveIndex[s]] = true;
+                    moved.add(live.get(liveIndex[s]));
+                    touched++;
+                }
+            }
+        }
+        removeMarked(live, remove);
+
+        if (ordered) {
+            Map<K, T> movedByKey = new HashMap<>();
+            for (T row : moved) {
+                K rowKey = key.apply(row);
+                // Reinserted like a new row, but as the same object
+                kept.set(freshIndex.get(rowKey), null);
+                movedByKey.put(rowKey, row);
+            }
+            // live now holds the kept rows in fresh order; fill the gaps run by run
+            int i = 0;
+            while (i < fresh.size()) {
+                if (kept.get(i) != null) {
+                    i++;
+                    continue;
+                }
+                int start = i;
+                List<T> run = new ArrayList<>();
+                while (i < fresh.size() && kept.get(i) == null) {
+                    T row = movedByKey.get(key.apply(fresh.get(i)));
+                    if (row == null) {
+                        row = fresh.get(i);
+                        touched++;
+                    }
+                    run.add(row);
+                    i++;
+                }
+                live.addAll(start, run);
+            }
+        } else {
+            List<T> added = new ArrayList<>();
+            for (int i = 0; i < fresh.size(); i++) {
+                if (kept.get(i) == null) {
+                    added.add(fresh.get(i));
+                }
+            }
+            touched += added.size();
+            live.addAll(added);
+        }
+        return touched;
+    }
+
+    /**
+     * Set the property only if the value differs, so bound cells are not
+     * notified of a no-op change. Returns whether it was set.
+     */
+    static <T> boolean update(Property<T> property, T value) {
+        if (Objects.equals(property.getValue(), value)) {
+            return false;
+        }
+        property.setValue(value);
+        return true;
+    }
+
+    /**
+     * Patch a table's rows. A table the user has sorted keeps that sort:
+     * rows are not moved into the snapshot's order, and the table is sorted
+     * again if anything changed. A table showing a filtered or sorted view
+     * has the list under that view patched.
+     */
+    static <T, K> int reconcile(TableView<T> table, List<T> fresh, Function<T, K> key,
+                                BiPredicate<T, T> update) {
+        boolean sorted = !table.getSortOrder().isEmpty();
+        int touched = reconcile(rowsOf(table), fresh, key, update, !sorted);
+        if (sorted && touched > 0) {
+            table.sort();
+        }
+        return touched;
+    }
+
+    /**
+     * Apply a partial set of changed rows, such as a delta from DeltaSync.
+     * Rows with a known key are updated in place, new ones are inserted at
+     * the top in one change; nothing is removed. A sorted table is sorted
+     * again if anything changed.
+     *
+     * @return number of rows inserted or updated
+     */
+    static <T, K> int upsert(TableView<T> table, List<T> changed, Function<T, K> key,
+                             BiPredicate<T, T> update) {
+        ObservableList<T> live = rowsOf(table);
+        Map<K, T> liveByKey = new HashMap<>(live.size() * 4 / 3 + 1);
+        for (T row : live) {
+            liveByKey.putIfAbsent(key.apply(row), row);
+        }
+
+        int touched = 0;
+        List<T> added = new ArrayList<>();
+        for (T row : changed) {
+            T existing = liveByKey.putIfAbsent(key.apply(row), row);
+            if (existing == null) {
+                added.add(row);
+            } else if (update.test(existing, row)) {
+                touched++;
+            }
+        }
+        if (!added.isEmpty()) {
+            live.addAll(0, added);
+            touched += added.size();
+        }
+        if (touched > 0 && !table.getSortOrder().isEmpty()) {
+            table.sort();
+        }
+        return touched;
+    }
+
+    /**
+     * The list holding a table's rows: its items, or the list under the
+     * FilteredList and SortedList wrapped around them
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ObservableList<T> rowsOf(TableView<T> table) {
+        ObservableList<?> rows = table.getItems();
+        while (rows instanceof TransformationList) {
+            rows = ((TransformationList<?, ?>) rows).getSource();
+        }
+        return (ObservableList<T>) rows;
+    }
+
+    /**
+     * Remove the marked rows, each run of adjacent ones in one change
+     */
+    private static <T> void removeMarked(ObservableList<T> live, boolean[] remove) {
+        int end = remove.length;
+        while (end > 0) {
+            if (!remove[end - 1]) {
+                end--;
+                continue;
+            }
+            int start = end - 1;
+            while (start > 0 && remove[start - 1]) {
+                start--;
+            }
+            live.remove(start, end);
+            end = start;
+        }
+    }
+
+    /**
+     * Which elements belong to one longest strictly increasing subsequence
+     */
+    static boolean[] longestIncreasing(int[] sequence) {
+        int n = sequence.length;
+        // tails[k]: index of the smallest tail of an increasing run of length k + 1
+        int[] tails = new int[n];
+        int[] previous = new int[n];
+        int length = 0;
+        for (int i = 0; i < n; i++) {
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sequence[tails[mid]] < sequence[i]) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+        boolean[] member = new boolean[n];
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+            member[i] = true;
+        }
+        return member;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,235 @@
+package com.mycompany.manufacturing_system;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.scene.Scene;
+import javafx.scene.chart.LineChart;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.XYChart;
+import javafx.stage.Window;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Line chart of event totals per time bucket over a sliding window, e.g.
+ * units completed per minute over the last hour, for screens left open
+ * around the clock. Each series is a fixed ring of primitive bucket totals,
+ * one slot per bucket in the window, and its chart data is a fixed set of
+ * points created once whose y values are rewritten; events outside the
+ * window are dropped, so neither the data nor the chart grows over time.
+ * Events may come from any thread and only touch the ring; the chart is
+ * redrawn at most once per animation pulse, and only when something
+ * changed or the window moved on.
+ */
+public class LiveChart {
+    private static final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "live-chart");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final long bucketMillis;
+    private final int buckets;
+    private final NumberAxis xAxis = new NumberAxis();
+    private final NumberAxis yAxis = new NumberAxis();
+    private final LineChart<Number, Number> chart = new LineChart<>(xAxis, yAxis);
+    private final Map<String, Ring> series = new LinkedHashMap<>(); // guarded by this
+    private final AnimationTimer pulse = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            stop();
+            render();
+        }
+    };
+    private boolean pulseRequested; // guarded by this
+    private ScheduledFuture<?> tick; // only touched on the FX thread
+
+    /**
+     * @param bucketMillis length of one bucket; a point shows the total of one bucket
+     * @param buckets      number of buckets in the window
+     */
+    public LiveChart(String title, String yLabel, long bucketMillis, int buckets) {
+        this.bucketMillis = bucketMillis;
+        this.buckets = buckets;
+        double windowMinutes = (buckets - 1) * bucketMillis / 60_000.0;
+
+        chart.setTitle(title);
+        chart.setCreateSymbols(false);
+        chart.setAnimated(false);
+        xAxis.setLabel("Minutes ago");
+        xAxis.setAutoRanging(false);
+        xAxis.setLowerBound(-windowMinutes);
+        xAxis.setUpperBound(0);
+        xAxis.setTickUnit(Math.max(1, Math.ceil(windowMinutes / 6)));
+        yAxis.setLabel(yLabel);
+        yAxis.setForceZeroInRange(true);
+
+        // Move the window on once per bucket, but only while the chart is on screen
+        ObservableValue<Boolean> showing = chart.sceneProperty()
+            .flatMap(Scene::windowProperty)
+            .flatMap(Window::showingProperty)
+            .orElse(false);
+        showing.addListener((obs, wasShowing, isShowing) -> {
+            if (isShowing) {
+                startTicking();
+            } else {
+                stopTicking();
+            }
+        });
+    }
+
+    public LineChart<Number, Number> getChart() {
+        return chart;
+    }
+
+    /**
+     * Add amount to the named series at the given time. A series is created
+     * on its first event. Events older than the window are dropped; events
+     * in the future count as now. Safe on any thread.
+     */
+    public void add(String name, long timeMillis, double amount) {
+        long current = System.currentTimeMillis() / bucketMillis;
+        long bucket = Math.min(timeMillis / bucketMillis, current);
+        if (bucket <= current - buckets) {
+            return;
+        }
+        synchronized (this) {
+            series.computeIfAbsent(name, n -> new Ring(n, buckets)).add(bucket, amount);
+        }
+        requestPulse();
+    }
+
+    /**
+     * Redraw on the next pulse, once however many events arrive before it
+     */
+    private void requestPulse() {
+        synchronized (this) {
+            if (pulseRequested) {
+                return;
+            }
+            pulseRequested = true;
+        }
+        Platform.runLater(pulse::start);
+    }
+
+    private void startTicking() {
+        if (tick == null) {
+            requestPulse();
+            // Right after each bucket boundary
+            long untilNext = bucketMillis - System.currentTimeMillis() % bucketMillis;
+            tick = ticker.scheduleAtFixedRate(this::requestPulse, untilNext, bucketMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void stopTicking() {
+        if (tick != null) {
+            tick.cancel(false);
+            tick = null;
+        }
+    }
+
+    /**
+     * Copy the window of every ring into its chart points. Runs on the FX thread.
+     */
+    private void render() {
+        long current = System.currentTimeMillis() / bucketMillis;
+        List<Ring> rings;
+        double[][] windows;
+        synchronized (this) {
+            pulseRequested = false;
+            rings = new ArrayList<>(series.values());
+            windows = new double[rings.size()][];
+            for (int i = 0; i < rings.size(); i++) {
+                windows[i] = rings.get(i).window(current);
+            }
+        }
+
+        List<XYChart.Series<Number, Number>> added = new ArrayList<>();
+        for (int i = 0; i < rings.size(); i++) {
+            Ring ring = rings.get(i);
+            if (ring.chartSeries == null) {
+                added.add(ring.createChartSeries(bucketMillis / 60_000.0));
+            }
+            ring.show(windows[i]);
+        }
+        if (!added.isEmpty()) {
+            chart.getData().addAll(added);
+        }
+    }
+
+    /**
+     * The bucket totals of one series, and the chart points that show them
+     */
+    private static final class Ring {
+        final String name;
+        // Slot bucket % length holds the total of that bucket, if slotBucket says it is that one
+        final double[] totals;
+        final long[] slotBucket;
+        // Only touched on the FX thread
+        XYChart.Series<Number, Number> chartSeries;
+        XYChart.Data<Number, Number>[] points;
+        double[] shown;
+
+        Ring(String name, int buckets) {
+            this.name = name;
+            this.totals = new double[buckets];
+            this.slotBucket = new long[buckets];
+            Arrays.fill(slotBucket, Long.MIN_VALUE);
+        }
+
+        void add(long bucket, double amount) {
+            int slot = (int) Math.floorMod(bucket, (long) totals.length);
+            if (slotBucket[slot] != bucket) {
+                // The slot still holds a bucket that has left the window
+                slotBucket[slot] = bucket;
+                totals[slot] = 0;
+            }
+            totals[slot] += amount;
+        }
+
+        /**
+         * Totals of the buckets in the window ending at current, oldest first
+         */
+        double[] window(long current) {
+            double[] window = new double[totals.length];
+            for (int i = 0; i < window.length; i++) {
+                long bucket = current - (window.length - 1) + i;
+                int slot = (int) Math.floorMod(bucket, (long) totals.length);
+                window[i] = slotBucket[slot] == bucket ? totals[slot] : 0;
+            }
+            return window;
+        }
+
+        @SuppressWarnings("unchecked")
+        XYChart.Series<Number, Number> createChartSeries(double bucketMinutes) {
+            points = (XYChart.Data<Number, Number>[]) new XYChart.Data<?, ?>[totals.length];
+            shown = new double[totals.length];
+            List<XYChart.Data<Number, Number>> data = new ArrayList<>(points.length);
+            for (int i = 0; i < points.length; i++) {
+                // A point keeps its place on the axis; the window moves through the y values
+                points[i] = new XYChart.Data<>(-(points.length - 1 - i) * bucketMinutes, 0.0);
+                data.add(points[i]);
+            }
+            chartSeries = new XYChart.Series<>(name, FXCollections.observableList(data));
+            return chartSeries;
+        }
+
+        void show(double[] window) {
+            for (int i = 0; i < window.length; i++) {
+                if (window[i] != shown[i]) {
+                    shown[i] = window[i];
+                    points[i].setYValue(window[i]);
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+package com.mycompany.manufacturing_system;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Login throughput benchmark against the database configured in
+ * DatabaseConnection (normally a local MySQL).
+ * Usage: LoginBenchmark username password [threads] [seconds]
+ * Use an account with the right password: failed logins lock it.
+ */
+public class LoginBenchmark {
+    private static final int WARMUP_LOGINS = 50;
+
+    private LoginBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: LoginBenchmark username password [threads] [seconds]");
+            System.exit(1);
+        }
+        String username = args[0];
+        String password = args[1];
+        // The pool holds 10 connections; leave one for the audit writer
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 30;
+
+        LoginHandler warmup = new LoginHandler();
+        try {
+            if (warmup.authenticate(username, password) == null) {
+                System.err.println("Login failed for " + username + ", check the credentials");
+                System.exit(1);
+            }
+            for (int i = 0; i < WARMUP_LOGINS; i++) {
+                warmup.authenticate(username, password);
+            }
+        } finally {
+            warmup.close();
+        }
+
+        List<long[]> latencies = new ArrayList<>();
+        int[] counts = new int[threads];
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+
+        for (int t = 0; t < threads; t++) {
+            int index = t;
+            long[] samples = new long[1 << 20];
+            latencies.add(samples);
+            Thread worker = new Thread(() -> {
+                LoginHandler handler = null;
+                try {
+                    handler = new LoginHandler();
+                    start.await();
+                    int n = 0;
+                    while (System.nanoTime() < deadline && n < samples.length) {
+                        long begin = System.nanoTime();
+                        if (handler.authenticate(username, password) == null) {
+                            failures.incrementAndGet();
+                        }
+                        samples[n++] = System.nanoTime() - begin;
+                    }
+                    counts[index] = n;
+                } catch (SQLException e) {
+                    System.err.println("Benchmark worker failed: " + e.getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    if (handler != null) {
+                        handler.close();
+                    }
+                    done.countDown();
+                }
+            }, "login-benchmark-" + t);
+            worker.start();
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        double elapsed = (System.nanoTime() - begin) / 1e9;
+
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        long[] all = new long[total];
+        int offset = 0;
+        for (int t = 0; t < threads; t++) {
+            System.arraycopy(latencies.get(t), 0, all, offset, counts[t]);
+            offset += counts[t];
+        }
+        Arrays.sort(all);
+
+        System.out.printf("Threads: %d, logins: %d, failures: %d, elapsed: %.1f s%n",
+            threads, total, failures.get(), elapsed);
+        System.out.printf("Throughput: %.1f logins/s%n", total / elapsed);
+        if (total > 0) {
+            System.out.printf("Latency ms: p50 %.2f, p95 %.2f, p99 %.2f, max %.2f%n",
+                percentile(all, 0.50), percentile(all, 0.95), percentile(all, 0.99), all[total - 1] / 1e6);
+        }
+        AuditLog.shared().shutdown(10000);
+        System.out.printf("Audit records: %d written, %d spilled%n",
+            AuditLog.shared().getWrittenCount(), AuditLog.shared().getSpilledCount());
+        DatabaseConnection.closeAllConnections();
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
\ No newline at end of file
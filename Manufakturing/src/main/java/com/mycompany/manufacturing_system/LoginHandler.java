@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.security.MessageDigest;
 import java.util.Base64;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 /**
@@ -15,6 +16,9 @@ public class LoginHandler {
     private Connection connection;
     private static final int MAX_LOGIN_ATTEMPTS = 5;
     private static final int LOCKOUT_DURATION_MINUTES = 30;
+    // Events whose audit row must be written before the caller carries on
+    private static final Set<String> CRITICAL_EVENTS = Set.of(
+        "ACCOUNT_LOCKED", "ACCOUNT_FORCE_UNLOCKED", "PASSWORD_CHANGED");
     private static final Pattern EMAIL_PATTERN = Pattern.compile(
         "^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$"
     );
@@ -24,7 +28,17 @@ public class LoginHandler {
     }
 
     /**
-     * Enhanced authentication with security features
+     * Return this handler's connection to the pool
+     */
+    public void close() {
+        DatabaseConnection.releaseConnection(connection);
+        connection = null;
+    }
+
+    /**
+     * Enhanced authentication with security features.
+     * One query reads the credentials together with the lockout state and one
+     * update records the outcome; audit rows are written in the background.
      */
     public User authenticate(String username, String password) {
         // Input validation
@@ -36,44 +50,57 @@ public class LoginHandler {
         // Sanitize input
         username = sanitizeInput(username);
         
-        // Check if account is locked
-        if (isAccountLocked(username)) {
-            logSecurityEvent(username, "LOGIN_BLOCKED", false, "Account locked due to multiple failed attempts");
-            return null;
-        }
-        
-        String query = "SELECT u.user_id, u.username, u.password, r.role_name, u.full_name, u.email, u.department, u.is_active " +
-                       "FROM users u JOIN roles r ON u.role_id = r.role_id " +
-                       "WHERE u.username = ?";
+        String query = """
+            SELECT u.user_id, u.username, u.password, r.role_name, u.full_name, u.email, u.department, u.is_active,
+                   u.failed_login_attempts, u.account_locked_until,
+                   COALESCE(u.account_locked_until > NOW(), FALSE) AS locked
+            FROM users u JOIN roles r ON u.role_id = r.role_id
+            WHERE u.username = ?
+            """;
         
         try (PreparedStatement stmt = connection.prepareStatement(query)) {
             stmt.setString(1, username);
             
             ResultSet rs = stmt.executeQuery();
-            if (rs.next()) {
-                String storedPasswordHash = rs.getString("password_hash");
+            if (!rs.next()) {
+                logSecurityEvent(username, "LOGIN_FAILED", false, "Username not found");
+                return null;
+            }
+
+            // An expired lockout no longer counts; the update below clears it
+            boolean lockExpired = rs.getTimestamp("account_locked_until") != null && !rs.getBoolean("locked");
+            int failedAttempts = lockExpired ? 0 : rs.getInt("failed_login_attempts");
+            if (rs.getBoolean("locked") || failedAttempts >= MAX_LOGIN_ATTEMPTS) {
+                logSecurityEvent(username, "LOGIN_BLOCKED", false, "Account locked due to multiple failed attempts");
+                return null;
+            }
+            if (lockExpired) {
+                logSecurityEvent(username, "ACCOUNT_UNLOCKED", true, "Account automatically unlocked after lockout period");
+            }
+
+            String storedPasswordHash = rs.getString("password");
+            
+            // Verify password
+            if (verifyPassword(password, storedPasswordHash)) {
+                // Successful login
+                User user = createUserFromResultSet(rs);
                 
-                // Verify password
-                if (verifyPassword(password, storedPasswordHash)) {
-                    // Successful login
-                    User user = createUserFromResultSet(rs);
-                    
-                    // Reset failed attempts and update last login
-                    resetFailedAttempts(username);
-                    updateLastLogin(username);
-                    
-                    // Log successful login
-                    logSecurityEvent(username, "LOGIN_SUCCESS", true, "User logged in successfully");
-                    logUserActivity(user.getUserId(), "LOGIN", "User logged in successfully");
-                    
-                    return user;
-                } else {
-                    // Failed login - increment failed attempts
-                    incrementFailedAttempts(username);
-                    logSecurityEvent(username, "LOGIN_FAILED", false, "Invalid password");
-                }
+                // Reset failed attempts and update last login
+                recordSuccessfulLogin(user.getUserId());
+                
+                // Log successful login
+                logSecurityEvent(username, "LOGIN_SUCCESS", true, "User logged in successfully");
+                logUserActivity(user.getUserId(), "LOGIN", "User logged in successfully");
+                
+                return user;
             } else {
-                logSecurityEvent(username, "LOGIN_FAILED", false, "Username not found");
+                // Failed login - increment failed attempts
+                incrementFailedAttempts(rs.getInt("user_id"));
+                logSecurityEvent(username, "LOGIN_FAILED", false, "Invalid password");
+                if (failedAttempts + 1 >= MAX_LOGIN_ATTEMPTS) {
+                    logSecurityEvent(username, "ACCOUNT_LOCKED", false, 
+                        "Account locked due to " + MAX_LOGIN_ATTEMPTS + " failed login attempts");
+                }
             }
         } catch (SQLException e) {
             System.err.println("Authentication error: " + e.getMessage());
@@ -124,67 +151,31 @@ public class LoginHandler {
     }
 
     /**
-     * Check if account is locked due to failed attempts
+     * Increment failed login attempts and lock account if necessary.
+     * A lockout that has already expired starts the count again.
      */
-    private boolean isAccountLocked(String username) {
-        String query = """
-            SELECT account_locked_until, failed_login_attempts 
-            FROM users 
-            WHERE username = ?
-            """;
-        
-        try (PreparedStatement stmt = connection.prepareStatement(query)) {
-            stmt.setString(1, username);
-            ResultSet rs = stmt.executeQuery();
-            
-            if (rs.next()) {
-                Timestamp lockedUntil = rs.getTimestamp("account_locked_until");
-                int failedAttempts = rs.getInt("failed_login_attempts");
-                
-                // Check if account is currently locked
-                if (lockedUntil != null && lockedUntil.after(new Timestamp(System.currentTimeMillis()))) {
-                    return true;
-                }
-                
-                // Auto-unlock if lockout period has expired
-                if (lockedUntil != null && lockedUntil.before(new Timestamp(System.currentTimeMillis()))) {
-                    unlockAccount(username);
-                }
-                
-                return failedAttempts >= MAX_LOGIN_ATTEMPTS;
-            }
-        } catch (SQLException e) {
-            System.err.println("Error checking account lock status: " + e.getMessage());
-        }
-        return false;
-    }
-
-    /**
-     * Increment failed login attempts and lock account if necessary
-     */
-    private void incrementFailedAttempts(String username) {
+    private void incrementFailedAttempts(int userId) {
+        // MySQL assigns left to right, so the lock test sees the new count
         String updateQuery = """
-            UPDATE users 
-            SET failed_login_attempts = failed_login_attempts + 1,
-                account_locked_until = CASE 
-                    WHEN failed_login_attempts + 1 >= ? THEN DATE_ADD(NOW(), INTERVAL ? MINUTE)
-                    ELSE account_locked_until 
+            UPDATE users
+            SET failed_login_attempts = CASE
+                    WHEN account_locked_until <= NOW() THEN 1
+                    ELSE failed_login_attempts + 1
+                END,
+                account_locked_until = CASE
+                    WHEN failed_login_attempts >= ? THEN DATE_ADD(NOW(), INTERVAL ? MINUTE)
+                    WHEN account_locked_until <= NOW() THEN NULL
+                    ELSE account_locked_until
                 END,
                 updated_at = CURRENT_TIMESTAMP
-            WHERE username = ?
+            WHERE user_id = ?
             """;
         
         try (PreparedStatement stmt = connection.prepareStatement(updateQuery)) {
             stmt.setInt(1, MAX_LOGIN_ATTEMPTS);
             stmt.setInt(2, LOCKOUT_DURATION_MINUTES);
-            stmt.setString(3, username);
+            stmt.setInt(3, userId);
             stmt.executeUpdate();
-            
-            // Check if account was just locked
-            if (getFailedAttempts(username) >= MAX_LOGIN_ATTEMPTS) {
-                logSecurityEvent(username, "ACCOUNT_LOCKED", false, 
-                    "Account locked due to " + MAX_LOGIN_ATTEMPTS + " failed login attempts");
-            }
         } catch (SQLException e) {
             System.err.println("Error incrementing failed attempts: " + e.getMessage());
         }
@@ -195,8 +186,8 @@ public class LoginHandler {
      */
     private void resetFailedAttempts(String username) {
         String query = """
-            UPDATE users 
-            SET failed_login_attempts = 0, 
+            UPDATE users
+            SET failed_login_attempts = 0,
                 account_locked_until = NULL,
                 updated_at = CURRENT_TIMESTAMP
             WHERE username = ?
@@ -211,40 +202,20 @@ public class LoginHandler {
     }
 
     /**
-     * Get current failed attempts count
-     */
-    private int getFailedAttempts(String username) {
-        String query = "SELECT failed_login_attempts FROM users WHERE username = ?";
-        
-        try (PreparedStatement stmt = connection.prepareStatement(query)) {
-            stmt.setString(1, username);
-            ResultSet rs = stmt.executeQuery();
-            
-            if (rs.next()) {
-                return rs.getInt("failed_login_attempts");
-            }
-        } catch (SQLException e) {
-            System.err.println("Error getting failed attempts: " + e.getMessage());
-        }
-        return 0;
-    }
-
-    /**
-     * Unlock account manually
-     */
-    private void unlockAccount(String username) {
-        resetFailedAttempts(username);
-        logSecurityEvent(username, "ACCOUNT_UNLOCKED", true, "Account automatically unlocked after lockout period");
-    }
-
-    /**
-     * Update last login timestamp
+     * Reset failed attempts and update last login in a single statement
      */
-    private void updateLastLogin(String username) {
-        String query = "UPDATE users SET last_login = CURRENT_TIMESTAMP WHERE username = ?";
+    private void recordSuccessfulLogin(int userId) {
+        String query = """
+            UPDATE users
+            SET failed_login_attempts = 0,
+                account_locked_until = NULL,
+                last_login = CURRENT_TIMESTAMP,
+                updated_at = CURRENT_TIMESTAMP
+            WHERE user_id = ?
+            """;
         
         try (PreparedStatement stmt = connection.prepareStatement(query)) {
-            stmt.setString(1, username);
+            stmt.setInt(1, userId);
             stmt.executeUpdate();
         } catch (SQLException e) {
             System.err.println("Error updating last login: " + e.getMessage());
@@ -338,10 +309,10 @@ public class LoginHandler {
         }
         
         String query = """
-            UPDATE users 
-            SET password_hash = ?, 
+            UPDATE users
+            SET password_hash = ?,
                 password_changed_at = CURRENT_TIMESTAMP,
-                updated_at = CURRENT_TIMESTAMP 
+                updated_at = CURRENT_TIMESTAMP
             WHERE username = ?
             """;
 
@@ -413,34 +384,23 @@ public class LoginHandler {
     }
 
     /**
-     * Enhanced role validation with permission checking
+     * Get the description of a role
      */
-    public boolean validateRoleAccess(String username, String requiredRole) {
-        String query = """
-            SELECT r.role_name, r.permissions
-            FROM users u 
-            JOIN roles r ON u.role_id = r.role_id 
-            WHERE u.username = ? AND u.is_active = TRUE
-            """;
+    public String getRoleDescription(String roleName) {
+        String query = "SELECT role_description FROM roles WHERE role_name = ?";
         
         try (PreparedStatement stmt = connection.prepareStatement(query)) {
-            stmt.setString(1, username);
+            stmt.setString(1, roleName);
             ResultSet rs = stmt.executeQuery();
             
             if (rs.next()) {
-                String userRole = rs.getString("role_name");
-                // Admin has access to everything
-                if ("ADMIN".equals(userRole)) {
-                    return true;
-                }
-                return requiredRole.equals(userRole);
+                return rs.getString("role_description");
             }
             
         } catch (SQLException e) {
-            System.err.println("Role validation error: " + e.getMessage());
-            e.printStackTrace();
+            System.err.println("Role lookup error: " + e.getMessage());
         }
-        return false;
+        return null;
     }
 
     /**
@@ -464,65 +424,19 @@ public class LoginHandler {
     }
 
     /**
-     * Enhanced user activity logging
+     * Enhanced user activity logging, written in the background
      */
     private void logUserActivity(int userId, String activity, String description) {
-        // Create user_activity_log table if not exists
-        String createLogTable = """
-            CREATE TABLE IF NOT EXISTS user_activity_log (
-                log_id INT AUTO_INCREMENT PRIMARY KEY,
-                user_id INT NOT NULL,
-                activity VARCHAR(50) NOT NULL,
-                description TEXT,
-                ip_address VARCHAR(45),
-                user_agent TEXT,
-                session_id VARCHAR(100),
-                timestamp TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-                FOREIGN KEY (user_id) REFERENCES users(user_id),
-                INDEX idx_user_id (user_id),
-                INDEX idx_timestamp (timestamp)
-            )
-            """;
-        
-        String insertLog = """
-            INSERT INTO user_activity_log (user_id, activity, description) 
-            VALUES (?, ?, ?)
-            """;
-        
-        try (PreparedStatement createStmt = connection.prepareStatement(createLogTable);
-             PreparedStatement insertStmt = connection.prepareStatement(insertLog)) {
-            
-            createStmt.execute();
-            
-            insertStmt.setInt(1, userId);
-            insertStmt.setString(2, activity);
-            insertStmt.setString(3, description);
-            insertStmt.executeUpdate();
-            
-        } catch (SQLException e) {
-            System.err.println("Activity logging error: " + e.getMessage());
-        }
+        AuditLog.shared().userActivity(userId, activity, description);
     }
 
     /**
-     * Security event logging for audit trail
+     * Security event logging for audit trail, written in the background
      */
     private void logSecurityEvent(String username, String event, boolean success, String details) {
-        String insertLog = """
-            INSERT INTO audit_log (username, action, table_name, new_values, timestamp) 
-            VALUES (?, ?, 'users', JSON_OBJECT('success', ?, 'details', ?), CURRENT_TIMESTAMP)
-            """;
-        
-        try (PreparedStatement stmt = connection.prepareStatement(insertLog)) {
-            stmt.setString(1, username != null ? username : "unknown");
-            stmt.setString(2, event);
-            stmt.setBoolean(3, success);
-            stmt.setString(4, details);
-            stmt.executeUpdate();
-            
-        } catch (SQLException e) {
-            System.err.println("Security logging error: " + e.getMessage());
-        }
+        AuditLog.Durability durability = CRITICAL_EVENTS.contains(event)
+            ? AuditLog.CRITICAL_DURABILITY : AuditLog.Durability.FIRE_AND_FORGET;
+        AuditLog.shared().securityEvent(username, event, success, details, durability);
     }
 
     /**
@@ -538,7 +452,7 @@ public class LoginHandler {
      */
     public int[] getSystemStatistics() {
         String query = """
-            SELECT 
+            SELECT
                 COUNT(*) as total_users,
                 SUM(CASE WHEN is_active = TRUE THEN 1 ELSE 0 END) as active_users,
                 SUM(CASE WHEN r.role_name = 'ADMIN' THEN 1 ELSE 0 END) as admin_count,
@@ -546,7 +460,7 @@ public class LoginHandler {
                 SUM(CASE WHEN r.role_name = 'SUPERVISOR' THEN 1 ELSE 0 END) as supervisor_count,
                 SUM(CASE WHEN r.role_name = 'OPERATOR' THEN 1 ELSE 0 END) as operator_count,
                 SUM(CASE WHEN account_locked_until > NOW() THEN 1 ELSE 0 END) as locked_accounts
-            FROM users u 
+            FROM users u
             JOIN roles r ON u.role_id = r.role_id
             """;
         
@@ -1,6 +1,9 @@
 package com.mycompany.manufacturing_system;
 
 import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import javafx.concurrent.Task;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -15,16 +18,26 @@ import javafx.animation.FadeTransition;
 import javafx.util.Duration;
 
 public class LoginView {
+    private static final Logger logger = Logger.getLogger(LoginView.class.getName());
     private TextField usernameField;
     private PasswordField passwordField;
     private Button loginButton; // Store reference to login button
-    private final LoginHandler loginHandler;
+    private LoginHandler loginHandler; // opened on first use, off the FX thread
     private final Stage primaryStage;
     private static User currentUser;
 
-    public LoginView(Stage primaryStage) throws SQLException {
+    public LoginView(Stage primaryStage) {
         this.primaryStage = primaryStage;
-        this.loginHandler = new LoginHandler();
+    }
+
+    /**
+     * Open the LoginHandler on first use. Called from background tasks only.
+     */
+    private synchronized LoginHandler getLoginHandler() throws SQLException {
+        if (loginHandler == null) {
+            loginHandler = new LoginHandler();
+        }
+        return loginHandler;
     }
     
     public VBox getView() {
@@ -321,6 +334,11 @@ public class LoginView {
     }
 
     private void handleLogin() {
+        // Enter in the password field while a login is already running
+        if (loginButton.isDisabled()) {
+            return;
+        }
+
         String username = usernameField.getText().trim();
         String password = passwordField.getText();
 
@@ -329,47 +347,64 @@ public class LoginView {
             return;
         }
 
+        long clickedAt = System.nanoTime();
+
         // Show loading state using stored reference
         String originalText = loginButton.getText();
         loginButton.setText("Logging in...");
         loginButton.setDisable(true);
 
-        // Simulate loading delay and authenticate
-        new Thread(() -> {
-            try {
-                Thread.sleep(1000); // Simulate network delay
-                
-                javafx.application.Platform.runLater(() -> {
-                    User user = loginHandler.authenticate(username, password);
-                    
-                    loginButton.setText(originalText);
-                    loginButton.setDisable(false);
-                    
-                    if (user != null && user.isActive()) {
-                        currentUser = user;
-                        showSuccessMessage("Welcome " + user.getDisplayName() + "!");
-                        navigateToMainMenu(user);
-                    } else {
-                        showAlert("Login Failed", 
-                            "Invalid username or password, or account is inactive.\n\n" +
-                            "Please check your credentials and try again.", 
-                            Alert.AlertType.ERROR);
-                        // Clear password field for security
-                        passwordField.clear();
-                        usernameField.requestFocus();
-                    }
-                });
-                
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+        // Authenticate and build the main menu off the FX thread
+        Task<ModernMainMenuView> loginTask = new Task<>() {
+            @Override
+            protected ModernMainMenuView call() throws SQLException {
+                LoginHandler handler = getLoginHandler();
+                User user = handler.authenticate(username, password);
+                if (user == null || !user.isActive()) {
+                    return null;
+                }
+                ModernMainMenuView mainMenuView = new ModernMainMenuView(primaryStage, user);
+                // Role and first-screen data load while the menu is built and faded in
+                mainMenuView.prefetch(handler);
+                mainMenuView.getView();
+                return mainMenuView;
+            }
+        };
+
+        loginTask.setOnSucceeded(e -> {
+            loginButton.setText(originalText);
+            loginButton.setDisable(false);
+
+            ModernMainMenuView mainMenuView = loginTask.getValue();
+            if (mainMenuView != null) {
+                currentUser = mainMenuView.getCurrentUser();
+                navigateToMainMenu(mainMenuView, clickedAt);
+            } else {
+                showAlert("Login Failed", 
+                    "Invalid username or password, or account is inactive.\n\n" +
+                    "Please check your credentials and try again.", 
+                    Alert.AlertType.ERROR);
+                // Clear password field for security
+                passwordField.clear();
+                usernameField.requestFocus();
             }
-        }).start();
+        });
+
+        loginTask.setOnFailed(e -> {
+            loginButton.setText(originalText);
+            loginButton.setDisable(false);
+            Throwable error = loginTask.getException();
+            error.printStackTrace();
+            showAlert("Login Error", "Login failed: " + error.getMessage(), Alert.AlertType.ERROR);
+        });
+
+        BackgroundExecutor.shared().execute(loginTask);
     }
 
-    private void navigateToMainMenu(User user) {
+    private void navigateToMainMenu(ModernMainMenuView mainMenuView, long clickedAt) {
         try {
-            ModernMainMenuView mainMenuView = new ModernMainMenuView(primaryStage, user);
-            Scene mainMenuScene = new Scene(mainMenuView.getView(), 800, 600);
+            User user = mainMenuView.getCurrentUser();
+            Scene mainMenuScene = mainMenuView.getScene();
             
             // Add fade transition
             FadeTransition fadeOut = new FadeTransition(Duration.millis(300), primaryStage.getScene().getRoot());
@@ -379,6 +414,9 @@ public class LoginView {
                 primaryStage.setScene(mainMenuScene);
                 primaryStage.setTitle("Manufacturing Management System - " + user.getRoleDisplayName());
                 primaryStage.centerOnScreen();
+                logger.info("Main menu interactive " 
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - clickedAt) + " ms after login for " + user.getUsername());
+                mainMenuView.prewarm();
                 
                 FadeTransition fadeIn = new FadeTransition(Duration.millis(300), mainMenuScene.getRoot());
                 fadeIn.setFromValue(0);
@@ -472,12 +510,6 @@ public class LoginView {
                     return null;
                 }
                 
-                // Check if username already exists
-                if (loginHandler.usernameExists(regUsername.getText().trim())) {
-                    showAlert("Registration Error", "Username already exists", Alert.AlertType.ERROR);
-                    return null;
-                }
-                
                 return new User(
                     regUsername.getText().trim(),
                     regPassword.getText(),
@@ -490,8 +522,17 @@ public class LoginView {
             return null;
         });
 
-        dialog.showAndWait().ifPresent(user -> {
-            if (loginHandler.registerUser(user)) {
+        dialog.showAndWait().ifPresent(user -> ViewLoader.submit("create account", BackgroundExecutor.shared(), () -> {
+            LoginHandler handler = getLoginHandler();
+            // Checked here rather than in the dialog to keep the query off the FX thread
+            if (handler.usernameExists(user.getUsername())) {
+                return null;
+            }
+            return handler.registerUser(user);
+        }, registered -> {
+            if (registered == null) {
+                showAlert("Registration Error", "Username already exists", Alert.AlertType.ERROR);
+            } else if (registered) {
                 showAlert("Registration Successful", 
                     "Account created successfully!\n\n" +
                     "Username: " + user.getUsername() + "\n" +
@@ -507,17 +548,9 @@ public class LoginView {
                     "Failed to create account. Please try again.", 
                     Alert.AlertType.ERROR);
             }
-        });
+        }));
     }
     
-    private void showSuccessMessage(String message) {
-        Alert alert = new Alert(Alert.AlertType.INFORMATION);
-        alert.setTitle("Login Successful");
-        alert.setHeaderText("Welcome!");
-        alert.setContentText(message);
-        alert.showAndWait();
-    }
-
     private void showAlert(String title, String content, Alert.AlertType type) {
         Alert alert = new Alert(type);
         alert.setTitle(title);
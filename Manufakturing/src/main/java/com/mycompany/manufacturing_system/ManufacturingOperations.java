@@ -19,6 +19,14 @@ public class ManufacturingOperations {
         initializeTables();
     }
 
+    /**
+     * Return this object's connection to the pool
+     */
+    public void close() {
+        DatabaseConnection.releaseConnection(connection);
+        connection = null;
+    }
+
     /**
      * Initialize database tables if they don't exist
      */
@@ -107,9 +115,9 @@ public class ManufacturingOperations {
      */
     public boolean createProductionOrder(ProductionOrder order) {
         String query = """
-            INSERT INTO production_orders 
-            (order_id, customer_name, product_id, product_name, quantity, priority, 
-             order_date, due_date, total_cost, notes) 
+            INSERT INTO production_orders
+            (order_id, customer_name, product_id, product_name, quantity, priority,
+             order_date, due_date, total_cost, notes)
             VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
             """;
             
@@ -131,7 +139,13 @@ public class ManufacturingOperations {
             stmt.setDouble(9, order.getTotalCost());
             stmt.setString(10, order.getNotes());
             
-            return stmt.executeUpdate() > 0;
+            boolean updated = stmt.executeUpdate() > 0;
+            if (updated) {
+                // An order without a date may fall in any cached range
+                ReportCache.shared().invalidate(ReportCache.Source.ORDERS,
+                    order.getOrderDate() != null ? order.getOrderDate().toLocalDate() : null);
+            }
+            return updated;
             
         } catch (SQLException e) {
             e.printStackTrace();
@@ -144,11 +158,11 @@ public class ManufacturingOperations {
      */
     public boolean startProduction(String orderId, String productionLine, String operator) {
         String query = """
-            UPDATE production_orders SET 
-            status = 'IN_PROGRESS', 
-            start_date = ?, 
-            assigned_line = ?, 
-            assigned_operator = ? 
+            UPDATE production_orders SET
+            status = 'IN_PROGRESS',
+            start_date = ?,
+            assigned_line = ?,
+            assigned_operator = ?
             WHERE order_id = ?
             """;
             
@@ -158,7 +172,11 @@ public class ManufacturingOperations {
             stmt.setString(3, operator);
             stmt.setString(4, orderId);
             
-            return stmt.executeUpdate() > 0;
+            boolean updated = stmt.executeUpdate() > 0;
+            if (updated) {
+                ReportCache.shared().invalidate(ReportCache.Source.ORDERS);
+            }
+            return updated;
             
         } catch (SQLException e) {
             e.printStackTrace();
@@ -171,10 +189,10 @@ public class ManufacturingOperations {
      */
     public boolean updateProductionProgress(String orderId, double completionPercentage, String notes) {
         String query = """
-            UPDATE production_orders SET 
-            completion_percentage = ?, 
+            UPDATE production_orders SET
+            completion_percentage = ?,
             notes = ?,
-            status = CASE 
+            status = CASE
                 WHEN ? >= 100.0 THEN 'COMPLETED'
                 WHEN ? > 0 THEN 'IN_PROGRESS'
                 ELSE status
@@ -192,7 +210,11 @@ public class ManufacturingOperations {
             stmt.setString(6, LocalDateTime.now().format(formatter));
             stmt.setString(7, orderId);
             
-            return stmt.executeUpdate() > 0;
+            boolean updated = stmt.executeUpdate() > 0;
+            if (updated) {
+                ReportCache.shared().invalidate(ReportCache.Source.ORDERS);
+            }
+            return updated;
             
         } catch (SQLException e) {
             e.printStackTrace();
@@ -211,40 +233,7 @@ public class ManufacturingOperations {
              ResultSet rs = stmt.executeQuery(query)) {
             
             while (rs.next()) {
-                ProductionOrder order = new ProductionOrder(
-                    rs.getString("order_id"),
-                    rs.getString("customer_name"),
-                    rs.getString("product_id"),
-                    rs.getString("product_name"),
-                    rs.getInt("quantity"),
-                    rs.getString("priority")
-                );
-                
-                order.setStatus(rs.getString("status"));
-                order.setOrderDate(LocalDateTime.parse(rs.getString("order_date"), formatter));
-                
-                String dueDateStr = rs.getString("due_date");
-                if (dueDateStr != null) {
-                    order.setDueDate(LocalDateTime.parse(dueDateStr, formatter));
-                }
-                
-                String startDateStr = rs.getString("start_date");
-                if (startDateStr != null) {
-                    order.setStartDate(LocalDateTime.parse(startDateStr, formatter));
-                }
-                
-                String completionDateStr = rs.getString("completion_date");
-                if (completionDateStr != null) {
-                    order.setCompletionDate(LocalDateTime.parse(completionDateStr, formatter));
-                }
-                
-                order.setAssignedLine(rs.getString("assigned_line"));
-                order.setAssignedOperator(rs.getString("assigned_operator"));
-                order.setTotalCost(rs.getDouble("total_cost"));
-                order.setCompletionPercentage(rs.getDouble("completion_percentage"));
-                order.setNotes(rs.getString("notes"));
-                
-                orders.add(order);
+                orders.add(mapOrder(rs));
             }
             
         } catch (SQLException e) {
@@ -254,14 +243,53 @@ public class ManufacturingOperations {
         return orders;
     }
 
+    /**
+     * Build a ProductionOrder from the current production_orders row
+     */
+    static ProductionOrder mapOrder(ResultSet rs) throws SQLException {
+        ProductionOrder order = new ProductionOrder(
+            rs.getString("order_id"),
+            rs.getString("customer_name"),
+            rs.getString("product_id"),
+            rs.getString("product_name"),
+            rs.getInt("quantity"),
+            rs.getString("priority")
+        );
+
+        order.setStatus(rs.getString("status"));
+        order.setOrderDate(LocalDateTime.parse(rs.getString("order_date"), formatter));
+
+        String dueDateStr = rs.getString("due_date");
+        if (dueDateStr != null) {
+            order.setDueDate(LocalDateTime.parse(dueDateStr, formatter));
+        }
+
+        String startDateStr = rs.getString("start_date");
+        if (startDateStr != null) {
+            order.setStartDate(LocalDateTime.parse(startDateStr, formatter));
+        }
+
+        String completionDateStr = rs.getString("completion_date");
+        if (completionDateStr != null) {
+            order.setCompletionDate(LocalDateTime.parse(completionDateStr, formatter));
+        }
+
+        order.setAssignedLine(rs.getString("assigned_line"));
+        order.setAssignedOperator(rs.getString("assigned_operator"));
+        order.setTotalCost(rs.getDouble("total_cost"));
+        order.setCompletionPercentage(rs.getDouble("completion_percentage"));
+        order.setNotes(rs.getString("notes"));
+        return order;
+    }
+
     /**
      * Get orders for a specific user
      */
     public List<ProductionOrder> getOrdersForUser(String username) {
         List<ProductionOrder> orders = new ArrayList<>();
         String query = """
-            SELECT * FROM production_orders 
-            WHERE customer_name = ? OR assigned_operator = ? 
+            SELECT * FROM production_orders
+            WHERE customer_name = ? OR assigned_operator = ?
             ORDER BY order_date DESC
             """;
         
@@ -310,8 +338,8 @@ public class ManufacturingOperations {
             
             // Orders by status
             rs = stmt.executeQuery("""
-                SELECT status, COUNT(*) as count 
-                FROM production_orders 
+                SELECT status, COUNT(*) as count
+                FROM production_orders
                 GROUP BY status
                 """);
             while (rs.next()) {
@@ -327,8 +355,8 @@ public class ManufacturingOperations {
             
             // Today's production
             rs = stmt.executeQuery("""
-                SELECT COUNT(*) as today_count 
-                FROM production_orders 
+                SELECT COUNT(*) as today_count
+                FROM production_orders
                 WHERE DATE(start_date) = CURDATE()
                 """);
             if (rs.next()) {
@@ -387,14 +415,4 @@ public class ManufacturingOperations {
         public int getTodayProduction() { return todayProduction; }
         public void setTodayProduction(int todayProduction) { this.todayProduction = todayProduction; }
     }
-
-    private static class DatabaseConnection {
-
-        private static Connection getConnection() {
-            throw new UnsupportedOperationException("Not supported yet."); // Generated from nbfs://nbhost/SystemFileSystem/Templates/Classes/Code/GeneratedMethodBody
-        }
-
-        public DatabaseConnection() {
-        }
-    }
 }
\ No newline at end of file
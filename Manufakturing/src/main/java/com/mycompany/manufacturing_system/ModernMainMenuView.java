@@ -1,5 +1,6 @@
 package com.mycompany.manufacturing_system;
 
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -14,21 +15,97 @@ import javafx.scene.paint.Color;
 import javafx.animation.FadeTransition;
 import javafx.animation.ScaleTransition;
 import javafx.util.Duration;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Enhanced Modern Main Menu View with all implemented features
  */
 public class ModernMainMenuView {
+    // Prefetched screen data older than this is loaded again instead
+    private static final long PREFETCH_MAX_AGE_NANOS = 60_000_000_000L;
+    // Keys of the screens registered with the navigation controller
+    private static final String DASHBOARD = "dashboard";
+    private static final String PRODUCTION = "production";
+    private static final String QUALITY = "quality";
+    private static final String INVENTORY = "inventory";
+    private static final String REPORTS = "reports";
+    private static final String USERS = "users";
+    private static final String TASKS = "tasks";
+    private static final String DIAGNOSTICS = "diagnostics";
     private Stage primaryStage;
-    private Scene previousScene;
     private User currentUser;
+    private VBox view;
+    // Shared by every screen of this login, closed at logout
+    private final SessionOperations session = new SessionOperations();
+    private NavigationController navigation;
+    // Started by prefetch(); each prefetched view is used once
+    private CompletableFuture<String> roleDescription;
+    private CompletableFuture<ProductionDashboardView> prefetchedDashboard;
+    private CompletableFuture<MyTasksView> prefetchedTasks;
+    private long prefetchedAt;
 
     public ModernMainMenuView(Stage primaryStage, User user) {
         this.primaryStage = primaryStage;
         this.currentUser = user;
     }
 
+    User getCurrentUser() {
+        return currentUser;
+    }
+
+    /**
+     * Start loading the role details and the data of the screen this role
+     * opens first, in parallel and off the FX thread. Call before getView().
+     */
+    void prefetch(LoginHandler loginHandler) {
+        prefetchedAt = System.nanoTime();
+        roleDescription = CompletableFuture.supplyAsync(
+            () -> loginHandler.getRoleDescription(currentUser.getRole()), BackgroundExecutor.shared());
+
+        if (currentUser.canManageProduction()) {
+            prefetchedDashboard = CompletableFuture.supplyAsync(() -> {
+                ProductionDashboardView dashboardView = new ProductionDashboardView(currentUser, session);
+                dashboardView.preload();
+                return dashboardView;
+            }, session.manufacturingLoader());
+        } else {
+            prefetchedTasks = CompletableFuture.supplyAsync(() -> {
+                MyTasksView tasksView = new MyTasksView(currentUser, session);
+                tasksView.preload();
+                return tasksView;
+            }, session.manufacturingLoader());
+        }
+    }
+
+    /**
+     * The scene this session's menu and screens are shown in. Call on the FX thread.
+     */
+    Scene getScene() {
+        getView();
+        return navigation.getScene();
+    }
+
+    /**
+     * Build the other screens this user can open once the first screen's
+     * data is in, so visiting them later is instant. Call on the FX thread
+     * after the menu is shown.
+     */
+    void prewarm() {
+        CompletableFuture<?> first = prefetchedDashboard != null ? prefetchedDashboard : prefetchedTasks;
+        if (first == null) {
+            navigation.prewarm();
+            return;
+        }
+        first.whenComplete((prefetched, error) -> Platform.runLater(navigation::prewarm));
+    }
+
+    /**
+     * Build the menu. May be called off the FX thread before the view is shown.
+     */
     public VBox getView() {
+        if (view != null) {
+            return view;
+        }
         VBox menuBox = new VBox(30);
         menuBox.setAlignment(Pos.CENTER);
         menuBox.setPadding(new Insets(40));
@@ -43,12 +120,65 @@ public class ModernMainMenuView {
         FadeTransition fadeIn = new FadeTransition(Duration.millis(800), menuCard);
         fadeIn.setFromValue(0);
         fadeIn.setToValue(1);
-        fadeIn.play();
+        if (Platform.isFxApplicationThread()) {
+            fadeIn.play();
+        } else {
+            Platform.runLater(fadeIn::play);
+        }
 
         menuBox.getChildren().add(menuCard);
+        navigation = new NavigationController(primaryStage, menuBox,
+            "Manufacturing Management System - " + currentUser.getRoleDisplayName());
+        registerScreens();
+        view = menuBox;
         return menuBox;
     }
 
+    /**
+     * Register the screens this user's role can open, the first one first
+     */
+    private void registerScreens() {
+        if (currentUser.canManageProduction()) {
+            navigation.register(DASHBOARD, "Production Dashboard", () -> {
+                ProductionDashboardView dashboardView = takePrefetched(prefetchedDashboard);
+                prefetchedDashboard = null;
+                if (dashboardView == null) {
+                    dashboardView = new ProductionDashboardView(currentUser, session);
+                }
+                return createScreen(dashboardView.getView());
+            });
+            navigation.register(PRODUCTION, "Production Management",
+                () -> createScreen(new ProductionManagementView(currentUser, session).getView()));
+            navigation.register(QUALITY, "Quality Control",
+                () -> createScreen(new QualityControlView(currentUser, session).getView()));
+            navigation.register(INVENTORY, "Inventory Management",
+                () -> createScreen(new InventoryManagementView(currentUser, session).getView()));
+            if (currentUser.canManageUsers()) {
+                navigation.register(USERS, "User Management",
+                    () -> createScreen(new UserManagementView(currentUser, session).getView()));
+                navigation.register(DIAGNOSTICS, "UI Diagnostics",
+                    () -> createScreen(new DiagnosticsView().getView()));
+            }
+            navigation.register(REPORTS, "Reports & Analytics",
+                () -> createScreen(new ReportsAnalyticsView(currentUser, session).getView()));
+        } else {
+            navigation.register(TASKS, "My Tasks", () -> {
+                MyTasksView tasksView = takePrefetched(prefetchedTasks);
+                prefetchedTasks = null;
+                if (tasksView == null) {
+                    tasksView = new MyTasksView(currentUser, session);
+                }
+                return createScreen(tasksView.getView());
+            });
+            navigation.register(QUALITY, "Quality Tasks",
+                () -> createScreen(new QualityControlView(currentUser, session).getView()));
+            navigation.register(INVENTORY, "Inventory Status",
+                () -> createScreen(new InventoryManagementView(currentUser, session).getView()));
+            navigation.register(REPORTS, "My Reports",
+                () -> createScreen(new ReportsAnalyticsView(currentUser, session).getView()));
+        }
+    }
+
     private VBox createMenuCard() {
         VBox menuCard = new VBox(25);
         menuCard.setAlignment(Pos.CENTER);
@@ -96,6 +226,13 @@ public class ModernMainMenuView {
         
         // Role badge
         Label roleBadge = createRoleBadge(currentUser.getRole());
+        if (roleDescription != null) {
+            roleDescription.thenAccept(description -> {
+                if (description != null) {
+                    Platform.runLater(() -> roleBadge.setTooltip(new Tooltip(description)));
+                }
+            });
+        }
 
         header.getChildren().addAll(titleText, welcomeText, roleBadge);
         return header;
@@ -131,7 +268,7 @@ public class ModernMainMenuView {
         grid.setPadding(new Insets(20));
 
         // Create navigation buttons based on user role
-        if ("ADMIN".equals(currentUser.getRole()) || "MANAGER".equals(currentUser.getRole())) {
+        if (currentUser.canManageProduction()) {
             // Dashboard - Available for Admin and Manager
             VBox dashboardBtn = createNavigationButton("📊", "Production Dashboard", 
                 "Monitor real-time production metrics", "#3498db", () -> showProductionDashboard());
@@ -158,10 +295,15 @@ public class ModernMainMenuView {
             grid.add(reportsBtn, 1, 1);
 
             // User Management (Admin only)
-            if ("ADMIN".equals(currentUser.getRole())) {
+            if (currentUser.canManageUsers()) {
                 VBox userMgmtBtn = createNavigationButton("👥", "User Management", 
                     "Manage system users and permissions", "#34495e", () -> showUserManagement());
                 grid.add(userMgmtBtn, 2, 1);
+
+                // UI Diagnostics (Admin only)
+                VBox diagnosticsBtn = createNavigationButton("🩺", "UI Diagnostics", 
+                    "Screen freezes and UI responsiveness", "#16a085", () -> showDiagnostics());
+                grid.add(diagnosticsBtn, 0, 2);
             }
         } else {
             // For Operators and Supervisors - Limited access
@@ -324,6 +466,17 @@ public class ModernMainMenuView {
         return button;
     }
 
+    /**
+     * The prefetched view if it finished loading recently, otherwise null
+     */
+    private <T> T takePrefetched(CompletableFuture<T> prefetched) {
+        if (prefetched == null || !prefetched.isDone() || prefetched.isCompletedExceptionally()
+                || System.nanoTime() - prefetchedAt > PREFETCH_MAX_AGE_NANOS) {
+            return null;
+        }
+        return prefetched.join();
+    }
+
     private Separator createStyledSeparator() {
         Separator separator = new Separator();
         separator.setStyle("-fx-background-color: #ecf0f1; -fx-pref-height: 2;");
@@ -333,73 +486,35 @@ public class ModernMainMenuView {
 
     // Navigation methods - Enhanced with new features
     private void showProductionDashboard() {
-        try {
-            ProductionDashboardView dashboardView = new ProductionDashboardView(currentUser);
-            VBox dashboardContent = dashboardView.getView();
-            switchToScene(dashboardContent, "Production Dashboard");
-        } catch (Exception e) {
-            showError("Error", "Failed to load Production Dashboard: " + e.getMessage());
-        }
+        showScreen(DASHBOARD);
     }
 
     private void showProductionManagement() {
-        try {
-            ProductionManagementView productionView = new ProductionManagementView(currentUser);
-            VBox productionContent = productionView.getView();
-            switchToScene(productionContent, "Production Management");
-        } catch (Exception e) {
-            showError("Error", "Failed to load Production Management: " + e.getMessage());
-        }
+        showScreen(PRODUCTION);
     }
 
     private void showQualityControl() {
-        try {
-              QualityControlView qualityView = new QualityControlView(currentUser);
-            VBox qualityContent = qualityView.getView();
-            switchToScene(qualityContent, "Quality Control");
-        } catch (Exception e) {
-            showError("Error", "Failed to load Quality Control: " + e.getMessage());
-        }
+        showScreen(QUALITY);
     }
 
     private void showInventoryManagement() {
-        try {
-            InventoryManagementView inventoryView = new InventoryManagementView(currentUser);
-            VBox inventoryContent = inventoryView.getView();
-            switchToScene(inventoryContent, "Inventory Management");
-        } catch (Exception e) {
-            showError("Error", "Failed to load Inventory Management: " + e.getMessage());
-        }
+        showScreen(INVENTORY);
     }
 
     private void showReports() {
-        try {
-             ReportsAnalyticsView reportsView = new ReportsAnalyticsView(currentUser);
-            VBox reportsContent = reportsView.getView();
-            switchToScene(reportsContent, "Reports & Analytics");
-        } catch (Exception e) {
-            showError("Error", "Failed to load Reports & Analytics: " + e.getMessage());
-        }
+        showScreen(REPORTS);
     }
 
     private void showUserManagement() {
-        try {
-            UserManagementView userMgmtView = new UserManagementView(currentUser);
-            VBox userMgmtContent = userMgmtView.getView();
-            switchToScene(userMgmtContent, "User Management");
-        } catch (Exception e) {
-            showError("Error", "Failed to load User Management: " + e.getMessage());
-        }
+        showScreen(USERS);
+    }
+
+    private void showDiagnostics() {
+        showScreen(DIAGNOSTICS);
     }
 
     private void showMyTasks() {
-        try {
-            MyTasksView tasksView = new MyTasksView(currentUser);
-            VBox tasksContent = tasksView.getView();
-            switchToScene(tasksContent, "My Tasks");
-        } catch (Exception e) {
-            showError("Error", "Failed to load My Tasks: " + e.getMessage());
-        }
+        showScreen(TASKS);
     }
 
     private void showProductionLine() {
@@ -407,32 +522,22 @@ public class ModernMainMenuView {
     }
 
     private void showQualityTasks() {
-        try {
-            QualityControlView qualityView = new QualityControlView(currentUser);
-            VBox qualityContent = qualityView.getView();
-            switchToScene(qualityContent, "Quality Tasks");
-        } catch (Exception e) {
-            showError("Error", "Failed to load Quality Tasks: " + e.getMessage());
-        }
+        showScreen(QUALITY);
     }
 
     private void showInventoryStatus() {
-        try {
-            InventoryManagementView inventoryView = new InventoryManagementView(currentUser);
-            VBox inventoryContent = inventoryView.getView();
-            switchToScene(inventoryContent, "Inventory Status");
-        } catch (Exception e) {
-            showError("Error", "Failed to load Inventory Status: " + e.getMessage());
-        }
+        showScreen(INVENTORY);
     }
 
     private void showMyReports() {
+        showScreen(REPORTS);
+    }
+
+    private void showScreen(String key) {
         try {
-            ReportsAnalyticsView reportsView = new ReportsAnalyticsView(currentUser);
-            VBox reportsContent = reportsView.getView();
-            switchToScene(reportsContent, "My Reports");
+            navigation.show(key);
         } catch (Exception e) {
-            showError("Error", "Failed to load My Reports: " + e.getMessage());
+            showError("Error", "Failed to load " + navigation.getTitle(key) + ": " + e.getMessage());
         }
     }
 
@@ -488,6 +593,8 @@ public class ModernMainMenuView {
                 try {
                     // Clear current user session
                     LoginView.clearCurrentUser();
+                    navigation.close();
+                    session.close();
                     
                     LoginView loginView = new LoginView(primaryStage);
                     Scene loginScene = new Scene(loginView.getView(), 500, 400);
@@ -515,9 +622,10 @@ public class ModernMainMenuView {
         });
     }
 
-    private void switchToScene(VBox content, String title) {
-        previousScene = primaryStage.getScene();
-        
+    /**
+     * A screen's root: the back button above the view's content
+     */
+    private VBox createScreen(VBox content) {
         VBox container = new VBox(15);
         container.setPadding(new Insets(15));
         container.setStyle("""
@@ -561,41 +669,11 @@ public class ModernMainMenuView {
                 """);
         });
         
-        backButton.setOnAction(e -> {
-            FadeTransition fadeOut = new FadeTransition(Duration.millis(200), primaryStage.getScene().getRoot());
-            fadeOut.setFromValue(1);
-            fadeOut.setToValue(0);
-            fadeOut.setOnFinished(event -> {
-                primaryStage.setScene(previousScene);
-                primaryStage.setTitle("Manufacturing Management System - " + currentUser.getRoleDisplayName());
-                FadeTransition fadeIn = new FadeTransition(Duration.millis(200), previousScene.getRoot());
-                fadeIn.setFromValue(0);
-                fadeIn.setToValue(1);
-                fadeIn.play();
-            });
-            fadeOut.play();
-        });
+        backButton.setOnAction(e -> navigation.showMenu());
         
         container.getChildren().addAll(backButton, content);
         VBox.setVgrow(content, Priority.ALWAYS);
-        
-        Scene newScene = new Scene(container, 1400, 800);
-        
-        // Add fade transition
-        FadeTransition fadeOut = new FadeTransition(Duration.millis(200), primaryStage.getScene().getRoot());
-        fadeOut.setFromValue(1);
-        fadeOut.setToValue(0);
-        fadeOut.setOnFinished(e -> {
-            primaryStage.setScene(newScene);
-            primaryStage.setTitle(title + " - Manufacturing Management System");
-            primaryStage.setMaximized(true);
-            
-            FadeTransition fadeIn = new FadeTransition(Duration.millis(200), newScene.getRoot());
-            fadeIn.setFromValue(0);
-            fadeIn.setToValue(1);
-            fadeIn.play();
-        });
-        fadeOut.play();
+        return container;
     }
 
     private void showError(String title, String content) {
@@ -1,6 +1,5 @@
 package com.mycompany.manufacturing_system;
 
-import javafx.collections.FXCollections;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
@@ -14,26 +13,50 @@ import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
  * Personal task management view for operators and supervisors
  */
 public class MyTasksView {
-    private ManufacturingOperations manufacturingOps;
+    private final SessionOperations session;
+    // Loads and saves share the session's ManufacturingOperations and its connection, so they run one at a time
+    private final Executor loader;
+    private final ViewLoader<List<ProductionOrder>> tasksLoader;
     private final User currentUser;
     private TableView<ProductionOrder> myTasksTable;
     private Label totalTasksLabel;
     private Label pendingTasksLabel;
     private Label completedTasksLabel;
     private Label overdueTasksLabel;
+    // Loaded by preload() before the view is built, used by the first refresh
+    private volatile List<ProductionOrder> preloadedTasks;
 
-    public MyTasksView(User user) {
+    public MyTasksView(User user, SessionOperations session) {
         this.currentUser = user;
+        this.session = session;
+        this.loader = session.manufacturingLoader();
+        this.tasksLoader = new ViewLoader<>("refresh tasks", loader, this::loadTasks, this::showTasks);
+    }
+
+    /**
+     * The session's ManufacturingOperations, opened on first use. Only on
+     * the loader, so the view never blocks on connection or table setup.
+     */
+    private ManufacturingOperations getManufacturingOps() throws SQLException {
+        return session.manufacturing();
+    }
+
+    /**
+     * Load the tasks ahead of getView(). Run on the session's manufacturing loader.
+     */
+    void preload() {
         try {
-            this.manufacturingOps = new ManufacturingOperations();
+            preloadedTasks = loadTasks();
         } catch (SQLException e) {
-            showError("Database Error", "Failed to connect to database: " + e.getMessage());
+            System.err.println("Error preloading tasks: " + e.getMessage());
         }
     }
 
@@ -62,6 +85,7 @@ public class MyTasksView {
         );
         
         refreshTasks();
+        DeltaSync.shared().watch(mainContainer, DeltaSync.Table.PRODUCTION_ORDERS, this::applyOrderChanges);
         return mainContainer;
     }
 
@@ -78,7 +102,10 @@ public class MyTasksView {
         subtitleText.setFont(Font.font("Segoe UI", FontWeight.NORMAL, 16));
         subtitleText.setFill(Color.web("#7f8c8d"));
 
-        header.getChildren().addAll(titleText, subtitleText);
+        HBox titleRow = new HBox(12, titleText, tasksLoader.createIndicator());
+        titleRow.setAlignment(Pos.CENTER_LEFT);
+
+        header.getChildren().addAll(titleRow, subtitleText);
         return header;
     }
 
@@ -245,7 +272,7 @@ public class MyTasksView {
                     ProductionOrder order = getTableView().getItems().get(getIndex());
                     String color = order.getStatusColor();
                     setStyle(String.format("""
-                        -fx-text-fill: %s; 
+                        -fx-text-fill: %s;
                         -fx-font-weight: bold;
                         -fx-background-color: %s20;
                         -fx-background-radius: 4;
@@ -498,12 +525,15 @@ public class MyTasksView {
         
         dialog.showAndWait().ifPresent(progress -> {
             String notes = notesArea.getText().trim();
-            if (manufacturingOps.updateProductionProgress(task.getOrderId(), progress, notes)) {
-                showSuccess("Progress updated successfully!");
-                refreshTasks();
-            } else {
-                showError("Error", "Failed to update progress");
-            }
+            ViewLoader.submit("update progress", loader,
+                () -> getManufacturingOps().updateProductionProgress(task.getOrderId(), progress, notes), updated -> {
+                    if (updated) {
+                        showSuccess("Progress updated successfully!");
+                        refreshTasks();
+                    } else {
+                        showError("Error", "Failed to update progress");
+                    }
+                });
         });
     }
 
@@ -631,22 +661,52 @@ public class MyTasksView {
     }
 
     private void refreshTasks() {
-        try {
-            // Get tasks assigned to current user
-            List<ProductionOrder> allOrders = manufacturingOps.getAllProductionOrders();
-            List<ProductionOrder> myTasks = allOrders.stream()
-                .filter(order -> currentUser.getUsername().equals(order.getAssignedOperator()) || 
-                               currentUser.getUsername().equals(order.getCustomerName()))
-                .collect(Collectors.toList());
-            
-            myTasksTable.setItems(FXCollections.observableArrayList(myTasks));
-            
-            // Update statistics
-            updateStatistics(myTasks);
-            
-        } catch (Exception e) {
-            showError("Error", "Failed to refresh tasks: " + e.getMessage());
+        List<ProductionOrder> tasks = preloadedTasks;
+        if (tasks != null) {
+            preloadedTasks = null;
+            showTasks(tasks);
+            return;
         }
+        tasksLoader.load();
+    }
+
+    /**
+     * Get tasks assigned to current user. Runs on the loader.
+     */
+    private List<ProductionOrder> loadTasks() throws SQLException {
+        return getManufacturingOps().getAllProductionOrders().stream()
+            .filter(this::isMine)
+            .collect(Collectors.toList());
+    }
+
+    private boolean isMine(ProductionOrder order) {
+        return currentUser.getUsername().equals(order.getAssignedOperator()) ||
+               currentUser.getUsername().equals(order.getCustomerName());
+    }
+
+    /**
+     * Orders changed on any terminal, from DeltaSync. Orders reassigned to
+     * someone else leave the list.
+     */
+    private void applyOrderChanges(List<ProductionOrder> changed) {
+        Set<String> reassigned = changed.stream()
+            .filter(order -> !isMine(order))
+            .map(ProductionOrder::getOrderId)
+            .collect(Collectors.toSet());
+        boolean removed = !reassigned.isEmpty()
+            && myTasksTable.getItems().removeIf(task -> reassigned.contains(task.getOrderId()));
+        List<ProductionOrder> mine = changed.stream().filter(this::isMine).collect(Collectors.toList());
+        int touched = ListReconciler.upsert(myTasksTable, mine, ProductionOrder::getOrderId, ProductionOrder::updateFrom);
+        if (removed || touched > 0) {
+            updateStatistics(myTasksTable.getItems());
+        }
+    }
+
+    private void showTasks(List<ProductionOrder> myTasks) {
+        ListReconciler.reconcile(myTasksTable, myTasks, ProductionOrder::getOrderId, ProductionOrder::updateFrom);
+
+        // Update statistics
+        updateStatistics(myTasks);
     }
 
     private void updateStatistics(List<ProductionOrder> tasks) {
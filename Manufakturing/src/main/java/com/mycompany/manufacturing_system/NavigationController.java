@@ -0,0 +1,154 @@
+package com.mycompany.manufacturing_system;
+
+import javafx.animation.FadeTransition;
+import javafx.application.Platform;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Moves between the main menu and the screens of one login session within
+ * a single Scene. A screen is built once, on its first visit or by
+ * prewarm(), and its root kept: visiting it again swaps that root back in
+ * with the data it already shows, and DeltaSync brings it up to date.
+ * Call on the FX thread, except the constructor and register().
+ */
+public class NavigationController {
+    private static final Logger logger = Logger.getLogger(NavigationController.class.getName());
+
+    private final Stage stage;
+    private final Parent menu;
+    private final String menuTitle;
+    private final Map<String, Screen> screens = new LinkedHashMap<>();
+    private Scene scene;
+    private boolean closed;
+
+    public NavigationController(Stage stage, Parent menu, String menuTitle) {
+        this.stage = stage;
+        this.menu = menu;
+        this.menuTitle = menuTitle;
+    }
+
+    /**
+     * Add a screen. builder creates its root on the FX thread when the
+     * screen is first shown or prewarmed.
+     */
+    public void register(String key, String title, Supplier<Parent> builder) {
+        screens.put(key, new Screen(title, builder));
+    }
+
+    public String getTitle(String key) {
+        return screens.get(key).title;
+    }
+
+    /**
+     * The scene the menu and every screen are shown in
+     */
+    public Scene getScene() {
+        if (scene == null) {
+            scene = new Scene(menu, 800, 600);
+        }
+        return scene;
+    }
+
+    /**
+     * Show a screen, building it first if this is its first visit.
+     * A screen whose builder throws is not kept and is built again next time.
+     */
+    public void show(String key) {
+        Screen screen = screens.get(key);
+        FxPulseMonitor.shared().setView(screen.title);
+        swapTo(screen.root(), screen.title + " - Manufacturing Management System", true);
+    }
+
+    public void showMenu() {
+        FxPulseMonitor.shared().setView(menuTitle);
+        swapTo(menu, menuTitle, false);
+    }
+
+    /**
+     * Build every registered screen not built yet, one per FX event so
+     * input is handled in between. Their data loads on the session's
+     * loaders meanwhile.
+     */
+    public void prewarm() {
+        prewarmNext(new ArrayDeque<>(screens.keySet()));
+    }
+
+    private void prewarmNext(Queue<String> pending) {
+        String key = pending.poll();
+        if (key == null || closed) {
+            return;
+        }
+        Screen screen = screens.get(key);
+        if (screen.root == null) {
+            long start = System.nanoTime();
+            try {
+                screen.root();
+                logger.fine("Prewarmed " + key + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+            } catch (RuntimeException e) {
+                logger.warning("Failed to prewarm " + key + ": " + e.getMessage());
+            }
+        }
+        Platform.runLater(() -> prewarmNext(pending));
+    }
+
+    /**
+     * Drop the built screens at logout
+     */
+    public void close() {
+        closed = true;
+        screens.values().forEach(screen -> screen.root = null);
+    }
+
+    private void swapTo(Parent root, String title, boolean maximize) {
+        Scene target = getScene();
+        if (target.getRoot() == root) {
+            return;
+        }
+        FadeTransition fadeOut = new FadeTransition(Duration.millis(200), target.getRoot());
+        fadeOut.setFromValue(1);
+        fadeOut.setToValue(0);
+        fadeOut.setOnFinished(e -> {
+            target.setRoot(root);
+            stage.setTitle(title);
+            if (maximize) {
+                stage.setMaximized(true);
+            }
+
+            FadeTransition fadeIn = new FadeTransition(Duration.millis(200), root);
+            fadeIn.setFromValue(0);
+            fadeIn.setToValue(1);
+            fadeIn.play();
+        });
+        fadeOut.play();
+    }
+
+    /**
+     * A registered screen and its root once built
+     */
+    private static final class Screen {
+        final String title;
+        final Supplier<Parent> builder;
+        Parent root;
+
+        Screen(String title, Supplier<Parent> builder) {
+            this.title = title;
+            this.builder = builder;
+        }
+
+        Parent root() {
+            if (root == null) {
+                root = builder.get();
+            }
+            return root;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.mycompany.manufacturing_system;
+
+/**
+ * OEE components for one line, shift, day or period
+ */
+class OeeData extends ReportData {
+    private String label;
+    private double plannedMinutes;
+    private double runMinutes;
+    private long quantityProduced;
+    private double idealQuantity;
+    private long qualityPassed;
+    private long qualityFailed;
+
+    public String getLabel() { return label; }
+    public void setLabel(String label) { this.label = label; }
+
+    public double getPlannedMinutes() { return plannedMinutes; }
+    public void setPlannedMinutes(double plannedMinutes) { this.plannedMinutes = plannedMinutes; }
+
+    public double getRunMinutes() { return runMinutes; }
+    public void setRunMinutes(double runMinutes) { this.runMinutes = runMinutes; }
+
+    public long getQuantityProduced() { return quantityProduced; }
+    public void setQuantityProduced(long quantityProduced) { this.quantityProduced = quantityProduced; }
+
+    public double getIdealQuantity() { return idealQuantity; }
+    public void setIdealQuantity(double idealQuantity) { this.idealQuantity = idealQuantity; }
+
+    public long getQualityPassed() { return qualityPassed; }
+    public void setQualityPassed(long qualityPassed) { this.qualityPassed = qualityPassed; }
+
+    public long getQualityFailed() { return qualityFailed; }
+    public void setQualityFailed(long qualityFailed) { this.qualityFailed = qualityFailed; }
+
+    public double getAvailability() {
+        return plannedMinutes > 0 ? runMinutes / plannedMinutes : 0;
+    }
+
+    public double getPerformance() {
+        // Capped: output above rated capacity means the rating is out of date
+        return idealQuantity > 0 ? Math.min(1.0, quantityProduced / idealQuantity) : 0;
+    }
+
+    public double getQuality() {
+        long inspected = qualityPassed + qualityFailed;
+        // Nothing inspected counts as no known losses
+        return inspected > 0 ? (double) qualityPassed / inspected : 1.0;
+    }
+
+    public double getOee() {
+        return getAvailability() * getPerformance() * getQuality();
+    }
+}
\ No newline at end of file
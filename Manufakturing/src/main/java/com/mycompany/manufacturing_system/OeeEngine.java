@@ -0,0 +1,336 @@
+package com.mycompany.manufacturing_system;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Overall Equipment Effectiveness from the shift reports in production_reports.
+ *
+ * Reports are folded into oee_daily, one row per day, production line and
+ * shift, so OEE over years of history reads a few thousand rows instead of
+ * every report. The table only grows as new reports arrive: refresh() adds
+ * the reports created since the stored high-water mark. created_at is stamped
+ * when a report is written, not when its transaction commits, so the mark
+ * trails the server clock by sync.commitLagSeconds (30) and every refresh reads
+ * that window again. The sums are additive, so oee_applied_reports keeps the
+ * ids of the reports in the window that were already added, and each report
+ * is added once. production_reports is append-only in this application;
+ * rebuild() recomputes everything if reports are corrected by hand.
+ *
+ * For a day, line and shift:
+ *   availability = (planned minutes - downtime) / planned minutes
+ *   performance  = units produced / (capacity_per_hour * run hours)
+ *   quality      = units passed / units inspected
+ * Rollups weight each factor by its own denominator, so OEE over a week is not
+ * the average of the daily OEE values.
+ */
+public class OeeEngine {
+    private static final String CUBE_NAME = "oee_daily";
+    private static final DateTimeFormatter dateFormatter =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    // Planned production time of one shift
+    private static final int SHIFT_MINUTES = Integer.getInteger("oee.shiftMinutes", 480);
+    // production_lines.capacity_per_hour default, for lines missing from that table
+    private static final int DEFAULT_CAPACITY_PER_HOUR = 10;
+    // How far a report's created_at may be behind the commit that makes it visible
+    private static final int COMMIT_LAG_SECONDS = Integer.getInteger("sync.commitLagSeconds", 30);
+
+    private static final Object REFRESH_LOCK = new Object();
+    private static volatile boolean tablesReady;
+
+    private final Connection connection;
+
+    public OeeEngine(Connection connection) {
+        this.connection = connection;
+        initializeOeeTables();
+    }
+
+    /**
+     * Initialize the OEE rollup table and refresh state
+     */
+    private void initializeOeeTables() {
+        if (tablesReady) {
+            return;
+        }
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS oee_daily (
+                    production_date DATE NOT NULL,
+                    production_line VARCHAR(50) NOT NULL DEFAULT '',
+                    shift VARCHAR(50) NOT NULL DEFAULT '',
+                    report_count INT NOT NULL DEFAULT 0,
+                    downtime_minutes INT NOT NULL DEFAULT 0,
+                    quantity_produced BIGINT NOT NULL DEFAULT 0,
+                    quality_passed BIGINT NOT NULL DEFAULT 0,
+                    quality_failed BIGINT NOT NULL DEFAULT 0,
+                    PRIMARY KEY (production_date, production_line, shift)
+                )
+                """);
+
+            // Reports of the current window already added to oee_daily; pending
+            // only inside the refresh that found them
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS oee_applied_reports (
+                    report_id INT PRIMARY KEY,
+                    created_at TIMESTAMP NOT NULL,
+                    pending BOOLEAN NOT NULL DEFAULT TRUE
+                )
+                """);
+
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS report_refresh_state (
+                    cube_name VARCHAR(50) PRIMARY KEY,
+                    high_water_mark TIMESTAMP NULL,
+                    last_refresh TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+                )
+                """);
+
+            try {
+                stmt.execute("CREATE INDEX idx_created_at ON production_reports (created_at)");
+            } catch (SQLException e) {
+                // 1061 = duplicate key name, the index already exists
+                if (e.getErrorCode() != 1061) {
+                    System.err.println("Failed to create created_at index: " + e.getMessage());
+                }
+            }
+            tablesReady = true;
+
+        } catch (SQLException e) {
+            System.err.println("Error initializing OEE tables: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Fold reports created since the last refresh, and reports committed late
+     * in the commit lag window before it, into oee_daily.
+     * Returns the number of day, line and shift rows touched.
+     */
+    public int refresh() throws SQLException {
+        synchronized (REFRESH_LOCK) {
+            Timestamp from = getHighWaterMark();
+            Timestamp to = getDatabaseNow();
+            // Reports stamped after this may still be committing; the next refresh reads them again
+            Timestamp settled = new Timestamp(to.getTime() - COMMIT_LAG_SECONDS * 1000L);
+            Timestamp mark = settled.after(from) ? settled : from;
+
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                // 1. Claim the reports in the window not added yet
+                try (PreparedStatement stmt = connection.prepareStatement("""
+                    INSERT IGNORE INTO oee_applied_reports (report_id, created_at, pending)
+                    SELECT report_id, created_at, TRUE
+                    FROM production_reports
+                    WHERE created_at > ? AND created_at <= ?
+                    """)) {
+                    stmt.setTimestamp(1, from);
+                    stmt.setTimestamp(2, to);
+                    stmt.executeUpdate();
+                }
+
+                // 2. Add exactly those
+                int touched;
+                try (PreparedStatement stmt = connection.prepareStatement("""
+                    INSERT INTO oee_daily
+                        (production_date, production_line, shift, report_count,
+                         downtime_minutes, quantity_produced, quality_passed, quality_failed)
+                    SELECT
+                        r.production_date,
+                        COALESCE(r.production_line, ''),
+                        COALESCE(r.shift, ''),
+                        COUNT(*),
+                        COALESCE(SUM(r.downtime_minutes), 0),
+                        COALESCE(SUM(r.quantity_produced), 0),
+                        COALESCE(SUM(r.quality_passed), 0),
+                        COALESCE(SUM(r.quality_failed), 0)
+                    FROM production_reports r
+                    JOIN oee_applied_reports a ON a.report_id = r.report_id AND a.pending
+                    GROUP BY r.production_date, COALESCE(r.production_line, ''), COALESCE(r.shift, '')
+                    ON DUPLICATE KEY UPDATE
+                        report_count = report_count + VALUES(report_count),
+                        downtime_minutes = downtime_minutes + VALUES(downtime_minutes),
+                        quantity_produced = quantity_produced + VALUES(quantity_produced),
+                        quality_passed = quality_passed + VALUES(quality_passed),
+                        quality_failed = quality_failed + VALUES(quality_failed)
+                    """)) {
+                    touched = stmt.executeUpdate();
+                }
+
+                // 3. Mark them added, and forget the ones the window has moved past
+                try (Statement stmt = connection.createStatement()) {
+                    stmt.executeUpdate("UPDATE oee_applied_reports SET pending = FALSE WHERE pending");
+                }
+                try (PreparedStatement stmt = connection.prepareStatement(
+                        "DELETE FROM oee_applied_reports WHERE created_at <= ?")) {
+                    stmt.setTimestamp(1, mark);
+                    stmt.executeUpdate();
+                }
+                setHighWaterMark(mark);
+                connection.commit();
+                return touched;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    /**
+     * Drop the rollup and rebuild it from every report
+     */
+    public int rebuild() throws SQLException {
+        synchronized (REFRESH_LOCK) {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.executeUpdate("DELETE FROM oee_daily");
+                stmt.executeUpdate("DELETE FROM oee_applied_reports");
+                stmt.executeUpdate("DELETE FROM report_refresh_state WHERE cube_name = '" + CUBE_NAME + "'");
+            }
+            return refresh();
+        }
+    }
+
+    /**
+     * Get OEE for a date range grouped by LINE, SHIFT or DAY
+     */
+    public List<OeeData> getOeeBreakdown(LocalDate startDate, LocalDate endDate, String dimension)
+            throws SQLException {
+        String column;
+        switch (dimension.toUpperCase()) {
+            case "LINE":
+                column = "d.production_line";
+                break;
+            case "SHIFT":
+                column = "d.shift";
+                break;
+            default:
+                column = "d.production_date";
+                break;
+        }
+        return query(column, column, startDate, endDate, null, null);
+    }
+
+    /**
+     * Get the OEE trend by period, optionally for one line and/or shift
+     */
+    public List<OeeData> getOeeTrend(LocalDate startDate, LocalDate endDate, String period,
+                                     String productionLine, String shift) throws SQLException {
+        return query("MIN(d.production_date)", getGroupByClause(period),
+            startDate, endDate, productionLine, shift);
+    }
+
+    private List<OeeData> query(String labelColumn, String groupBy, LocalDate startDate, LocalDate endDate,
+                                String productionLine, String shift) throws SQLException {
+        StringBuilder where = new StringBuilder("d.production_date BETWEEN ? AND ?");
+        List<String> params = new ArrayList<>();
+        params.add(startDate.format(dateFormatter));
+        params.add(endDate.format(dateFormatter));
+        if (productionLine != null) {
+            where.append(" AND d.production_line = ?");
+            params.add(productionLine);
+        }
+        if (shift != null) {
+            where.append(" AND d.shift = ?");
+            params.add(shift);
+        }
+
+        // Downtime beyond the shift length would make availability negative
+        String sql = """
+            SELECT
+                %s as label,
+                COUNT(*) * ? as planned_minutes,
+                SUM(? - LEAST(d.downtime_minutes, ?)) as run_minutes,
+                SUM(d.quantity_produced) as quantity_produced,
+                SUM(COALESCE(l.capacity_per_hour, ?) * (? - LEAST(d.downtime_minutes, ?)) / 60) as ideal_quantity,
+                SUM(d.quality_passed) as quality_passed,
+                SUM(d.quality_failed) as quality_failed
+            FROM oee_daily d
+            LEFT JOIN production_lines l ON l.line_name = d.production_line
+            WHERE %s
+            GROUP BY %s
+            ORDER BY label
+            """.formatted(labelColumn, where, groupBy);
+
+        List<OeeData> data = new ArrayList<>();
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            int index = 1;
+            stmt.setInt(index++, SHIFT_MINUTES);
+            stmt.setInt(index++, SHIFT_MINUTES);
+            stmt.setInt(index++, SHIFT_MINUTES);
+            stmt.setInt(index++, DEFAULT_CAPACITY_PER_HOUR);
+            stmt.setInt(index++, SHIFT_MINUTES);
+            stmt.setInt(index++, SHIFT_MINUTES);
+            for (String param : params) {
+                stmt.setString(index++, param);
+            }
+
+            ResultSet rs = stmt.executeQuery();
+            while (rs.next()) {
+                OeeData row = new OeeData();
+                row.setLabel(rs.getString("label"));
+                row.setPlannedMinutes(rs.getDouble("planned_minutes"));
+                row.setRunMinutes(rs.getDouble("run_minutes"));
+                row.setQuantityProduced(rs.getLong("quantity_produced"));
+                row.setIdealQuantity(rs.getDouble("ideal_quantity"));
+                row.setQualityPassed(rs.getLong("quality_passed"));
+                row.setQualityFailed(rs.getLong("quality_failed"));
+                data.add(row);
+            }
+        }
+        return data;
+    }
+
+    private Timestamp getHighWaterMark() throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "SELECT high_water_mark FROM report_refresh_state WHERE cube_name = ?")) {
+            stmt.setString(1, CUBE_NAME);
+            ResultSet rs = stmt.executeQuery();
+            if (rs.next() && rs.getTimestamp(1) != null) {
+                return rs.getTimestamp(1);
+            }
+        }
+        return new Timestamp(0);
+    }
+
+    private void setHighWaterMark(Timestamp mark) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement("""
+            INSERT INTO report_refresh_state (cube_name, high_water_mark) VALUES (?, ?)
+            ON DUPLICATE KEY UPDATE high_water_mark = VALUES(high_water_mark)
+            """)) {
+            stmt.setString(1, CUBE_NAME);
+            stmt.setTimestamp(2, mark);
+            stmt.executeUpdate();
+        }
+    }
+
+    private Timestamp getDatabaseNow() throws SQLException {
+        // created_at has one-second precision; stop a second short of now so
+        // reports stamped in the current second are picked up next time
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT CURRENT_TIMESTAMP - INTERVAL 1 SECOND")) {
+            rs.next();
+            return rs.getTimestamp(1);
+        }
+    }
+
+    private String getGroupByClause(String period) {
+        switch (period.toUpperCase()) {
+            case "DAILY":
+                return "d.production_date";
+            case "WEEKLY":
+                return "YEAR(d.production_date), WEEK(d.production_date)";
+            case "MONTHLY":
+                return "YEAR(d.production_date), MONTH(d.production_date)";
+            case "QUARTERLY":
+                return "YEAR(d.production_date), QUARTER(d.production_date)";
+            default:
+                return "d.production_date";
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,191 @@
+package com.mycompany.manufacturing_system;
+
+import javafx.application.Platform;
+import javafx.collections.ObservableListBase;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+/**
+ * Virtualized list of quality inspections for a TableView.
+ * Reports the full row count up front but only fetches the pages the table
+ * actually renders, on a background executor, keeping a small LRU of pages.
+ * All list state is owned by the JavaFX Application Thread.
+ */
+public class PagedInspectionList extends ObservableListBase<QualityInspection> {
+    public static final int PAGE_SIZE = 100;
+    private static final int MAX_CACHED_PAGES = 10;
+
+    private static final QualityInspection LOADING = createPlaceholder();
+
+    private final Executor loader;
+    private final Callable<QualityOperations> opsSource;
+    private final Map<Integer, List<QualityInspection>> pages =
+        new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<QualityInspection>> eldest) {
+                return size() > MAX_CACHED_PAGES;
+            }
+        };
+    private final Set<Integer> pendingPages = new HashSet<>();
+    private volatile int lastRequestedPage;
+    private String statusFilter;
+    private int size;
+    private int generation;
+
+    /**
+     * @param loader    executor that runs the page queries, one at a time
+     * @param opsSource supplies the QualityOperations to query, called on the loader
+     */
+    public PagedInspectionList(Executor loader, Callable<QualityOperations> opsSource) {
+        this.loader = loader;
+        this.opsSource = opsSource;
+    }
+
+    /**
+     * Switch to a new status filter (null for all inspections) and reload.
+     * The row count is fetched in the background; rows fill in as pages arrive.
+     */
+    public void reload(String status) {
+        statusFilter = status;
+        generation++;
+        pages.clear();
+        pendingPages.clear();
+
+        final int gen = generation;
+        loader.execute(() -> {
+            int count = 0;
+            try {
+                count = opsSource.call().countInspections(status);
+            } catch (Exception e) {
+                System.err.println("Error counting inspections: " + e.getMessage());
+            }
+            final int newSize = count;
+            Platform.runLater(() -> resize(gen, newSize));
+        });
+    }
+
+    public String getStatusFilter() {
+        return statusFilter;
+    }
+
+    public boolean isLoaded(QualityInspection inspection) {
+        return inspection != LOADING;
+    }
+
+    @Override
+    public QualityInspection get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        int page = index / PAGE_SIZE;
+        int offset = index % PAGE_SIZE;
+
+        // Prefetch the next page once the table scrolls into the last quarter
+        if (offset >= PAGE_SIZE * 3 / 4 && (page + 1) * PAGE_SIZE < size) {
+            requestPage(page + 1);
+        }
+
+        List<QualityInspection> rows = pages.get(page);
+        if (rows == null) {
+            requestPage(page);
+            return LOADING;
+        }
+        // Rows deleted since the count was taken show as placeholders
+        return offset < rows.size() ? rows.get(offset) : LOADING;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private void requestPage(int page) {
+        lastRequestedPage = page;
+        if (pages.containsKey(page) || !pendingPages.add(page)) {
+            return;
+        }
+
+        final int gen = generation;
+        final String status = statusFilter;
+        // A full page before this one gives a keyset cursor, so deep pages need no offset
+        List<QualityInspection> previous = page > 0 ? pages.get(page - 1) : null;
+        final QualityInspection after = previous != null && previous.size() == PAGE_SIZE
+            ? previous.get(PAGE_SIZE - 1) : null;
+        loader.execute(() -> {
+            // Skip pages the user has already scrolled far away from
+            if (Math.abs(page - lastRequestedPage) > MAX_CACHED_PAGES / 2) {
+                Platform.runLater(() -> pageLoaded(gen, page, null));
+                return;
+            }
+
+            // A failed page stays unloaded, so it is requested again when next shown
+            List<QualityInspection> rows = null;
+            try {
+                QualityOperations ops = opsSource.call();
+                rows = after != null
+                    ? ops.getInspectionsPageAfter(status, after, PAGE_SIZE)
+                    : ops.getInspectionsPage(status, page * PAGE_SIZE, PAGE_SIZE);
+            } catch (Exception e) {
+                System.err.println("Error loading inspection page " + page + ": " + e.getMessage());
+            }
+            final List<QualityInspection> loaded = rows;
+            Platform.runLater(() -> pageLoaded(gen, page, loaded));
+        });
+    }
+
+    private void pageLoaded(int gen, int page, List<QualityInspection> rows) {
+        if (gen != generation) {
+            return;
+        }
+        pendingPages.remove(page);
+        if (rows == null) {
+            return;
+        }
+
+        pages.put(page, rows);
+        int from = page * PAGE_SIZE;
+        int to = Math.min(from + PAGE_SIZE, size);
+        if (from >= to) {
+            return;
+        }
+
+        beginChange();
+        for (int i = from; i < to; i++) {
+            nextUpdate(i);
+        }
+        endChange();
+    }
+
+    private void resize(int gen, int newSize) {
+        if (gen != generation) {
+            return;
+        }
+
+        int oldSize = size;
+        size = newSize;
+
+        beginChange();
+        if (oldSize > 0) {
+            // nCopies is a constant-size view, so this stays cheap for large tables
+            nextRemove(0, Collections.nCopies(oldSize, LOADING));
+        }
+        if (newSize > 0) {
+            nextAdd(0, newSize);
+        }
+        endChange();
+    }
+
+    private static QualityInspection createPlaceholder() {
+        QualityInspection placeholder = new QualityInspection("", "", "", "", "");
+        placeholder.setProductName("Loading...");
+        placeholder.setInspectionDate(null);
+        return placeholder;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,420 @@
+package com.mycompany.manufacturing_system;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Lays out PDF reports for the Production, Quality, Inventory and Financial tabs:
+ * summary cards, chart snapshots, summary tables and a detail table streamed row
+ * by row from ReportsOperations. Pages are handed to PdfStreamWriter as soon as
+ * they fill up, so a report of any length uses the memory of a single page.
+ * Safe to run off the JavaFX Application Thread; chart images are captured by
+ * the caller beforehand.
+ */
+public class PdfReportRenderer {
+
+    public enum Section {
+        PRODUCTION("Production Report", ReportsOperations.ExportDataset.PRODUCTION_ORDERS),
+        QUALITY("Quality Report", ReportsOperations.ExportDataset.QUALITY_INSPECTIONS),
+        INVENTORY("Inventory Report", ReportsOperations.ExportDataset.STOCK_MOVEMENTS),
+        FINANCIAL("Financial Report", null);
+
+        private final String title;
+        private final ReportsOperations.ExportDataset detail;
+
+        Section(String title, ReportsOperations.ExportDataset detail) {
+            this.title = title;
+            this.detail = detail;
+        }
+
+        public String getTitle() { return title; }
+    }
+
+    /**
+     * Pixels of a chart captured on the FX thread
+     */
+    public static final class ChartImage {
+        private final String title;
+        private final int width;
+        private final int height;
+        private final int[] argb;
+
+        public ChartImage(String title, int width, int height, int[] argb) {
+            this.title = title;
+            this.width = width;
+            this.height = height;
+            this.argb = argb;
+        }
+    }
+
+    private static final float MARGIN = 40f;
+    private static final float CONTENT_WIDTH = PdfStreamWriter.PAGE_WIDTH - 2 * MARGIN;
+    private static final float FOOTER_HEIGHT = 30f;
+    private static final float ROW_HEIGHT = 12f;
+    private static final float TABLE_FONT = 7.5f;
+    private static final int ROWS_PER_PROGRESS = 200;
+
+    private static final int DARK = 0x2c3e50;
+    private static final int MUTED = 0x7f8c8d;
+    private static final int ACCENT = 0x3498db;
+    private static final int SHADE = 0xf4f6f7;
+    private static final int BORDER = 0xd5dbdb;
+    private static final int WHITE = 0xffffff;
+
+    private static final DateTimeFormatter timestampFormatter =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final ReportsOperations reportsOps;
+
+    // Layout state for the report being rendered
+    private PdfStreamWriter pdf;
+    private Section section;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private float cursor;   // distance from the top of the page
+
+    public PdfReportRenderer(ReportsOperations reportsOps) {
+        this.reportsOps = reportsOps;
+    }
+
+    /**
+     * Render a section report to the target file and return the page count.
+     * Progress counts detail rows; cancelled is polled between rows.
+     */
+    public synchronized int render(Section section, LocalDate startDate, LocalDate endDate,
+                                   List<ChartImage> charts, Path target,
+                                   ReportExporter.ProgressListener progress, BooleanSupplier cancelled)
+            throws SQLException, IOException {
+        this.section = section;
+        this.startDate = startDate;
+        this.endDate = endDate;
+
+        long totalRows = section.detail != null
+            ? reportsOps.countDatasetRows(section.detail, startDate, endDate)
+            : 0;
+        progress.onProgress(0, totalRows);
+
+        Path dir = target.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(dir, ".report-", ".tmp");
+        boolean complete = false;
+        int pages;
+
+        try {
+            try (OutputStream out = Files.newOutputStream(temp);
+                 PdfStreamWriter writer = new PdfStreamWriter(out)) {
+                pdf = writer;
+                newPage();
+
+                renderSummaryCards();
+                renderCharts(charts);
+                checkCancelled(cancelled);
+                renderSummaryTables();
+                if (section.detail != null) {
+                    renderDetailTable(section.detail, totalRows, progress, cancelled);
+                }
+
+                pages = writer.getPageCount();
+                drawFooter();
+            }
+
+            ExportWriter.moveIntoPlace(temp, target);
+            complete = true;
+            return pages;
+
+        } finally {
+            pdf = null;
+            if (!complete) {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    private void renderSummaryCards() throws IOException {
+        List<String[]> cards = new ArrayList<>();
+        switch (section) {
+            case PRODUCTION: {
+                ProductionSummary s = reportsOps.getProductionSummary(startDate, endDate);
+                cards.add(card("Total Orders", String.format("%,d", s.getTotalOrders())));
+                cards.add(card("Completed", String.format("%,d", s.getCompletedOrders())));
+                cards.add(card("In Progress", String.format("%,d", s.getInProgressOrders())));
+                cards.add(card("Pending", String.format("%,d", s.getPendingOrders())));
+                cards.add(card("Total Quantity", String.format("%,d", s.getTotalQuantity())));
+                cards.add(card("Total Value", String.format("$%,.2f", s.getTotalValue())));
+                cards.add(card("Avg Completion", String.format("%.1f%%", s.getAverageCompletion())));
+                cards.add(card("Completion Rate", String.format("%.1f%%", s.getCompletionRate())));
+                break;
+            }
+            case QUALITY: {
+                QualitySummary s = reportsOps.getQualitySummary(startDate, endDate);
+                cards.add(card("Inspections", String.format("%,d", s.getTotalInspections())));
+                cards.add(card("Passed", String.format("%,d", s.getPassedInspections())));
+                cards.add(card("Failed", String.format("%,d", s.getFailedInspections())));
+                cards.add(card("Pending", String.format("%,d", s.getPendingInspections())));
+                cards.add(card("Pass Rate", String.format("%.1f%%", s.getPassRate())));
+                cards.add(card("Defect Rate", String.format("%.1f%%", s.getDefectRate())));
+                cards.add(card("Total Defects", String.format("%,d", s.getTotalDefects())));
+                cards.add(card("Avg Quality Score", String.format("%.1f", s.getAverageQualityScore())));
+                break;
+            }
+            case INVENTORY: {
+                InventorySummary s = reportsOps.getInventorySummary();
+                cards.add(card("Total Items", String.format("%,d", s.getTotalItems())));
+                cards.add(card("Total Value", String.format("$%,.2f", s.getTotalValue())));
+                cards.add(card("Low Stock", String.format("%,d", s.getLowStockItems())));
+                cards.add(card("Out of Stock", String.format("%,d", s.getOutOfStockItems())));
+                cards.add(card("Reorder Items", String.format("%,d", s.getReorderItems())));
+                break;
+            }
+            case FINANCIAL: {
+                FinancialSummary s = reportsOps.getFinancialSummary(startDate, endDate);
+                cards.add(card("Total Revenue", String.format("$%,.2f", s.getTotalRevenue())));
+                cards.add(card("Completed Revenue", String.format("$%,.2f", s.getCompletedRevenue())));
+                cards.add(card("Total Orders", String.format("%,d", s.getTotalOrders())));
+                cards.add(card("Avg Order Value", String.format("$%,.2f", s.getAverageOrderValue())));
+                break;
+            }
+        }
+
+        float cardWidth = (CONTENT_WIDTH - 3 * 10f) / 4;
+        float cardHeight = 44f;
+        for (int i = 0; i < cards.size(); i += 4) {
+            ensureSpace(cardHeight + 10f);
+            for (int j = i; j < Math.min(i + 4, cards.size()); j++) {
+                float x = MARGIN + (j - i) * (cardWidth + 10f);
+                float top = pageY(cursor);
+                pdf.fillRect(x, top - cardHeight, cardWidth, cardHeight, SHADE);
+                pdf.fillRect(x, top - cardHeight, 3f, cardHeight, ACCENT);
+                pdf.text(x + 10f, top - 16f, 8f, false, MUTED, cards.get(j)[0]);
+                pdf.text(x + 10f, top - 34f, 13f, true, DARK, fit(cards.get(j)[1], cardWidth - 14f, 13f));
+            }
+            cursor += cardHeight + 10f;
+        }
+        cursor += 6f;
+    }
+
+    private void renderCharts(List<ChartImage> charts) throws IOException {
+        for (ChartImage chart : charts) {
+            if (chart.width <= 0 || chart.height <= 0) {
+                continue;
+            }
+            float scale = Math.min(CONTENT_WIDTH / chart.width, 260f / chart.height);
+            float width = chart.width * scale;
+            float height = chart.height * scale;
+
+            ensureSpace(height + 24f);
+            if (chart.title != null && !chart.title.isEmpty()) {
+                heading(chart.title);
+            }
+            int imageId = pdf.addImage(chart.width, chart.height, chart.argb);
+            pdf.image(imageId, MARGIN + (CONTENT_WIDTH - width) / 2, pageY(cursor + height), width, height);
+            cursor += height + 14f;
+        }
+    }
+
+    private void renderSummaryTables() throws IOException {
+        switch (section) {
+            case PRODUCTION: {
+                List<Object[]> trend = new ArrayList<>();
+                for (TrendData data : reportsOps.getProductionTrend(startDate, endDate, "DAILY")) {
+                    trend.add(new Object[] {data.getPeriod(), data.getOrderCount(), data.getTotalQuantity(),
+                        String.format("$%,.2f", data.getTotalValue()), String.format("%.1f%%", data.getAverageCompletion())});
+                }
+                table("Daily Production Trend",
+                    new String[] {"Day", "Orders", "Quantity", "Value", "Avg Completion"}, trend);
+
+                List<Object[]> efficiency = new ArrayList<>();
+                for (EfficiencyData data : reportsOps.getProductionEfficiency(startDate, endDate)) {
+                    efficiency.add(new Object[] {data.getProductionLine(), data.getTotalOrders(), data.getCompletedOrders(),
+                        data.getTotalQuantity(), String.format("%.1f%%", data.getEfficiency())});
+                }
+                table("Efficiency by Production Line",
+                    new String[] {"Line", "Orders", "Completed", "Quantity", "Efficiency"}, efficiency);
+                break;
+            }
+            case QUALITY: {
+                List<Object[]> defects = new ArrayList<>();
+                for (Map.Entry<String, Integer> entry : reportsOps.getDefectDistribution(startDate, endDate).entrySet()) {
+                    defects.add(new Object[] {entry.getKey(), entry.getValue()});
+                }
+                table("Defect Distribution", new String[] {"Defect Type", "Count"}, defects);
+                break;
+            }
+            case INVENTORY: {
+                InventorySummary summary = reportsOps.getInventorySummary();
+                List<Object[]> categories = new ArrayList<>();
+                if (summary.getCategoryCount() != null) {
+                    for (Map.Entry<String, Integer> entry : summary.getCategoryCount().entrySet()) {
+                        Double value = summary.getCategoryValue() != null
+                            ? summary.getCategoryValue().get(entry.getKey()) : null;
+                        categories.add(new Object[] {entry.getKey(), entry.getValue(),
+                            String.format("$%,.2f", value != null ? value : 0.0)});
+                    }
+                }
+                table("Items by Category", new String[] {"Category", "Items", "Value"}, categories);
+                break;
+            }
+            case FINANCIAL: {
+                List<Object[]> monthly = new ArrayList<>();
+                for (TrendData data : reportsOps.getProductionTrend(startDate, endDate, "MONTHLY")) {
+                    monthly.add(new Object[] {data.getPeriod(), data.getOrderCount(),
+                        String.format("$%,.2f", data.getTotalValue()),
+                        String.format("$%,.2f", data.getOrderCount() > 0 ? data.getTotalValue() / data.getOrderCount() : 0.0)});
+                }
+                table("Monthly Revenue", new String[] {"Month", "Orders", "Revenue", "Avg Order Value"}, monthly);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Stream the detail rows of the section, repeating the header on each page
+     */
+    private void renderDetailTable(ReportsOperations.ExportDataset dataset, long totalRows,
+                                   ReportExporter.ProgressListener progress, BooleanSupplier cancelled)
+            throws SQLException, IOException {
+        ensureSpace(40f);
+        heading(dataset.getTitle());
+
+        reportsOps.streamDataset(dataset, startDate, endDate, new ReportsOperations.RowHandler() {
+            private String[] columns;
+            private float[] widths;
+            private long rows;
+
+            @Override
+            public void header(String[] columns) throws IOException {
+                this.columns = columns;
+                this.widths = columnWidths(columns.length);
+                tableHeader(columns, widths);
+            }
+
+            @Override
+            public void row(Object[] values) throws IOException {
+                if (cursor + ROW_HEIGHT > PdfStreamWriter.PAGE_HEIGHT - MARGIN - FOOTER_HEIGHT) {
+                    newPage();
+                    tableHeader(columns, widths);
+                }
+                tableRow(values, widths, rows % 2 == 1);
+                if (++rows % ROWS_PER_PROGRESS == 0) {
+                    progress.onProgress(rows, totalRows);
+                }
+            }
+        }, cancelled);
+    }
+
+    private void table(String title, String[] columns, List<Object[]> rows) throws IOException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        ensureSpace(ROW_HEIGHT * 3 + 24f);
+        heading(title);
+        float[] widths = columnWidths(columns.length);
+        tableHeader(columns, widths);
+        for (int i = 0; i < rows.size(); i++) {
+            if (cursor + ROW_HEIGHT > PdfStreamWriter.PAGE_HEIGHT - MARGIN - FOOTER_HEIGHT) {
+                newPage();
+                tableHeader(columns, widths);
+            }
+            tableRow(rows.get(i), widths, i % 2 == 1);
+        }
+        cursor += 14f;
+    }
+
+    private void tableHeader(String[] columns, float[] widths) {
+        float top = pageY(cursor);
+        pdf.fillRect(MARGIN, top - ROW_HEIGHT - 2f, CONTENT_WIDTH, ROW_HEIGHT + 2f, DARK);
+        float x = MARGIN;
+        for (int i = 0; i < columns.length; i++) {
+            pdf.text(x + 3f, top - ROW_HEIGHT + 1f, TABLE_FONT, true, WHITE, fit(columns[i], widths[i] - 6f, TABLE_FONT));
+            x += widths[i];
+        }
+        cursor += ROW_HEIGHT + 2f;
+    }
+
+    private void tableRow(Object[] values, float[] widths, boolean shaded) {
+        float top = pageY(cursor);
+        if (shaded) {
+            pdf.fillRect(MARGIN, top - ROW_HEIGHT, CONTENT_WIDTH, ROW_HEIGHT, SHADE);
+        }
+        float x = MARGIN;
+        for (int i = 0; i < values.length && i < widths.length; i++) {
+            pdf.text(x + 3f, top - ROW_HEIGHT + 3f, TABLE_FONT, false, DARK,
+                fit(ExportWriter.formatValue(values[i]), widths[i] - 6f, TABLE_FONT));
+            x += widths[i];
+        }
+        cursor += ROW_HEIGHT;
+    }
+
+    private float[] columnWidths(int count) {
+        float[] widths = new float[count];
+        Arrays.fill(widths, CONTENT_WIDTH / Math.max(count, 1));
+        return widths;
+    }
+
+    private void heading(String title) {
+        pdf.text(MARGIN, pageY(cursor + 12f), 11f, true, DARK, title);
+        cursor += 20f;
+    }
+
+    private void newPage() throws IOException {
+        if (pdf.hasPage()) {
+            drawFooter();
+        }
+        pdf.beginPage();
+        cursor = MARGIN;
+
+        pdf.text(MARGIN, pageY(cursor + 16f), 16f, true, DARK, section.getTitle());
+        pdf.text(MARGIN, pageY(cursor + 30f), 8.5f, false, MUTED,
+            "Period: " + (startDate != null ? startDate : "-") + " to " + (endDate != null ? endDate : "-")
+            + "    Generated: " + LocalDateTime.now().format(timestampFormatter));
+        pdf.line(MARGIN, pageY(cursor + 38f), MARGIN + CONTENT_WIDTH, pageY(cursor + 38f), BORDER, 0.75f);
+        cursor += 50f;
+    }
+
+    private void drawFooter() {
+        float y = MARGIN / 2;
+        pdf.line(MARGIN, y + 12f, MARGIN + CONTENT_WIDTH, y + 12f, BORDER, 0.5f);
+        pdf.text(MARGIN, y, 7.5f, false, MUTED, "Manufacturing System - " + section.getTitle());
+        String page = "Page " + pdf.getPageCount();
+        pdf.text(MARGIN + CONTENT_WIDTH - PdfStreamWriter.textWidth(page, 7.5f), y, 7.5f, false, MUTED, page);
+    }
+
+    private void ensureSpace(float height) throws IOException {
+        if (cursor + height > PdfStreamWriter.PAGE_HEIGHT - MARGIN - FOOTER_HEIGHT) {
+            newPage();
+        }
+    }
+
+    private void checkCancelled(BooleanSupplier cancelled) {
+        if (cancelled.getAsBoolean()) {
+            throw new CancellationException("Report cancelled");
+        }
+    }
+
+    private float pageY(float fromTop) {
+        return PdfStreamWriter.PAGE_HEIGHT - fromTop;
+    }
+
+    private static String[] card(String label, String value) {
+        return new String[] {label, value};
+    }
+
+    private static String fit(String text, float width, float size) {
+        if (PdfStreamWriter.textWidth(text, size) <= width) {
+            return text;
+        }
+        int chars = Math.max(0, (int) (width / (size * 0.52f)) - 3);
+        return text.substring(0, Math.min(chars, text.length())) + "...";
+    }
+}
\ No newline at end of file
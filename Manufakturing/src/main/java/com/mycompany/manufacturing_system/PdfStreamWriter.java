@@ -0,0 +1,281 @@
+package com.mycompany.manufacturing_system;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Minimal PDF 1.4 writer that streams pages to the output as they are finished.
+ * Only the page being drawn is held in memory; every completed page, and every
+ * image, is written out immediately and only its byte offset is remembered for
+ * the cross-reference table written on close. Text uses the standard Helvetica
+ * fonts, so nothing has to be embedded.
+ *
+ * Coordinates follow PDF conventions: points, origin at the bottom left.
+ */
+class PdfStreamWriter implements AutoCloseable {
+    static final float PAGE_WIDTH = 595f;   // A4
+    static final float PAGE_HEIGHT = 842f;
+
+    private static final int CATALOG_ID = 1;
+    private static final int PAGES_ID = 2;
+    private static final int FONT_ID = 3;
+    private static final int BOLD_FONT_ID = 4;
+
+    private final CountingOutputStream out;
+    private final TreeMap<Integer, Long> offsets = new TreeMap<>();
+    private final List<Integer> pageIds = new ArrayList<>();
+    private int nextId = 5;
+
+    private StringBuilder content;
+    private final Set<Integer> pageImages = new LinkedHashSet<>();
+
+    PdfStreamWriter(OutputStream os) throws IOException {
+        this.out = new CountingOutputStream(new BufferedOutputStream(os, 64 * 1024));
+        // The binary comment marks the file as binary for transfer tools
+        out.write("%PDF-1.4\n%\u00e2\u00e3\u00cf\u00d3\n".getBytes(StandardCharsets.ISO_8859_1));
+        writeObject(FONT_ID, "<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica /Encoding /WinAnsiEncoding >>");
+        writeObject(BOLD_FONT_ID, "<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica-Bold /Encoding /WinAnsiEncoding >>");
+    }
+
+    /**
+     * Write an image XObject from ARGB pixels, blending transparency onto white.
+     * Returns the object id to pass to image().
+     */
+    int addImage(int width, int height, int[] argb) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(compressed)) {
+            byte[] row = new byte[width * 3];
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    int pixel = argb[y * width + x];
+                    int alpha = (pixel >>> 24) & 0xFF;
+                    row[x * 3] = (byte) blend((pixel >> 16) & 0xFF, alpha);
+                    row[x * 3 + 1] = (byte) blend((pixel >> 8) & 0xFF, alpha);
+                    row[x * 3 + 2] = (byte) blend(pixel & 0xFF, alpha);
+                }
+                deflater.write(row);
+            }
+        }
+
+        int id = nextId++;
+        writeStreamObject(id, String.format(
+            "/Type /XObject /Subtype /Image /Width %d /Height %d /ColorSpace /DeviceRGB /BitsPerComponent 8 /Filter /FlateDecode",
+            width, height), compressed.toByteArray());
+        return id;
+    }
+
+    private static int blend(int channel, int alpha) {
+        return (channel * alpha + 255 * (255 - alpha)) / 255;
+    }
+
+    void beginPage() throws IOException {
+        if (content != null) {
+            endPage();
+        }
+        content = new StringBuilder(8 * 1024);
+        pageImages.clear();
+    }
+
+    boolean hasPage() {
+        return content != null;
+    }
+
+    int getPageCount() {
+        return pageIds.size() + (content != null ? 1 : 0);
+    }
+
+    void text(float x, float y, float size, boolean bold, int rgb, String text) {
+        setFillColor(rgb);
+        content.append("BT /").append(bold ? "F2 " : "F1 ").append(num(size)).append(" Tf ")
+            .append(num(x)).append(' ').append(num(y)).append(" Td (");
+        appendEscaped(text);
+        content.append(") Tj ET\n");
+    }
+
+    void fillRect(float x, float y, float width, float height, int rgb) {
+        setFillColor(rgb);
+        content.append(num(x)).append(' ').append(num(y)).append(' ')
+            .append(num(width)).append(' ').append(num(height)).append(" re f\n");
+    }
+
+    void strokeRect(float x, float y, float width, float height, int rgb, float lineWidth) {
+        setStrokeColor(rgb);
+        content.append(num(lineWidth)).append(" w ")
+            .append(num(x)).append(' ').append(num(y)).append(' ')
+            .append(num(width)).append(' ').append(num(height)).append(" re S\n");
+    }
+
+    void line(float x1, float y1, float x2, float y2, int rgb, float lineWidth) {
+        setStrokeColor(rgb);
+        content.append(num(lineWidth)).append(" w ")
+            .append(num(x1)).append(' ').append(num(y1)).append(" m ")
+            .append(num(x2)).append(' ').append(num(y2)).append(" l S\n");
+    }
+
+    void image(int imageId, float x, float y, float width, float height) {
+        pageImages.add(imageId);
+        content.append("q ").append(num(width)).append(" 0 0 ").append(num(height)).append(' ')
+            .append(num(x)).append(' ').append(num(y)).append(" cm /Im").append(imageId).append(" Do Q\n");
+    }
+
+    /**
+     * Approximate Helvetica text width; good enough to fit table cells
+     */
+    static float textWidth(String text, float size) {
+        return text.length() * size * 0.52f;
+    }
+
+    /**
+     * Write the current page and release its content
+     */
+    void endPage() throws IOException {
+        if (content == null) {
+            return;
+        }
+
+        int contentId = nextId++;
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(content.length() / 3 + 64);
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(compressed)) {
+            deflater.write(content.toString().getBytes(StandardCharsets.ISO_8859_1));
+        }
+        writeStreamObject(contentId, "/Filter /FlateDecode", compressed.toByteArray());
+
+        StringBuilder resources = new StringBuilder("<< /Font << /F1 ")
+            .append(FONT_ID).append(" 0 R /F2 ").append(BOLD_FONT_ID).append(" 0 R >>");
+        if (!pageImages.isEmpty()) {
+            resources.append(" /XObject <<");
+            for (int imageId : pageImages) {
+                resources.append(" /Im").append(imageId).append(' ').append(imageId).append(" 0 R");
+            }
+            resources.append(" >>");
+        }
+        resources.append(" >>");
+
+        int pageId = nextId++;
+        writeObject(pageId, String.format(
+            "<< /Type /Page /Parent %d 0 R /MediaBox [0 0 %s %s] /Resources %s /Contents %d 0 R >>",
+            PAGES_ID, num(PAGE_WIDTH), num(PAGE_HEIGHT), resources, contentId));
+        pageIds.add(pageId);
+
+        content = null;
+        pageImages.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        endPage();
+
+        StringBuilder kids = new StringBuilder();
+        for (int pageId : pageIds) {
+            kids.append(pageId).append(" 0 R ");
+        }
+        writeObject(PAGES_ID, "<< /Type /Pages /Kids [" + kids + "] /Count " + pageIds.size() + " >>");
+        writeObject(CATALOG_ID, "<< /Type /Catalog /Pages " + PAGES_ID + " 0 R >>");
+
+        long xrefOffset = out.getCount();
+        StringBuilder xref = new StringBuilder("xref\n0 ").append(nextId).append('\n');
+        xref.append("0000000000 65535 f \n");
+        for (int id = 1; id < nextId; id++) {
+            Long offset = offsets.get(id);
+            if (offset == null) {
+                xref.append("0000000000 65535 f \n");
+            } else {
+                xref.append(String.format("%010d 00000 n \n", offset));
+            }
+        }
+        xref.append("trailer\n<< /Size ").append(nextId).append(" /Root ").append(CATALOG_ID)
+            .append(" 0 R >>\nstartxref\n").append(xrefOffset).append("\n%%EOF\n");
+        out.write(xref.toString().getBytes(StandardCharsets.ISO_8859_1));
+        out.close();
+    }
+
+    private void writeObject(int id, String body) throws IOException {
+        offsets.put(id, out.getCount());
+        out.write((id + " 0 obj\n" + body + "\nendobj\n").getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private void writeStreamObject(int id, String dictionary, byte[] data) throws IOException {
+        offsets.put(id, out.getCount());
+        out.write((id + " 0 obj\n<< " + dictionary + " /Length " + data.length + " >>\nstream\n")
+            .getBytes(StandardCharsets.ISO_8859_1));
+        out.write(data);
+        out.write("\nendstream\nendobj\n".getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private void setFillColor(int rgb) {
+        content.append(color(rgb)).append(" rg\n");
+    }
+
+    private void setStrokeColor(int rgb) {
+        content.append(color(rgb)).append(" RG\n");
+    }
+
+    private static String color(int rgb) {
+        return num(((rgb >> 16) & 0xFF) / 255f) + " " + num(((rgb >> 8) & 0xFF) / 255f) + " " + num((rgb & 0xFF) / 255f);
+    }
+
+    private static String num(float value) {
+        // Hot path for every drawing operator; avoid String.format
+        long hundredths = Math.round(value * 100.0);
+        if (hundredths % 100 == 0) {
+            return Long.toString(hundredths / 100);
+        }
+        String sign = hundredths < 0 ? "-" : "";
+        long abs = Math.abs(hundredths);
+        long fraction = abs % 100;
+        return sign + (abs / 100) + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+
+    /**
+     * Escape a string literal, mapping anything outside WinAnsi to '?'
+     */
+    private void appendEscaped(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '(' || c == ')' || c == '\\') {
+                content.append('\\').append(c);
+            } else if (c < 0x20 || (c >= 0x7F && c < 0xA0) || c > 0xFF) {
+                content.append(c == '\t' ? ' ' : '?');
+            } else {
+                content.append(c);
+            }
+        }
+    }
+
+    /**
+     * Tracks the byte position needed for the cross-reference table
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
\ No newline at end of file
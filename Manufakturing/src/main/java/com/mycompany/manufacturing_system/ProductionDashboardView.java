@@ -1,6 +1,5 @@
 package com.mycompany.manufacturing_system;
 
-import javafx.collections.FXCollections;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
@@ -13,14 +12,20 @@ import javafx.scene.effect.DropShadow;
 import javafx.scene.shape.Rectangle;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * Modern Manufacturing Dashboard with real-time production monitoring
  */
 public class ProductionDashboardView {
-    private ManufacturingOperations manufacturingOps;
+    private final SessionOperations session;
+    private final Executor loader;
+    private final ViewLoader<DashboardData> dashboardLoader;
     private final User currentUser;
     private VBox mainContainer;
     private HBox statsContainer;
@@ -29,13 +34,36 @@ public class ProductionDashboardView {
     private Label pendingOrdersLabel;
     private Label inProgressLabel;
     private Label completedLabel;
+    // The last hour, one point per minute
+    private final LiveChart throughputChart = new LiveChart("Units Completed per Minute", "Units", 60_000, 60);
+    private final LiveChart stockChart = new LiveChart("Stock Movements per Minute", "Units", 60_000, 60);
+    // Loaded by preload() before the view is built, used by the first refresh
+    private volatile DashboardData preloaded;
 
-    public ProductionDashboardView(User user) {
+    public ProductionDashboardView(User user, SessionOperations session) {
         this.currentUser = user;
+        this.session = session;
+        this.loader = session.manufacturingLoader();
+        this.dashboardLoader = new ViewLoader<>("refresh dashboard", loader,
+            this::loadDashboard, this::showDashboard);
+    }
+
+    /**
+     * The session's ManufacturingOperations, opened on first use. Only on
+     * the loader, so the view never blocks on connection or table setup.
+     */
+    private ManufacturingOperations getManufacturingOps() throws SQLException {
+        return session.manufacturing();
+    }
+
+    /**
+     * Load the dashboard data ahead of getView(). Run on the session's manufacturing loader.
+     */
+    void preload() {
         try {
-            this.manufacturingOps = new ManufacturingOperations();
+            preloaded = loadDashboard();
         } catch (SQLException e) {
-            showError("Database Error", "Failed to connect to database: " + e.getMessage());
+            System.err.println("Error preloading dashboard: " + e.getMessage());
         }
     }
 
@@ -55,6 +83,9 @@ public class ProductionDashboardView {
         // Quick actions section
         HBox quickActionsSection = createQuickActionsSection();
         
+        // Live throughput charts
+        HBox liveChartsSection = createLiveChartsSection();
+        
         // Recent orders table
         VBox ordersSection = createOrdersSection();
 
@@ -65,10 +96,14 @@ public class ProductionDashboardView {
             createModernSeparator(),
             quickActionsSection,
             createModernSeparator(),
+            liveChartsSection,
+            createModernSeparator(),
             ordersSection
         );
 
         refreshDashboard();
+        DeltaSync.shared().watch(mainContainer, DeltaSync.Table.PRODUCTION_ORDERS, this::applyOrderChanges);
+        DeltaSync.shared().watch(mainContainer, DeltaSync.Table.STOCK_MOVEMENTS, this::applyStockMovements);
         return mainContainer;
     }
 
@@ -87,7 +122,10 @@ public class ProductionDashboardView {
         subtitleText.setFont(Font.font("Segoe UI", FontWeight.NORMAL, 16));
         subtitleText.setFill(Color.web("#7f8c8d"));
 
-        header.getChildren().addAll(titleText, subtitleText);
+        HBox titleRow = new HBox(12, titleText, dashboardLoader.createIndicator());
+        titleRow.setAlignment(Pos.CENTER_LEFT);
+
+        header.getChildren().addAll(titleRow, subtitleText);
         return header;
     }
 
@@ -246,6 +284,22 @@ public class ProductionDashboardView {
         return button;
     }
 
+    private HBox createLiveChartsSection() {
+        HBox section = new HBox(20);
+        section.setPadding(new Insets(10));
+        
+        for (LiveChart liveChart : List.of(throughputChart, stockChart)) {
+            liveChart.getChart().setPrefHeight(260);
+            liveChart.getChart().setStyle("""
+                -fx-background-color: white;
+                -fx-background-radius: 8;
+                """);
+            HBox.setHgrow(liveChart.getChart(), Priority.ALWAYS);
+            section.getChildren().add(liveChart.getChart());
+        }
+        return section;
+    }
+
     private VBox createOrdersSection() {
         VBox section = new VBox(15);
         section.setPadding(new Insets(10));
@@ -365,20 +419,102 @@ public class ProductionDashboardView {
     }
 
     private void refreshDashboard() {
-        try {
-            // Update statistics
-            ManufacturingOperations.ProductionStatistics stats = manufacturingOps.getProductionStatistics();
-            totalOrdersLabel.setText(String.valueOf(stats.getTotalOrders()));
-            pendingOrdersLabel.setText(String.valueOf(stats.getPendingOrders()));
-            inProgressLabel.setText(String.valueOf(stats.getInProgressOrders()));
-            completedLabel.setText(String.valueOf(stats.getCompletedOrders()));
-            
-            // Update orders table
-            List<ProductionOrder> orders = manufacturingOps.getAllProductionOrders();
-            ordersTable.setItems(FXCollections.observableArrayList(orders));
-            
-        } catch (Exception e) {
-            showError("Error", "Failed to refresh dashboard: " + e.getMessage());
+        DashboardData data = preloaded;
+        if (data != null) {
+            preloaded = null;
+            showDashboard(data);
+            return;
+        }
+        dashboardLoader.load();
+    }
+
+    /**
+     * Runs on the loader
+     */
+    private DashboardData loadDashboard() throws SQLException {
+        ManufacturingOperations ops = getManufacturingOps();
+        return new DashboardData(ops.getProductionStatistics(), ops.getAllProductionOrders());
+    }
+
+    private void showDashboard(DashboardData data) {
+        showStatistics(data.stats);
+
+        // Update orders table
+        ListReconciler.reconcile(ordersTable, data.orders, ProductionOrder::getOrderId, ProductionOrder::updateFrom);
+    }
+
+    private void showStatistics(ManufacturingOperations.ProductionStatistics stats) {
+        totalOrdersLabel.setText(String.valueOf(stats.getTotalOrders()));
+        pendingOrdersLabel.setText(String.valueOf(stats.getPendingOrders()));
+        inProgressLabel.setText(String.valueOf(stats.getInProgressOrders()));
+        completedLabel.setText(String.valueOf(stats.getCompletedOrders()));
+    }
+
+    /**
+     * Orders changed on any terminal, from DeltaSync
+     */
+    private void applyOrderChanges(List<ProductionOrder> changed) {
+        recordProgress(changed);
+        ListReconciler.upsert(ordersTable, changed, ProductionOrder::getOrderId, ProductionOrder::updateFrom);
+        ViewLoader.submit("refresh dashboard statistics", loader,
+            () -> getManufacturingOps().getProductionStatistics(), this::showStatistics);
+    }
+
+    /**
+     * Chart the units the changed orders completed since the table last
+     * showed them, per production line. Call before the rows are applied.
+     * Progress made while the dashboard is hidden is charted when it shows again.
+     */
+    private void recordProgress(List<ProductionOrder> changed) {
+        Map<String, ProductionOrder> shown = new HashMap<>();
+        for (ProductionOrder order : ListReconciler.rowsOf(ordersTable)) {
+            shown.put(order.getOrderId(), order);
+        }
+        long now = System.currentTimeMillis();
+        for (ProductionOrder order : changed) {
+            ProductionOrder before = shown.get(order.getOrderId());
+            double previous = before != null ? before.getCompletionPercentage() : 0;
+            double units = (order.getCompletionPercentage() - previous) / 100 * order.getQuantity();
+            if (units > 0) {
+                String line = order.getAssignedLine();
+                throughputChart.add(line == null || line.isBlank() ? "Unassigned" : line, now, units);
+            }
+        }
+    }
+
+    /**
+     * Stock movements recorded on any terminal, from DeltaSync
+     */
+    private void applyStockMovements(List<StockMovementRecord> movements) {
+        for (StockMovementRecord movement : movements) {
+            LocalDateTime date = movement.movementDate();
+            long time = date != null
+                ? date.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : System.currentTimeMillis();
+            stockChart.add(isInbound(movement.movementType()) ? "Received" : "Issued",
+                time, Math.abs(movement.quantity()));
+        }
+    }
+
+    private static boolean isInbound(String movementType) {
+        switch (movementType) {
+            case "RECEIPT":
+            case "TRANSFER_IN":
+            case "ADJUSTMENT_IN":
+            case "RETURN":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static class DashboardData {
+        final ManufacturingOperations.ProductionStatistics stats;
+        final List<ProductionOrder> orders;
+
+        DashboardData(ManufacturingOperations.ProductionStatistics stats, List<ProductionOrder> orders) {
+            this.stats = stats;
+            this.orders = orders;
         }
     }
 
@@ -399,14 +535,6 @@ public class ProductionDashboardView {
         showInfo("Feature Coming Soon", "Reports view will be implemented.");
     }
 
-    private void showError(String title, String content) {
-        Alert alert = new Alert(Alert.AlertType.ERROR);
-        alert.setTitle(title);
-        alert.setHeaderText(null);
-        alert.setContentText(content);
-        alert.showAndWait();
-    }
-
     private void showInfo(String title, String content) {
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
         alert.setTitle(title);
@@ -1,6 +1,9 @@
 package com.mycompany.manufacturing_system;
 
+import javafx.animation.PauseTransition;
 import javafx.collections.FXCollections;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
@@ -10,19 +13,32 @@ import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 import javafx.scene.paint.Color;
 import javafx.scene.effect.DropShadow;
+import javafx.util.Duration;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 
 /**
  * Modern Production Management interface for creating and managing production orders
  */
 public class ProductionManagementView {
-    private ManufacturingOperations manufacturingOps;
+    private final SessionOperations session;
+    // Loads and saves share the session's ManufacturingOperations and its connection, so they run one at a time
+    private final Executor loader;
+    private final ViewLoader<List<ProductionOrder>> ordersLoader;
     private final User currentUser;
+    // Order id, customer and product of every loaded order, for the search box
+    private final SearchIndex<ProductionOrder, String> orderIndex = new SearchIndex<>(ProductionOrder::getOrderId,
+        List.of(ProductionOrder::getOrderId, ProductionOrder::getCustomerName, ProductionOrder::getProductName));
+    private final PauseTransition searchDelay = new PauseTransition(Duration.millis(150));
     private TableView<ProductionOrder> ordersTable;
+    private FilteredList<ProductionOrder> filteredOrders;
+    private TextField searchField;
     private TextField orderIdField;
     private TextField customerNameField;
     private ComboBox<String> productTypeCombo;
@@ -33,13 +49,60 @@ public class ProductionManagementView {
     private TextArea notesArea;
     private ProductionOrder selectedOrder;
 
-    public ProductionManagementView(User user) {
+    public ProductionManagementView(User user, SessionOperations session) {
         this.currentUser = user;
-        try {
-            this.manufacturingOps = new ManufacturingOperations();
-        } catch (SQLException e) {
-            showError("Database Error", "Failed to connect to database: " + e.getMessage());
+        this.session = session;
+        this.loader = session.manufacturingLoader();
+        this.ordersLoader = new ViewLoader<>("refresh orders", loader,
+            this::loadOrders, this::showOrders);
+    }
+
+    /**
+     * Runs on the loader. The search index is rebuilt here too, so typing
+     * never waits for it.
+     */
+    private List<ProductionOrder> loadOrders() throws SQLException {
+        List<ProductionOrder> orders = getManufacturingOps().getAllProductionOrders();
+        orderIndex.rebuild(orders);
+        return orders;
+    }
+
+    private void showOrders(List<ProductionOrder> orders) {
+        ListReconciler.reconcile(ordersTable, orders, ProductionOrder::getOrderId, ProductionOrder::updateFrom);
+        applySearch();
+    }
+
+    /**
+     * Orders changed on any terminal, from DeltaSync
+     */
+    private void applyOrderChanges(List<ProductionOrder> changed) {
+        ListReconciler.upsert(ordersTable, changed, ProductionOrder::getOrderId, ProductionOrder::updateFrom);
+        ViewLoader.submit("index order changes", loader, () -> {
+            orderIndex.update(changed);
+            return null;
+        }, done -> applySearch());
+    }
+
+    /**
+     * Show only the orders whose id, customer or product has a word
+     * starting with the search text. Answered from the index, without a query.
+     */
+    private void applySearch() {
+        String query = SearchIndex.normalize(searchField.getText());
+        if (query.isEmpty()) {
+            filteredOrders.setPredicate(null);
+            return;
         }
+        Set<String> matches = new HashSet<>(orderIndex.search(query, SearchIndex.MAX_RESULTS));
+        filteredOrders.setPredicate(order -> matches.contains(order.getOrderId()));
+    }
+
+    /**
+     * The session's ManufacturingOperations, opened on first use. Only on
+     * the loader, so the view never blocks the FX thread on connection or table setup.
+     */
+    private ManufacturingOperations getManufacturingOps() throws SQLException {
+        return session.manufacturing();
     }
 
     public VBox getView() {
@@ -58,6 +121,8 @@ public class ProductionManagementView {
         mainContainer.getChildren().addAll(headerSection, createSeparator(), contentSection);
         
         refreshOrdersTable();
+        // Orders changed on other terminals are patched in as they come
+        DeltaSync.shared().watch(mainContainer, DeltaSync.Table.PRODUCTION_ORDERS, this::applyOrderChanges);
         return mainContainer;
     }
 
@@ -73,7 +138,10 @@ public class ProductionManagementView {
         subtitleText.setFont(Font.font("Segoe UI", FontWeight.NORMAL, 16));
         subtitleText.setFill(Color.web("#7f8c8d"));
 
-        header.getChildren().addAll(titleText, subtitleText);
+        HBox titleRow = new HBox(12, titleText, ordersLoader.createIndicator());
+        titleRow.setAlignment(Pos.CENTER_LEFT);
+
+        header.getChildren().addAll(titleRow, subtitleText);
         return header;
     }
 
@@ -120,6 +188,11 @@ public class ProductionManagementView {
         // Orders table
         ordersTable = createOrdersTable();
         VBox.setVgrow(ordersTable, Priority.ALWAYS);
+        // The loaded orders, narrowed by the search box, in the table's sort order
+        filteredOrders = new FilteredList<>(FXCollections.observableArrayList());
+        SortedList<ProductionOrder> sortedOrders = new SortedList<>(filteredOrders);
+        sortedOrders.comparatorProperty().bind(ordersTable.comparatorProperty());
+        ordersTable.setItems(sortedOrders);
         
         // Action buttons
         HBox actionButtons = createTableActionButtons();
@@ -144,11 +217,21 @@ public class ProductionManagementView {
         priorityFilter.setValue("All Priority");
         priorityFilter.setStyle("-fx-pref-width: 120;");
         
-        TextField searchField = new TextField();
+        searchField = new TextField();
         searchField.setPromptText("Search orders...");
         searchField.setStyle("-fx-pref-width: 200;");
+        searchDelay.setOnFinished(e -> applySearch());
+        searchField.textProperty().addListener((obs, oldVal, newVal) -> searchDelay.playFromStart());
+        searchField.setOnAction(e -> {
+            searchDelay.stop();
+            applySearch();
+        });
         
         Button searchBtn = createStyledButton("🔍 Search", "#3498db", 80);
+        searchBtn.setOnAction(e -> {
+            searchDelay.stop();
+            applySearch();
+        });
         Button refreshBtn = createStyledButton("🔄 Refresh", "#27ae60", 80);
         refreshBtn.setOnAction(e -> refreshOrdersTable());
         
@@ -229,7 +312,7 @@ public class ProductionManagementView {
                     ProductionOrder order = getTableView().getItems().get(getIndex());
                     String color = order.getStatusColor();
                     setStyle(String.format("""
-                        -fx-text-fill: %s; 
+                        -fx-text-fill: %s;
                         -fx-font-weight: bold;
                         -fx-background-color: %s20;
                         -fx-background-radius: 4;
@@ -530,13 +613,16 @@ public class ProductionManagementView {
             
             order.setNotes(notesArea.getText());
             
-            if (manufacturingOps.createProductionOrder(order)) {
-                showSuccess("Order created successfully!");
-                clearForm();
-                refreshOrdersTable();
-            } else {
-                showError("Error", "Failed to create production order");
-            }
+            ViewLoader.submit("create order", loader,
+                () -> getManufacturingOps().createProductionOrder(order), created -> {
+                    if (created) {
+                        showSuccess("Order created successfully!");
+                        clearForm();
+                        refreshOrdersTable();
+                    } else {
+                        showError("Error", "Failed to create production order");
+                    }
+                });
             
         } catch (Exception e) {
             showError("Error", "Failed to create order: " + e.getMessage());
@@ -555,7 +641,10 @@ public class ProductionManagementView {
         }
         
         // Show production line selection dialog
-        showStartProductionDialog();
+        ProductionOrder order = selectedOrder;
+        ViewLoader.submit("load production lines", loader,
+            () -> getManufacturingOps().getAvailableProductionLines(),
+            lines -> showStartProductionDialog(order, lines));
     }
 
     private void updateOrderProgress() {
@@ -587,10 +676,10 @@ public class ProductionManagementView {
         });
     }
 
-    private void showStartProductionDialog() {
+    private void showStartProductionDialog(ProductionOrder order, List<String> productionLines) {
         Dialog<String[]> dialog = new Dialog<>();
         dialog.setTitle("Start Production");
-        dialog.setHeaderText("Start production for Order: " + selectedOrder.getOrderId());
+        dialog.setHeaderText("Start production for Order: " + order.getOrderId());
         
         GridPane grid = new GridPane();
         grid.setHgap(10);
@@ -598,7 +687,7 @@ public class ProductionManagementView {
         grid.setPadding(new Insets(20));
         
         ComboBox<String> lineCombo = new ComboBox<>();
-        lineCombo.getItems().addAll(manufacturingOps.getAvailableProductionLines());
+        lineCombo.getItems().addAll(productionLines);
         lineCombo.setValue(lineCombo.getItems().get(0));
         
         TextField operatorField = new TextField();
@@ -620,14 +709,15 @@ public class ProductionManagementView {
             return null;
         });
         
-        dialog.showAndWait().ifPresent(result -> {
-            if (manufacturingOps.startProduction(selectedOrder.getOrderId(), result[0], result[1])) {
-                showSuccess("Production started successfully!");
-                refreshOrdersTable();
-            } else {
-                showError("Error", "Failed to start production");
-            }
-        });
+        dialog.showAndWait().ifPresent(result -> ViewLoader.submit("start production", loader,
+            () -> getManufacturingOps().startProduction(order.getOrderId(), result[0], result[1]), started -> {
+                if (started) {
+                    showSuccess("Production started successfully!");
+                    refreshOrdersTable();
+                } else {
+                    showError("Error", "Failed to start production");
+                }
+            }));
     }
 
     private void showUpdateProgressDialog() {
@@ -670,14 +760,18 @@ public class ProductionManagementView {
             return null;
         });
         
+        String orderId = selectedOrder.getOrderId();
         dialog.showAndWait().ifPresent(result -> {
-            if (manufacturingOps.updateProductionProgress(selectedOrder.getOrderId(), 
-                    result[0], notesArea.getText())) {
-                showSuccess("Progress updated successfully!");
-                refreshOrdersTable();
-            } else {
-                showError("Error", "Failed to update progress");
-            }
+            String notes = notesArea.getText();
+            ViewLoader.submit("update progress", loader,
+                () -> getManufacturingOps().updateProductionProgress(orderId, result[0], notes), updated -> {
+                    if (updated) {
+                        showSuccess("Progress updated successfully!");
+                        refreshOrdersTable();
+                    } else {
+                        showError("Error", "Failed to update progress");
+                    }
+                });
         });
     }
 
@@ -730,12 +824,7 @@ public class ProductionManagementView {
     }
 
     private void refreshOrdersTable() {
-        try {
-            List<ProductionOrder> orders = manufacturingOps.getAllProductionOrders();
-            ordersTable.setItems(FXCollections.observableArrayList(orders));
-        } catch (Exception e) {
-            showError("Error", "Failed to refresh orders: " + e.getMessage());
-        }
+        ordersLoader.load();
     }
 
     private String generateOrderId() {
@@ -2,140 +2,336 @@ package com.mycompany.manufacturing_system;
 
 import javafx.beans.property.*;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
- * Represents a production order in the manufacturing system
+ * Represents a production order in the manufacturing system.
+ * Values are held in plain fields: primitives, shared enum constants for
+ * status and priority, and dates packed into longs. Properties are created
+ * on first use, see PropertyRow. A status or priority outside the enums is
+ * kept as its raw string instead.
  */
-public class ProductionOrder {
-    private final StringProperty orderId;
-    private final StringProperty customerName;
-    private final StringProperty productId;
-    private final StringProperty productName;
-    private final IntegerProperty quantity;
-    private final StringProperty status;
-    private final StringProperty priority;
-    private final ObjectProperty<LocalDateTime> orderDate;
-    private final ObjectProperty<LocalDateTime> dueDate;
-    private final ObjectProperty<LocalDateTime> startDate;
-    private final ObjectProperty<LocalDateTime> completionDate;
-    private final StringProperty assignedLine;
-    private final StringProperty assignedOperator;
-    private final DoubleProperty totalCost;
-    private final DoubleProperty completionPercentage;
-    private final StringProperty notes;
+public class ProductionOrder extends PropertyRow {
+    /**
+     * Values of production_orders.status
+     */
+    private enum Status { PENDING, IN_PROGRESS, COMPLETED, SHIPPED, CANCELLED, ON_HOLD }
+
+    /**
+     * Values of production_orders.priority
+     */
+    private enum Priority { URGENT, HIGH, MEDIUM, LOW }
+
+    // Index of each field's property in properties
+    private static final int ORDER_ID = 0;
+    private static final int CUSTOMER_NAME = 1;
+    private static final int PRODUCT_ID = 2;
+    private static final int PRODUCT_NAME = 3;
+    private static final int QUANTITY = 4;
+    private static final int STATUS = 5;
+    private static final int PRIORITY = 6;
+    private static final int ORDER_DATE = 7;
+    private static final int DUE_DATE = 8;
+    private static final int START_DATE = 9;
+    private static final int COMPLETION_DATE = 10;
+    private static final int ASSIGNED_LINE = 11;
+    private static final int ASSIGNED_OPERATOR = 12;
+    private static final int TOTAL_COST = 13;
+    private static final int COMPLETION_PERCENTAGE = 14;
+    private static final int NOTES = 15;
+    private static final int FIELD_COUNT = 16;
+
+    // Dates are epoch seconds (UTC, as a wall clock) in the high 34 bits and
+    // nanoseconds in the low 30, which covers 1698 to 2242 exactly
+    private static final long NO_DATE = Long.MIN_VALUE;
+    private static final int NANO_BITS = 30;
+    private static final long NANO_MASK = (1L << NANO_BITS) - 1;
+    private static final long MAX_SECONDS = 1L << (63 - NANO_BITS);
+
+    private String orderId;
+    private String customerName;
+    private String productId;
+    private String productName;
+    private int quantity;
+    private Status status;
+    private Priority priority;
+    // Raw value when status or priority is not one of the enum constants
+    private String otherStatus;
+    private String otherPriority;
+    private long orderDate;
+    private long dueDate = NO_DATE;
+    private long startDate = NO_DATE;
+    private long completionDate = NO_DATE;
+    private String assignedLine;
+    private String assignedOperator;
+    private double totalCost;
+    private double completionPercentage;
+    private String notes;
 
     public ProductionOrder(String orderId, String customerName, String productId, 
                           String productName, int quantity, String priority) {
-        this.orderId = new SimpleStringProperty(orderId);
-        this.customerName = new SimpleStringProperty(customerName);
-        this.productId = new SimpleStringProperty(productId);
-        this.productName = new SimpleStringProperty(productName);
-        this.quantity = new SimpleIntegerProperty(quantity);
-        this.status = new SimpleStringProperty("PENDING");
-        this.priority = new SimpleStringProperty(priority);
-        this.orderDate = new SimpleObjectProperty<>(LocalDateTime.now());
-        this.dueDate = new SimpleObjectProperty<>();
-        this.startDate = new SimpleObjectProperty<>();
-        this.completionDate = new SimpleObjectProperty<>();
-        this.assignedLine = new SimpleStringProperty("");
-        this.assignedOperator = new SimpleStringProperty("");
-        this.totalCost = new SimpleDoubleProperty(0.0);
-        this.completionPercentage = new SimpleDoubleProperty(0.0);
-        this.notes = new SimpleStringProperty("");
+        this.orderId = orderId;
+        this.customerName = customerName;
+        this.productId = productId;
+        this.productName = productName;
+        this.quantity = quantity;
+        this.status = Status.PENDING;
+        this.priority = lookup(Priority.class, priority);
+        this.otherPriority = this.priority == null ? priority : null;
+        this.orderDate = pack(LocalDateTime.now());
+        this.assignedLine = "";
+        this.assignedOperator = "";
+        this.notes = "";
     }
 
     // Getters
-    public String getOrderId() { return orderId.get(); }
-    public String getCustomerName() { return customerName.get(); }
-    public String getProductId() { return productId.get(); }
-    public String getProductName() { return productName.get(); }
-    public int getQuantity() { return quantity.get(); }
-    public String getStatus() { return status.get(); }
-    public String getPriority() { return priority.get(); }
-    public LocalDateTime getOrderDate() { return orderDate.get(); }
-    public LocalDateTime getDueDate() { return dueDate.get(); }
-    public LocalDateTime getStartDate() { return startDate.get(); }
-    public LocalDateTime getCompletionDate() { return completionDate.get(); }
-    public String getAssignedLine() { return assignedLine.get(); }
-    public String getAssignedOperator() { return assignedOperator.get(); }
-    public double getTotalCost() { return totalCost.get(); }
-    public double getCompletionPercentage() { return completionPercentage.get(); }
-    public String getNotes() { return notes.get(); }
-
-    // Property getters for JavaFX TableView
-    public StringProperty orderIdProperty() { return orderId; }
-    public StringProperty customerNameProperty() { return customerName; }
-    public StringProperty productIdProperty() { return productId; }
-    public StringProperty productNameProperty() { return productName; }
-    public IntegerProperty quantityProperty() { return quantity; }
-    public StringProperty statusProperty() { return status; }
-    public StringProperty priorityProperty() { return priority; }
-    public ObjectProperty<LocalDateTime> orderDateProperty() { return orderDate; }
-    public ObjectProperty<LocalDateTime> dueDateProperty() { return dueDate; }
-    public ObjectProperty<LocalDateTime> startDateProperty() { return startDate; }
-    public ObjectProperty<LocalDateTime> completionDateProperty() { return completionDate; }
-    public StringProperty assignedLineProperty() { return assignedLine; }
-    public StringProperty assignedOperatorProperty() { return assignedOperator; }
-    public DoubleProperty totalCostProperty() { return totalCost; }
-    public DoubleProperty completionPercentageProperty() { return completionPercentage; }
-    public StringProperty notesProperty() { return notes; }
+    public String getOrderId() { return getString(ORDER_ID, orderId); }
+    public String getCustomerName() { return getString(CUSTOMER_NAME, customerName); }
+    public String getProductId() { return getString(PRODUCT_ID, productId); }
+    public String getProductName() { return getString(PRODUCT_NAME, productName); }
+    public String getStatus() { return getString(STATUS, status != null ? status.name() : otherStatus); }
+    public String getPriority() { return getString(PRIORITY, priority != null ? priority.name() : otherPriority); }
+    public LocalDateTime getOrderDate() { return getDate(ORDER_DATE, orderDate); }
+    public LocalDateTime getDueDate() { return getDate(DUE_DATE, dueDate); }
+    public LocalDateTime getStartDate() { return getDate(START_DATE, startDate); }
+    public LocalDateTime getCompletionDate() { return getDate(COMPLETION_DATE, completionDate); }
+    public String getAssignedLine() { return getString(ASSIGNED_LINE, assignedLine); }
+    public String getAssignedOperator() { return getString(ASSIGNED_OPERATOR, assignedOperator); }
+    public String getNotes() { return getString(NOTES, notes); }
+
+    public int getQuantity() { return getInt(QUANTITY, quantity); }
+    public double getTotalCost() { return getDouble(TOTAL_COST, totalCost); }
+    public double getCompletionPercentage() { return getDouble(COMPLETION_PERCENTAGE, completionPercentage); }
+
+    // Property getters for JavaFX TableView, created on first use
+    public StringProperty orderIdProperty() {
+        return property(ORDER_ID, () -> new SimpleStringProperty(this, "orderId", orderId));
+    }
+    public StringProperty customerNameProperty() {
+        return property(CUSTOMER_NAME, () -> new SimpleStringProperty(this, "customerName", customerName));
+    }
+    public StringProperty productIdProperty() {
+        return property(PRODUCT_ID, () -> new SimpleStringProperty(this, "productId", productId));
+    }
+    public StringProperty productNameProperty() {
+        return property(PRODUCT_NAME, () -> new SimpleStringProperty(this, "productName", productName));
+    }
+    public IntegerProperty quantityProperty() {
+        return property(QUANTITY, () -> new SimpleIntegerProperty(this, "quantity", quantity));
+    }
+    public StringProperty statusProperty() {
+        return property(STATUS, () -> new SimpleStringProperty(this, "status",
+            status != null ? status.name() : otherStatus));
+    }
+    public StringProperty priorityProperty() {
+        return property(PRIORITY, () -> new SimpleStringProperty(this, "priority",
+            priority != null ? priority.name() : otherPriority));
+    }
+    public ObjectProperty<LocalDateTime> orderDateProperty() {
+        return property(ORDER_DATE, () -> new SimpleObjectProperty<>(this, "orderDate", unpack(orderDate)));
+    }
+    public ObjectProperty<LocalDateTime> dueDateProperty() {
+        return property(DUE_DATE, () -> new SimpleObjectProperty<>(this, "dueDate", unpack(dueDate)));
+    }
+    public ObjectProperty<LocalDateTime> startDateProperty() {
+        return property(START_DATE, () -> new SimpleObjectProperty<>(this, "startDate", unpack(startDate)));
+    }
+    public ObjectProperty<LocalDateTime> completionDateProperty() {
+        return property(COMPLETION_DATE, () -> new SimpleObjectProperty<>(this, "completionDate",
+            unpack(completionDate)));
+    }
+    public StringProperty assignedLineProperty() {
+        return property(ASSIGNED_LINE, () -> new SimpleStringProperty(this, "assignedLine", assignedLine));
+    }
+    public StringProperty assignedOperatorProperty() {
+        return property(ASSIGNED_OPERATOR, () -> new SimpleStringProperty(this, "assignedOperator",
+            assignedOperator));
+    }
+    public DoubleProperty totalCostProperty() {
+        return property(TOTAL_COST, () -> new SimpleDoubleProperty(this, "totalCost", totalCost));
+    }
+    public DoubleProperty completionPercentageProperty() {
+        return property(COMPLETION_PERCENTAGE, () -> new SimpleDoubleProperty(this, "completionPercentage",
+            completionPercentage));
+    }
+    public StringProperty notesProperty() {
+        return property(NOTES, () -> new SimpleStringProperty(this, "notes", notes));
+    }
 
     // Setters
-    public void setOrderId(String orderId) { this.orderId.set(orderId); }
-    public void setCustomerName(String customerName) { this.customerName.set(customerName); }
-    public void setProductId(String productId) { this.productId.set(productId); }
-    public void setProductName(String productName) { this.productName.set(productName); }
-    public void setQuantity(int quantity) { this.quantity.set(quantity); }
-    public void setStatus(String status) { this.status.set(status); }
-    public void setPriority(String priority) { this.priority.set(priority); }
-    public void setOrderDate(LocalDateTime orderDate) { this.orderDate.set(orderDate); }
-    public void setDueDate(LocalDateTime dueDate) { this.dueDate.set(dueDate); }
-    public void setStartDate(LocalDateTime startDate) { this.startDate.set(startDate); }
-    public void setCompletionDate(LocalDateTime completionDate) { this.completionDate.set(completionDate); }
-    public void setAssignedLine(String assignedLine) { this.assignedLine.set(assignedLine); }
-    public void setAssignedOperator(String assignedOperator) { this.assignedOperator.set(assignedOperator); }
-    public void setTotalCost(double totalCost) { this.totalCost.set(totalCost); }
-    public void setCompletionPercentage(double completionPercentage) { this.completionPercentage.set(completionPercentage); }
-    public void setNotes(String notes) { this.notes.set(notes); }
+    public void setOrderId(String orderId) {
+        if (!setProperty(ORDER_ID, orderId)) this.orderId = orderId;
+    }
+    public void setCustomerName(String customerName) {
+        if (!setProperty(CUSTOMER_NAME, customerName)) this.customerName = customerName;
+    }
+    public void setProductId(String productId) {
+        if (!setProperty(PRODUCT_ID, productId)) this.productId = productId;
+    }
+    public void setProductName(String productName) {
+        if (!setProperty(PRODUCT_NAME, productName)) this.productName = productName;
+    }
+    public void setQuantity(int quantity) {
+        if (!setProperty(QUANTITY, quantity)) this.quantity = quantity;
+    }
+    public void setStatus(String status) {
+        if (!setProperty(STATUS, status)) {
+            this.status = lookup(Status.class, status);
+            this.otherStatus = this.status == null ? status : null;
+        }
+    }
+    public void setPriority(String priority) {
+        if (!setProperty(PRIORITY, priority)) {
+            this.priority = lookup(Priority.class, priority);
+            this.otherPriority = this.priority == null ? priority : null;
+        }
+    }
+    public void setOrderDate(LocalDateTime orderDate) {
+        if (!setProperty(ORDER_DATE, orderDate)) this.orderDate = pack(orderDate);
+    }
+    public void setDueDate(LocalDateTime dueDate) {
+        if (!setProperty(DUE_DATE, dueDate)) this.dueDate = pack(dueDate);
+    }
+    public void setStartDate(LocalDateTime startDate) {
+        if (!setProperty(START_DATE, startDate)) this.startDate = pack(startDate);
+    }
+    public void setCompletionDate(LocalDateTime completionDate) {
+        if (!setProperty(COMPLETION_DATE, completionDate)) this.completionDate = pack(completionDate);
+    }
+    public void setAssignedLine(String assignedLine) {
+        if (!setProperty(ASSIGNED_LINE, assignedLine)) this.assignedLine = assignedLine;
+    }
+    public void setAssignedOperator(String assignedOperator) {
+        if (!setProperty(ASSIGNED_OPERATOR, assignedOperator)) this.assignedOperator = assignedOperator;
+    }
+    public void setTotalCost(double totalCost) {
+        if (!setProperty(TOTAL_COST, totalCost)) this.totalCost = totalCost;
+    }
+    public void setCompletionPercentage(double completionPercentage) {
+        if (!setProperty(COMPLETION_PERCENTAGE, completionPercentage)) this.completionPercentage = completionPercentage;
+    }
+    public void setNotes(String notes) {
+        if (!setProperty(NOTES, notes)) this.notes = notes;
+    }
+
+    /**
+     * Copy the values of a freshly loaded copy of this order, touching only
+     * the fields that changed. Returns whether any did.
+     */
+    public boolean updateFrom(ProductionOrder other) {
+        boolean changed = false;
+        changed |= update(other, ProductionOrder::getCustomerName, ProductionOrder::setCustomerName);
+        changed |= update(other, ProductionOrder::getProductId, ProductionOrder::setProductId);
+        changed |= update(other, ProductionOrder::getProductName, ProductionOrder::setProductName);
+        changed |= update(other, ProductionOrder::getQuantity, ProductionOrder::setQuantity);
+        changed |= update(other, ProductionOrder::getStatus, ProductionOrder::setStatus);
+        changed |= update(other, ProductionOrder::getPriority, ProductionOrder::setPriority);
+        changed |= update(other, ProductionOrder::getOrderDate, ProductionOrder::setOrderDate);
+        changed |= update(other, ProductionOrder::getDueDate, ProductionOrder::setDueDate);
+        changed |= update(other, ProductionOrder::getStartDate, ProductionOrder::setStartDate);
+        changed |= update(other, ProductionOrder::getCompletionDate, ProductionOrder::setCompletionDate);
+        changed |= update(other, ProductionOrder::getAssignedLine, ProductionOrder::setAssignedLine);
+        changed |= update(other, ProductionOrder::getAssignedOperator, ProductionOrder::setAssignedOperator);
+        changed |= update(other, ProductionOrder::getTotalCost, ProductionOrder::setTotalCost);
+        changed |= update(other, ProductionOrder::getCompletionPercentage, ProductionOrder::setCompletionPercentage);
+        changed |= update(other, ProductionOrder::getNotes, ProductionOrder::setNotes);
+        return changed;
+    }
+
+    private <T> boolean update(ProductionOrder other, Function<ProductionOrder, T> getter,
+                               BiConsumer<ProductionOrder, T> setter) {
+        T value = getter.apply(other);
+        if (Objects.equals(getter.apply(this), value)) {
+            return false;
+        }
+        setter.accept(this, value);
+        return true;
+    }
+
+    @Override
+    protected int fieldCount() {
+        return FIELD_COUNT;
+    }
+
+    /**
+     * The constant named value, or null when value is null or names none
+     */
+    private static <E extends Enum<E>> E lookup(Class<E> type, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private LocalDateTime getDate(int field, long value) {
+        // Only unpack when the field has no property
+        return existing(field) != null ? getObject(field, null) : unpack(value);
+    }
+
+    private static long pack(LocalDateTime date) {
+        if (date == null) {
+            return NO_DATE;
+        }
+        long seconds = date.toEpochSecond(ZoneOffset.UTC);
+        if (seconds <= -MAX_SECONDS || seconds >= MAX_SECONDS) {
+            throw new IllegalArgumentException("Date out of range: " + date);
+        }
+        return seconds << NANO_BITS | date.getNano();
+    }
+
+    private static LocalDateTime unpack(long date) {
+        if (date == NO_DATE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(date >> NANO_BITS, (int) (date & NANO_MASK), ZoneOffset.UTC);
+    }
 
     // Utility methods
     public String getFormattedOrderDate() {
-        return orderDate.get().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm"));
+        return getOrderDate().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm"));
     }
 
     public String getFormattedDueDate() {
-        LocalDateTime due = dueDate.get();
+        LocalDateTime due = getDueDate();
         return due != null ? due.format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")) : "Not Set";
     }
 
     public String getFormattedStartDate() {
-        LocalDateTime start = startDate.get();
+        LocalDateTime start = getStartDate();
         return start != null ? start.format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")) : "Not Started";
     }
 
     public String getFormattedCompletionDate() {
-        LocalDateTime completion = completionDate.get();
+        LocalDateTime completion = getCompletionDate();
         return completion != null ? completion.format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")) : "Not Completed";
     }
 
     public boolean isOverdue() {
-        if (dueDate.get() == null || isCompleted()) {
+        LocalDateTime due = getDueDate();
+        if (due == null || isCompleted()) {
             return false;
         }
-        return LocalDateTime.now().isAfter(dueDate.get());
+        return LocalDateTime.now().isAfter(due);
     }
 
     public boolean isCompleted() {
-        return "COMPLETED".equals(status.get()) || "SHIPPED".equals(status.get());
+        return "COMPLETED".equals(getStatus()) || "SHIPPED".equals(getStatus());
     }
 
     public boolean isInProgress() {
-        return "IN_PROGRESS".equals(status.get());
+        return "IN_PROGRESS".equals(getStatus());
     }
 
     public String getStatusColor() {
-        switch (status.get()) {
+        switch (getStatus()) {
             case "PENDING": return "#ff9800"; // Orange
             case "IN_PROGRESS": return "#2196f3"; // Blue
             case "COMPLETED": return "#4caf50"; // Green
@@ -147,7 +343,7 @@ public class ProductionOrder {
     }
 
     public String getPriorityColor() {
-        switch (priority.get()) {
+        switch (getPriority()) {
             case "URGENT": return "#f44336"; // Red
             case "HIGH": return "#ff9800"; // Orange
             case "MEDIUM": return "#2196f3"; // Blue
@@ -159,6 +355,6 @@ public class ProductionOrder {
     @Override
     public String toString() {
         return String.format("Order %s: %s x%d [%s] - %s", 
-            orderId.get(), productName.get(), quantity.get(), status.get(), priority.get());
+            getOrderId(), getProductName(), getQuantity(), getStatus(), getPriority());
     }
 }
\ No newline at end of file
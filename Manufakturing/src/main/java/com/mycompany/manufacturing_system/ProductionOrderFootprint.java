@@ -0,0 +1,114 @@
+package com.mycompany.manufacturing_system;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Heap footprint of ProductionOrder rows, measured as the growth of the used
+ * heap after full GCs. "Compact" is a row as loaded, with no properties;
+ * "all properties" is the same row after every xxxProperty() was called,
+ * which is what each row cost when the properties were created eagerly.
+ * Run with a fixed heap so the GCs are comparable, e.g. -Xms2g -Xmx2g.
+ * Usage: ProductionOrderFootprint [rows]
+ */
+public class ProductionOrderFootprint {
+
+    private ProductionOrderFootprint() {
+    }
+
+    public static void main(String[] args) {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+
+        long baseline = usedHeap();
+        List<ProductionOrder> orders = new ArrayList<>(rows);
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 8, 0);
+        for (int i = 0; i < rows; i++) {
+            orders.add(sampleOrder(i, start));
+        }
+        long compact = usedHeap() - baseline;
+
+        int properties = 0;
+        for (ProductionOrder order : orders) {
+            createAllProperties(order);
+            properties += order.createdPropertyCount();
+        }
+        long eager = usedHeap() - baseline;
+
+        System.out.printf("Rows: %,d, properties created: %,d%n", rows, properties);
+        System.out.printf("Compact:        %,8.1f bytes/row, %,7.1f MB total%n",
+            (double) compact / rows, compact / 1048576.0);
+        System.out.printf("All properties: %,8.1f bytes/row, %,7.1f MB total%n",
+            (double) eager / rows, eager / 1048576.0);
+        System.out.printf("Saved: %.1f%%%n", 100.0 * (eager - compact) / eager);
+        // Keep the rows reachable until both measurements are done
+        System.out.println("Last row: " + orders.get(rows - 1));
+    }
+
+    /**
+     * A row shaped like one from mapOrder: distinct ids and notes, names
+     * repeated across rows as they come from the database
+     */
+    private static ProductionOrder sampleOrder(int i, LocalDateTime start) {
+        ProductionOrder order = new ProductionOrder(
+            "PO-" + (20240000 + i),
+            "Customer " + (i % 500),
+            "AUT-" + Integer.toHexString(0x10000000 + i).toUpperCase(),
+            "Product " + (i % 200),
+            1 + i % 1000,
+            i % 4 == 0 ? "HIGH" : "MEDIUM");
+        order.setStatus(i % 3 == 0 ? "COMPLETED" : "IN_PROGRESS");
+        order.setOrderDate(start.plusMinutes(i));
+        order.setDueDate(start.plusDays(14).plusMinutes(i));
+        order.setStartDate(start.plusDays(1).plusMinutes(i));
+        if (i % 3 == 0) {
+            order.setCompletionDate(start.plusDays(10).plusMinutes(i));
+        }
+        order.setAssignedLine("Line " + (1 + i % 8));
+        order.setAssignedOperator("operator" + (i % 50));
+        order.setTotalCost(125.5 * (1 + i % 1000));
+        order.setCompletionPercentage(i % 3 == 0 ? 100.0 : i % 100);
+        order.setNotes("Order " + i);
+        return order;
+    }
+
+    private static void createAllProperties(ProductionOrder order) {
+        order.orderIdProperty();
+        order.customerNameProperty();
+        order.productIdProperty();
+        order.productNameProperty();
+        order.quantityProperty();
+        order.statusProperty();
+        order.priorityProperty();
+        order.orderDateProperty();
+        order.dueDateProperty();
+        order.startDateProperty();
+        order.completionDateProperty();
+        order.assignedLineProperty();
+        order.assignedOperatorProperty();
+        order.totalCostProperty();
+        order.completionPercentageProperty();
+        order.notesProperty();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        // Repeat until a GC frees nothing more
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            long now = runtime.totalMemory() - runtime.freeMemory();
+            if (now >= used) {
+                return now;
+            }
+            used = now;
+        }
+        return used;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.mycompany.manufacturing_system;
+
+/**
+ * Production Summary data class
+ */
+class ProductionSummary extends ReportData {
+    private int totalOrders;
+    private int completedOrders;
+    private int inProgressOrders;
+    private int pendingOrders;
+    private int totalQuantity;
+    private double totalValue;
+    private double averageCompletion;
+
+    // Getters and Setters
+    public int getTotalOrders() { return totalOrders; }
+    public void setTotalOrders(int totalOrders) { this.totalOrders = totalOrders; }
+
+    public int getCompletedOrders() { return completedOrders; }
+    public void setCompletedOrders(int completedOrders) { this.completedOrders = completedOrders; }
+
+    public int getInProgressOrders() { return inProgressOrders; }
+    public void setInProgressOrders(int inProgressOrders) { this.inProgressOrders = inProgressOrders; }
+
+    public int getPendingOrders() { return pendingOrders; }
+    public void setPendingOrders(int pendingOrders) { this.pendingOrders = pendingOrders; }
+
+    public int getTotalQuantity() { return totalQuantity; }
+    public void setTotalQuantity(int totalQuantity) { this.totalQuantity = totalQuantity; }
+
+    public double getTotalValue() { return totalValue; }
+    public void setTotalValue(double totalValue) { this.totalValue = totalValue; }
+
+    public double getAverageCompletion() { return averageCompletion; }
+    public void setAverageCompletion(double averageCompletion) { this.averageCompletion = averageCompletion; }
+
+    public double getCompletionRate() {
+        return totalOrders > 0 ? (double) completedOrders / totalOrders * 100 : 0;
+    }
+}
\ No newline at end of file
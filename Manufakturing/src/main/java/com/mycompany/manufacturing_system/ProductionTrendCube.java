@@ -0,0 +1,351 @@
+package com.mycompany.manufacturing_system;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Daily rollup of production_orders used by the trend reports.
+ * Each cube row holds the order count, quantity, value and completion sum for
+ * one day, product, line, priority and status. Weekly, monthly and quarterly
+ * trends are rolled up from the daily rows instead of scanning the orders.
+ *
+ * The cube is maintained incrementally: refresh() only processes orders whose
+ * updated_at moved past the stored high-water mark. The last contribution of
+ * every order is kept in production_trend_cube_facts so a changed order can be
+ * subtracted from its old cell before it is added to the new one, which also
+ * makes processing an unchanged order again a no-op. updated_at is stamped
+ * when an order is written, not when its transaction commits, so the mark
+ * trails the server clock by sync.commitLagSeconds (30) and every refresh
+ * processes that window again to pick up orders committed late. Deleted
+ * orders leave no updated_at trace; rebuild() recomputes the cube from scratch.
+ */
+public class ProductionTrendCube {
+    private static final String CUBE_NAME = "production_trend";
+    private static final DateTimeFormatter dateFormatter =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    // How far an order's updated_at may be behind the commit that makes it visible
+    private static final int COMMIT_LAG_SECONDS = Integer.getInteger("sync.commitLagSeconds", 30);
+
+    // Refreshes from different ReportsOperations instances must not interleave
+    private static final Object REFRESH_LOCK = new Object();
+    private static volatile boolean tablesReady;
+
+    private final Connection connection;
+
+    public ProductionTrendCube(Connection connection) {
+        this.connection = connection;
+        initializeCubeTables();
+    }
+
+    /**
+     * Initialize cube, fact and refresh state tables
+     */
+    private void initializeCubeTables() {
+        if (tablesReady) {
+            return;
+        }
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS production_trend_cube (
+                    bucket_date DATE NOT NULL,
+                    product_id VARCHAR(50) NOT NULL,
+                    production_line VARCHAR(50) NOT NULL DEFAULT '',
+                    priority VARCHAR(50) NOT NULL DEFAULT '',
+                    status VARCHAR(50) NOT NULL DEFAULT '',
+                    order_count INT NOT NULL DEFAULT 0,
+                    total_quantity BIGINT NOT NULL DEFAULT 0,
+                    total_value DECIMAL(16,2) NOT NULL DEFAULT 0.00,
+                    completion_sum DECIMAL(14,2) NOT NULL DEFAULT 0.00,
+                    PRIMARY KEY (bucket_date, product_id, production_line, priority, status)
+                )
+                """);
+
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS production_trend_cube_facts (
+                    order_id VARCHAR(50) PRIMARY KEY,
+                    bucket_date DATE NOT NULL,
+                    product_id VARCHAR(50) NOT NULL,
+                    production_line VARCHAR(50) NOT NULL DEFAULT '',
+                    priority VARCHAR(50) NOT NULL DEFAULT '',
+                    status VARCHAR(50) NOT NULL DEFAULT '',
+                    quantity INT NOT NULL DEFAULT 0,
+                    total_cost DECIMAL(12,2) NOT NULL DEFAULT 0.00,
+                    completion_percentage DECIMAL(5,2) NOT NULL DEFAULT 0.00
+                )
+                """);
+
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS report_refresh_state (
+                    cube_name VARCHAR(50) PRIMARY KEY,
+                    high_water_mark TIMESTAMP NULL,
+                    last_refresh TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+                )
+                """);
+
+            ensureUpdatedAtIndex(stmt);
+            tablesReady = true;
+
+        } catch (SQLException e) {
+            System.err.println("Error initializing trend cube tables: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    private void ensureUpdatedAtIndex(Statement stmt) {
+        try {
+            stmt.execute("CREATE INDEX idx_updated_at ON production_orders (updated_at)");
+        } catch (SQLException e) {
+            // 1061 = duplicate key name, the index already exists
+            if (e.getErrorCode() != 1061) {
+                System.err.println("Failed to create updated_at index: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Fold every order changed since the last refresh, and every order in the
+     * commit lag window before it, into the cube.
+     * Returns the number of orders processed.
+     */
+    public int refresh() throws SQLException {
+        synchronized (REFRESH_LOCK) {
+            Timestamp from = getHighWaterMark();
+            Timestamp to = getDatabaseNow();
+            // Orders stamped after this may still be committing; the next refresh reads them again
+            Timestamp settled = new Timestamp(to.getTime() - COMMIT_LAG_SECONDS * 1000L);
+
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                int changed = applyChanges(from, to);
+                setHighWaterMark(settled.after(from) ? settled : from);
+                connection.commit();
+                return changed;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    /**
+     * Drop the cube and rebuild it from every order
+     */
+    public int rebuild() throws SQLException {
+        synchronized (REFRESH_LOCK) {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.executeUpdate("DELETE FROM production_trend_cube");
+                stmt.executeUpdate("DELETE FROM production_trend_cube_facts");
+                stmt.executeUpdate("DELETE FROM report_refresh_state WHERE cube_name = '" + CUBE_NAME + "'");
+            }
+            return refresh();
+        }
+    }
+
+    /**
+     * Get trend data rolled up from the daily cube.
+     * Any dimension filter may be null to include all values.
+     */
+    public List<TrendData> getTrend(LocalDate startDate, LocalDate endDate, String period,
+                                    String productId, String productionLine,
+                                    String priority, String status) throws SQLException {
+        List<TrendData> trendData = new ArrayList<>();
+        String groupBy = getGroupByClause(period);
+
+        StringBuilder where = new StringBuilder("bucket_date BETWEEN ? AND ?");
+        List<String> params = new ArrayList<>();
+        params.add(startDate.format(dateFormatter));
+        params.add(endDate.format(dateFormatter));
+        addFilter(where, params, "product_id", productId);
+        addFilter(where, params, "production_line", productionLine);
+        addFilter(where, params, "priority", priority);
+        addFilter(where, params, "status", status);
+
+        try (PreparedStatement stmt = connection.prepareStatement(String.format("""
+            SELECT
+                %s as period,
+                SUM(order_count) as order_count,
+                SUM(total_quantity) as total_quantity,
+                SUM(total_value) as total_value,
+                SUM(completion_sum) / NULLIF(SUM(order_count), 0) as avg_completion
+            FROM production_trend_cube
+            WHERE %s
+            GROUP BY %s
+            HAVING SUM(order_count) > 0
+            ORDER BY %s
+            """, groupBy, where, groupBy, groupBy))) {
+
+            for (int i = 0; i < params.size(); i++) {
+                stmt.setString(i + 1, params.get(i));
+            }
+
+            ResultSet rs = stmt.executeQuery();
+            while (rs.next()) {
+                TrendData data = new TrendData();
+                data.setPeriod(rs.getString("period"));
+                data.setOrderCount(rs.getInt("order_count"));
+                data.setTotalQuantity(rs.getInt("total_quantity"));
+                data.setTotalValue(rs.getDouble("total_value"));
+                data.setAverageCompletion(rs.getDouble("avg_completion"));
+
+                trendData.add(data);
+            }
+        }
+
+        return trendData;
+    }
+
+    /**
+     * Subtract the old contribution of every changed order, then add its
+     * current one. All statements select the changed orders by the same
+     * (from, to] updated_at window.
+     */
+    private int applyChanges(Timestamp from, Timestamp to) throws SQLException {
+        // 1. Remove the previous contribution of changed orders from their old cells
+        executeWindowed("""
+            UPDATE production_trend_cube c
+            JOIN (
+                SELECT f.bucket_date, f.product_id, f.production_line, f.priority, f.status,
+                       COUNT(*) as order_count,
+                       SUM(f.quantity) as total_quantity,
+                       SUM(f.total_cost) as total_value,
+                       SUM(f.completion_percentage) as completion_sum
+                FROM production_trend_cube_facts f
+                JOIN production_orders o ON o.order_id = f.order_id
+                WHERE o.updated_at > ? AND o.updated_at <= ?
+                GROUP BY f.bucket_date, f.product_id, f.production_line, f.priority, f.status
+            ) d ON c.bucket_date = d.bucket_date
+               AND c.product_id = d.product_id
+               AND c.production_line = d.production_line
+               AND c.priority = d.priority
+               AND c.status = d.status
+            SET c.order_count = c.order_count - d.order_count,
+                c.total_quantity = c.total_quantity - d.total_quantity,
+                c.total_value = c.total_value - d.total_value,
+                c.completion_sum = c.completion_sum - d.completion_sum
+            """, from, to);
+
+        // Cells every order moved out of are no longer needed. Only the cells
+        // just subtracted from can have dropped to zero; the facts still point at them.
+        executeWindowed("""
+            DELETE c FROM production_trend_cube c
+            JOIN (
+                SELECT DISTINCT f.bucket_date, f.product_id, f.production_line, f.priority, f.status
+                FROM production_trend_cube_facts f
+                JOIN production_orders o ON o.order_id = f.order_id
+                WHERE o.updated_at > ? AND o.updated_at <= ?
+            ) d ON c.bucket_date = d.bucket_date
+               AND c.product_id = d.product_id
+               AND c.production_line = d.production_line
+               AND c.priority = d.priority
+               AND c.status = d.status
+            WHERE c.order_count <= 0
+            """, from, to);
+
+        // 2. Record the current contribution of each changed order
+        int changed = executeWindowed("""
+            REPLACE INTO production_trend_cube_facts
+            (order_id, bucket_date, product_id, production_line, priority, status,
+             quantity, total_cost, completion_percentage)
+            SELECT order_id, DATE(order_date), product_id,
+                   COALESCE(assigned_line, ''), COALESCE(priority, ''), COALESCE(status, ''),
+                   quantity, COALESCE(total_cost, 0), COALESCE(completion_percentage, 0)
+            FROM production_orders
+            WHERE updated_at > ? AND updated_at <= ?
+            """, from, to);
+
+        // 3. Add it to the new cells
+        executeWindowed("""
+            INSERT INTO production_trend_cube
+            (bucket_date, product_id, production_line, priority, status,
+             order_count, total_quantity, total_value, completion_sum)
+            SELECT f.bucket_date, f.product_id, f.production_line, f.priority, f.status,
+                   COUNT(*), SUM(f.quantity), SUM(f.total_cost), SUM(f.completion_percentage)
+            FROM production_trend_cube_facts f
+            JOIN production_orders o ON o.order_id = f.order_id
+            WHERE o.updated_at > ? AND o.updated_at <= ?
+            GROUP BY f.bucket_date, f.product_id, f.production_line, f.priority, f.status
+            ON DUPLICATE KEY UPDATE
+                order_count = order_count + VALUES(order_count),
+                total_quantity = total_quantity + VALUES(total_quantity),
+                total_value = total_value + VALUES(total_value),
+                completion_sum = completion_sum + VALUES(completion_sum)
+            """, from, to);
+
+        return changed;
+    }
+
+    private int executeWindowed(String sql, Timestamp from, Timestamp to) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setTimestamp(1, from);
+            stmt.setTimestamp(2, to);
+            return stmt.executeUpdate();
+        }
+    }
+
+    private Timestamp getHighWaterMark() throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "SELECT high_water_mark FROM report_refresh_state WHERE cube_name = ?")) {
+            stmt.setString(1, CUBE_NAME);
+            ResultSet rs = stmt.executeQuery();
+            if (rs.next() && rs.getTimestamp("high_water_mark") != null) {
+                return rs.getTimestamp("high_water_mark");
+            }
+        }
+        // No refresh yet: take every order
+        return new Timestamp(0);
+    }
+
+    private void setHighWaterMark(Timestamp mark) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement("""
+            INSERT INTO report_refresh_state (cube_name, high_water_mark) VALUES (?, ?)
+            ON DUPLICATE KEY UPDATE high_water_mark = VALUES(high_water_mark)
+            """)) {
+            stmt.setString(1, CUBE_NAME);
+            stmt.setTimestamp(2, mark);
+            stmt.executeUpdate();
+        }
+    }
+
+    private Timestamp getDatabaseNow() throws SQLException {
+        // Use the server clock, the same one that stamps updated_at. updated_at
+        // has one-second precision, so stop a second short of now: rows stamped
+        // in the current second are picked up by the next refresh.
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT CURRENT_TIMESTAMP - INTERVAL 1 SECOND")) {
+            rs.next();
+            return rs.getTimestamp(1);
+        }
+    }
+
+    private void addFilter(StringBuilder where, List<String> params, String column, String value) {
+        if (value != null) {
+            where.append(" AND ").append(column).append(" = ?");
+            params.add(value);
+        }
+    }
+
+    /**
+     * One key per period that carries its year, e.g. 2026-W05, 2026-02 or
+     * 2026-Q1, so it is both the label and the sort order
+     */
+    private String getGroupByClause(String period) {
+        switch (period.toUpperCase()) {
+            case "DAILY":
+                return "bucket_date";
+            case "WEEKLY":
+                return "CONCAT(YEAR(bucket_date), '-W', LPAD(WEEK(bucket_date), 2, '0'))";
+            case "MONTHLY":
+                return "DATE_FORMAT(bucket_date, '%Y-%m')";
+            case "QUARTERLY":
+                return "CONCAT(YEAR(bucket_date), '-Q', QUARTER(bucket_date))";
+            default:
+                return "bucket_date";
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+package com.mycompany.manufacturing_system;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.Property;
+import javafx.beans.property.StringProperty;
+import java.util.function.Supplier;
+
+/**
+ * Base for table row models whose JavaFX properties are created on first
+ * use. Subclasses keep their values in plain fields or an immutable record
+ * and number their fields; a field's property is created the first time a
+ * cell asks for it and from then on holds that field's value. Rows that are
+ * loaded but never displayed carry no properties.
+ */
+abstract class PropertyRow {
+    // Created on the first xxxProperty() call, one slot per field
+    private Property<?>[] properties;
+
+    /**
+     * Number of fields that can have a property
+     */
+    protected abstract int fieldCount();
+
+    /**
+     * The field's property, or null if none was created yet
+     */
+    protected final Property<?> existing(int field) {
+        return properties != null ? properties[field] : null;
+    }
+
+    /**
+     * The field's property, created with create on first use
+     */
+    @SuppressWarnings("unchecked")
+    protected final <P extends Property<?>> P property(int field, Supplier<P> create) {
+        if (properties == null) {
+            properties = new Property<?>[fieldCount()];
+        }
+        Property<?> property = properties[field];
+        if (property == null) {
+            property = create.get();
+            properties[field] = property;
+        }
+        return (P) property;
+    }
+
+    /**
+     * Set the field's property if it has one. Returns false if it has none
+     * and the plain value must be set instead.
+     */
+    @SuppressWarnings("unchecked")
+    protected final <T> boolean setProperty(int field, T value) {
+        Property<? super T> property = (Property<? super T>) existing(field);
+        if (property == null) {
+            return false;
+        }
+        property.setValue(value);
+        return true;
+    }
+
+    /**
+     * Bring the field's property, if it has one, to value without notifying
+     * listeners when it already holds it
+     */
+    @SuppressWarnings("unchecked")
+    protected final <T> void refreshProperty(int field, T value) {
+        Property<T> property = (Property<T>) existing(field);
+        if (property != null) {
+            ListReconciler.update(property, value);
+        }
+    }
+
+    protected final String getString(int field, String value) {
+        Property<?> property = existing(field);
+        return property != null ? ((StringProperty) property).get() : value;
+    }
+
+    protected final int getInt(int field, int value) {
+        Property<?> property = existing(field);
+        return property != null ? ((IntegerProperty) property).get() : value;
+    }
+
+    protected final double getDouble(int field, double value) {
+        Property<?> property = existing(field);
+        return property != null ? ((DoubleProperty) property).get() : value;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected final <T> T getObject(int field, T value) {
+        Property<?> property = existing(field);
+        return property != null ? ((ObjectProperty<T>) property).get() : value;
+    }
+
+    /**
+     * Number of properties created so far, for footprint measurements
+     */
+    final int createdPropertyCount() {
+        int count = 0;
+        if (properties != null) {
+            for (Property<?> property : properties) {
+                if (property != null) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
\ No newline at end of file
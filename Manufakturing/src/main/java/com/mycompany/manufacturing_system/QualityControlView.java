@@ -12,23 +12,42 @@ import javafx.scene.effect.DropShadow;
 import javafx.animation.FadeTransition;
 import javafx.animation.ScaleTransition;
 import javafx.util.Duration;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.scene.control.cell.PropertyValueFactory;
+import javafx.application.Platform;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executor;
 
 /**
  * Quality Control View for Manufacturing System
  * Provides quality inspection and defect tracking functionality
  */
 public class QualityControlView {
-    private User currentUser;
-    private ObservableList<QualityRecord> qualityRecords;
-    private TableView<QualityRecord> qualityTable;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
-    public QualityControlView(User currentUser) {
+    private User currentUser;
+    private final SessionOperations session;
+    private final Executor loader;
+    private final PagedInspectionList inspections;
+    private TableView<QualityInspection> qualityTable;
+    private ComboBox<String> statusFilter;
+    private Label totalInspectionsLabel;
+    private Label passedLabel;
+    private Label failedLabel;
+    private Label passRateLabel;
+
+    public QualityControlView(User currentUser, SessionOperations session) {
         this.currentUser = currentUser;
-        this.qualityRecords = FXCollections.observableArrayList();
-        initializeData();
+        this.session = session;
+        this.loader = session.qualityLoader();
+        this.inspections = new PagedInspectionList(loader, this::getQualityOps);
+    }
+
+    /**
+     * The session's QualityOperations, opened on first use. Only on the
+     * loader, so the view never blocks the FX thread on connection or table setup.
+     */
+    private QualityOperations getQualityOps() throws java.sql.SQLException {
+        return session.quality();
     }
 
     public VBox getView() {
@@ -48,6 +67,15 @@ public class QualityControlView {
         fadeIn.play();
 
         mainContainer.getChildren().add(contentCard);
+
+        inspections.reload(null);
+        refreshStatistics();
+        // The table is a paged window over the filtered rows, so a change
+        // from another terminal reloads the window rather than patching it
+        DeltaSync.shared().watch(mainContainer, DeltaSync.Table.QUALITY_INSPECTIONS, changed -> {
+            inspections.reload(inspections.getStatusFilter());
+            refreshStatistics();
+        });
         return mainContainer;
     }
 
@@ -113,17 +141,22 @@ public class QualityControlView {
         statsContainer.setAlignment(Pos.CENTER);
         statsContainer.setPadding(new Insets(10));
 
+        totalInspectionsLabel = new Label("...");
+        passedLabel = new Label("...");
+        failedLabel = new Label("...");
+        passRateLabel = new Label("...");
+
         // Statistics cards
-        VBox totalInspections = createStatCard("📊", "Total Inspections", "245", "#3498db");
-        VBox passedItems = createStatCard("✅", "Passed", "198", "#27ae60");
-        VBox failedItems = createStatCard("❌", "Failed", "47", "#e74c3c");
-        VBox passRate = createStatCard("📈", "Pass Rate", "80.8%", "#f39c12");
+        VBox totalInspections = createStatCard("📊", "Total Inspections", totalInspectionsLabel, "#3498db");
+        VBox passedItems = createStatCard("✅", "Passed", passedLabel, "#27ae60");
+        VBox failedItems = createStatCard("❌", "Failed", failedLabel, "#e74c3c");
+        VBox passRate = createStatCard("📈", "Pass Rate", passRateLabel, "#f39c12");
 
         statsContainer.getChildren().addAll(totalInspections, passedItems, failedItems, passRate);
         return statsContainer;
     }
 
-    private VBox createStatCard(String icon, String title, String value, String color) {
+    private VBox createStatCard(String icon, String title, Label valueLabel, String color) {
         VBox card = new VBox(8);
         card.setAlignment(Pos.CENTER);
         card.setPadding(new Insets(20));
@@ -144,11 +177,10 @@ public class QualityControlView {
         titleText.setFont(Font.font("Segoe UI", FontWeight.MEDIUM, 12));
         titleText.setFill(Color.web("#7f8c8d"));
 
-        Text valueText = new Text(value);
-        valueText.setFont(Font.font("Segoe UI", FontWeight.BOLD, 20));
-        valueText.setFill(Color.web(color));
+        valueLabel.setFont(Font.font("Segoe UI", FontWeight.BOLD, 20));
+        valueLabel.setTextFill(Color.web(color));
 
-        card.getChildren().addAll(iconText, titleText, valueText);
+        card.getChildren().addAll(iconText, titleText, valueLabel);
         return card;
     }
 
@@ -223,14 +255,31 @@ public class QualityControlView {
         tableContainer.setPadding(new Insets(10));
 
         // Table title
-        Text tableTitle = new Text("Recent Quality Inspections");
+        Text tableTitle = new Text("Quality Inspections");
         tableTitle.setFont(Font.font("Segoe UI", FontWeight.BOLD, 18));
         tableTitle.setFill(Color.web("#2c3e50"));
 
-        // Create table
+        // Status filter
+        statusFilter = new ComboBox<>();
+        statusFilter.getItems().addAll("All", "PASSED", "FAILED", "PENDING");
+        statusFilter.setValue("All");
+        statusFilter.setOnAction(e -> {
+            String status = statusFilter.getValue();
+            inspections.reload("All".equals(status) ? null : status);
+        });
+
+        HBox titleBar = new HBox(15);
+        titleBar.setAlignment(Pos.CENTER_LEFT);
+        Region spacer = new Region();
+        HBox.setHgrow(spacer, Priority.ALWAYS);
+        titleBar.getChildren().addAll(tableTitle, spacer, new Label("Status:"), statusFilter);
+
+        // Create table; rows are fetched page by page as the table scrolls
         qualityTable = new TableView<>();
-        qualityTable.setItems(qualityRecords);
+        qualityTable.setItems(inspections);
+        qualityTable.setFixedCellSize(28);
         qualityTable.setPrefHeight(300);
+        qualityTable.setPlaceholder(new Label("No inspections found"));
         qualityTable.setStyle("""
             -fx-background-color: white;
             -fx-background-radius: 8;
@@ -238,35 +287,42 @@ public class QualityControlView {
             """);
 
         // Table columns
-        TableColumn<QualityRecord, String> idColumn = new TableColumn<>("Inspection ID");
-        idColumn.setCellValueFactory(new PropertyValueFactory<>("inspectionId"));
+        TableColumn<QualityInspection, String> idColumn = new TableColumn<>("Inspection ID");
+        idColumn.setCellValueFactory(data -> data.getValue().inspectionIdProperty());
         idColumn.setPrefWidth(120);
 
-        TableColumn<QualityRecord, String> productColumn = new TableColumn<>("Product");
-        productColumn.setCellValueFactory(new PropertyValueFactory<>("productName"));
+        TableColumn<QualityInspection, String> productColumn = new TableColumn<>("Product");
+        productColumn.setCellValueFactory(data -> data.getValue().productNameProperty());
         productColumn.setPrefWidth(200);
 
-        TableColumn<QualityRecord, String> inspectorColumn = new TableColumn<>("Inspector");
-        inspectorColumn.setCellValueFactory(new PropertyValueFactory<>("inspector"));
+        TableColumn<QualityInspection, String> inspectorColumn = new TableColumn<>("Inspector");
+        inspectorColumn.setCellValueFactory(data -> data.getValue().inspectorProperty());
         inspectorColumn.setPrefWidth(150);
 
-        TableColumn<QualityRecord, String> statusColumn = new TableColumn<>("Status");
-        statusColumn.setCellValueFactory(new PropertyValueFactory<>("status"));
+        TableColumn<QualityInspection, String> statusColumn = new TableColumn<>("Status");
+        statusColumn.setCellValueFactory(data -> data.getValue().statusProperty());
         statusColumn.setPrefWidth(100);
 
-        TableColumn<QualityRecord, String> dateColumn = new TableColumn<>("Date");
-        dateColumn.setCellValueFactory(new PropertyValueFactory<>("inspectionDate"));
+        TableColumn<QualityInspection, LocalDateTime> dateColumn = new TableColumn<>("Date");
+        dateColumn.setCellValueFactory(data -> data.getValue().inspectionDateProperty());
+        dateColumn.setCellFactory(column -> new TableCell<QualityInspection, LocalDateTime>() {
+            @Override
+            protected void updateItem(LocalDateTime item, boolean empty) {
+                super.updateItem(item, empty);
+                setText(empty || item == null ? null : item.format(DATE_FORMAT));
+            }
+        });
         dateColumn.setPrefWidth(150);
 
-        TableColumn<QualityRecord, String> notesColumn = new TableColumn<>("Notes");
-        notesColumn.setCellValueFactory(new PropertyValueFactory<>("notes"));
+        TableColumn<QualityInspection, String> notesColumn = new TableColumn<>("Notes");
+        notesColumn.setCellValueFactory(data -> data.getValue().notesProperty());
         notesColumn.setPrefWidth(250);
 
         qualityTable.getColumns().addAll(idColumn, productColumn, inspectorColumn, 
                                         statusColumn, dateColumn, notesColumn);
 
         // Style status column
-        statusColumn.setCellFactory(column -> new TableCell<QualityRecord, String>() {
+        statusColumn.setCellFactory(column -> new TableCell<QualityInspection, String>() {
             @Override
             protected void updateItem(String item, boolean empty) {
                 super.updateItem(item, empty);
@@ -286,7 +342,7 @@ public class QualityControlView {
             }
         });
 
-        tableContainer.getChildren().addAll(tableTitle, qualityTable);
+        tableContainer.getChildren().addAll(titleBar, qualityTable);
         return tableContainer;
     }
 
@@ -297,15 +353,23 @@ public class QualityControlView {
         return separator;
     }
 
-    private void initializeData() {
-        // Sample quality records
-        qualityRecords.addAll(
-            new QualityRecord("QC001", "Widget A", "John Smith", "PASSED", "2025-07-10 08:30", "No defects found"),
-            new QualityRecord("QC002", "Widget B", "Jane Doe", "FAILED", "2025-07-10 09:15", "Surface scratches detected"),
-            new QualityRecord("QC003", "Widget C", "Bob Johnson", "PASSED", "2025-07-10 10:00", "All parameters within spec"),
-            new QualityRecord("QC004", "Widget A", "Alice Brown", "PENDING", "2025-07-10 10:45", "Under inspection"),
-            new QualityRecord("QC005", "Widget D", "Charlie Wilson", "FAILED", "2025-07-10 11:30", "Dimensional deviation")
-        );
+    /**
+     * Load the statistics cards in the background
+     */
+    private void refreshStatistics() {
+        loader.execute(() -> {
+            try {
+                QualityStatistics stats = getQualityOps().getQualityStatistics();
+                Platform.runLater(() -> {
+                    totalInspectionsLabel.setText(String.valueOf(stats.getTotalInspections()));
+                    passedLabel.setText(String.valueOf(stats.getPassedInspections()));
+                    failedLabel.setText(String.valueOf(stats.getFailedInspections()));
+                    passRateLabel.setText(String.format("%.1f%%", stats.getQualityRate()));
+                });
+            } catch (Exception e) {
+                System.err.println("Error loading quality statistics: " + e.getMessage());
+            }
+        });
     }
 
     // Action methods
@@ -396,40 +460,4 @@ public class QualityControlView {
             """.formatted(currentUser.getRole()));
         alert.showAndWait();
     }
-
-    // Inner class for Quality Records
-    public static class QualityRecord {
-        private String inspectionId;
-        private String productName;
-        private String inspector;
-        private String status;
-        private String inspectionDate;
-        private String notes;
-
-        public QualityRecord(String inspectionId, String productName, String inspector, 
-                           String status, String inspectionDate, String notes) {
-            this.inspectionId = inspectionId;
-            this.productName = productName;
-            this.inspector = inspector;
-            this.status = status;
-            this.inspectionDate = inspectionDate;
-            this.notes = notes;
-        }
-
-        // Getters
-        public String getInspectionId() { return inspectionId; }
-        public String getProductName() { return productName; }
-        public String getInspector() { return inspector; }
-        public String getStatus() { return status; }
-        public String getInspectionDate() { return inspectionDate; }
-        public String getNotes() { return notes; }
-
-        // Setters
-        public void setInspectionId(String inspectionId) { this.inspectionId = inspectionId; }
-        public void setProductName(String productName) { this.productName = productName; }
-        public void setInspector(String inspector) { this.inspector = inspector; }
-        public void setStatus(String status) { this.status = status; }
-        public void setInspectionDate(String inspectionDate) { this.inspectionDate = inspectionDate; }
-        public void setNotes(String notes) { this.notes = notes; }
-    }
 }
\ No newline at end of file
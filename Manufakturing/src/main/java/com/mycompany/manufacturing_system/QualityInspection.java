@@ -6,104 +6,154 @@ import java.time.format.DateTimeFormatter;
 
 /**
  * Quality Inspection model class
- * Represents a quality inspection record in the manufacturing system
+ * Represents a quality inspection record in the manufacturing system, as a
+ * table row over a QualityInspectionRecord. Properties are created on first
+ * use, see PropertyRow; setters go through the property.
  */
-public class QualityInspection {
-    private final StringProperty inspectionId;
-    private final StringProperty orderId;
-    private final StringProperty productName;
-    private final StringProperty inspectionType;
-    private final StringProperty inspector;
-    private final StringProperty status; // PASSED, FAILED, PENDING
-    private final ObjectProperty<LocalDateTime> inspectionDate;
-    private final StringProperty qualityCriteria;
-    private final StringProperty defectTypes;
-    private final IntegerProperty defectCount;
-    private final StringProperty correctiveActions;
-    private final StringProperty notes;
-    private final DoubleProperty qualityScore;
+public class QualityInspection extends PropertyRow {
+    private static final int INSPECTION_ID = 0;
+    private static final int ORDER_ID = 1;
+    private static final int PRODUCT_NAME = 2;
+    private static final int INSPECTION_TYPE = 3;
+    private static final int INSPECTOR = 4;
+    private static final int STATUS = 5; // PASSED, FAILED, PENDING
+    private static final int INSPECTION_DATE = 6;
+    private static final int QUALITY_CRITERIA = 7;
+    private static final int DEFECT_TYPES = 8;
+    private static final int DEFECT_COUNT = 9;
+    private static final int CORRECTIVE_ACTIONS = 10;
+    private static final int NOTES = 11;
+    private static final int QUALITY_SCORE = 12;
+    private static final int FIELD_COUNT = 13;
+
+    private final QualityInspectionRecord record;
 
     public QualityInspection(String inspectionId, String orderId, String inspectionType, 
                            String inspector, String status) {
-        this.inspectionId = new SimpleStringProperty(inspectionId);
-        this.orderId = new SimpleStringProperty(orderId);
-        this.productName = new SimpleStringProperty("");
-        this.inspectionType = new SimpleStringProperty(inspectionType);
-        this.inspector = new SimpleStringProperty(inspector);
-        this.status = new SimpleStringProperty(status);
-        this.inspectionDate = new SimpleObjectProperty<>(LocalDateTime.now());
-        this.qualityCriteria = new SimpleStringProperty("");
-        this.defectTypes = new SimpleStringProperty("");
-        this.defectCount = new SimpleIntegerProperty(0);
-        this.correctiveActions = new SimpleStringProperty("");
-        this.notes = new SimpleStringProperty("");
-        this.qualityScore = new SimpleDoubleProperty(0.0);
+        this(new QualityInspectionRecord(inspectionId, orderId, "", inspectionType, inspector, status,
+            LocalDateTime.now(), "", "", 0, "", "", 0.0));
+    }
+
+    QualityInspection(QualityInspectionRecord record) {
+        this.record = record;
+    }
+
+    @Override
+    protected int fieldCount() {
+        return FIELD_COUNT;
+    }
+
+    /**
+     * The row's current values
+     */
+    QualityInspectionRecord toRecord() {
+        if (createdPropertyCount() == 0) {
+            return record;
+        }
+        return new QualityInspectionRecord(getInspectionId(), getOrderId(), getProductName(),
+            getInspectionType(), getInspector(), getStatus(), getInspectionDate(), getQualityCriteria(),
+            getDefectTypes(), getDefectCount(), getCorrectiveActions(), getNotes(), getQualityScore());
     }
 
     // Getters
-    public String getInspectionId() { return inspectionId.get(); }
-    public String getOrderId() { return orderId.get(); }
-    public String getProductName() { return productName.get(); }
-    public String getInspectionType() { return inspectionType.get(); }
-    public String getInspector() { return inspector.get(); }
-    public String getStatus() { return status.get(); }
-    public LocalDateTime getInspectionDate() { return inspectionDate.get(); }
-    public String getQualityCriteria() { return qualityCriteria.get(); }
-    public String getDefectTypes() { return defectTypes.get(); }
-    public int getDefectCount() { return defectCount.get(); }
-    public String getCorrectiveActions() { return correctiveActions.get(); }
-    public String getNotes() { return notes.get(); }
-    public double getQualityScore() { return qualityScore.get(); }
-
-    // Property getters for JavaFX TableView
-    public StringProperty inspectionIdProperty() { return inspectionId; }
-    public StringProperty orderIdProperty() { return orderId; }
-    public StringProperty productNameProperty() { return productName; }
-    public StringProperty inspectionTypeProperty() { return inspectionType; }
-    public StringProperty inspectorProperty() { return inspector; }
-    public StringProperty statusProperty() { return status; }
-    public ObjectProperty<LocalDateTime> inspectionDateProperty() { return inspectionDate; }
-    public StringProperty qualityCriteriaProperty() { return qualityCriteria; }
-    public StringProperty defectTypesProperty() { return defectTypes; }
-    public IntegerProperty defectCountProperty() { return defectCount; }
-    public StringProperty correctiveActionsProperty() { return correctiveActions; }
-    public StringProperty notesProperty() { return notes; }
-    public DoubleProperty qualityScoreProperty() { return qualityScore; }
+    public String getInspectionId() { return getString(INSPECTION_ID, record.inspectionId()); }
+    public String getOrderId() { return getString(ORDER_ID, record.orderId()); }
+    public String getProductName() { return getString(PRODUCT_NAME, record.productName()); }
+    public String getInspectionType() { return getString(INSPECTION_TYPE, record.inspectionType()); }
+    public String getInspector() { return getString(INSPECTOR, record.inspector()); }
+    public String getStatus() { return getString(STATUS, record.status()); }
+    public LocalDateTime getInspectionDate() { return getObject(INSPECTION_DATE, record.inspectionDate()); }
+    public String getQualityCriteria() { return getString(QUALITY_CRITERIA, record.qualityCriteria()); }
+    public String getDefectTypes() { return getString(DEFECT_TYPES, record.defectTypes()); }
+    public int getDefectCount() { return getInt(DEFECT_COUNT, record.defectCount()); }
+    public String getCorrectiveActions() { return getString(CORRECTIVE_ACTIONS, record.correctiveActions()); }
+    public String getNotes() { return getString(NOTES, record.notes()); }
+    public double getQualityScore() { return getDouble(QUALITY_SCORE, record.qualityScore()); }
+
+    // Property getters for JavaFX TableView, created on first use
+    public StringProperty inspectionIdProperty() {
+        return property(INSPECTION_ID, () -> new SimpleStringProperty(this, "inspectionId",
+            record.inspectionId()));
+    }
+    public StringProperty orderIdProperty() {
+        return property(ORDER_ID, () -> new SimpleStringProperty(this, "orderId", record.orderId()));
+    }
+    public StringProperty productNameProperty() {
+        return property(PRODUCT_NAME, () -> new SimpleStringProperty(this, "productName",
+            record.productName()));
+    }
+    public StringProperty inspectionTypeProperty() {
+        return property(INSPECTION_TYPE, () -> new SimpleStringProperty(this, "inspectionType",
+            record.inspectionType()));
+    }
+    public StringProperty inspectorProperty() {
+        return property(INSPECTOR, () -> new SimpleStringProperty(this, "inspector", record.inspector()));
+    }
+    public StringProperty statusProperty() {
+        return property(STATUS, () -> new SimpleStringProperty(this, "status", record.status()));
+    }
+    public ObjectProperty<LocalDateTime> inspectionDateProperty() {
+        return property(INSPECTION_DATE, () -> new SimpleObjectProperty<>(this, "inspectionDate",
+            record.inspectionDate()));
+    }
+    public StringProperty qualityCriteriaProperty() {
+        return property(QUALITY_CRITERIA, () -> new SimpleStringProperty(this, "qualityCriteria",
+            record.qualityCriteria()));
+    }
+    public StringProperty defectTypesProperty() {
+        return property(DEFECT_TYPES, () -> new SimpleStringProperty(this, "defectTypes",
+            record.defectTypes()));
+    }
+    public IntegerProperty defectCountProperty() {
+        return property(DEFECT_COUNT, () -> new SimpleIntegerProperty(this, "defectCount",
+            record.defectCount()));
+    }
+    public StringProperty correctiveActionsProperty() {
+        return property(CORRECTIVE_ACTIONS, () -> new SimpleStringProperty(this, "correctiveActions",
+            record.correctiveActions()));
+    }
+    public StringProperty notesProperty() {
+        return property(NOTES, () -> new SimpleStringProperty(this, "notes", record.notes()));
+    }
+    public DoubleProperty qualityScoreProperty() {
+        return property(QUALITY_SCORE, () -> new SimpleDoubleProperty(this, "qualityScore",
+            record.qualityScore()));
+    }
 
     // Setters
-    public void setInspectionId(String inspectionId) { this.inspectionId.set(inspectionId); }
-    public void setOrderId(String orderId) { this.orderId.set(orderId); }
-    public void setProductName(String productName) { this.productName.set(productName); }
-    public void setInspectionType(String inspectionType) { this.inspectionType.set(inspectionType); }
-    public void setInspector(String inspector) { this.inspector.set(inspector); }
-    public void setStatus(String status) { this.status.set(status); }
-    public void setInspectionDate(LocalDateTime inspectionDate) { this.inspectionDate.set(inspectionDate); }
-    public void setQualityCriteria(String qualityCriteria) { this.qualityCriteria.set(qualityCriteria); }
-    public void setDefectTypes(String defectTypes) { this.defectTypes.set(defectTypes); }
-    public void setDefectCount(int defectCount) { this.defectCount.set(defectCount); }
-    public void setCorrectiveActions(String correctiveActions) { this.correctiveActions.set(correctiveActions); }
-    public void setNotes(String notes) { this.notes.set(notes); }
-    public void setQualityScore(double qualityScore) { this.qualityScore.set(qualityScore); }
+    public void setInspectionId(String inspectionId) { inspectionIdProperty().set(inspectionId); }
+    public void setOrderId(String orderId) { orderIdProperty().set(orderId); }
+    public void setProductName(String productName) { productNameProperty().set(productName); }
+    public void setInspectionType(String inspectionType) { inspectionTypeProperty().set(inspectionType); }
+    public void setInspector(String inspector) { inspectorProperty().set(inspector); }
+    public void setStatus(String status) { statusProperty().set(status); }
+    public void setInspectionDate(LocalDateTime inspectionDate) { inspectionDateProperty().set(inspectionDate); }
+    public void setQualityCriteria(String qualityCriteria) { qualityCriteriaProperty().set(qualityCriteria); }
+    public void setDefectTypes(String defectTypes) { defectTypesProperty().set(defectTypes); }
+    public void setDefectCount(int defectCount) { defectCountProperty().set(defectCount); }
+    public void setCorrectiveActions(String correctiveActions) { correctiveActionsProperty().set(correctiveActions); }
+    public void setNotes(String notes) { notesProperty().set(notes); }
+    public void setQualityScore(double qualityScore) { qualityScoreProperty().set(qualityScore); }
 
     // Utility methods
     public String getFormattedInspectionDate() {
-        return inspectionDate.get().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm"));
+        return getInspectionDate().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm"));
     }
 
     public boolean isPassed() {
-        return "PASSED".equals(status.get());
+        return "PASSED".equals(getStatus());
     }
 
     public boolean isFailed() {
-        return "FAILED".equals(status.get());
+        return "FAILED".equals(getStatus());
     }
 
     public boolean isPending() {
-        return "PENDING".equals(status.get());
+        return "PENDING".equals(getStatus());
     }
 
     public String getStatusColor() {
-        switch (status.get()) {
+        switch (getStatus()) {
             case "PASSED": return "#27ae60"; // Green
             case "FAILED": return "#e74c3c"; // Red
             case "PENDING": return "#f39c12"; // Orange
@@ -112,19 +162,19 @@ public class QualityInspection {
     }
 
     public String getInspectionTypeDescription() {
-        switch (inspectionType.get()) {
+        switch (getInspectionType()) {
             case "INCOMING": return "Incoming Material Inspection";
             case "IN_PROCESS": return "In-Process Quality Check";
             case "FINAL": return "Final Product Inspection";
             case "OUTGOING": return "Outgoing Shipment Check";
             case "QUICK_CHECK": return "Quick Quality Check";
-            default: return inspectionType.get();
+            default: return getInspectionType();
         }
     }
 
     @Override
     public String toString() {
         return String.format("Inspection %s: %s [%s] - %s", 
-            inspectionId.get(), orderId.get(), status.get(), inspector.get());
+            getInspectionId(), getOrderId(), getStatus(), getInspector());
     }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.mycompany.manufacturing_system;
+
+import java.time.LocalDateTime;
+
+/**
+ * A quality_inspections row. Immutable; bulk loads use it directly and the
+ * quality table wraps it in a QualityInspection.
+ */
+record QualityInspectionRecord(String inspectionId, String orderId, String productName,
+                               String inspectionType, String inspector, String status,
+                               LocalDateTime inspectionDate, String qualityCriteria, String defectTypes,
+                               int defectCount, String correctiveActions, String notes,
+                               double qualityScore) {
+
+    QualityInspectionRecord {
+        productName = StringPool.dedupe(productName);
+        inspectionType = StringPool.dedupe(inspectionType);
+        inspector = StringPool.dedupe(inspector);
+        status = StringPool.dedupe(status);
+    }
+}
\ No newline at end of file
@@ -16,6 +16,14 @@ public class QualityOperations {
         initializeQualityTables();
     }
 
+    /**
+     * Return this object's connection to the pool
+     */
+    public void close() {
+        DatabaseConnection.releaseConnection(connection);
+        connection = null;
+    }
+
     /**
      * Initialize quality control database tables
      */
@@ -47,6 +55,7 @@ public class QualityOperations {
                 )
                 """;
             stmt.execute(createInspectionsTable);
+            ensurePagingIndex(stmt);
             
             // Create defect_types table
             String createDefectTypesTable = """
@@ -91,6 +100,20 @@ public class QualityOperations {
         }
     }
 
+    /**
+     * Add the (status, inspection_date, inspection_id) index used by paged reads
+     */
+    private void ensurePagingIndex(Statement stmt) {
+        try {
+            stmt.execute("CREATE INDEX idx_status_date ON quality_inspections (status, inspection_date, inspection_id)");
+        } catch (SQLException e) {
+            // 1061 = duplicate key name, the index already exists
+            if (e.getErrorCode() != 1061) {
+                System.err.println("Failed to create paging index: " + e.getMessage());
+            }
+        }
+    }
+
     private void insertDefaultDefectTypes(Statement stmt) throws SQLException {
         String insertDefectTypes = """
             INSERT IGNORE INTO defect_types (defect_name, defect_category, severity, description) VALUES
@@ -110,30 +133,38 @@ public class QualityOperations {
      * Create a new quality inspection
      */
     public boolean createInspection(QualityInspection inspection) {
+        return createInspection(inspection.toRecord());
+    }
+
+    public boolean createInspection(QualityInspectionRecord inspection) {
         String query = """
-            INSERT INTO quality_inspections 
-            (inspection_id, order_id, product_name, inspection_type, inspector, 
-             status, inspection_date, quality_criteria, defect_types, defect_count, 
-             corrective_actions, notes, quality_score) 
+            INSERT INTO quality_inspections
+            (inspection_id, order_id, product_name, inspection_type, inspector,
+             status, inspection_date, quality_criteria, defect_types, defect_count,
+             corrective_actions, notes, quality_score)
             VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
             """;
             
         try (PreparedStatement stmt = connection.prepareStatement(query)) {
-            stmt.setString(1, inspection.getInspectionId());
-            stmt.setString(2, inspection.getOrderId());
-            stmt.setString(3, inspection.getProductName());
-            stmt.setString(4, inspection.getInspectionType());
-            stmt.setString(5, inspection.getInspector());
-            stmt.setString(6, inspection.getStatus());
-            stmt.setString(7, inspection.getInspectionDate().format(formatter));
-            stmt.setString(8, inspection.getQualityCriteria());
-            stmt.setString(9, inspection.getDefectTypes());
-            stmt.setInt(10, inspection.getDefectCount());
-            stmt.setString(11, inspection.getCorrectiveActions());
-            stmt.setString(12, inspection.getNotes());
-            stmt.setDouble(13, inspection.getQualityScore());
-            
-            return stmt.executeUpdate() > 0;
+            stmt.setString(1, inspection.inspectionId());
+            stmt.setString(2, inspection.orderId());
+            stmt.setString(3, inspection.productName());
+            stmt.setString(4, inspection.inspectionType());
+            stmt.setString(5, inspection.inspector());
+            stmt.setString(6, inspection.status());
+            stmt.setString(7, inspection.inspectionDate().format(formatter));
+            stmt.setString(8, inspection.qualityCriteria());
+            stmt.setString(9, inspection.defectTypes());
+            stmt.setInt(10, inspection.defectCount());
+            stmt.setString(11, inspection.correctiveActions());
+            stmt.setString(12, inspection.notes());
+            stmt.setDouble(13, inspection.qualityScore());
+            
+            boolean updated = stmt.executeUpdate() > 0;
+            if (updated) {
+                ReportCache.shared().invalidate(ReportCache.Source.INSPECTIONS, inspection.inspectionDate().toLocalDate());
+            }
+            return updated;
             
         } catch (SQLException e) {
             System.err.println("Error creating inspection: " + e.getMessage());
@@ -147,8 +178,8 @@ public class QualityOperations {
      */
     public boolean updateInspectionStatus(String inspectionId, String status, String notes) {
         String query = """
-            UPDATE quality_inspections SET 
-            status = ?, 
+            UPDATE quality_inspections SET
+            status = ?,
             notes = ?,
             updated_at = CURRENT_TIMESTAMP
             WHERE inspection_id = ?
@@ -159,7 +190,11 @@ public class QualityOperations {
             stmt.setString(2, notes);
             stmt.setString(3, inspectionId);
             
-            return stmt.executeUpdate() > 0;
+            boolean updated = stmt.executeUpdate() > 0;
+            if (updated) {
+                ReportCache.shared().invalidate(ReportCache.Source.INSPECTIONS);
+            }
+            return updated;
             
         } catch (SQLException e) {
             System.err.println("Error updating inspection: " + e.getMessage());
@@ -172,7 +207,19 @@ public class QualityOperations {
      * Get all quality inspections
      */
     public List<QualityInspection> getAllInspections() {
-        List<QualityInspection> inspections = new ArrayList<>();
+        List<QualityInspectionRecord> records = getAllInspectionRecords();
+        List<QualityInspection> inspections = new ArrayList<>(records.size());
+        for (QualityInspectionRecord record : records) {
+            inspections.add(new QualityInspection(record));
+        }
+        return inspections;
+    }
+
+    /**
+     * Get all quality inspections as records, for bulk work such as reports and exports
+     */
+    public List<QualityInspectionRecord> getAllInspectionRecords() {
+        List<QualityInspectionRecord> inspections = new ArrayList<>();
         String query = """
             SELECT qi.*, po.product_name
             FROM quality_inspections qi
@@ -184,24 +231,7 @@ public class QualityOperations {
              ResultSet rs = stmt.executeQuery(query)) {
             
             while (rs.next()) {
-                QualityInspection inspection = new QualityInspection(
-                    rs.getString("inspection_id"),
-                    rs.getString("order_id"),
-                    rs.getString("inspection_type"),
-                    rs.getString("inspector"),
-                    rs.getString("status")
-                );
-                
-                inspection.setProductName(rs.getString("product_name"));
-                inspection.setInspectionDate(LocalDateTime.parse(rs.getString("inspection_date"), formatter));
-                inspection.setQualityCriteria(rs.getString("quality_criteria"));
-                inspection.setDefectTypes(rs.getString("defect_types"));
-                inspection.setDefectCount(rs.getInt("defect_count"));
-                inspection.setCorrectiveActions(rs.getString("corrective_actions"));
-                inspection.setNotes(rs.getString("notes"));
-                inspection.setQualityScore(rs.getDouble("quality_score"));
-                
-                inspections.add(inspection);
+                inspections.add(readInspection(rs));
             }
             
         } catch (SQLException e) {
@@ -230,24 +260,7 @@ public class QualityOperations {
             ResultSet rs = stmt.executeQuery();
             
             while (rs.next()) {
-                QualityInspection inspection = new QualityInspection(
-                    rs.getString("inspection_id"),
-                    rs.getString("order_id"),
-                    rs.getString("inspection_type"),
-                    rs.getString("inspector"),
-                    rs.getString("status")
-                );
-                
-                inspection.setProductName(rs.getString("product_name"));
-                inspection.setInspectionDate(LocalDateTime.parse(rs.getString("inspection_date"), formatter));
-                inspection.setQualityCriteria(rs.getString("quality_criteria"));
-                inspection.setDefectTypes(rs.getString("defect_types"));
-                inspection.setDefectCount(rs.getInt("defect_count"));
-                inspection.setCorrectiveActions(rs.getString("corrective_actions"));
-                inspection.setNotes(rs.getString("notes"));
-                inspection.setQualityScore(rs.getDouble("quality_score"));
-                
-                inspections.add(inspection);
+                inspections.add(mapInspection(rs));
             }
             
         } catch (SQLException e) {
@@ -264,7 +277,7 @@ public class QualityOperations {
     public List<QualityMetric> getQualityMetrics(LocalDateTime startDate, LocalDateTime endDate) {
         List<QualityMetric> metrics = new ArrayList<>();
         String query = """
-            SELECT 
+            SELECT
                 DATE(inspection_date) as metric_date,
                 COUNT(*) as total_inspections,
                 SUM(CASE WHEN status = 'PASSED' THEN 1 ELSE 0 END) as passed_inspections,
@@ -305,7 +318,7 @@ public class QualityOperations {
      */
     public boolean recordDefect(String inspectionId, String defectType, int count, String description) {
         String query = """
-            UPDATE quality_inspections SET 
+            UPDATE quality_inspections SET
             defect_types = CONCAT(IFNULL(defect_types, ''), ?, '; '),
             defect_count = defect_count + ?,
             notes = CONCAT(IFNULL(notes, ''), 'Defect: ', ?, ' (Count: ', ?, ') - ', ?, '\n'),
@@ -322,7 +335,11 @@ public class QualityOperations {
             stmt.setString(5, description);
             stmt.setString(6, inspectionId);
             
-            return stmt.executeUpdate() > 0;
+            boolean updated = stmt.executeUpdate() > 0;
+            if (updated) {
+                ReportCache.shared().invalidate(ReportCache.Source.INSPECTIONS);
+            }
+            return updated;
             
         } catch (SQLException e) {
             System.err.println("Error recording defect: " + e.getMessage());
@@ -365,7 +382,7 @@ public class QualityOperations {
      */
     public double calculateFirstPassYield(LocalDateTime startDate, LocalDateTime endDate) {
         String query = """
-            SELECT 
+            SELECT
                 COUNT(*) as total_orders,
                 SUM(CASE WHEN first_inspection.status = 'PASSED' THEN 1 ELSE 0 END) as first_pass_count
             FROM (
@@ -374,8 +391,8 @@ public class QualityOperations {
                 WHERE inspection_date BETWEEN ? AND ?
                 GROUP BY order_id
             ) first_orders
-            JOIN quality_inspections first_inspection ON 
-                first_orders.order_id = first_inspection.order_id AND 
+            JOIN quality_inspections first_inspection ON
+                first_orders.order_id = first_inspection.order_id AND
                 first_orders.first_inspection_date = first_inspection.inspection_date
             """;
         
@@ -417,24 +434,7 @@ public class QualityOperations {
             ResultSet rs = stmt.executeQuery();
             
             if (rs.next()) {
-                QualityInspection inspection = new QualityInspection(
-                    rs.getString("inspection_id"),
-                    rs.getString("order_id"),
-                    rs.getString("inspection_type"),
-                    rs.getString("inspector"),
-                    rs.getString("status")
-                );
-                
-                inspection.setProductName(rs.getString("product_name"));
-                inspection.setInspectionDate(LocalDateTime.parse(rs.getString("inspection_date"), formatter));
-                inspection.setQualityCriteria(rs.getString("quality_criteria"));
-                inspection.setDefectTypes(rs.getString("defect_types"));
-                inspection.setDefectCount(rs.getInt("defect_count"));
-                inspection.setCorrectiveActions(rs.getString("corrective_actions"));
-                inspection.setNotes(rs.getString("notes"));
-                inspection.setQualityScore(rs.getDouble("quality_score"));
-                
-                return inspection;
+                return mapInspection(rs);
             }
             
         } catch (SQLException e) {
@@ -453,7 +453,11 @@ public class QualityOperations {
         
         try (PreparedStatement stmt = connection.prepareStatement(query)) {
             stmt.setString(1, inspectionId);
-            return stmt.executeUpdate() > 0;
+            boolean updated = stmt.executeUpdate() > 0;
+            if (updated) {
+                ReportCache.shared().invalidate(ReportCache.Source.INSPECTIONS);
+            }
+            return updated;
             
         } catch (SQLException e) {
             System.err.println("Error deleting inspection: " + e.getMessage());
@@ -502,24 +506,7 @@ public class QualityOperations {
             ResultSet rs = stmt.executeQuery();
             
             while (rs.next()) {
-                QualityInspection inspection = new QualityInspection(
-                    rs.getString("inspection_id"),
-                    rs.getString("order_id"),
-                    rs.getString("inspection_type"),
-                    rs.getString("inspector"),
-                    rs.getString("status")
-                );
-                
-                inspection.setProductName(rs.getString("product_name"));
-                inspection.setInspectionDate(LocalDateTime.parse(rs.getString("inspection_date"), formatter));
-                inspection.setQualityCriteria(rs.getString("quality_criteria"));
-                inspection.setDefectTypes(rs.getString("defect_types"));
-                inspection.setDefectCount(rs.getInt("defect_count"));
-                inspection.setCorrectiveActions(rs.getString("corrective_actions"));
-                inspection.setNotes(rs.getString("notes"));
-                inspection.setQualityScore(rs.getDouble("quality_score"));
-                
-                inspections.add(inspection);
+                inspections.add(mapInspection(rs));
             }
             
         } catch (SQLException e) {
@@ -530,6 +517,128 @@ public class QualityOperations {
         return inspections;
     }
 
+    /**
+     * Count inspections, optionally restricted to one status (null for all)
+     */
+    public int countInspections(String status) {
+        String query = status == null
+            ? "SELECT COUNT(*) FROM quality_inspections"
+            : "SELECT COUNT(*) FROM quality_inspections WHERE status = ?";
+
+        try (PreparedStatement stmt = connection.prepareStatement(query)) {
+            if (status != null) {
+                stmt.setString(1, status);
+            }
+            ResultSet rs = stmt.executeQuery();
+
+            if (rs.next()) {
+                return rs.getInt(1);
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error counting inspections: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return 0;
+    }
+
+    /**
+     * Get one page of inspections, in the same order as getAllInspections
+     * and getInspectionsByStatus (status null for all inspections).
+     * The offset is walked over the ids in the (status, date, id) index, or
+     * the date index, which holds the id; only the page's own rows are read
+     * and joined.
+     */
+    public List<QualityInspection> getInspectionsPage(String status, int offset, int limit) throws SQLException {
+        return readInspectionsPage(status, null, offset, limit);
+    }
+
+    /**
+     * Get the page of inspections that follows after, the last row of the
+     * page before it. Seeks straight to the row in the index, so it costs
+     * the same however deep the page is.
+     */
+    public List<QualityInspection> getInspectionsPageAfter(String status, QualityInspection after, int limit)
+            throws SQLException {
+        return readInspectionsPage(status, after, 0, limit);
+    }
+
+    private List<QualityInspection> readInspectionsPage(String status, QualityInspection after,
+                                                        int offset, int limit) throws SQLException {
+        List<QualityInspection> inspections = new ArrayList<>(limit);
+        List<String> conditions = new ArrayList<>();
+        if (status != null) {
+            conditions.add("status = ?");
+        }
+        if (after != null) {
+            conditions.add("(inspection_date < ? OR (inspection_date = ? AND inspection_id < ?))");
+        }
+        String query = """
+            SELECT qi.*, po.product_name
+            FROM (
+                SELECT inspection_id
+                FROM quality_inspections
+                %s
+                ORDER BY inspection_date DESC, inspection_id DESC
+                LIMIT ? OFFSET ?
+            ) page
+            JOIN quality_inspections qi ON qi.inspection_id = page.inspection_id
+            LEFT JOIN production_orders po ON qi.order_id = po.order_id
+            ORDER BY qi.inspection_date DESC, qi.inspection_id DESC
+            """.formatted(conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions));
+
+        try (PreparedStatement stmt = connection.prepareStatement(query)) {
+            int index = 1;
+            if (status != null) {
+                stmt.setString(index++, status);
+            }
+            if (after != null) {
+                String afterDate = after.getInspectionDate().format(formatter);
+                stmt.setString(index++, afterDate);
+                stmt.setString(index++, afterDate);
+                stmt.setString(index++, after.getInspectionId());
+            }
+            stmt.setInt(index++, limit);
+            stmt.setInt(index, offset);
+            ResultSet rs = stmt.executeQuery();
+
+            while (rs.next()) {
+                inspections.add(mapInspection(rs));
+            }
+        }
+
+        return inspections;
+    }
+
+    /**
+     * Build a QualityInspection from the current result set row
+     */
+    static QualityInspection mapInspection(ResultSet rs) throws SQLException {
+        return new QualityInspection(readInspection(rs));
+    }
+
+    /**
+     * Read the current result set row
+     */
+    static QualityInspectionRecord readInspection(ResultSet rs) throws SQLException {
+        return new QualityInspectionRecord(
+            rs.getString("inspection_id"),
+            rs.getString("order_id"),
+            rs.getString("product_name"),
+            rs.getString("inspection_type"),
+            rs.getString("inspector"),
+            rs.getString("status"),
+            LocalDateTime.parse(rs.getString("inspection_date"), formatter),
+            rs.getString("quality_criteria"),
+            rs.getString("defect_types"),
+            rs.getInt("defect_count"),
+            rs.getString("corrective_actions"),
+            rs.getString("notes"),
+            rs.getDouble("quality_score")
+        );
+    }
+
     /**
      * Get quality statistics
      */
@@ -545,8 +654,8 @@ public class QualityOperations {
             
             // Inspections by status
             rs = stmt.executeQuery("""
-                SELECT status, COUNT(*) as count 
-                FROM quality_inspections 
+                SELECT status, COUNT(*) as count
+                FROM quality_inspections
                 GROUP BY status
                 """);
             while (rs.next()) {
@@ -588,24 +697,7 @@ public class QualityOperations {
             ResultSet rs = stmt.executeQuery();
             
             while (rs.next()) {
-                QualityInspection inspection = new QualityInspection(
-                    rs.getString("inspection_id"),
-                    rs.getString("order_id"),
-                    rs.getString("inspection_type"),
-                    rs.getString("inspector"),
-                    rs.getString("status")
-                );
-                
-                inspection.setProductName(rs.getString("product_name"));
-                inspection.setInspectionDate(LocalDateTime.parse(rs.getString("inspection_date"), formatter));
-                inspection.setQualityCriteria(rs.getString("quality_criteria"));
-                inspection.setDefectTypes(rs.getString("defect_types"));
-                inspection.setDefectCount(rs.getInt("defect_count"));
-                inspection.setCorrectiveActions(rs.getString("corrective_actions"));
-                inspection.setNotes(rs.getString("notes"));
-                inspection.setQualityScore(rs.getDouble("quality_score"));
-                
-                inspections.add(inspection);
+                inspections.add(mapInspection(rs));
             }
             
         } catch (SQLException e) {
@@ -682,39 +774,4 @@ class DefectType {
     public String toString() {
         return defectName + " (" + severity + ")";
     }
-}
-
-/**
- * Quality Statistics helper class
- */
-class QualityStatistics {
-    private int totalInspections;
-    private int passedInspections;
-    private int failedInspections;
-    private int pendingInspections;
-    private double qualityRate;
-
-    // Getters and Setters
-    public int getTotalInspections() { return totalInspections; }
-    public void setTotalInspections(int totalInspections) { this.totalInspections = totalInspections; }
-
-    public int getPassedInspections() { return passedInspections; }
-    public void setPassedInspections(int passedInspections) { this.passedInspections = passedInspections; }
-
-    public int getFailedInspections() { return failedInspections; }
-    public void setFailedInspections(int failedInspections) { this.failedInspections = failedInspections; }
-
-    public int getPendingInspections() { return pendingInspections; }
-    public void setPendingInspections(int pendingInspections) { this.pendingInspections = pendingInspections; }
-
-    public double getQualityRate() { return qualityRate; }
-    public void setQualityRate(double qualityRate) { this.qualityRate = qualityRate; }
-
-    public void calculateQualityRate() {
-        if (totalInspections > 0) {
-            this.qualityRate = ((double) passedInspections / totalInspections) * 100.0;
-        } else {
-            this.qualityRate = 0.0;
-        }
-    }
 }
\ No newline at end of file
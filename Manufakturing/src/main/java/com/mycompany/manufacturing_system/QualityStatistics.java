@@ -0,0 +1,36 @@
+package com.mycompany.manufacturing_system;
+
+/**
+ * Quality Statistics helper class
+ */
+class QualityStatistics {
+    private int totalInspections;
+    private int passedInspections;
+    private int failedInspections;
+    private int pendingInspections;
+    private double qualityRate;
+
+    // Getters and Setters
+    public int getTotalInspections() { return totalInspections; }
+    public void setTotalInspections(int totalInspections) { this.totalInspections = totalInspections; }
+
+    public int getPassedInspections() { return passedInspections; }
+    public void setPassedInspections(int passedInspections) { this.passedInspections = passedInspections; }
+
+    public int getFailedInspections() { return failedInspections; }
+    public void setFailedInspections(int failedInspections) { this.failedInspections = failedInspections; }
+
+    public int getPendingInspections() { return pendingInspections; }
+    public void setPendingInspections(int pendingInspections) { this.pendingInspections = pendingInspections; }
+
+    public double getQualityRate() { return qualityRate; }
+    public void setQualityRate(double qualityRate) { this.qualityRate = qualityRate; }
+
+    public void calculateQualityRate() {
+        if (totalInspections > 0) {
+            this.qualityRate = ((double) passedInspections / totalInspections) * 100.0;
+        } else {
+            this.qualityRate = 0.0;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.mycompany.manufacturing_system;
+
+/**
+ * Quality Summary data class
+ */
+class QualitySummary extends ReportData {
+    private int totalInspections;
+    private int passedInspections;
+    private int failedInspections;
+    private int pendingInspections;
+    private int totalDefects;
+    private double averageQualityScore;
+    private double passRate;
+    private double defectRate;
+
+    public void calculateRates() {
+        if (totalInspections > 0) {
+            passRate = (double) passedInspections / totalInspections * 100;
+            defectRate = (double) failedInspections / totalInspections * 100;
+        }
+    }
+
+    // Getters and Setters
+    public int getTotalInspections() { return totalInspections; }
+    public void setTotalInspections(int totalInspections) { this.totalInspections = totalInspections; }
+
+    public int getPassedInspections() { return passedInspections; }
+    public void setPassedInspections(int passedInspections) { this.passedInspections = passedInspections; }
+
+    public int getFailedInspections() { return failedInspections; }
+    public void setFailedInspections(int failedInspections) { this.failedInspections = failedInspections; }
+
+    public int getPendingInspections() { return pendingInspections; }
+    public void setPendingInspections(int pendingInspections) { this.pendingInspections = pendingInspections; }
+
+    public int getTotalDefects() { return totalDefects; }
+    public void setTotalDefects(int totalDefects) { this.totalDefects = totalDefects; }
+
+    public double getAverageQualityScore() { return averageQualityScore; }
+    public void setAverageQualityScore(double averageQualityScore) { this.averageQualityScore = averageQualityScore; }
+
+    public double getPassRate() { return passRate; }
+    public double getDefectRate() { return defectRate; }
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.mycompany.manufacturing_system;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Materialized custom query result: one shared column header and an
+ * Object[] per row, in column order
+ */
+class QueryResult {
+    private final String[] columns;
+    private final List<Object[]> rows;
+    private final boolean truncated;
+
+    QueryResult(String[] columns, List<Object[]> rows, boolean truncated) {
+        this.columns = columns;
+        this.rows = rows;
+        this.truncated = truncated;
+    }
+
+    static QueryResult empty() {
+        return new QueryResult(new String[0], new ArrayList<>(), false);
+    }
+
+    public String[] getColumns() { return columns.clone(); }
+    public int getColumnCount() { return columns.length; }
+    public List<Object[]> getRows() { return Collections.unmodifiableList(rows); }
+    public int getRowCount() { return rows.size(); }
+
+    // True when the row limit cut the result short
+    public boolean isTruncated() { return truncated; }
+
+    public int getColumnIndex(String column) {
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i].equalsIgnoreCase(column)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public Object getValue(int row, String column) {
+        int index = getColumnIndex(column);
+        return index >= 0 ? rows.get(row)[index] : null;
+    }
+}
\ No newline at end of file
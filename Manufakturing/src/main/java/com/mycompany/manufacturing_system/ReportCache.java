@@ -0,0 +1,256 @@
+package com.mycompany.manufacturing_system;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, time-limited cache for ReportsOperations results.
+ * Entries are keyed by report type and date range. Concurrent requests for
+ * the same key share a single query (single-flight), and writes to orders,
+ * inspections or inventory invalidate the entries whose range they touch.
+ * Production reports are written outside the application, so their entries
+ * only expire. The cached result itself is never handed out: every caller
+ * gets its own copy of the lists, maps and ReportData objects in it.
+ */
+public class ReportCache {
+
+    /**
+     * The table family a report reads from, used for invalidation
+     */
+    public enum Source { ORDERS, INSPECTIONS, INVENTORY, PRODUCTION_REPORTS }
+
+    /**
+     * A report query that may fail with a database error
+     */
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load() throws SQLException;
+    }
+
+    private static final long DEFAULT_TTL_MILLIS =
+        Long.getLong("report.cache.ttlSeconds", 300) * 1000;
+    private static final int DEFAULT_MAX_ENTRIES =
+        Integer.getInteger("report.cache.maxEntries", 200);
+
+    private static final ReportCache SHARED = new ReportCache(DEFAULT_TTL_MILLIS, DEFAULT_MAX_ENTRIES);
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong loadNanos = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ReportCache(long ttlMillis, int maxEntries) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * The cache shared by every ReportsOperations instance
+     */
+    public static ReportCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Return the cached result for this report and range, loading it once if absent.
+     * Callers that arrive while a load is in flight wait for that same load.
+     *
+     * @param variant extra key part such as the trend period, or null
+     * @param start   first day of the range, or null for undated reports
+     * @param end     last day of the range, or null for undated reports
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Source source, String report, String variant,
+                     LocalDate start, LocalDate end, Loader<T> loader) throws SQLException {
+        Key key = new Key(source, report, variant, start, end);
+        long now = System.currentTimeMillis();
+        boolean[] owner = {false};
+
+        Entry entry = entries.compute(key, (k, current) -> {
+            if (current != null && !current.isExpired(now, ttlMillis)) {
+                return current;
+            }
+            owner[0] = true;
+            return new Entry(now);
+        });
+        entry.lastAccess = now;
+
+        if (owner[0]) {
+            misses.incrementAndGet();
+            evictIfNeeded();
+            long begin = System.nanoTime();
+            try {
+                entry.result.complete(loader.load());
+            } catch (SQLException | RuntimeException e) {
+                // Never cache failures; waiting callers see the same error
+                entries.remove(key, entry);
+                entry.result.completeExceptionally(e);
+            } finally {
+                loadNanos.addAndGet(System.nanoTime() - begin);
+            }
+        } else {
+            hits.incrementAndGet();
+        }
+
+        try {
+            return (T) copyOf(entry.result.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for report " + report, e);
+        } catch (CancellationException e) {
+            throw new SQLException("Report load cancelled: " + report, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new SQLException("Failed to load report " + report, cause);
+        }
+    }
+
+    /**
+     * Drop every entry of this source whose range contains the given day,
+     * plus the undated entries of that source
+     */
+    public void invalidate(Source source, LocalDate day) {
+        if (day == null) {
+            invalidate(source);
+            return;
+        }
+        entries.keySet().removeIf(key -> {
+            boolean touched = key.source == source && key.covers(day);
+            if (touched) {
+                invalidations.incrementAndGet();
+            }
+            return touched;
+        });
+    }
+
+    /**
+     * Drop every entry of this source, used when the affected date is unknown
+     */
+    public void invalidate(Source source) {
+        entries.keySet().removeIf(key -> {
+            boolean touched = key.source == source;
+            if (touched) {
+                invalidations.incrementAndGet();
+            }
+            return touched;
+        });
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    // Tuning statistics
+    public long getHitCount() { return hits.get(); }
+    public long getMissCount() { return misses.get(); }
+    public long getEvictionCount() { return evictions.get(); }
+    public long getInvalidationCount() { return invalidations.get(); }
+    public int size() { return entries.size(); }
+
+    public double getHitRatio() {
+        long total = hits.get() + misses.get();
+        return total > 0 ? (double) hits.get() / total : 0.0;
+    }
+
+    public double getAverageLoadMillis() {
+        long loads = misses.get();
+        return loads > 0 ? loadNanos.get() / 1_000_000.0 / loads : 0.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ReportCache[size=%d, hitRatio=%.1f%%, hits=%d, misses=%d, avgLoad=%.1fms, evictions=%d, invalidations=%d]",
+            size(), getHitRatio() * 100, getHitCount(), getMissCount(),
+            getAverageLoadMillis(), getEvictionCount(), getInvalidationCount());
+    }
+
+    /**
+     * A copy of a cached result the caller may sort or change. Other values
+     * in results, such as strings and numbers, are immutable.
+     */
+    private static Object copyOf(Object value) {
+        if (value instanceof ReportData data) {
+            return data.copy();
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object element : list) {
+                copy.add(copyOf(element));
+            }
+            return copy;
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> element : map.entrySet()) {
+                copy.put(element.getKey(), copyOf(element.getValue()));
+            }
+            return copy;
+        }
+        return value;
+    }
+
+    /**
+     * Remove the least recently used entries once the cache is over its bound
+     */
+    private void evictIfNeeded() {
+        while (entries.size() > maxEntries) {
+            Key oldest = null;
+            long oldestAccess = Long.MAX_VALUE;
+            for (Map.Entry<Key, Entry> candidate : entries.entrySet()) {
+                if (candidate.getValue().lastAccess < oldestAccess) {
+                    oldestAccess = candidate.getValue().lastAccess;
+                    oldest = candidate.getKey();
+                }
+            }
+            if (oldest == null || entries.remove(oldest) == null) {
+                return;
+            }
+            evictions.incrementAndGet();
+        }
+    }
+
+    private record Key(Source source, String report, String variant, LocalDate start, LocalDate end) {
+        boolean covers(LocalDate day) {
+            if (start == null || end == null) {
+                return true;
+            }
+            return !day.isBefore(start) && !day.isAfter(end);
+        }
+    }
+
+    private static final class Entry {
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        final long createdAt;
+        volatile long lastAccess;
+
+        Entry(long createdAt) {
+            this.createdAt = createdAt;
+            this.lastAccess = createdAt;
+        }
+
+        boolean isExpired(long now, long ttlMillis) {
+            // An in-flight load never expires; callers join it instead
+            return result.isDone() && now - createdAt > ttlMillis;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.mycompany.manufacturing_system;
+
+/**
+ * Base for report result classes, which have setters. ReportCache hands
+ * every caller its own copy, so one caller's changes never show up in what
+ * another caller gets. Subclasses holding mutable objects copy those too.
+ */
+abstract class ReportData implements Cloneable {
+
+    /**
+     * A field-by-field copy
+     */
+    ReportData copy() {
+        try {
+            return (ReportData) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
\ No newline at end of file
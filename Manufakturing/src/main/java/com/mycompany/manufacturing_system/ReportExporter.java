@@ -0,0 +1,313 @@
+package com.mycompany.manufacturing_system;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.function.BooleanSupplier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Streams report datasets from ReportsOperations straight to CSV or XLSX files.
+ * Rows are written as they arrive from the database and flushed in fixed
+ * windows, so heap use does not grow with the size of the export. The file is
+ * written to a temporary sibling and only moved into place when complete.
+ */
+public class ReportExporter {
+
+    public enum Format {
+        CSV, XLSX;
+
+        public static Format forFile(Path file) {
+            String name = file.getFileName().toString().toLowerCase();
+            return name.endsWith(".csv") ? CSV : XLSX;
+        }
+    }
+
+    /**
+     * Notified every flush window; totalRows is -1 when the count is unknown
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(long rowsWritten, long totalRows);
+    }
+
+    static final int FLUSH_WINDOW = 1000;
+
+    private final ReportsOperations reportsOps;
+
+    public ReportExporter(ReportsOperations reportsOps) {
+        this.reportsOps = reportsOps;
+    }
+
+    /**
+     * Export a dataset for the date range to the target file.
+     * Returns the number of data rows written.
+     */
+    public long export(ReportsOperations.ExportDataset dataset, LocalDate startDate, LocalDate endDate,
+                       Path target, ProgressListener progress, BooleanSupplier cancelled)
+            throws SQLException, IOException {
+        long totalRows = reportsOps.countDatasetRows(dataset, startDate, endDate);
+        progress.onProgress(0, totalRows);
+
+        Path dir = target.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(dir, ".export-", ".tmp");
+        boolean complete = false;
+
+        try {
+            long rows;
+            try (OutputStream out = Files.newOutputStream(temp);
+                 ExportWriter writer = Format.forFile(target) == Format.CSV
+                     ? new CsvExportWriter(out)
+                     : new XlsxExportWriter(out)) {
+
+                rows = reportsOps.streamDataset(dataset, startDate, endDate,
+                    new ReportsOperations.RowHandler() {
+                        private long written;
+
+                        @Override
+                        public void header(String[] columns) throws IOException {
+                            writer.header(columns);
+                        }
+
+                        @Override
+                        public void row(Object[] values) throws IOException {
+                            writer.row(values);
+                            if (++written % FLUSH_WINDOW == 0) {
+                                writer.flush();
+                                progress.onProgress(written, totalRows);
+                            }
+                        }
+                    }, cancelled);
+            }
+
+            ExportWriter.moveIntoPlace(temp, target);
+            complete = true;
+            progress.onProgress(rows, rows);
+            return rows;
+
+        } finally {
+            if (!complete) {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+}
+
+/**
+ * RFC 4180 CSV, UTF-8
+ */
+class CsvExportWriter extends ExportWriter {
+    private final Writer writer;
+
+    CsvExportWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    @Override
+    void header(String[] columns) throws IOException {
+        row(columns);
+    }
+
+    @Override
+    void row(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(formatValue(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeField(String field) throws IOException {
+        boolean quote = field.indexOf(',') >= 0 || field.indexOf('"') >= 0
+            || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(field);
+            return;
+        }
+        writer.write('"');
+        writer.write(field.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    @Override
+    void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
+
+/**
+ * Minimal streaming SpreadsheetML (.xlsx) writer.
+ * Each worksheet is written as one zip entry while rows arrive, using inline
+ * strings so no shared-string table has to be held in memory. The workbook
+ * parts that list the sheets are written last, once the sheet count is known.
+ * A new sheet is started whenever Excel's row limit is reached.
+ */
+class XlsxExportWriter extends ExportWriter {
+    private static final int MAX_ROWS_PER_SHEET = 1_048_576;
+
+    private final ZipOutputStream zip;
+    private final Writer writer;
+    private String[] columns;
+    private int sheetCount;
+    private int sheetRows;
+
+    XlsxExportWriter(OutputStream out) {
+        this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        this.writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    @Override
+    void header(String[] columns) throws IOException {
+        this.columns = columns.clone();
+        startSheet();
+    }
+
+    @Override
+    void row(Object[] values) throws IOException {
+        if (sheetRows >= MAX_ROWS_PER_SHEET) {
+            endSheet();
+            startSheet();
+        }
+        writeRow(values);
+    }
+
+    private void startSheet() throws IOException {
+        sheetCount++;
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet" + sheetCount + ".xml"));
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n");
+        writer.write("<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>");
+        sheetRows = 0;
+        writeRow(columns);
+    }
+
+    private void endSheet() throws IOException {
+        writer.write("</sheetData></worksheet>");
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    private void writeRow(Object[] values) throws IOException {
+        writer.write("<row>");
+        for (Object value : values) {
+            if (value == null) {
+                writer.write("<c/>");
+            } else if (value instanceof Number number && isFinite(number)) {
+                writer.write("<c><v>");
+                writer.write(formatValue(number));
+                writer.write("</v></c>");
+            } else if (value instanceof Boolean bool) {
+                writer.write(bool ? "<c t=\"b\"><v>1</v></c>" : "<c t=\"b\"><v>0</v></c>");
+            } else {
+                writer.write("<c t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+                writeEscaped(formatValue(value));
+                writer.write("</t></is></c>");
+            }
+        }
+        writer.write("</row>");
+        sheetRows++;
+    }
+
+    private boolean isFinite(Number number) {
+        return !(number instanceof Double d && (d.isNaN() || d.isInfinite()))
+            && !(number instanceof Float f && (f.isNaN() || f.isInfinite()));
+    }
+
+    private void writeEscaped(String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> writer.write("&amp;");
+                case '<' -> writer.write("&lt;");
+                case '>' -> writer.write("&gt;");
+                case '"' -> writer.write("&quot;");
+                default -> {
+                    // XML 1.0 forbids most control characters
+                    if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (columns == null) {
+            // Nothing was streamed; still produce a valid workbook
+            columns = new String[0];
+            startSheet();
+        }
+        endSheet();
+        writeWorkbookParts();
+        writer.flush();
+        zip.finish();
+        zip.close();
+    }
+
+    private void writeWorkbookParts() throws IOException {
+        StringBuilder overrides = new StringBuilder();
+        StringBuilder sheets = new StringBuilder();
+        StringBuilder rels = new StringBuilder();
+        for (int i = 1; i <= sheetCount; i++) {
+            overrides.append("<Override PartName=\"/xl/worksheets/sheet").append(i)
+                .append(".xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+            sheets.append("<sheet name=\"Sheet").append(i).append("\" sheetId=\"").append(i)
+                .append("\" r:id=\"rId").append(i).append("\"/>");
+            rels.append("<Relationship Id=\"rId").append(i)
+                .append("\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet\" Target=\"worksheets/sheet")
+                .append(i).append(".xml\"/>");
+        }
+
+        writeEntry("[Content_Types].xml", """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <Types xmlns="http://schemas.openxmlformats.org/package/2006/content-types">\
+            <Default Extension="rels" ContentType="application/vnd.openxmlformats-package.relationships+xml"/>\
+            <Default Extension="xml" ContentType="application/xml"/>\
+            <Override PartName="/xl/workbook.xml" ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml"/>\
+            %s</Types>""".formatted(overrides));
+
+        writeEntry("_rels/.rels", """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">\
+            <Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument" Target="xl/workbook.xml"/>\
+            </Relationships>""");
+
+        writeEntry("xl/workbook.xml", """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <workbook xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main" \
+            xmlns:r="http://schemas.openxmlformats.org/officeDocument/2006/relationships">\
+            <sheets>%s</sheets></workbook>""".formatted(sheets));
+
+        writeEntry("xl/_rels/workbook.xml.rels", """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">\
+            %s</Relationships>""".formatted(rels));
+    }
+
+    private void writeEntry(String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        writer.write(content);
+        writer.flush();
+        zip.closeEntry();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,238 @@
+package com.mycompany.manufacturing_system;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads the independent report queries behind ReportsAnalyticsView in parallel:
+ * the summary cards, the financial summary and the data of every chart.
+ * Each query runs with its own pooled connection, so a dashboard load takes as
+ * long as its slowest query instead of the sum of all of them. The queries
+ * share one deadline; when one fails or the deadline passes, the others are
+ * cancelled by aborting their connections.
+ * The queries run on a few platform threads rather than virtual threads:
+ * Connector/J 8.0 holds monitors while it waits on the socket, which pins a
+ * virtual thread to its carrier, so virtual threads would add no parallelism.
+ */
+public class ReportOrchestrator {
+    private static final long DEFAULT_TIMEOUT_MILLIS =
+        Long.getLong("report.dashboard.timeoutMillis", 15_000);
+
+    // Most connections one load may hold at once
+    private static final int MAX_CONNECTIONS = Integer.getInteger("report.dashboard.maxConnections", 3);
+    // Connections left free for the rest of the session while a load runs
+    private static final int RESERVED_CONNECTIONS = 2;
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+    private static final ExecutorService QUERY_EXECUTOR = Executors.newFixedThreadPool(MAX_CONNECTIONS, r -> {
+        Thread t = new Thread(r, "report-query-" + threadCount.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    });
+
+    public ReportOrchestrator() {
+    }
+
+    /**
+     * A single report query against a connection of its own
+     */
+    @FunctionalInterface
+    interface ReportQuery<T> {
+        T run(ReportsOperations ops) throws SQLException;
+    }
+
+    /**
+     * Load every dashboard query with the default deadline
+     *
+     * @param period grouping of the production trend, e.g. "Daily"
+     */
+    public DashboardData loadDashboard(LocalDate startDate, LocalDate endDate, String period)
+            throws SQLException, TimeoutException, InterruptedException {
+        return loadDashboard(startDate, endDate, period, Duration.ofMillis(DEFAULT_TIMEOUT_MILLIS));
+    }
+
+    /**
+     * Load every dashboard query in parallel, failing as a whole if any query
+     * fails or the deadline passes
+     *
+     * @param period grouping of the production trend, e.g. "Daily"
+     */
+    public DashboardData loadDashboard(LocalDate startDate, LocalDate endDate, String period, Duration timeout)
+            throws SQLException, TimeoutException, InterruptedException {
+        long begin = System.nanoTime();
+        QueryGroup group = new QueryGroup(timeout);
+
+        // Longer ranges get weekly OEE points, so the chart stays readable
+        String oeePeriod = startDate.plusMonths(3).isBefore(endDate) ? "Weekly" : "Daily";
+
+        CompletableFuture<ProductionSummary> production =
+            group.fork("production", ops -> ops.fetchProductionSummary(startDate, endDate));
+        CompletableFuture<QualitySummary> quality =
+            group.fork("quality", ops -> ops.fetchQualitySummary(startDate, endDate));
+        CompletableFuture<InventorySummary> inventory =
+            group.fork("inventory", ReportsOperations::fetchInventorySummary);
+        CompletableFuture<FinancialSummary> financial =
+            group.fork("financial", ops -> ops.fetchFinancialSummary(startDate, endDate));
+        CompletableFuture<List<TrendData>> trend = group.fork("trend",
+            ops -> ops.fetchProductionTrend(startDate, endDate, period, null, null, null, null));
+        CompletableFuture<List<EfficiencyData>> efficiency =
+            group.fork("efficiency", ops -> ops.fetchProductionEfficiency(startDate, endDate));
+        CompletableFuture<Map<String, Integer>> defects =
+            group.fork("defects", ops -> ops.fetchDefectDistribution(startDate, endDate));
+        CompletableFuture<List<OeeData>> oee =
+            group.fork("oee", ops -> ops.fetchOeeTrend(startDate, endDate, oeePeriod, null, null));
+
+        group.join(timeout);
+
+        DashboardData data = new DashboardData();
+        data.production = production.join();
+        data.quality = quality.join();
+        data.inventory = inventory.join();
+        data.financial = financial.join();
+        data.trend = trend.join();
+        data.efficiency = efficiency.join();
+        data.defects = defects.join();
+        data.oee = oee.join();
+        data.queryMillis = Collections.unmodifiableMap(group.timings);
+        data.elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+        return data;
+    }
+
+    /**
+     * A set of sibling queries that succeed or fail together.
+     * StructuredTaskScope would express this directly, but it is still a
+     * preview API in Java 21, so the scope is built on CompletableFuture.
+     */
+    private static final class QueryGroup {
+        private final List<CompletableFuture<?>> tasks = new ArrayList<>();
+        private final Set<Connection> activeConnections = ConcurrentHashMap.newKeySet();
+        private final CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+        private final Map<String, Long> timings = new ConcurrentHashMap<>();
+        private final long deadline;
+        // Sized from what the pool can spare when the load starts, so the
+        // load never takes the connections other views are about to need
+        private final Semaphore connectionPermits;
+        private volatile boolean cancelled;
+
+        QueryGroup(Duration timeout) {
+            deadline = System.nanoTime() + timeout.toNanos();
+            int spare = DatabaseConnection.availableConnections() - RESERVED_CONNECTIONS;
+            connectionPermits = new Semaphore(Math.max(1, Math.min(MAX_CONNECTIONS, spare)));
+        }
+
+        <T> CompletableFuture<T> fork(String name, ReportQuery<T> query) {
+            CompletableFuture<T> task = CompletableFuture.supplyAsync(() -> {
+                long begin = System.nanoTime();
+                try {
+                    return runQuery(query);
+                } catch (SQLException e) {
+                    throw new CompletionException(e);
+                } finally {
+                    timings.put(name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
+                }
+            }, QUERY_EXECUTOR);
+
+            task.whenComplete((result, error) -> {
+                if (error != null) {
+                    firstFailure.completeExceptionally(error);
+                }
+            });
+            tasks.add(task);
+            return task;
+        }
+
+        private <T> T runQuery(ReportQuery<T> query) throws SQLException {
+            if (cancelled) {
+                throw new CancellationException("Dashboard load cancelled");
+            }
+            try {
+                connectionPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Dashboard load cancelled");
+            }
+            try {
+                // Other views may hold the pool for a moment; wait as long as the deadline allows
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                Connection connection = DatabaseConnection.getConnection(Math.max(remaining, 0));
+                activeConnections.add(connection);
+                try {
+                    // cancelAll may have run between the check above and the add
+                    if (cancelled) {
+                        throw new CancellationException("Dashboard load cancelled");
+                    }
+                    return query.run(new ReportsOperations(connection));
+                } finally {
+                    activeConnections.remove(connection);
+                    DatabaseConnection.releaseConnection(connection);
+                }
+            } finally {
+                connectionPermits.release();
+            }
+        }
+
+        /**
+         * Wait for every query under one deadline; on the first failure,
+         * timeout or interrupt, cancel the queries still running
+         */
+        void join(Duration timeout) throws SQLException, TimeoutException, InterruptedException {
+            CompletableFuture<Void> all = CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0]));
+            try {
+                CompletableFuture.anyOf(all, firstFailure).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                cancelAll();
+                throw new TimeoutException("Dashboard queries did not finish within " + timeout.toMillis() + " ms");
+            } catch (InterruptedException e) {
+                cancelAll();
+                throw e;
+            } catch (ExecutionException e) {
+                cancelAll();
+                Throwable cause = e.getCause();
+                while (cause instanceof CompletionException && cause.getCause() != null) {
+                    cause = cause.getCause();
+                }
+                if (cause instanceof SQLException sqlException) {
+                    throw sqlException;
+                }
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new SQLException("Dashboard query failed", cause);
+            }
+        }
+
+        private void cancelAll() {
+            cancelled = true;
+            for (CompletableFuture<?> task : tasks) {
+                task.cancel(true);
+            }
+            // JDBC calls ignore interrupts; aborting the connection ends the query
+            for (Connection connection : activeConnections) {
+                try {
+                    // Not QUERY_EXECUTOR, whose threads may all be blocked in the queries
+                    connection.abort(BackgroundExecutor.shared());
+                } catch (SQLException e) {
+                    System.err.println("Error aborting report query: " + e.getMessage());
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,221 @@
+package com.mycompany.manufacturing_system;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * In-process scheduler that precomputes report snapshots off-peak.
+ * Runs are timed by a cron expression (report.snapshot.cron, default 02:00
+ * every day). Because the application is often not running overnight, start()
+ * also runs once in the background when today's snapshots are missing.
+ */
+public class ReportSnapshotScheduler {
+    private static final Logger logger = Logger.getLogger(ReportSnapshotScheduler.class.getName());
+
+    private final CronExpression schedule;
+    private final List<ReportSnapshotStore.Report> reports;
+    private final List<ReportSnapshotStore.Window> windows;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "report-snapshots");
+        t.setDaemon(true);
+        t.setPriority(Thread.MIN_PRIORITY);
+        return t;
+    });
+
+    public ReportSnapshotScheduler() {
+        this(System.getProperty("report.snapshot.cron", "0 2 * * *"),
+            System.getProperty("report.snapshot.reports", "PRODUCTION_SUMMARY,QUALITY_SUMMARY,FINANCIAL_SUMMARY"),
+            System.getProperty("report.snapshot.windows", "MONTH_TO_DATE,TRAILING_MONTH"));
+    }
+
+    public ReportSnapshotScheduler(String cron, String reports, String windows) {
+        this.schedule = CronExpression.parse(cron);
+        this.reports = ReportSnapshotStore.parseReports(reports);
+        this.windows = ReportSnapshotStore.parseWindows(windows);
+    }
+
+    /**
+     * Schedule the next run, catching up first if today's run was missed
+     */
+    public void start() {
+        if (!Boolean.parseBoolean(System.getProperty("report.snapshot.enabled", "true"))) {
+            logger.info("Report snapshots disabled");
+            return;
+        }
+        executor.execute(() -> {
+            if (!isCurrent()) {
+                precompute();
+            }
+        });
+        scheduleNext();
+    }
+
+    /**
+     * Precompute now, in the background
+     */
+    public void runNow() {
+        executor.execute(this::precompute);
+    }
+
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    private void scheduleNext() {
+        if (executor.isShutdown()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime next = schedule.next(now);
+        long delay = Duration.between(now, next).toMillis();
+        executor.schedule(() -> {
+            precompute();
+            scheduleNext();
+        }, delay, TimeUnit.MILLISECONDS);
+        logger.info("Next report snapshot run at " + next);
+    }
+
+    private boolean isCurrent() {
+        Connection connection = null;
+        try {
+            connection = DatabaseConnection.getConnection();
+            return new ReportSnapshotStore(connection).isCurrent(LocalDate.now());
+        } catch (SQLException e) {
+            logger.warning("Failed to check report snapshots: " + e.getMessage());
+            return true;
+        } finally {
+            DatabaseConnection.releaseConnection(connection);
+        }
+    }
+
+    private void precompute() {
+        long begin = System.nanoTime();
+        Connection connection = null;
+        try {
+            connection = DatabaseConnection.getConnection();
+            int written = new ReportSnapshotStore(connection).precompute(LocalDate.now(), reports, windows);
+            // Served reports may still come from the cache built before this run
+            ReportCache.shared().clear();
+            logger.info("Precomputed " + written + " report snapshots in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin) + " ms");
+        } catch (SQLException e) {
+            logger.warning("Report snapshot run failed: " + e.getMessage());
+        } finally {
+            DatabaseConnection.releaseConnection(connection);
+        }
+    }
+}
+
+/**
+ * Standard five-field cron expression: minute, hour, day of month, month and
+ * day of week (0 or 7 is Sunday). Supports *, lists, ranges and steps.
+ * As in cron, when both day fields are restricted either one may match.
+ */
+class CronExpression {
+    private final BitSet minutes;
+    private final BitSet hours;
+    private final BitSet daysOfMonth;
+    private final BitSet months;
+    private final BitSet daysOfWeek;
+    private final boolean anyDayOfMonth;
+    private final boolean anyDayOfWeek;
+
+    private CronExpression(String[] fields) {
+        minutes = parseField(fields[0], 0, 59);
+        hours = parseField(fields[1], 0, 23);
+        daysOfMonth = parseField(fields[2], 1, 31);
+        months = parseField(fields[3], 1, 12);
+        daysOfWeek = parseField(fields[4], 0, 7);
+        if (daysOfWeek.get(7)) {
+            daysOfWeek.set(0);
+        }
+        anyDayOfMonth = fields[2].equals("*");
+        anyDayOfWeek = fields[4].equals("*");
+    }
+
+    static CronExpression parse(String expression) {
+        String[] fields = expression.trim().split("\\s+");
+        if (fields.length != 5) {
+            throw new IllegalArgumentException("Cron expression needs 5 fields: " + expression);
+        }
+        return new CronExpression(fields);
+    }
+
+    /**
+     * First matching minute strictly after the given time
+     */
+    LocalDateTime next(LocalDateTime after) {
+        LocalDateTime t = after.truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+        LocalDateTime limit = t.plusYears(5);
+
+        while (t.isBefore(limit)) {
+            if (!months.get(t.getMonthValue())) {
+                t = t.toLocalDate().withDayOfMonth(1).plusMonths(1).atStartOfDay();
+            } else if (!matchesDay(t.toLocalDate())) {
+                t = t.toLocalDate().plusDays(1).atStartOfDay();
+            } else if (!hours.get(t.getHour())) {
+                t = t.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+            } else if (!minutes.get(t.getMinute())) {
+                t = t.plusMinutes(1);
+            } else {
+                return t;
+            }
+        }
+        throw new IllegalStateException("Cron expression never matches");
+    }
+
+    private boolean matchesDay(LocalDate date) {
+        boolean dayOfMonth = daysOfMonth.get(date.getDayOfMonth());
+        boolean dayOfWeek = daysOfWeek.get(date.getDayOfWeek().getValue() % 7);
+        if (anyDayOfMonth || anyDayOfWeek) {
+            return dayOfMonth && dayOfWeek;
+        }
+        return dayOfMonth || dayOfWeek;
+    }
+
+    private static BitSet parseField(String field, int min, int max) {
+        BitSet values = new BitSet(max + 1);
+        for (String part : field.split(",")) {
+            int step = 1;
+            String range = part;
+            int slash = part.indexOf('/');
+            if (slash >= 0) {
+                step = Integer.parseInt(part.substring(slash + 1));
+                range = part.substring(0, slash);
+            }
+
+            int from;
+            int to;
+            if (range.equals("*")) {
+                from = min;
+                to = max;
+            } else if (range.contains("-")) {
+                String[] bounds = range.split("-");
+                from = Integer.parseInt(bounds[0]);
+                to = Integer.parseInt(bounds[1]);
+            } else {
+                from = Integer.parseInt(range);
+                // "5/10" means from 5 to the end in steps of 10
+                to = slash >= 0 ? max : from;
+            }
+
+            if (from < min || to > max || from > to || step < 1) {
+                throw new IllegalArgumentException("Invalid cron field: " + field);
+            }
+            for (int value = from; value <= to; value += step) {
+                values.set(value);
+            }
+        }
+        return values;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,587 @@
+package com.mycompany.manufacturing_system;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Precomputed report results kept in the report_snapshot_days table.
+ * A snapshot holds the additive measures (counts and sums) of one report for
+ * each day from its start date up to the day before it was computed, and
+ * report_snapshots records which ranges were computed. Serving a report then
+ * costs a per-day check of the row count and latest updated_at from the
+ * (date, updated_at) index, a live aggregation of only the days whose rows
+ * were inserted, changed or deleted since their snapshot, and one of the days
+ * after the snapshot. Refreshed days are written back, so each write costs one
+ * day's aggregation once rather than the snapshot.
+ */
+public class ReportSnapshotStore {
+    private static final DateTimeFormatter dateFormatter =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private static volatile boolean tablesReady;
+
+    /**
+     * Reports that can be snapshotted. The measures are additive so a
+     * snapshot and the live rows after it can simply be summed.
+     */
+    enum Report {
+        PRODUCTION_SUMMARY("production_orders", "order_date", 7, """
+            SUM(CASE WHEN status = 'COMPLETED' THEN 1 ELSE 0 END),
+            SUM(CASE WHEN status = 'IN_PROGRESS' THEN 1 ELSE 0 END),
+            SUM(CASE WHEN status = 'PENDING' THEN 1 ELSE 0 END),
+            SUM(quantity),
+            SUM(total_cost),
+            SUM(completion_percentage),
+            COUNT(completion_percentage)
+            """),
+        QUALITY_SUMMARY("quality_inspections", "inspection_date", 6, """
+            SUM(CASE WHEN status = 'PASSED' THEN 1 ELSE 0 END),
+            SUM(CASE WHEN status = 'FAILED' THEN 1 ELSE 0 END),
+            SUM(CASE WHEN status = 'PENDING' THEN 1 ELSE 0 END),
+            SUM(defect_count),
+            SUM(quality_score),
+            COUNT(quality_score)
+            """),
+        FINANCIAL_SUMMARY("production_orders", "order_date", 3, """
+            SUM(total_cost),
+            COUNT(total_cost),
+            SUM(CASE WHEN status = 'COMPLETED' THEN total_cost ELSE 0 END)
+            """);
+
+        final String table;
+        final String dateColumn;
+        // Row count plus the report's own measures
+        final int width;
+        final String measures;
+
+        Report(String table, String dateColumn, int measureCount, String measures) {
+            this.table = table;
+            this.dateColumn = dateColumn;
+            this.width = measureCount + 1;
+            this.measures = measures;
+        }
+
+        /**
+         * Row count first, then the report's own measures
+         */
+        String aggregateQuery() {
+            return "SELECT COUNT(*), " + measures + " FROM " + table
+                + " WHERE " + dateColumn + " >= ? AND " + dateColumn + " < ?";
+        }
+
+        /**
+         * The day, then the row count and measures of that day
+         */
+        String dailyAggregateQuery() {
+            return "SELECT DATE(" + dateColumn + "), COUNT(*), " + measures + " FROM " + table
+                + " WHERE " + dateColumn + " >= ? AND " + dateColumn + " < ?"
+                + " GROUP BY DATE(" + dateColumn + ")";
+        }
+
+        String changeCheckQuery() {
+            return "SELECT DATE(" + dateColumn + "), COUNT(*), MAX(updated_at) FROM " + table
+                + " WHERE " + dateColumn + " >= ? AND " + dateColumn + " < ?"
+                + " GROUP BY DATE(" + dateColumn + ")";
+        }
+    }
+
+    /**
+     * The stored measures of one day and when they were computed
+     */
+    private record Day(double[] measures, long sourceRows, Timestamp computedAt) {
+    }
+
+    /**
+     * Date ranges the scheduler precomputes, relative to the run date
+     */
+    enum Window {
+        MONTH_TO_DATE,
+        // Matches the default range of ReportsAnalyticsView
+        TRAILING_MONTH;
+
+        LocalDate startFor(LocalDate today) {
+            switch (this) {
+                case MONTH_TO_DATE:
+                    return today.withDayOfMonth(1);
+                case TRAILING_MONTH:
+                default:
+                    return today.minusMonths(1);
+            }
+        }
+    }
+
+    private final Connection connection;
+
+    public ReportSnapshotStore(Connection connection) {
+        this.connection = connection;
+        initializeSnapshotTables();
+    }
+
+    /**
+     * Initialize the snapshot tables and the indexes the change check reads
+     */
+    private void initializeSnapshotTables() {
+        if (tablesReady) {
+            return;
+        }
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS report_snapshots (
+                    report_type VARCHAR(50) NOT NULL,
+                    start_date DATE NOT NULL,
+                    end_date DATE NOT NULL,
+                    measures VARCHAR(1000) NOT NULL,
+                    source_rows INT NOT NULL,
+                    computed_at TIMESTAMP NOT NULL,
+                    PRIMARY KEY (report_type, start_date, end_date)
+                )
+                """);
+
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS report_snapshot_days (
+                    report_type VARCHAR(50) NOT NULL,
+                    day DATE NOT NULL,
+                    measures VARCHAR(1000) NOT NULL,
+                    source_rows INT NOT NULL,
+                    computed_at TIMESTAMP NOT NULL,
+                    PRIMARY KEY (report_type, day)
+                )
+                """);
+
+            // The change check only needs the date and updated_at, so these
+            // indexes let it run without touching the table rows
+            ensureIndex(stmt, "CREATE INDEX idx_order_date_updated ON production_orders (order_date, updated_at)");
+            ensureIndex(stmt, "CREATE INDEX idx_inspection_date_updated ON quality_inspections (inspection_date, updated_at)");
+            tablesReady = true;
+
+        } catch (SQLException e) {
+            System.err.println("Error initializing report snapshot table: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    private void ensureIndex(Statement stmt, String ddl) {
+        try {
+            stmt.execute(ddl);
+        } catch (SQLException e) {
+            // 1061 = duplicate key name, the index already exists
+            if (e.getErrorCode() != 1061) {
+                System.err.println("Failed to create snapshot index: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Compute snapshots of the given reports for every window, each ending the
+     * day before the run date. Returns the number of snapshots written.
+     */
+    public int precompute(LocalDate today, List<Report> reports, List<Window> windows) throws SQLException {
+        LocalDate end = today.minusDays(1);
+        int written = 0;
+        for (Window window : windows) {
+            LocalDate start = window.startFor(today);
+            if (end.isBefore(start)) {
+                // e.g. month-to-date on the first of the month
+                continue;
+            }
+            for (Report report : reports) {
+                precompute(report, start, end);
+                written++;
+            }
+        }
+        deleteExpired(today);
+        return written;
+    }
+
+    /**
+     * Compute and store one snapshot, day by day. The days are read in one
+     * consistent transaction, stamped with the server time taken first, so
+     * any later write to the range carries an updated_at the check will see.
+     */
+    public void precompute(Report report, LocalDate startDate, LocalDate endDate) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        int isolation = connection.getTransactionIsolation();
+        connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        connection.setAutoCommit(false);
+        try {
+            Timestamp computedAt = getDatabaseNow();
+            double[] measures = new double[report.width];
+            try (PreparedStatement delete = connection.prepareStatement(
+                    "DELETE FROM report_snapshot_days WHERE report_type = ? AND day >= ? AND day <= ?")) {
+                delete.setString(1, report.name());
+                delete.setString(2, startDate.format(dateFormatter));
+                delete.setString(3, endDate.format(dateFormatter));
+                delete.executeUpdate();
+            }
+            try (PreparedStatement stmt = connection.prepareStatement(report.dailyAggregateQuery())) {
+                bindRange(stmt, startDate, endDate);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        double[] day = new double[report.width];
+                        for (int i = 0; i < day.length; i++) {
+                            day[i] = rs.getDouble(i + 2);
+                        }
+                        storeDay(report, rs.getDate(1).toLocalDate(), day, computedAt);
+                        add(measures, day, 1);
+                    }
+                }
+            }
+
+            try (PreparedStatement stmt = connection.prepareStatement("""
+                INSERT INTO report_snapshots
+                    (report_type, start_date, end_date, measures, source_rows, computed_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                ON DUPLICATE KEY UPDATE
+                    measures = VALUES(measures),
+                    source_rows = VALUES(source_rows),
+                    computed_at = VALUES(computed_at)
+                """)) {
+                stmt.setString(1, report.name());
+                stmt.setString(2, startDate.format(dateFormatter));
+                stmt.setString(3, endDate.format(dateFormatter));
+                stmt.setString(4, encode(measures));
+                stmt.setLong(5, (long) measures[0]);
+                stmt.setTimestamp(6, computedAt);
+                stmt.executeUpdate();
+            }
+            connection.commit();
+
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setTransactionIsolation(isolation);
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * Whether snapshots ending yesterday exist, i.e. today's run has happened
+     */
+    public boolean isCurrent(LocalDate today) {
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "SELECT 1 FROM report_snapshots WHERE end_date = ? LIMIT 1")) {
+            stmt.setString(1, today.minusDays(1).format(dateFormatter));
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
+            }
+        } catch (SQLException e) {
+            System.err.println("Error checking report snapshots: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void deleteExpired(LocalDate today) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "DELETE FROM report_snapshots WHERE end_date < ?")) {
+            stmt.setString(1, today.minusDays(7).format(dateFormatter));
+            stmt.executeUpdate();
+        }
+        // Days no remaining snapshot covers
+        try (Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("""
+                DELETE FROM report_snapshot_days
+                WHERE NOT EXISTS (
+                    SELECT 1 FROM report_snapshots s
+                    WHERE s.report_type = report_snapshot_days.report_type
+                    AND report_snapshot_days.day BETWEEN s.start_date AND s.end_date
+                )
+                """);
+        }
+    }
+
+    /**
+     * Get production summary from a snapshot plus the days after it, or null
+     * if there is no usable snapshot
+     */
+    ProductionSummary readProductionSummary(LocalDate startDate, LocalDate endDate) {
+        double[] m = read(Report.PRODUCTION_SUMMARY, startDate, endDate);
+        if (m == null) {
+            return null;
+        }
+        ProductionSummary summary = new ProductionSummary();
+        summary.setTotalOrders((int) m[0]);
+        summary.setCompletedOrders((int) m[1]);
+        summary.setInProgressOrders((int) m[2]);
+        summary.setPendingOrders((int) m[3]);
+        summary.setTotalQuantity((int) m[4]);
+        summary.setTotalValue(m[5]);
+        summary.setAverageCompletion(m[7] > 0 ? m[6] / m[7] : 0);
+        return summary;
+    }
+
+    /**
+     * Get quality summary from a snapshot plus the days after it, or null
+     * if there is no usable snapshot
+     */
+    QualitySummary readQualitySummary(LocalDate startDate, LocalDate endDate) {
+        double[] m = read(Report.QUALITY_SUMMARY, startDate, endDate);
+        if (m == null) {
+            return null;
+        }
+        QualitySummary summary = new QualitySummary();
+        summary.setTotalInspections((int) m[0]);
+        summary.setPassedInspections((int) m[1]);
+        summary.setFailedInspections((int) m[2]);
+        summary.setPendingInspections((int) m[3]);
+        summary.setTotalDefects((int) m[4]);
+        summary.setAverageQualityScore(m[6] > 0 ? m[5] / m[6] : 0);
+        summary.calculateRates();
+        return summary;
+    }
+
+    /**
+     * Get financial summary from a snapshot plus the days after it, or null
+     * if there is no usable snapshot
+     */
+    FinancialSummary readFinancialSummary(LocalDate startDate, LocalDate endDate) {
+        double[] m = read(Report.FINANCIAL_SUMMARY, startDate, endDate);
+        if (m == null) {
+            return null;
+        }
+        FinancialSummary summary = new FinancialSummary();
+        summary.setTotalOrders((int) m[0]);
+        summary.setTotalRevenue(m[1]);
+        summary.setAverageOrderValue(m[2] > 0 ? m[1] / m[2] : 0);
+        summary.setCompletedRevenue(m[3]);
+        return summary;
+    }
+
+    /**
+     * Measures of the range from the newest snapshot covering its start,
+     * with changed days re-aggregated and the days after the snapshot added;
+     * null when there is no snapshot
+     */
+    private double[] read(Report report, LocalDate startDate, LocalDate endDate) {
+        try {
+            LocalDate snapshotEnd;
+            try (PreparedStatement stmt = connection.prepareStatement("""
+                SELECT MAX(end_date)
+                FROM report_snapshots
+                WHERE report_type = ? AND start_date <= ? AND end_date >= ?
+                """)) {
+                stmt.setString(1, report.name());
+                stmt.setString(2, startDate.format(dateFormatter));
+                stmt.setString(3, startDate.format(dateFormatter));
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (!rs.next() || rs.getDate(1) == null) {
+                        return null;
+                    }
+                    snapshotEnd = rs.getDate(1).toLocalDate();
+                }
+            }
+            LocalDate coveredEnd = snapshotEnd.isBefore(endDate) ? snapshotEnd : endDate;
+
+            Map<LocalDate, Day> days = readDays(report, startDate, coveredEnd);
+            double[] measures = new double[report.width];
+            for (Day day : days.values()) {
+                add(measures, day.measures(), 1);
+            }
+
+            // Swap the stored measures of each changed day for its live ones
+            List<LocalDate> changed = changedDays(report, startDate, coveredEnd, days);
+            if (!changed.isEmpty()) {
+                Timestamp computedAt = getDatabaseNow();
+                for (LocalDate date : changed) {
+                    Day stored = days.get(date);
+                    if (stored != null) {
+                        add(measures, stored.measures(), -1);
+                    }
+                    double[] live = aggregate(report, date, date, new long[1]);
+                    add(measures, live, 1);
+                    storeDay(report, date, live, computedAt);
+                }
+            }
+
+            if (coveredEnd.isBefore(endDate)) {
+                add(measures, aggregate(report, coveredEnd.plusDays(1), endDate, new long[1]), 1);
+            }
+            return measures;
+
+        } catch (SQLException | NumberFormatException e) {
+            System.err.println("Error reading report snapshot: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private Map<LocalDate, Day> readDays(Report report, LocalDate startDate, LocalDate endDate)
+            throws SQLException {
+        Map<LocalDate, Day> days = new HashMap<>();
+        try (PreparedStatement stmt = connection.prepareStatement("""
+            SELECT day, measures, source_rows, computed_at
+            FROM report_snapshot_days
+            WHERE report_type = ? AND day >= ? AND day <= ?
+            """)) {
+            stmt.setString(1, report.name());
+            stmt.setString(2, startDate.format(dateFormatter));
+            stmt.setString(3, endDate.format(dateFormatter));
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    days.put(rs.getDate("day").toLocalDate(), new Day(decode(rs.getString("measures")),
+                        rs.getLong("source_rows"), rs.getTimestamp("computed_at")));
+                }
+            }
+        }
+        return days;
+    }
+
+    /**
+     * Days whose stored measures no longer hold. Inserts and deletes change a
+     * day's row count; updates and re-inserts leave an updated_at at or after
+     * the time the day was computed.
+     */
+    private List<LocalDate> changedDays(Report report, LocalDate startDate, LocalDate endDate,
+                                        Map<LocalDate, Day> days) throws SQLException {
+        List<LocalDate> changed = new ArrayList<>();
+        Map<LocalDate, Day> unseen = new HashMap<>(days);
+        try (PreparedStatement stmt = connection.prepareStatement(report.changeCheckQuery())) {
+            bindRange(stmt, startDate, endDate);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    LocalDate date = rs.getDate(1).toLocalDate();
+                    Day stored = unseen.remove(date);
+                    Timestamp lastUpdate = rs.getTimestamp(3);
+                    if (stored == null || rs.getLong(2) != stored.sourceRows()
+                            || (lastUpdate != null && !lastUpdate.before(stored.computedAt()))) {
+                        changed.add(date);
+                    }
+                }
+            }
+        }
+        // Every row of these days was deleted
+        changed.addAll(unseen.keySet());
+        return changed;
+    }
+
+    /**
+     * Store the row count and measures of one day, or forget a day without rows
+     */
+    private void storeDay(Report report, LocalDate date, double[] measures, Timestamp computedAt)
+            throws SQLException {
+        if (measures[0] == 0) {
+            try (PreparedStatement stmt = connection.prepareStatement(
+                    "DELETE FROM report_snapshot_days WHERE report_type = ? AND day = ?")) {
+                stmt.setString(1, report.name());
+                stmt.setString(2, date.format(dateFormatter));
+                stmt.executeUpdate();
+            }
+            return;
+        }
+        try (PreparedStatement stmt = connection.prepareStatement("""
+            INSERT INTO report_snapshot_days (report_type, day, measures, source_rows, computed_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                measures = VALUES(measures),
+                source_rows = VALUES(source_rows),
+                computed_at = VALUES(computed_at)
+            """)) {
+            stmt.setString(1, report.name());
+            stmt.setString(2, date.format(dateFormatter));
+            stmt.setString(3, encode(measures));
+            stmt.setLong(4, (long) measures[0]);
+            stmt.setTimestamp(5, computedAt);
+            stmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Add sign times each measure of from into into
+     */
+    private static void add(double[] into, double[] from, int sign) {
+        for (int i = 0; i < into.length && i < from.length; i++) {
+            into[i] += sign * from[i];
+        }
+    }
+
+    /**
+     * Row count goes to rows[0]; the returned array holds the row count
+     * followed by the report's measures
+     */
+    private double[] aggregate(Report report, LocalDate startDate, LocalDate endDate, long[] rows)
+            throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(report.aggregateQuery())) {
+            bindRange(stmt, startDate, endDate);
+            try (ResultSet rs = stmt.executeQuery()) {
+                rs.next();
+                int columns = rs.getMetaData().getColumnCount();
+                double[] measures = new double[columns];
+                for (int i = 0; i < columns; i++) {
+                    // SUM over no rows is NULL, which getDouble reads as 0
+                    measures[i] = rs.getDouble(i + 1);
+                }
+                rows[0] = rs.getLong(1);
+                return measures;
+            }
+        }
+    }
+
+    private void bindRange(PreparedStatement stmt, LocalDate startDate, LocalDate endDate) throws SQLException {
+        // Half-open range on the raw column so the date indexes can be used
+        stmt.setString(1, startDate.format(dateFormatter));
+        stmt.setString(2, endDate.plusDays(1).format(dateFormatter));
+    }
+
+    private Timestamp getDatabaseNow() throws SQLException {
+        // Use the server clock, the same one that stamps updated_at
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT CURRENT_TIMESTAMP")) {
+            rs.next();
+            return rs.getTimestamp(1);
+        }
+    }
+
+    private static String encode(double[] measures) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < measures.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(measures[i]);
+        }
+        return sb.toString();
+    }
+
+    private static double[] decode(String encoded) {
+        String[] parts = encoded.split(",");
+        double[] measures = new double[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            measures[i] = Double.parseDouble(parts[i]);
+        }
+        return measures;
+    }
+
+    /**
+     * Parse a comma-separated list of report names, skipping unknown ones
+     */
+    static List<Report> parseReports(String names) {
+        List<Report> reports = new ArrayList<>();
+        for (String name : names.split(",")) {
+            try {
+                reports.add(Report.valueOf(name.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                System.err.println("Unknown snapshot report: " + name.trim());
+            }
+        }
+        return reports;
+    }
+
+    /**
+     * Parse a comma-separated list of window names, skipping unknown ones
+     */
+    static List<Window> parseWindows(String names) {
+        List<Window> windows = new ArrayList<>();
+        for (String name : names.split(",")) {
+            try {
+                windows.add(Window.valueOf(name.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                System.err.println("Unknown snapshot window: " + name.trim());
+            }
+        }
+        return windows;
+    }
+}
\ No newline at end of file
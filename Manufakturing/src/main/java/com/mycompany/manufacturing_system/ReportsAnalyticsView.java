@@ -1,6 +1,10 @@
 package com.mycompany.manufacturing_system;
 
 
+import javafx.application.Platform;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.concurrent.Task;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
@@ -11,28 +15,89 @@ import javafx.scene.text.Text;
 import javafx.scene.paint.Color;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.chart.*;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.print.PageLayout;
+import javafx.print.PrinterJob;
+import javafx.scene.transform.Scale;
+import javafx.stage.FileChooser;
+import javafx.stage.Stage;
+import java.io.File;
+import java.nio.file.Path;
 import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Logger;
 
 public class ReportsAnalyticsView {
-    private ReportsOperations reportsOps;
+    private static final Logger logger = Logger.getLogger(ReportsAnalyticsView.class.getName());
+
+    private volatile ReportsOperations reportsOps; // the session's, opened on its reports loader
     private final User currentUser;
     private TabPane reportsTabPane;
     private DatePicker startDatePicker;
     private DatePicker endDatePicker;
     private ComboBox<String> reportTypeCombo;
     private TextArea reportOutputArea;
+    private ListView<ReportsOperations.ReportFilter> filtersList;
+    private Button generateBtn;
+    private Button cancelQueryBtn;
+    private ReportsOperations.QueryHandle customQueryHandle;
+
+    // Value label of each dashboard card, keyed by card title
+    private final Map<String, Label> dashboardValues = new HashMap<>();
+    private final ReportOrchestrator reportOrchestrator = new ReportOrchestrator();
+    // Bumped on every dashboard load so a slower, older load cannot overwrite a newer one
+    private long dashboardGeneration;
+    private LineChart<String, Number> oeeTrendChart;
+
+    // Report charts and financial cards, filled by loadDashboard
+    private TimeSeriesChart productionVolumeChart;
+    private TimeSeriesChart financialTrendChart;
+    private BarChart<String, Number> efficiencyChart;
+    private PieChart defectChart;
+    private PieChart stockDistributionChart;
+    private BarChart<String, Number> stockLevelsChart;
+    // Value label of each metric card, keyed by card title
+    private final Map<String, Label> metricValues = new HashMap<>();
+
+    // Rows of a custom report shown in the output area; the rest are only counted
+    private static final int MAX_DISPLAY_ROWS = 200;
+    private static final int MAX_COLUMN_WIDTH = 24;
+
+    // Shared by the filter bar of every report tab
+    private final ObjectProperty<LocalDate> reportStart = new SimpleObjectProperty<>(LocalDate.now().minusMonths(1));
+    private final ObjectProperty<LocalDate> reportEnd = new SimpleObjectProperty<>(LocalDate.now());
 
-    public ReportsAnalyticsView(User user) {
+    // Long-running exports run here, one at a time, off the FX thread
+    private final ExecutorService exportExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "report-export");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public ReportsAnalyticsView(User user, SessionOperations session) {
         this.currentUser = user;
-        try {
-            this.reportsOps = new ReportsOperations();
-        } catch (SQLException e) {
-            showError("Database Error", "Failed to connect to database: " + e.getMessage());
-        }
+        // Opening sets up the cube, snapshot and OEE tables, so it stays off the FX thread
+        session.reportsLoader().execute(() -> {
+            try {
+                reportsOps = session.reports();
+            } catch (SQLException e) {
+                Platform.runLater(() ->
+                    showError("Database Error", "Failed to connect to database: " + e.getMessage()));
+            }
+        });
     }
 
     public VBox getView() {
@@ -59,7 +124,11 @@ public class ReportsAnalyticsView {
             createSeparator(),
             reportsTabPane
         );
-        
+
+        loadDashboard();
+        // Cached per range, so moving back to an earlier range is cheap
+        reportStart.addListener((obs, oldDate, newDate) -> loadDashboard());
+        reportEnd.addListener((obs, oldDate, newDate) -> loadDashboard());
         return mainContainer;
     }
 
@@ -124,6 +193,7 @@ public class ReportsAnalyticsView {
         Label valueLabel = new Label("Loading...");
         valueLabel.setFont(Font.font("Segoe UI", FontWeight.BOLD, 16));
         valueLabel.setTextFill(Color.web(color));
+        dashboardValues.put(title, valueLabel);
         
         card.getChildren().addAll(iconText, titleText, valueLabel);
         
@@ -195,21 +265,25 @@ public class ReportsAnalyticsView {
         chartsSection.setAlignment(Pos.CENTER);
         
         // Production Volume Chart
-        LineChart<String, Number> productionChart = createProductionVolumeChart();
+        LineChart<Number, Number> productionChart = createProductionVolumeChart();
         productionChart.setPrefWidth(400);
         productionChart.setPrefHeight(300);
         
         // Efficiency Chart
-        BarChart<String, Number> efficiencyChart = createEfficiencyChart();
-        efficiencyChart.setPrefWidth(400);
-        efficiencyChart.setPrefHeight(300);
+        BarChart<String, Number> lineEfficiencyChart = createEfficiencyChart();
+        lineEfficiencyChart.setPrefWidth(400);
+        lineEfficiencyChart.setPrefHeight(300);
+        
+        chartsSection.getChildren().addAll(productionChart, lineEfficiencyChart);
         
-        chartsSection.getChildren().addAll(productionChart, efficiencyChart);
+        // OEE trend from the shift reports
+        oeeTrendChart = createOeeTrendChart();
+        oeeTrendChart.setPrefHeight(300);
         
         // Report actions
         HBox actionsBox = createReportActions();
         
-        container.getChildren().addAll(filtersBox, chartsSection, actionsBox);
+        container.getChildren().addAll(filtersBox, chartsSection, oeeTrendChart, actionsBox);
         return container;
     }
 
@@ -231,13 +305,13 @@ public class ReportsAnalyticsView {
         metricsBox.getChildren().addAll(qualityRateCard, defectRateCard, firstPassCard, reworkCard);
         
         // Quality trend chart
-        PieChart defectChart = createDefectDistributionChart();
-        defectChart.setPrefWidth(400);
-        defectChart.setPrefHeight(300);
+        PieChart defectDistributionChart = createDefectDistributionChart();
+        defectDistributionChart.setPrefWidth(400);
+        defectDistributionChart.setPrefHeight(300);
         
         HBox actionsBox = createReportActions();
         
-        container.getChildren().addAll(filtersBox, metricsBox, defectChart, actionsBox);
+        container.getChildren().addAll(filtersBox, metricsBox, defectDistributionChart, actionsBox);
         return container;
     }
 
@@ -251,15 +325,15 @@ public class ReportsAnalyticsView {
         HBox chartsSection = new HBox(20);
         chartsSection.setAlignment(Pos.CENTER);
         
-        PieChart stockDistributionChart = createStockDistributionChart();
-        stockDistributionChart.setPrefWidth(400);
-        stockDistributionChart.setPrefHeight(300);
+        PieChart stockValueChart = createStockDistributionChart();
+        stockValueChart.setPrefWidth(400);
+        stockValueChart.setPrefHeight(300);
         
-        BarChart<String, Number> stockLevelsChart = createStockLevelsChart();
-        stockLevelsChart.setPrefWidth(400);
-        stockLevelsChart.setPrefHeight(300);
+        BarChart<String, Number> stockCountChart = createStockLevelsChart();
+        stockCountChart.setPrefWidth(400);
+        stockCountChart.setPrefHeight(300);
         
-        chartsSection.getChildren().addAll(stockDistributionChart, stockLevelsChart);
+        chartsSection.getChildren().addAll(stockValueChart, stockCountChart);
         
         HBox actionsBox = createReportActions();
         
@@ -281,15 +355,15 @@ public class ReportsAnalyticsView {
         HBox metricsBox = new HBox(20);
         metricsBox.setAlignment(Pos.CENTER);
         
-        VBox revenueCard = createMetricCard("Total Revenue", "$2.4M", "#27ae60");
-        VBox costCard = createMetricCard("Production Costs", "$1.8M", "#e74c3c");
-        VBox profitCard = createMetricCard("Gross Profit", "$600K", "#3498db");
-        VBox marginCard = createMetricCard("Profit Margin", "25%", "#f39c12");
+        VBox revenueCard = createMetricCard("Total Revenue", "...", "#27ae60");
+        VBox completedCard = createMetricCard("Completed Revenue", "...", "#e74c3c");
+        VBox ordersCard = createMetricCard("Orders", "...", "#3498db");
+        VBox averageCard = createMetricCard("Average Order Value", "...", "#f39c12");
         
-        metricsBox.getChildren().addAll(revenueCard, costCard, profitCard, marginCard);
+        metricsBox.getChildren().addAll(revenueCard, completedCard, ordersCard, averageCard);
         
         // Financial trends chart
-        LineChart<String, Number> financialChart = createFinancialTrendsChart();
+        LineChart<Number, Number> financialChart = createFinancialTrendsChart();
         financialChart.setPrefWidth(800);
         financialChart.setPrefHeight(300);
         
@@ -333,11 +407,47 @@ public class ReportsAnalyticsView {
         startDatePicker = new DatePicker(LocalDate.now().minusMonths(1));
         endDatePicker = new DatePicker(LocalDate.now());
         
-        // Filters
-        TextArea filtersArea = new TextArea();
-        filtersArea.setPromptText("Enter filter conditions (optional)");
-        filtersArea.setPrefRowCount(3);
-        filtersArea.setPrefWidth(300);
+        // Filters: a column of the data source, an operator and a value; never free-text SQL
+        ComboBox<String> filterColumnCombo = new ComboBox<>();
+        filterColumnCombo.setPromptText("Column");
+        filterColumnCombo.setPrefWidth(160);
+        ComboBox<ReportsOperations.FilterOperator> filterOperatorCombo = new ComboBox<>();
+        filterOperatorCombo.getItems().addAll(ReportsOperations.FilterOperator.values());
+        filterOperatorCombo.setValue(ReportsOperations.FilterOperator.EQUALS);
+        filterOperatorCombo.setPrefWidth(110);
+        TextField filterValueField = new TextField();
+        filterValueField.setPromptText("Value");
+        filterValueField.setPrefWidth(160);
+        Button addFilterBtn = new Button("➕ Add");
+        addFilterBtn.setOnAction(e -> {
+            String column = filterColumnCombo.getValue();
+            String value = filterValueField.getText();
+            if (column == null || value == null || value.isBlank()) {
+                showError("Validation Error", "Choose a column and enter a value for the filter.");
+                return;
+            }
+            filtersList.getItems().add(
+                new ReportsOperations.ReportFilter(column, filterOperatorCombo.getValue(), value.trim()));
+            filterValueField.clear();
+        });
+        HBox filterRow = new HBox(8, filterColumnCombo, filterOperatorCombo, filterValueField, addFilterBtn);
+        filterRow.setAlignment(Pos.CENTER_LEFT);
+        
+        filtersList = new ListView<>();
+        filtersList.setPlaceholder(new Label("No filters (optional)"));
+        filtersList.setPrefHeight(80);
+        Button removeFilterBtn = new Button("Remove");
+        removeFilterBtn.disableProperty().bind(filtersList.getSelectionModel().selectedItemProperty().isNull());
+        removeFilterBtn.setOnAction(e ->
+            filtersList.getItems().remove(filtersList.getSelectionModel().getSelectedItem()));
+        
+        // Each data source has its own filter columns
+        dataSourceCombo.setOnAction(e -> {
+            ReportsOperations.ExportDataset dataset =
+                ReportsOperations.ExportDataset.forTitle(dataSourceCombo.getValue());
+            filterColumnCombo.getItems().setAll(dataset != null ? dataset.getFilterColumns() : List.of());
+            filtersList.getItems().clear();
+        });
         
         // Output format
         ComboBox<String> formatCombo = new ComboBox<>();
@@ -358,17 +468,19 @@ public class ReportsAnalyticsView {
         builderForm.add(endDatePicker, 1, 3);
         
         builderForm.add(new Label("Filters:"), 0, 4);
-        builderForm.add(filtersArea, 1, 4, 2, 1);
+        builderForm.add(filterRow, 1, 4, 2, 1);
+        builderForm.add(filtersList, 1, 5);
+        builderForm.add(removeFilterBtn, 2, 5);
         
-        builderForm.add(new Label("Format:"), 0, 5);
-        builderForm.add(formatCombo, 1, 5);
+        builderForm.add(new Label("Format:"), 0, 6);
+        builderForm.add(formatCombo, 1, 6);
         
         // Action buttons
         HBox customActionsBox = new HBox(10);
         customActionsBox.setAlignment(Pos.CENTER_LEFT);
         customActionsBox.setPadding(new Insets(20, 0, 0, 0));
         
-        Button generateBtn = createStyledButton("📊 Generate Report", "#27ae60", 150);
+        generateBtn = createStyledButton("📊 Generate Report", "#27ae60", 150);
         generateBtn.setOnAction(e -> generateCustomReport(reportNameField.getText(), 
                                                          dataSourceCombo.getValue(),
                                                          formatCombo.getValue()));
@@ -379,7 +491,15 @@ public class ReportsAnalyticsView {
         Button loadTemplateBtn = createStyledButton("📁 Load Template", "#f39c12", 150);
         loadTemplateBtn.setOnAction(e -> loadReportTemplate());
         
-        customActionsBox.getChildren().addAll(generateBtn, saveTemplateBtn, loadTemplateBtn);
+        cancelQueryBtn = createStyledButton("⏹ Cancel", "#e74c3c", 100);
+        cancelQueryBtn.setDisable(true);
+        cancelQueryBtn.setOnAction(e -> {
+            if (customQueryHandle != null) {
+                customQueryHandle.cancel();
+            }
+        });
+        
+        customActionsBox.getChildren().addAll(generateBtn, cancelQueryBtn, saveTemplateBtn, loadTemplateBtn);
         
         // Report output area
         reportOutputArea = new TextArea();
@@ -404,11 +524,13 @@ public class ReportsAnalyticsView {
         filtersBox.setPadding(new Insets(0, 0, 20, 0));
         
         Label fromLabel = new Label("From:");
-        DatePicker fromDate = new DatePicker(LocalDate.now().minusMonths(1));
+        DatePicker fromDate = new DatePicker();
+        fromDate.valueProperty().bindBidirectional(reportStart);
         fromDate.setPrefWidth(150);
         
         Label toLabel = new Label("To:");
-        DatePicker toDate = new DatePicker(LocalDate.now());
+        DatePicker toDate = new DatePicker();
+        toDate.valueProperty().bindBidirectional(reportEnd);
         toDate.setPrefWidth(150);
         
         reportTypeCombo = new ComboBox<>();
@@ -462,6 +584,7 @@ public class ReportsAnalyticsView {
         Label valueLabel = new Label(value);
         valueLabel.setFont(Font.font("Segoe UI", FontWeight.BOLD, 24));
         valueLabel.setTextFill(Color.web(color));
+        metricValues.put(title, valueLabel);
         
         Label titleLabel = new Label(title);
         titleLabel.setFont(Font.font("Segoe UI", FontWeight.NORMAL, 12));
@@ -472,124 +595,143 @@ public class ReportsAnalyticsView {
     }
 
     // Chart creation methods
-    private LineChart<String, Number> createProductionVolumeChart() {
+    private LineChart<Number, Number> createProductionVolumeChart() {
+        productionVolumeChart = new TimeSeriesChart("Production Volume Trend", "Date", "Units Produced");
+        return productionVolumeChart.getChart();
+    }
+
+    private LineChart<String, Number> createOeeTrendChart() {
         CategoryAxis xAxis = new CategoryAxis();
-        NumberAxis yAxis = new NumberAxis();
-        xAxis.setLabel("Date");
-        yAxis.setLabel("Units Produced");
+        NumberAxis yAxis = new NumberAxis(0, 100, 10);
+        xAxis.setLabel("Period");
+        yAxis.setLabel("%");
         
         LineChart<String, Number> chart = new LineChart<>(xAxis, yAxis);
-        chart.setTitle("Production Volume Trend");
-        
-        XYChart.Series<String, Number> series = new XYChart.Series<>();
-        series.setName("Production Volume");
-        
-        // Sample data
-        series.getData().add(new XYChart.Data<>("Week 1", 450));
-        series.getData().add(new XYChart.Data<>("Week 2", 520));
-        series.getData().add(new XYChart.Data<>("Week 3", 480));
-        series.getData().add(new XYChart.Data<>("Week 4", 600));
-        
-        chart.getData().add(series);
+        chart.setTitle("Overall Equipment Effectiveness");
+        chart.setCreateSymbols(false);
         return chart;
     }
 
+    /**
+     * Turn the daily trend into the full series of the volume and financial
+     * charts. Daily rows become primitive arrays; only the downsampled points
+     * become chart nodes. Runs off the FX thread.
+     */
+    private static TrendSeries toTrendSeries(List<TrendData> trend) {
+        double[] days = new double[trend.size()];
+        double[] units = new double[trend.size()];
+        double[] value = new double[trend.size()];
+        int count = 0;
+        for (TrendData point : trend) {
+            try {
+                days[count] = LocalDate.parse(point.getPeriod()).toEpochDay();
+            } catch (RuntimeException e) {
+                continue;
+            }
+            units[count] = point.getTotalQuantity();
+            value[count] = point.getTotalValue();
+            count++;
+        }
+        double[] x = Arrays.copyOf(days, count);
+        return new TrendSeries(
+            List.of(new TimeSeriesChart.FullSeries("Production Volume", x, Arrays.copyOf(units, count))),
+            List.of(new TimeSeriesChart.FullSeries("Order Value", x, Arrays.copyOf(value, count))));
+    }
+
+    private record TrendSeries(List<TimeSeriesChart.FullSeries> volume, List<TimeSeriesChart.FullSeries> value) {
+    }
+
+    private void showCharts(DashboardData data, TrendSeries trendSeries) {
+        productionVolumeChart.setSeries(trendSeries.volume());
+        financialTrendChart.setSeries(trendSeries.value());
+        showEfficiency(data.getEfficiency());
+        showPieData(defectChart, data.getDefects());
+        showPieData(stockDistributionChart, data.getInventory().getCategoryValue());
+        showStockLevels(data.getInventory().getCategoryCount());
+        showOeeTrend(data.getOee());
+    }
+
+    private void showEfficiency(List<EfficiencyData> efficiency) {
+        XYChart.Series<String, Number> series = new XYChart.Series<>();
+        series.setName("Efficiency");
+        for (EfficiencyData line : efficiency) {
+            series.getData().add(new XYChart.Data<>(line.getProductionLine(), line.getEfficiency()));
+        }
+        efficiencyChart.getData().setAll(List.of(series));
+    }
+
+    private void showPieData(PieChart chart, Map<String, ? extends Number> values) {
+        List<PieChart.Data> slices = new ArrayList<>();
+        if (values != null) {
+            values.forEach((label, amount) -> slices.add(new PieChart.Data(label, amount.doubleValue())));
+        }
+        chart.getData().setAll(slices);
+    }
+
+    private void showStockLevels(Map<String, Integer> categoryCount) {
+        XYChart.Series<String, Number> series = new XYChart.Series<>();
+        series.setName("Active Items");
+        if (categoryCount != null) {
+            categoryCount.forEach((category, count) -> series.getData().add(new XYChart.Data<>(category, count)));
+        }
+        stockLevelsChart.getData().setAll(List.of(series));
+    }
+
+    private void showOeeTrend(List<OeeData> trend) {
+        XYChart.Series<String, Number> availability = new XYChart.Series<>();
+        XYChart.Series<String, Number> performance = new XYChart.Series<>();
+        XYChart.Series<String, Number> quality = new XYChart.Series<>();
+        XYChart.Series<String, Number> oee = new XYChart.Series<>();
+        availability.setName("Availability");
+        performance.setName("Performance");
+        quality.setName("Quality");
+        oee.setName("OEE");
+        for (OeeData point : trend) {
+            availability.getData().add(new XYChart.Data<>(point.getLabel(), point.getAvailability() * 100));
+            performance.getData().add(new XYChart.Data<>(point.getLabel(), point.getPerformance() * 100));
+            quality.getData().add(new XYChart.Data<>(point.getLabel(), point.getQuality() * 100));
+            oee.getData().add(new XYChart.Data<>(point.getLabel(), point.getOee() * 100));
+        }
+        oeeTrendChart.getData().setAll(List.of(availability, performance, quality, oee));
+    }
+
     private BarChart<String, Number> createEfficiencyChart() {
         CategoryAxis xAxis = new CategoryAxis();
         NumberAxis yAxis = new NumberAxis();
         xAxis.setLabel("Production Line");
         yAxis.setLabel("Efficiency %");
         
-        BarChart<String, Number> chart = new BarChart<>(xAxis, yAxis);
-        chart.setTitle("Production Line Efficiency");
-        
-        XYChart.Series<String, Number> series = new XYChart.Series<>();
-        series.setName("Efficiency");
-        
-        series.getData().add(new XYChart.Data<>("Line A", 92));
-        series.getData().add(new XYChart.Data<>("Line B", 88));
-        series.getData().add(new XYChart.Data<>("Electronics 1", 95));
-        series.getData().add(new XYChart.Data<>("Automotive", 85));
-        
-        chart.getData().add(series);
-        return chart;
+        efficiencyChart = new BarChart<>(xAxis, yAxis);
+        efficiencyChart.setTitle("Production Line Efficiency");
+        return efficiencyChart;
     }
 
     private PieChart createDefectDistributionChart() {
-        PieChart chart = new PieChart();
-        chart.setTitle("Defect Distribution");
-        
-        chart.getData().addAll(
-            new PieChart.Data("Dimensional", 35),
-            new PieChart.Data("Surface", 25),
-            new PieChart.Data("Assembly", 20),
-            new PieChart.Data("Material", 15),
-            new PieChart.Data("Other", 5)
-        );
-        
-        return chart;
+        defectChart = new PieChart();
+        defectChart.setTitle("Defect Distribution");
+        return defectChart;
     }
 
     private PieChart createStockDistributionChart() {
-        PieChart chart = new PieChart();
-        chart.setTitle("Stock Distribution by Category");
-        
-        chart.getData().addAll(
-            new PieChart.Data("Raw Materials", 40),
-            new PieChart.Data("Components", 35),
-            new PieChart.Data("Finished Goods", 20),
-            new PieChart.Data("Consumables", 5)
-        );
-        
-        return chart;
+        stockDistributionChart = new PieChart();
+        stockDistributionChart.setTitle("Stock Value by Category");
+        return stockDistributionChart;
     }
 
     private BarChart<String, Number> createStockLevelsChart() {
         CategoryAxis xAxis = new CategoryAxis();
         NumberAxis yAxis = new NumberAxis();
         xAxis.setLabel("Item Category");
-        yAxis.setLabel("Stock Level");
+        yAxis.setLabel("Active Items");
         
-        BarChart<String, Number> chart = new BarChart<>(xAxis, yAxis);
-        chart.setTitle("Current Stock Levels");
-        
-        XYChart.Series<String, Number> series = new XYChart.Series<>();
-        series.setName("Stock Level");
-        
-        series.getData().add(new XYChart.Data<>("Steel", 250));
-        series.getData().add(new XYChart.Data<>("Plastic", 500));
-        series.getData().add(new XYChart.Data<>("Electronics", 75));
-        series.getData().add(new XYChart.Data<>("Hardware", 1000));
-        
-        chart.getData().add(series);
-        return chart;
+        stockLevelsChart = new BarChart<>(xAxis, yAxis);
+        stockLevelsChart.setTitle("Current Stock Levels");
+        return stockLevelsChart;
     }
 
-    private LineChart<String, Number> createFinancialTrendsChart() {
-        CategoryAxis xAxis = new CategoryAxis();
-        NumberAxis yAxis = new NumberAxis();
-        xAxis.setLabel("Month");
-        yAxis.setLabel("Amount ($)");
-        
-        LineChart<String, Number> chart = new LineChart<>(xAxis, yAxis);
-        chart.setTitle("Financial Trends");
-        
-        XYChart.Series<String, Number> revenueSeries = new XYChart.Series<>();
-        revenueSeries.setName("Revenue");
-        revenueSeries.getData().add(new XYChart.Data<>("Jan", 180000));
-        revenueSeries.getData().add(new XYChart.Data<>("Feb", 220000));
-        revenueSeries.getData().add(new XYChart.Data<>("Mar", 250000));
-        revenueSeries.getData().add(new XYChart.Data<>("Apr", 240000));
-        
-        XYChart.Series<String, Number> costSeries = new XYChart.Series<>();
-        costSeries.setName("Costs");
-        costSeries.getData().add(new XYChart.Data<>("Jan", 140000));
-        costSeries.getData().add(new XYChart.Data<>("Feb", 160000));
-        costSeries.getData().add(new XYChart.Data<>("Mar", 180000));
-        costSeries.getData().add(new XYChart.Data<>("Apr", 175000));
-        
-        chart.getData().addAll(revenueSeries, costSeries);
-        return chart;
+    private LineChart<Number, Number> createFinancialTrendsChart() {
+        financialTrendChart = new TimeSeriesChart("Financial Trends", "Date", "Amount ($)");
+        return financialTrendChart.getChart();
     }
 
     private Button createStyledButton(String text, String color, double width) {
@@ -640,15 +782,307 @@ public class ReportsAnalyticsView {
     }
 
     private void refreshReports() {
-        showInfo("Refresh", "Reports refreshed successfully.");
+        if (reportsOps != null) {
+            reportsOps.getReportCache().clear();
+        }
+        loadDashboard();
+    }
+
+    /**
+     * Fill the dashboard cards, the financial cards and every chart from one
+     * parallel load of all report queries. A load started later discards the
+     * results of an earlier one.
+     */
+    private void loadDashboard() {
+        long generation = ++dashboardGeneration;
+        LocalDate startDate = reportStart.get();
+        LocalDate endDate = reportEnd.get();
+        dashboardValues.values().forEach(label -> label.setText("Loading..."));
+
+        Thread.ofVirtual().name("dashboard-loader").start(() -> {
+            try {
+                DashboardData data = reportOrchestrator.loadDashboard(startDate, endDate, "Daily");
+                logger.fine("Dashboard loaded in " + data.getElapsedMillis() + " ms " + data.getQueryMillis());
+                TrendSeries trendSeries = toTrendSeries(data.getTrend());
+                Platform.runLater(() -> {
+                    if (generation == dashboardGeneration) {
+                        showDashboard(data);
+                        showCharts(data, trendSeries);
+                    }
+                });
+            } catch (SQLException | TimeoutException e) {
+                System.err.println("Error loading dashboard: " + e.getMessage());
+                Platform.runLater(() -> {
+                    if (generation == dashboardGeneration) {
+                        dashboardValues.values().forEach(label -> label.setText("Unavailable"));
+                        showFinancial(null);
+                    }
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    private void showDashboard(DashboardData data) {
+        setDashboardValue("Production Overview",
+            String.format("%d orders", data.getProduction().getTotalOrders()));
+        setDashboardValue("Quality Metrics",
+            String.format("%.1f%% pass", data.getQuality().getPassRate()));
+        setDashboardValue("Inventory Status",
+            String.format("%d items, %d low", data.getInventory().getTotalItems(), data.getInventory().getLowStockItems()));
+        setDashboardValue("Performance KPIs",
+            String.format("%.1f%% complete", data.getProduction().getCompletionRate()));
+        showFinancial(data.getFinancial());
+    }
+
+    /**
+     * Fill the financial cards, or mark them unavailable when financial is null
+     */
+    private void showFinancial(FinancialSummary financial) {
+        setMetricValue("Total Revenue", financial != null ? formatAmount(financial.getTotalRevenue()) : "N/A");
+        setMetricValue("Completed Revenue", financial != null ? formatAmount(financial.getCompletedRevenue()) : "N/A");
+        setMetricValue("Orders", financial != null ? String.format("%,d", financial.getTotalOrders()) : "N/A");
+        setMetricValue("Average Order Value",
+            financial != null ? formatAmount(financial.getAverageOrderValue()) : "N/A");
+    }
+
+    private static String formatAmount(double amount) {
+        if (Math.abs(amount) >= 1_000_000) {
+            return String.format("$%.1fM", amount / 1_000_000);
+        }
+        if (Math.abs(amount) >= 1_000) {
+            return String.format("$%.0fK", amount / 1_000);
+        }
+        return String.format("$%.0f", amount);
+    }
+
+    private void setMetricValue(String title, String value) {
+        Label label = metricValues.get(title);
+        if (label != null) {
+            label.setText(value);
+        }
+    }
+
+    private void setDashboardValue(String title, String value) {
+        Label label = dashboardValues.get(title);
+        if (label != null) {
+            label.setText(value);
+        }
     }
 
     private void exportReport(String format) {
-        showInfo("Export", "Report exported to " + format + " format.");
+        if (reportsOps == null) {
+            showError("Database Error", "Reports are not available without a database connection.");
+            return;
+        }
+        if ("PDF".equals(format)) {
+            exportPdfReport();
+            return;
+        }
+
+        ReportsOperations.ExportDataset dataset = getSelectedDataset();
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Export " + dataset.getTitle());
+        chooser.getExtensionFilters().addAll(
+            new FileChooser.ExtensionFilter("Excel Workbook (*.xlsx)", "*.xlsx"),
+            new FileChooser.ExtensionFilter("CSV File (*.csv)", "*.csv"));
+        chooser.setInitialFileName(dataset.name().toLowerCase() + "_" + LocalDate.now() + ".xlsx");
+
+        File file = chooser.showSaveDialog(reportsTabPane.getScene().getWindow());
+        if (file == null) {
+            return;
+        }
+
+        Path target = file.toPath();
+        String fileName = file.getName().toLowerCase();
+        if (!fileName.endsWith(".xlsx") && !fileName.endsWith(".csv")) {
+            FileChooser.ExtensionFilter selected = chooser.getSelectedExtensionFilter();
+            boolean csv = selected != null && selected.getExtensions().contains("*.csv");
+            target = target.resolveSibling(file.getName() + (csv ? ".csv" : ".xlsx"));
+        }
+
+        final Path exportTarget = target;
+        final LocalDate start = reportStart.get();
+        final LocalDate end = reportEnd.get();
+        ReportExporter exporter = new ReportExporter(reportsOps);
+
+        Task<Long> exportTask = new Task<>() {
+            @Override
+            protected Long call() throws Exception {
+                updateMessage("Exporting " + dataset.getTitle() + "...");
+                return exporter.export(dataset, start, end, exportTarget, (written, total) -> {
+                    // -1 work done shows an indeterminate bar when the count is unknown
+                    updateProgress(total > 0 ? written : -1, Math.max(total, 1));
+                    updateMessage(String.format("%,d rows written", written));
+                }, this::isCancelled);
+            }
+        };
+        exportTask.setOnSucceeded(e -> showInfo("Export",
+            String.format("Exported %,d rows to %s", exportTask.getValue(), exportTarget.getFileName())));
+        exportTask.setOnCancelled(e -> showInfo("Export", "Export cancelled."));
+        exportTask.setOnFailed(e -> showError("Export Failed",
+            "Failed to export report: " + exportTask.getException().getMessage()));
+
+        showProgressDialog(exportTask, "Export " + dataset.getTitle());
+        exportExecutor.execute(exportTask);
+    }
+
+    private void exportPdfReport() {
+        PdfReportRenderer.Section section = getSelectedSection();
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Export " + section.getTitle());
+        chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("PDF Document (*.pdf)", "*.pdf"));
+        chooser.setInitialFileName(section.name().toLowerCase() + "_report_" + LocalDate.now() + ".pdf");
+
+        File file = chooser.showSaveDialog(reportsTabPane.getScene().getWindow());
+        if (file == null) {
+            return;
+        }
+
+        final Path target = file.getName().toLowerCase().endsWith(".pdf")
+            ? file.toPath()
+            : file.toPath().resolveSibling(file.getName() + ".pdf");
+        final LocalDate start = reportStart.get();
+        final LocalDate end = reportEnd.get();
+        // Charts can only be snapshotted on the FX thread; the layout runs in the background
+        final List<PdfReportRenderer.ChartImage> charts = captureCharts(reportsTabPane.getSelectionModel().getSelectedItem());
+        PdfReportRenderer renderer = new PdfReportRenderer(reportsOps);
+
+        Task<Integer> pdfTask = new Task<>() {
+            @Override
+            protected Integer call() throws Exception {
+                updateMessage("Rendering " + section.getTitle() + "...");
+                return renderer.render(section, start, end, charts, target, (rows, total) -> {
+                    updateProgress(total > 0 ? rows : -1, Math.max(total, 1));
+                    updateMessage(String.format("%,d rows rendered", rows));
+                }, this::isCancelled);
+            }
+        };
+        pdfTask.setOnSucceeded(e -> showInfo("Export",
+            String.format("Exported %d pages to %s", pdfTask.getValue(), target.getFileName())));
+        pdfTask.setOnCancelled(e -> showInfo("Export", "Export cancelled."));
+        pdfTask.setOnFailed(e -> showError("Export Failed",
+            "Failed to render PDF report: " + pdfTask.getException().getMessage()));
+
+        showProgressDialog(pdfTask, "Export " + section.getTitle());
+        exportExecutor.execute(pdfTask);
+    }
+
+    private List<PdfReportRenderer.ChartImage> captureCharts(Tab tab) {
+        List<PdfReportRenderer.ChartImage> images = new ArrayList<>();
+        if (tab == null || tab.getContent() == null) {
+            return images;
+        }
+        for (Node node : tab.getContent().lookupAll(".chart")) {
+            if (!(node instanceof Chart chart) || !chart.isVisible()) {
+                continue;
+            }
+            WritableImage snapshot = chart.snapshot(null, null);
+            int width = (int) snapshot.getWidth();
+            int height = (int) snapshot.getHeight();
+            if (width == 0 || height == 0) {
+                continue;
+            }
+            int[] pixels = new int[width * height];
+            snapshot.getPixelReader().getPixels(0, 0, width, height,
+                PixelFormat.getIntArgbInstance(), pixels, 0, width);
+            images.add(new PdfReportRenderer.ChartImage(chart.getTitle(), width, height, pixels));
+        }
+        return images;
+    }
+
+    private PdfReportRenderer.Section getSelectedSection() {
+        switch (reportsTabPane.getSelectionModel().getSelectedIndex()) {
+            case 1:
+                return PdfReportRenderer.Section.QUALITY;
+            case 2:
+                return PdfReportRenderer.Section.INVENTORY;
+            case 3:
+                return PdfReportRenderer.Section.FINANCIAL;
+            default:
+                return PdfReportRenderer.Section.PRODUCTION;
+        }
+    }
+
+    private ReportsOperations.ExportDataset getSelectedDataset() {
+        switch (reportsTabPane.getSelectionModel().getSelectedIndex()) {
+            case 1:
+                return ReportsOperations.ExportDataset.QUALITY_INSPECTIONS;
+            case 2:
+                return ReportsOperations.ExportDataset.STOCK_MOVEMENTS;
+            default:
+                return ReportsOperations.ExportDataset.PRODUCTION_ORDERS;
+        }
+    }
+
+    /**
+     * Non-modal progress window with a cancel button; closes when the task ends
+     */
+    private void showProgressDialog(Task<?> task, String title) {
+        Stage dialog = new Stage();
+        dialog.initOwner(reportsTabPane.getScene().getWindow());
+        dialog.setTitle(title);
+        dialog.setResizable(false);
+
+        Label statusLabel = new Label();
+        statusLabel.textProperty().bind(task.messageProperty());
+
+        ProgressBar progressBar = new ProgressBar();
+        progressBar.setPrefWidth(320);
+        progressBar.progressProperty().bind(task.progressProperty());
+
+        Button cancelBtn = createStyledButton("Cancel", "#e74c3c", 100);
+        cancelBtn.setOnAction(e -> task.cancel());
+        dialog.setOnCloseRequest(e -> task.cancel());
+
+        VBox content = new VBox(12, statusLabel, progressBar, cancelBtn);
+        content.setAlignment(Pos.CENTER);
+        content.setPadding(new Insets(20));
+
+        task.runningProperty().addListener((obs, wasRunning, running) -> {
+            if (!running) {
+                dialog.close();
+            }
+        });
+
+        dialog.setScene(new Scene(content));
+        dialog.show();
     }
 
     private void printReport() {
-        showInfo("Print", "Print functionality will be implemented.");
+        Tab tab = reportsTabPane.getSelectionModel().getSelectedItem();
+        if (tab == null || tab.getContent() == null) {
+            return;
+        }
+
+        PrinterJob job = PrinterJob.createPrinterJob();
+        if (job == null) {
+            showError("Print", "No printer is available.");
+            return;
+        }
+        if (!job.showPrintDialog(reportsTabPane.getScene().getWindow())) {
+            job.cancelJob();
+            return;
+        }
+
+        // Scale the tab down to the printable area, never up
+        Node content = tab.getContent();
+        PageLayout layout = job.getJobSettings().getPageLayout();
+        double scale = Math.min(1.0, Math.min(
+            layout.getPrintableWidth() / content.getBoundsInParent().getWidth(),
+            layout.getPrintableHeight() / content.getBoundsInParent().getHeight()));
+        Scale transform = new Scale(scale, scale);
+        content.getTransforms().add(transform);
+        try {
+            if (job.printPage(content)) {
+                job.endJob();
+            } else {
+                showError("Print", "Failed to print the report.");
+            }
+        } finally {
+            content.getTransforms().remove(transform);
+        }
     }
 
     private void emailReport() {
@@ -666,13 +1100,55 @@ public class ReportsAnalyticsView {
             return;
         }
         
-        String reportOutput = generateReportOutput(reportName, dataSource, format);
-        reportOutputArea.setText(reportOutput);
+        if (reportsOps == null) {
+            showError("Database Error", "Reports are not available without a database connection.");
+            return;
+        }
+        
+        ReportsOperations.ExportDataset dataset = ReportsOperations.ExportDataset.forTitle(dataSource);
+        if (dataset == null) {
+            showError("Validation Error", "Unknown data source: " + dataSource);
+            return;
+        }
+        
+        ReportsOperations.CustomQuery query = reportsOps.buildCustomReportQuery(dataset,
+            startDatePicker.getValue(), endDatePicker.getValue(), new ArrayList<>(filtersList.getItems()));
+        ReportsOperations.QueryHandle handle = new ReportsOperations.QueryHandle();
+        customQueryHandle = handle;
+        
+        Task<QueryResult> queryTask = new Task<>() {
+            @Override
+            protected QueryResult call() throws Exception {
+                return reportsOps.executeCustomQuery(query, ReportsOperations.DEFAULT_MAX_ROWS,
+                                                     ReportsOperations.DEFAULT_TIMEOUT_SECONDS, handle);
+            }
+        };
+        queryTask.setOnSucceeded(e -> {
+            reportOutputArea.setText(generateReportOutput(reportName, dataSource, format, queryTask.getValue()));
+            customQueryFinished();
+        });
+        queryTask.setOnFailed(e -> {
+            customQueryFinished();
+            if (handle.isCancelled()) {
+                reportOutputArea.setText("Report cancelled.");
+            } else {
+                showError("Report Failed", "Failed to run report query: " + queryTask.getException().getMessage());
+            }
+        });
         
-        showInfo("Success", "Custom report generated successfully!");
+        generateBtn.setDisable(true);
+        cancelQueryBtn.setDisable(false);
+        reportOutputArea.setText("Running report...");
+        exportExecutor.execute(queryTask);
     }
 
-    private String generateReportOutput(String reportName, String dataSource, String format) {
+    private void customQueryFinished() {
+        customQueryHandle = null;
+        generateBtn.setDisable(false);
+        cancelQueryBtn.setDisable(true);
+    }
+
+    private String generateReportOutput(String reportName, String dataSource, String format, QueryResult result) {
         StringBuilder output = new StringBuilder();
         output.append("=".repeat(60)).append("\n");
         output.append("CUSTOM REPORT: ").append(reportName.toUpperCase()).append("\n");
@@ -683,36 +1159,39 @@ public class ReportsAnalyticsView {
         output.append("Period: ").append(startDatePicker.getValue()).append(" to ").append(endDatePicker.getValue()).append("\n");
         output.append("-".repeat(60)).append("\n\n");
         
-        // Sample report data based on source
-        switch (dataSource) {
-            case "Production Orders":
-                output.append("PRODUCTION ORDERS SUMMARY\n");
-                output.append("Total Orders: 45\n");
-                output.append("Completed: 38 (84.4%)\n");
-                output.append("In Progress: 5 (11.1%)\n");
-                output.append("Pending: 2 (4.4%)\n");
-                break;
-            case "Quality Inspections":
-                output.append("QUALITY INSPECTIONS SUMMARY\n");
-                output.append("Total Inspections: 125\n");
-                output.append("Passed: 119 (95.2%)\n");
-                output.append("Failed: 6 (4.8%)\n");
-                output.append("Average Quality Score: 92.5\n");
-                break;
-            case "Inventory Items":
-                output.append("INVENTORY SUMMARY\n");
-                output.append("Total Items: 150\n");
-                output.append("Low Stock Items: 12\n");
-                output.append("Total Value: $245,680\n");
-                output.append("Turnover Rate: 4.2x\n");
-                break;
-            case "Stock Movements":
-                output.append("STOCK MOVEMENTS SUMMARY\n");
-                output.append("Total Movements: 89\n");
-                output.append("Receipts: 34\n");
-                output.append("Issues: 45\n");
-                output.append("Adjustments: 10\n");
-                break;
+        // Fixed-width table of the first rows; column widths from the shown rows
+        String[] columns = result.getColumns();
+        int shown = Math.min(result.getRowCount(), MAX_DISPLAY_ROWS);
+        int[] widths = new int[columns.length];
+        for (int c = 0; c < columns.length; c++) {
+            widths[c] = Math.min(columns[c].length(), MAX_COLUMN_WIDTH);
+        }
+        for (int r = 0; r < shown; r++) {
+            Object[] row = result.getRows().get(r);
+            for (int c = 0; c < columns.length; c++) {
+                widths[c] = Math.max(widths[c], Math.min(ExportWriter.formatValue(row[c]).length(), MAX_COLUMN_WIDTH));
+            }
+        }
+        
+        appendTableRow(output, columns, widths);
+        int lineWidth = 0;
+        for (int width : widths) {
+            lineWidth += width + 2;
+        }
+        output.append("-".repeat(Math.max(lineWidth, 1))).append("\n");
+        for (int r = 0; r < shown; r++) {
+            appendTableRow(output, result.getRows().get(r), widths);
+        }
+        
+        output.append("\n");
+        if (result.getRowCount() > shown) {
+            output.append(String.format("Showing %,d of %,d rows.\n", shown, result.getRowCount()));
+        } else {
+            output.append(String.format("%,d rows.\n", result.getRowCount()));
+        }
+        if (result.isTruncated()) {
+            output.append(String.format("Result limited to %,d rows; narrow the filters to see the rest.\n",
+                ReportsOperations.DEFAULT_MAX_ROWS));
         }
         
         output.append("\n").append("=".repeat(60)).append("\n");
@@ -721,6 +1200,17 @@ public class ReportsAnalyticsView {
         return output.toString();
     }
 
+    private void appendTableRow(StringBuilder output, Object[] values, int[] widths) {
+        for (int c = 0; c < widths.length; c++) {
+            String text = ExportWriter.formatValue(values[c]).replace('\n', ' ');
+            if (text.length() > widths[c]) {
+                text = text.substring(0, Math.max(widths[c] - 1, 0)) + "…";
+            }
+            output.append(String.format("%-" + Math.max(widths[c], 1) + "s  ", text));
+        }
+        output.append("\n");
+    }
+
     private void saveReportTemplate() {
         showInfo("Save Template", "Report template saved successfully!");
     }
@@ -1,5 +1,6 @@
 package com.mycompany.manufacturing_system;
 
+import java.io.IOException;
 import java.sql.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -8,12 +9,19 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 
 /**
  * Reports operations for database interactions and report generation
  */
 public class ReportsOperations {
     private Connection connection;
+    private final ReportCache reportCache = ReportCache.shared();
+    private final ProductionTrendCube trendCube;
+    private final ReportSnapshotStore snapshotStore;
+    private final OeeEngine oeeEngine;
     private static final DateTimeFormatter formatter = 
         DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     private static final DateTimeFormatter dateFormatter = 
@@ -21,16 +29,65 @@ public class ReportsOperations {
 
     public ReportsOperations() throws SQLException {
         connection = DatabaseConnection.getConnection();
+        trendCube = new ProductionTrendCube(connection);
+        snapshotStore = new ReportSnapshotStore(connection);
+        oeeEngine = new OeeEngine(connection);
+    }
+
+    /**
+     * Return this object's connection to the pool. Not for objects on a caller's connection
+     */
+    public void close() {
+        DatabaseConnection.releaseConnection(connection);
+        connection = null;
+    }
+
+    /**
+     * Run report queries on a connection the caller owns, e.g. one borrowed
+     * from the pool for a single parallel query
+     */
+    ReportsOperations(Connection connection) {
+        this.connection = connection;
+        trendCube = new ProductionTrendCube(connection);
+        snapshotStore = new ReportSnapshotStore(connection);
+        oeeEngine = new OeeEngine(connection);
     }
 
     /**
      * Get production summary for a date range
      */
     public ProductionSummary getProductionSummary(LocalDate startDate, LocalDate endDate) {
+        try {
+            return fetchProductionSummary(startDate, endDate);
+        } catch (SQLException e) {
+            System.err.println("Error getting production summary: " + e.getMessage());
+            e.printStackTrace();
+            return new ProductionSummary();
+        }
+    }
+
+    /**
+     * Same as getProductionSummary, but reports database errors to the caller
+     */
+    ProductionSummary fetchProductionSummary(LocalDate startDate, LocalDate endDate) throws SQLException {
+        return reportCache.get(ReportCache.Source.ORDERS, "PRODUCTION_SUMMARY", null, startDate, endDate,
+            () -> loadProductionSummary(startDate, endDate));
+    }
+
+    /**
+     * Serve production summary from a precomputed snapshot if one is valid,
+     * otherwise query it, bypassing the cache
+     */
+    private ProductionSummary loadProductionSummary(LocalDate startDate, LocalDate endDate) throws SQLException {
+        ProductionSummary snapshot = snapshotStore.readProductionSummary(startDate, endDate);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
         ProductionSummary summary = new ProductionSummary();
         
         try (PreparedStatement stmt = connection.prepareStatement("""
-            SELECT 
+            SELECT
                 COUNT(*) as total_orders,
                 SUM(CASE WHEN status = 'COMPLETED' THEN 1 ELSE 0 END) as completed_orders,
                 SUM(CASE WHEN status = 'IN_PROGRESS' THEN 1 ELSE 0 END) as in_progress_orders,
@@ -38,7 +95,7 @@ public class ReportsOperations {
                 SUM(quantity) as total_quantity,
                 SUM(total_cost) as total_value,
                 AVG(completion_percentage) as avg_completion
-            FROM production_orders 
+            FROM production_orders
             WHERE DATE(order_date) BETWEEN ? AND ?
             """)) {
             
@@ -56,9 +113,6 @@ public class ReportsOperations {
                 summary.setAverageCompletion(rs.getDouble("avg_completion"));
             }
             
-        } catch (SQLException e) {
-            System.err.println("Error getting production summary: " + e.getMessage());
-            e.printStackTrace();
         }
         
         return summary;
@@ -68,17 +122,44 @@ public class ReportsOperations {
      * Get quality summary for a date range
      */
     public QualitySummary getQualitySummary(LocalDate startDate, LocalDate endDate) {
+        try {
+            return fetchQualitySummary(startDate, endDate);
+        } catch (SQLException e) {
+            System.err.println("Error getting quality summary: " + e.getMessage());
+            e.printStackTrace();
+            return new QualitySummary();
+        }
+    }
+
+    /**
+     * Same as getQualitySummary, but reports database errors to the caller
+     */
+    QualitySummary fetchQualitySummary(LocalDate startDate, LocalDate endDate) throws SQLException {
+        return reportCache.get(ReportCache.Source.INSPECTIONS, "QUALITY_SUMMARY", null, startDate, endDate,
+            () -> loadQualitySummary(startDate, endDate));
+    }
+
+    /**
+     * Serve quality summary from a precomputed snapshot if one is valid,
+     * otherwise query it, bypassing the cache
+     */
+    private QualitySummary loadQualitySummary(LocalDate startDate, LocalDate endDate) throws SQLException {
+        QualitySummary snapshot = snapshotStore.readQualitySummary(startDate, endDate);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
         QualitySummary summary = new QualitySummary();
         
         try (PreparedStatement stmt = connection.prepareStatement("""
-            SELECT 
+            SELECT
                 COUNT(*) as total_inspections,
                 SUM(CASE WHEN status = 'PASSED' THEN 1 ELSE 0 END) as passed_inspections,
                 SUM(CASE WHEN status = 'FAILED' THEN 1 ELSE 0 END) as failed_inspections,
                 SUM(CASE WHEN status = 'PENDING' THEN 1 ELSE 0 END) as pending_inspections,
                 SUM(defect_count) as total_defects,
                 AVG(quality_score) as avg_quality_score
-            FROM quality_inspections 
+            FROM quality_inspections
             WHERE DATE(inspection_date) BETWEEN ? AND ?
             """)) {
             
@@ -96,9 +177,6 @@ public class ReportsOperations {
                 summary.calculateRates();
             }
             
-        } catch (SQLException e) {
-            System.err.println("Error getting quality summary: " + e.getMessage());
-            e.printStackTrace();
         }
         
         return summary;
@@ -108,18 +186,39 @@ public class ReportsOperations {
      * Get inventory summary
      */
     public InventorySummary getInventorySummary() {
+        try {
+            return fetchInventorySummary();
+        } catch (SQLException e) {
+            System.err.println("Error getting inventory summary: " + e.getMessage());
+            e.printStackTrace();
+            return new InventorySummary();
+        }
+    }
+
+    /**
+     * Same as getInventorySummary, but reports database errors to the caller
+     */
+    InventorySummary fetchInventorySummary() throws SQLException {
+        return reportCache.get(ReportCache.Source.INVENTORY, "INVENTORY_SUMMARY", null, null, null,
+            this::loadInventorySummary);
+    }
+
+    /**
+     * Query inventory summary, bypassing the cache
+     */
+    private InventorySummary loadInventorySummary() throws SQLException {
         InventorySummary summary = new InventorySummary();
         
         try (Statement stmt = connection.createStatement()) {
             // Total inventory value
             ResultSet rs = stmt.executeQuery("""
-                SELECT 
+                SELECT
                     COUNT(*) as total_items,
                     SUM(quantity_on_hand * unit_price) as total_value,
                     SUM(CASE WHEN quantity_on_hand <= minimum_stock_level THEN 1 ELSE 0 END) as low_stock_items,
                     SUM(CASE WHEN quantity_on_hand = 0 THEN 1 ELSE 0 END) as out_of_stock_items,
                     SUM(CASE WHEN quantity_on_hand <= reorder_point THEN 1 ELSE 0 END) as reorder_items
-                FROM inventory_items 
+                FROM inventory_items
                 WHERE status = 'ACTIVE'
                 """);
             
@@ -133,11 +232,11 @@ public class ReportsOperations {
             
             // Category breakdown
             rs = stmt.executeQuery("""
-                SELECT 
+                SELECT
                     category,
                     COUNT(*) as item_count,
                     SUM(quantity_on_hand * unit_price) as category_value
-                FROM inventory_items 
+                FROM inventory_items
                 WHERE status = 'ACTIVE'
                 GROUP BY category
                 """);
@@ -153,9 +252,6 @@ public class ReportsOperations {
             summary.setCategoryCount(categoryCount);
             summary.setCategoryValue(categoryValue);
             
-        } catch (SQLException e) {
-            System.err.println("Error getting inventory summary: " + e.getMessage());
-            e.printStackTrace();
         }
         
         return summary;
@@ -165,15 +261,42 @@ public class ReportsOperations {
      * Get financial summary for a date range
      */
     public FinancialSummary getFinancialSummary(LocalDate startDate, LocalDate endDate) {
+        try {
+            return fetchFinancialSummary(startDate, endDate);
+        } catch (SQLException e) {
+            System.err.println("Error getting financial summary: " + e.getMessage());
+            e.printStackTrace();
+            return new FinancialSummary();
+        }
+    }
+
+    /**
+     * Same as getFinancialSummary, but reports database errors to the caller
+     */
+    FinancialSummary fetchFinancialSummary(LocalDate startDate, LocalDate endDate) throws SQLException {
+        return reportCache.get(ReportCache.Source.ORDERS, "FINANCIAL_SUMMARY", null, startDate, endDate,
+            () -> loadFinancialSummary(startDate, endDate));
+    }
+
+    /**
+     * Serve financial summary from a precomputed snapshot if one is valid,
+     * otherwise query it, bypassing the cache
+     */
+    private FinancialSummary loadFinancialSummary(LocalDate startDate, LocalDate endDate) throws SQLException {
+        FinancialSummary snapshot = snapshotStore.readFinancialSummary(startDate, endDate);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
         FinancialSummary summary = new FinancialSummary();
         
         try (PreparedStatement stmt = connection.prepareStatement("""
-            SELECT 
+            SELECT
                 SUM(total_cost) as total_revenue,
                 COUNT(*) as total_orders,
                 AVG(total_cost) as avg_order_value,
                 SUM(CASE WHEN status = 'COMPLETED' THEN total_cost ELSE 0 END) as completed_revenue
-            FROM production_orders 
+            FROM production_orders
             WHERE DATE(order_date) BETWEEN ? AND ?
             """)) {
             
@@ -188,9 +311,6 @@ public class ReportsOperations {
                 summary.setCompletedRevenue(rs.getDouble("completed_revenue"));
             }
             
-        } catch (SQLException e) {
-            System.err.println("Error getting financial summary: " + e.getMessage());
-            e.printStackTrace();
         }
         
         return summary;
@@ -200,24 +320,92 @@ public class ReportsOperations {
      * Get production trend data for charts
      */
     public List<TrendData> getProductionTrend(LocalDate startDate, LocalDate endDate, String period) {
+        return getProductionTrend(startDate, endDate, period, null, null, null, null);
+    }
+
+    /**
+     * Get production trend data filtered by product, line, priority and status.
+     * Any filter may be null to include all values.
+     */
+    public List<TrendData> getProductionTrend(LocalDate startDate, LocalDate endDate, String period,
+                                              String productId, String productionLine,
+                                              String priority, String status) {
+        try {
+            return fetchProductionTrend(startDate, endDate, period, productId, productionLine, priority, status);
+        } catch (SQLException e) {
+            System.err.println("Error getting production trend: " + e.getMessage());
+            e.printStackTrace();
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Same as getProductionTrend, but reports database errors to the caller
+     */
+    List<TrendData> fetchProductionTrend(LocalDate startDate, LocalDate endDate, String period,
+                                         String productId, String productionLine,
+                                         String priority, String status) throws SQLException {
+        String variant = String.join("|", period.toUpperCase(),
+            String.valueOf(productId), String.valueOf(productionLine),
+            String.valueOf(priority), String.valueOf(status));
+        return reportCache.get(ReportCache.Source.ORDERS, "PRODUCTION_TREND", variant, startDate, endDate,
+            () -> loadProductionTrend(startDate, endDate, period, productId, productionLine, priority, status));
+    }
+
+    /**
+     * Bring the trend cube up to date and roll it up to the requested period.
+     * Falls back to grouping production_orders directly if the cube is unavailable.
+     */
+    private List<TrendData> loadProductionTrend(LocalDate startDate, LocalDate endDate, String period,
+                                                String productId, String productionLine,
+                                                String priority, String status) throws SQLException {
+        try {
+            trendCube.refresh();
+            return trendCube.getTrend(startDate, endDate, period, productId, productionLine, priority, status);
+        } catch (SQLException e) {
+            System.err.println("Trend cube unavailable, querying orders directly: " + e.getMessage());
+        }
+
         List<TrendData> trendData = new ArrayList<>();
         String groupBy = getGroupByClause(period);
-        
+
+        StringBuilder where = new StringBuilder("DATE(order_date) BETWEEN ? AND ?");
+        List<String> params = new ArrayList<>();
+        params.add(startDate.format(dateFormatter));
+        params.add(endDate.format(dateFormatter));
+        if (productId != null) {
+            where.append(" AND product_id = ?");
+            params.add(productId);
+        }
+        if (productionLine != null) {
+            where.append(" AND assigned_line = ?");
+            params.add(productionLine);
+        }
+        if (priority != null) {
+            where.append(" AND priority = ?");
+            params.add(priority);
+        }
+        if (status != null) {
+            where.append(" AND status = ?");
+            params.add(status);
+        }
+
         try (PreparedStatement stmt = connection.prepareStatement(String.format("""
-            SELECT 
+            SELECT
                 %s as period,
                 COUNT(*) as order_count,
                 SUM(quantity) as total_quantity,
                 SUM(total_cost) as total_value,
                 AVG(completion_percentage) as avg_completion
-            FROM production_orders 
-            WHERE DATE(order_date) BETWEEN ? AND ?
+            FROM production_orders
+            WHERE %s
             GROUP BY %s
             ORDER BY period
-            """, groupBy, groupBy))) {
+            """, groupBy, where, groupBy))) {
             
-            stmt.setString(1, startDate.format(dateFormatter));
-            stmt.setString(2, endDate.format(dateFormatter));
+            for (int i = 0; i < params.size(); i++) {
+                stmt.setString(i + 1, params.get(i));
+            }
             
             ResultSet rs = stmt.executeQuery();
             while (rs.next()) {
@@ -231,29 +419,122 @@ public class ReportsOperations {
                 trendData.add(data);
             }
             
-        } catch (SQLException e) {
-            System.err.println("Error getting production trend: " + e.getMessage());
-            e.printStackTrace();
         }
         
         return trendData;
     }
 
+    /**
+     * Rebuild the trend cube from every order, e.g. after orders were deleted
+     */
+    public boolean rebuildTrendCube() {
+        try {
+            trendCube.rebuild();
+            reportCache.invalidate(ReportCache.Source.ORDERS);
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Error rebuilding trend cube: " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Get the OEE trend by period, optionally for one line and/or shift
+     */
+    public List<OeeData> getOeeTrend(LocalDate startDate, LocalDate endDate, String period,
+                                     String productionLine, String shift) {
+        try {
+            return fetchOeeTrend(startDate, endDate, period, productionLine, shift);
+        } catch (SQLException e) {
+            System.err.println("Error getting OEE trend: " + e.getMessage());
+            e.printStackTrace();
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Same as getOeeTrend, but reports database errors to the caller
+     */
+    List<OeeData> fetchOeeTrend(LocalDate startDate, LocalDate endDate, String period,
+                                String productionLine, String shift) throws SQLException {
+        String variant = String.join("|", period.toUpperCase(),
+            String.valueOf(productionLine), String.valueOf(shift));
+        return reportCache.get(ReportCache.Source.PRODUCTION_REPORTS, "OEE_TREND", variant, startDate, endDate,
+            () -> {
+                oeeEngine.refresh();
+                return oeeEngine.getOeeTrend(startDate, endDate, period, productionLine, shift);
+            });
+    }
+
+    /**
+     * Get OEE for a date range by LINE, SHIFT or DAY
+     */
+    public List<OeeData> getOeeBreakdown(LocalDate startDate, LocalDate endDate, String dimension) {
+        try {
+            return reportCache.get(ReportCache.Source.PRODUCTION_REPORTS, "OEE_BREAKDOWN", dimension.toUpperCase(),
+                startDate, endDate, () -> {
+                    oeeEngine.refresh();
+                    return oeeEngine.getOeeBreakdown(startDate, endDate, dimension);
+                });
+        } catch (SQLException e) {
+            System.err.println("Error getting OEE breakdown: " + e.getMessage());
+            e.printStackTrace();
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Rebuild the OEE rollup from every production report
+     */
+    public boolean rebuildOee() {
+        try {
+            oeeEngine.rebuild();
+            reportCache.invalidate(ReportCache.Source.PRODUCTION_REPORTS);
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Error rebuilding OEE rollup: " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        }
+    }
+
     /**
      * Get efficiency data by production line
      */
     public List<EfficiencyData> getProductionEfficiency(LocalDate startDate, LocalDate endDate) {
+        try {
+            return fetchProductionEfficiency(startDate, endDate);
+        } catch (SQLException e) {
+            System.err.println("Error getting production efficiency: " + e.getMessage());
+            e.printStackTrace();
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Same as getProductionEfficiency, but reports database errors to the caller
+     */
+    List<EfficiencyData> fetchProductionEfficiency(LocalDate startDate, LocalDate endDate) throws SQLException {
+        return reportCache.get(ReportCache.Source.ORDERS, "PRODUCTION_EFFICIENCY", null, startDate, endDate,
+            () -> loadProductionEfficiency(startDate, endDate));
+    }
+
+    /**
+     * Query efficiency data by production line, bypassing the cache
+     */
+    private List<EfficiencyData> loadProductionEfficiency(LocalDate startDate, LocalDate endDate) throws SQLException {
         List<EfficiencyData> efficiencyData = new ArrayList<>();
         
         try (PreparedStatement stmt = connection.prepareStatement("""
-            SELECT 
+            SELECT
                 assigned_line,
                 COUNT(*) as total_orders,
                 SUM(CASE WHEN status = 'COMPLETED' THEN 1 ELSE 0 END) as completed_orders,
                 AVG(completion_percentage) as avg_completion,
                 SUM(quantity) as total_quantity
-            FROM production_orders 
-            WHERE DATE(order_date) BETWEEN ? AND ? 
+            FROM production_orders
+            WHERE DATE(order_date) BETWEEN ? AND ?
             AND assigned_line IS NOT NULL
             GROUP BY assigned_line
             ORDER BY assigned_line
@@ -275,9 +556,6 @@ public class ReportsOperations {
                 efficiencyData.add(data);
             }
             
-        } catch (SQLException e) {
-            System.err.println("Error getting production efficiency: " + e.getMessage());
-            e.printStackTrace();
         }
         
         return efficiencyData;
@@ -287,14 +565,35 @@ public class ReportsOperations {
      * Get defect distribution data for quality charts
      */
     public Map<String, Integer> getDefectDistribution(LocalDate startDate, LocalDate endDate) {
+        try {
+            return fetchDefectDistribution(startDate, endDate);
+        } catch (SQLException e) {
+            System.err.println("Error getting defect distribution: " + e.getMessage());
+            e.printStackTrace();
+            return new HashMap<>();
+        }
+    }
+
+    /**
+     * Same as getDefectDistribution, but reports database errors to the caller
+     */
+    Map<String, Integer> fetchDefectDistribution(LocalDate startDate, LocalDate endDate) throws SQLException {
+        return reportCache.get(ReportCache.Source.INSPECTIONS, "DEFECT_DISTRIBUTION", null, startDate, endDate,
+            () -> loadDefectDistribution(startDate, endDate));
+    }
+
+    /**
+     * Query defect distribution data for quality charts, bypassing the cache
+     */
+    private Map<String, Integer> loadDefectDistribution(LocalDate startDate, LocalDate endDate) throws SQLException {
         Map<String, Integer> defectData = new HashMap<>();
         
         try (PreparedStatement stmt = connection.prepareStatement("""
-            SELECT 
+            SELECT
                 defect_types,
                 COUNT(*) as defect_count
-            FROM quality_inspections 
-            WHERE DATE(inspection_date) BETWEEN ? AND ? 
+            FROM quality_inspections
+            WHERE DATE(inspection_date) BETWEEN ? AND ?
             AND status = 'FAILED'
             AND defect_types IS NOT NULL AND defect_types != ''
             """)) {
@@ -317,259 +616,426 @@ public class ReportsOperations {
                 }
             }
             
-        } catch (SQLException e) {
-            System.err.println("Error getting defect distribution: " + e.getMessage());
-            e.printStackTrace();
         }
         
         return defectData;
     }
 
     /**
-     * Generate custom report based on SQL query
+     * Cache statistics (hit ratio, load time) for tuning
      */
-    public List<Map<String, Object>> executeCustomQuery(String query) {
-        List<Map<String, Object>> results = new ArrayList<>();
-        
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(query)) {
-            
-            ResultSetMetaData metadata = rs.getMetaData();
-            int columnCount = metadata.getColumnCount();
-            
-            while (rs.next()) {
-                Map<String, Object> row = new HashMap<>();
-                for (int i = 1; i <= columnCount; i++) {
-                    String columnName = metadata.getColumnName(i);
-                    Object value = rs.getObject(i);
-                    row.put(columnName, value);
-                }
-                results.add(row);
-            }
-            
-        } catch (SQLException e) {
-            System.err.println("Error executing custom query: " + e.getMessage());
-            e.printStackTrace();
-        }
-        
-        return results;
+    public ReportCache getReportCache() {
+        return reportCache;
     }
 
-    private String getGroupByClause(String period) {
-        switch (period.toUpperCase()) {
-            case "DAILY":
-                return "DATE(order_date)";
-            case "WEEKLY":
-                return "YEAR(order_date), WEEK(order_date)";
-            case "MONTHLY":
-                return "YEAR(order_date), MONTH(order_date)";
-            case "QUARTERLY":
-                return "YEAR(order_date), QUARTER(order_date)";
-            default:
-                return "DATE(order_date)";
-        }
-    }
-}
-
-/**
- * Production Summary data class
- */
-class ProductionSummary {
-    private int totalOrders;
-    private int completedOrders;
-    private int inProgressOrders;
-    private int pendingOrders;
-    private int totalQuantity;
-    private double totalValue;
-    private double averageCompletion;
-
-    // Getters and Setters
-    public int getTotalOrders() { return totalOrders; }
-    public void setTotalOrders(int totalOrders) { this.totalOrders = totalOrders; }
+    /**
+     * Row-level datasets that can be streamed to an export file
+     */
+    public enum ExportDataset {
+        PRODUCTION_ORDERS("Production Orders", "production_orders", "order_date", """
+            SELECT order_id, customer_name, product_id, product_name, quantity, status, priority,
+                   order_date, due_date, completion_date, assigned_line, total_cost, completion_percentage
+            FROM production_orders
+            """, "order_date, order_id", List.of("order_id", "customer_name", "product_id", "product_name",
+            "quantity", "status", "priority", "due_date", "completion_date", "assigned_line", "total_cost",
+            "completion_percentage")),
+        QUALITY_INSPECTIONS("Quality Inspections", "quality_inspections", "inspection_date", """
+            SELECT inspection_id, order_id, product_name, inspection_type, inspector, status,
+                   inspection_date, defect_count, quality_score
+            FROM quality_inspections
+            """, "inspection_date, inspection_id", List.of("inspection_id", "order_id", "product_name",
+            "inspection_type", "inspector", "status", "defect_count", "quality_score")),
+        STOCK_MOVEMENTS("Stock Movements", "stock_movements", "movement_date", """
+            SELECT movement_id, item_code, movement_type, quantity, reference, movement_date,
+                   user_id, location_from, location_to, unit_cost
+            FROM stock_movements
+            """, "movement_date, movement_id", List.of("movement_id", "item_code", "movement_type", "quantity",
+            "reference", "user_id", "location_from", "location_to", "unit_cost")),
+        INVENTORY_ITEMS("Inventory Items", "inventory_items", null, """
+            SELECT item_code, description, category, unit_of_measure, unit_price, quantity_on_hand,
+                   minimum_stock_level, reorder_point, location, supplier, status
+            FROM inventory_items
+            """, "item_code", List.of("item_code", "description", "category", "unit_of_measure", "unit_price",
+            "quantity_on_hand", "minimum_stock_level", "reorder_point", "location", "supplier", "status"));
 
-    public int getCompletedOrders() { return completedOrders; }
-    public void setCompletedOrders(int completedOrders) { this.completedOrders = completedOrders; }
+        private final String title;
+        private final String table;
+        private final String dateColumn;
+        private final String select;
+        private final String orderBy;
+        private final List<String> filterColumns;
 
-    public int getInProgressOrders() { return inProgressOrders; }
-    public void setInProgressOrders(int inProgressOrders) { this.inProgressOrders = inProgressOrders; }
+        ExportDataset(String title, String table, String dateColumn, String select, String orderBy,
+                      List<String> filterColumns) {
+            this.title = title;
+            this.table = table;
+            this.dateColumn = dateColumn;
+            this.select = select;
+            this.orderBy = orderBy;
+            this.filterColumns = filterColumns;
+        }
 
-    public int getPendingOrders() { return pendingOrders; }
-    public void setPendingOrders(int pendingOrders) { this.pendingOrders = pendingOrders; }
+        public String getTitle() { return title; }
 
-    public int getTotalQuantity() { return totalQuantity; }
-    public void setTotalQuantity(int totalQuantity) { this.totalQuantity = totalQuantity; }
+        /**
+         * Columns a custom report may filter on; the only names a filter can put into the SQL
+         */
+        public List<String> getFilterColumns() { return filterColumns; }
 
-    public double getTotalValue() { return totalValue; }
-    public void setTotalValue(double totalValue) { this.totalValue = totalValue; }
+        // Half-open range on the raw column so the date index can be used.
+        // Undated datasets (current inventory) ignore the range.
+        private String rangeFilter() {
+            return dateColumn == null ? "" : " WHERE " + dateColumn + " >= ? AND " + dateColumn + " < ?";
+        }
 
-    public double getAverageCompletion() { return averageCompletion; }
-    public void setAverageCompletion(double averageCompletion) { this.averageCompletion = averageCompletion; }
+        private void bindRange(PreparedStatement stmt, LocalDate startDate, LocalDate endDate) throws SQLException {
+            if (dateColumn != null) {
+                stmt.setString(1, startDate.format(dateFormatter));
+                stmt.setString(2, endDate.plusDays(1).format(dateFormatter));
+            }
+        }
 
-    public double getCompletionRate() {
-        return totalOrders > 0 ? (double) completedOrders / totalOrders * 100 : 0;
+        public static ExportDataset forTitle(String title) {
+            for (ExportDataset dataset : values()) {
+                if (dataset.title.equals(title)) {
+                    return dataset;
+                }
+            }
+            return null;
+        }
     }
-}
 
-/**
- * Quality Summary data class
- */
-class QualitySummary {
-    private int totalInspections;
-    private int passedInspections;
-    private int failedInspections;
-    private int pendingInspections;
-    private int totalDefects;
-    private double averageQualityScore;
-    private double passRate;
-    private double defectRate;
-
-    public void calculateRates() {
-        if (totalInspections > 0) {
-            passRate = (double) passedInspections / totalInspections * 100;
-            defectRate = (double) failedInspections / totalInspections * 100;
-        }
+    /**
+     * Receives streamed rows one at a time
+     */
+    public interface RowHandler {
+        void header(String[] columns) throws IOException;
+        void row(Object[] values) throws IOException;
     }
 
-    // Getters and Setters
-    public int getTotalInspections() { return totalInspections; }
-    public void setTotalInspections(int totalInspections) { this.totalInspections = totalInspections; }
+    /**
+     * Comparisons offered by the custom report builder. Only the SQL here is
+     * written into a query; the value a user types is always bound.
+     */
+    public enum FilterOperator {
+        EQUALS("=", "= ?"),
+        NOT_EQUALS("≠", "<> ?"),
+        LESS_THAN("<", "< ?"),
+        LESS_OR_EQUAL("≤", "<= ?"),
+        GREATER_THAN(">", "> ?"),
+        GREATER_OR_EQUAL("≥", ">= ?"),
+        CONTAINS("contains", "LIKE ?"),
+        STARTS_WITH("starts with", "LIKE ?");
 
-    public int getPassedInspections() { return passedInspections; }
-    public void setPassedInspections(int passedInspections) { this.passedInspections = passedInspections; }
+        private final String label;
+        private final String sql;
 
-    public int getFailedInspections() { return failedInspections; }
-    public void setFailedInspections(int failedInspections) { this.failedInspections = failedInspections; }
+        FilterOperator(String label, String sql) {
+            this.label = label;
+            this.sql = sql;
+        }
 
-    public int getPendingInspections() { return pendingInspections; }
-    public void setPendingInspections(int pendingInspections) { this.pendingInspections = pendingInspections; }
+        // LIKE wildcards in the value are matched literally
+        private String bindValue(String value) {
+            String literal = value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+            switch (this) {
+                case CONTAINS:
+                    return "%" + literal + "%";
+                case STARTS_WITH:
+                    return literal + "%";
+                default:
+                    return value;
+            }
+        }
 
-    public int getTotalDefects() { return totalDefects; }
-    public void setTotalDefects(int totalDefects) { this.totalDefects = totalDefects; }
+        @Override
+        public String toString() { return label; }
+    }
 
-    public double getAverageQualityScore() { return averageQualityScore; }
-    public void setAverageQualityScore(double averageQualityScore) { this.averageQualityScore = averageQualityScore; }
+    /**
+     * One condition of a custom report: a column of the dataset, an operator and a value
+     */
+    public record ReportFilter(String column, FilterOperator operator, String value) {
+        @Override
+        public String toString() {
+            return column + " " + operator + " '" + value + "'";
+        }
+    }
 
-    public double getPassRate() { return passRate; }
-    public double getDefectRate() { return defectRate; }
-}
+    /**
+     * A custom report query and the values to bind to its parameters, in order
+     */
+    public record CustomQuery(String sql, List<Object> parameters) {
+    }
 
-/**
- * Inventory Summary data class
- */
-class InventorySummary {
-    private int totalItems;
-    private double totalValue;
-    private int lowStockItems;
-    private int outOfStockItems;
-    private int reorderItems;
-    private Map<String, Integer> categoryCount;
-    private Map<String, Double> categoryValue;
+    // Limits for ad-hoc queries from the custom report builder
+    public static final int DEFAULT_MAX_ROWS = Integer.getInteger("report.query.maxRows", 10_000);
+    public static final int DEFAULT_TIMEOUT_SECONDS = Integer.getInteger("report.query.timeoutSeconds", 30);
 
-    // Getters and Setters
-    public int getTotalItems() { return totalItems; }
-    public void setTotalItems(int totalItems) { this.totalItems = totalItems; }
+    /**
+     * Lets the UI cancel a running custom query from another thread
+     */
+    public static final class QueryHandle {
+        private volatile Statement statement;
+        private volatile boolean cancelled;
+        private volatile boolean truncated;
+
+        public QueryHandle() {
+        }
 
-    public double getTotalValue() { return totalValue; }
-    public void setTotalValue(double totalValue) { this.totalValue = totalValue; }
+        public void cancel() {
+            cancelled = true;
+            Statement running = statement;
+            if (running != null) {
+                try {
+                    running.cancel();
+                } catch (SQLException e) {
+                    System.err.println("Error cancelling query: " + e.getMessage());
+                }
+            }
+        }
 
-    public int getLowStockItems() { return lowStockItems; }
-    public void setLowStockItems(int lowStockItems) { this.lowStockItems = lowStockItems; }
+        public boolean isCancelled() { return cancelled; }
+        public boolean isTruncated() { return truncated; }
+    }
 
-    public int getOutOfStockItems() { return outOfStockItems; }
-    public void setOutOfStockItems(int outOfStockItems) { this.outOfStockItems = outOfStockItems; }
+    /**
+     * Count the rows an export of this dataset will produce, for progress reporting
+     */
+    public long countDatasetRows(ExportDataset dataset, LocalDate startDate, LocalDate endDate) {
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "SELECT COUNT(*) FROM " + dataset.table + dataset.rangeFilter())) {
+            dataset.bindRange(stmt, startDate, endDate);
 
-    public int getReorderItems() { return reorderItems; }
-    public void setReorderItems(int reorderItems) { this.reorderItems = reorderItems; }
+            ResultSet rs = stmt.executeQuery();
+            if (rs.next()) {
+                return rs.getLong(1);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error counting export rows: " + e.getMessage());
+        }
+        return -1;
+    }
 
-    public Map<String, Integer> getCategoryCount() { return categoryCount; }
-    public void setCategoryCount(Map<String, Integer> categoryCount) { this.categoryCount = categoryCount; }
+    /**
+     * Stream every row of a dataset in the date range to the handler.
+     * Runs on its own pooled connection with a forward-only, row-by-row result
+     * set, so memory stays flat however many rows there are. Stops with a
+     * CancellationException as soon as cancelled reports true.
+     */
+    public long streamDataset(ExportDataset dataset, LocalDate startDate, LocalDate endDate,
+                              RowHandler handler, BooleanSupplier cancelled)
+            throws SQLException, IOException {
+        Connection streamConnection = DatabaseConnection.getConnection();
+        long rows = 0;
 
-    public Map<String, Double> getCategoryValue() { return categoryValue; }
-    public void setCategoryValue(Map<String, Double> categoryValue) { this.categoryValue = categoryValue; }
-}
+        try (PreparedStatement stmt = streamConnection.prepareStatement(
+                dataset.select + dataset.rangeFilter() + " ORDER BY " + dataset.orderBy,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            // Connector/J only streams when the fetch size is Integer.MIN_VALUE;
+            // any positive value without useCursorFetch buffers the whole result
+            stmt.setFetchSize(Integer.MIN_VALUE);
+            dataset.bindRange(stmt, startDate, endDate);
 
-/**
- * Financial Summary data class
- */
-class FinancialSummary {
-    private double totalRevenue;
-    private double completedRevenue;
-    private int totalOrders;
-    private double averageOrderValue;
+            try (ResultSet rs = stmt.executeQuery()) {
+                ResultSetMetaData metadata = rs.getMetaData();
+                int columnCount = metadata.getColumnCount();
 
-    // Getters and Setters
-    public double getTotalRevenue() { return totalRevenue; }
-    public void setTotalRevenue(double totalRevenue) { this.totalRevenue = totalRevenue; }
+                String[] columns = new String[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    columns[i] = metadata.getColumnLabel(i + 1);
+                }
+                handler.header(columns);
 
-    public double getCompletedRevenue() { return completedRevenue; }
-    public void setCompletedRevenue(double completedRevenue) { this.completedRevenue = completedRevenue; }
+                Object[] values = new Object[columnCount];
+                while (rs.next()) {
+                    if (cancelled.getAsBoolean()) {
+                        // Closing a streaming result set reads the remaining rows;
+                        // kill the query first so cancel returns immediately
+                        stmt.cancel();
+                        throw new CancellationException("Export cancelled after " + rows + " rows");
+                    }
+                    for (int i = 0; i < columnCount; i++) {
+                        values[i] = rs.getObject(i + 1);
+                    }
+                    handler.row(values);
+                    rows++;
+                }
+            }
+        } finally {
+            DatabaseConnection.releaseConnection(streamConnection);
+        }
 
-    public int getTotalOrders() { return totalOrders; }
-    public void setTotalOrders(int totalOrders) { this.totalOrders = totalOrders; }
+        return rows;
+    }
 
-    public double getAverageOrderValue() { return averageOrderValue; }
-    public void setAverageOrderValue(double averageOrderValue) { this.averageOrderValue = averageOrderValue; }
-}
+    /**
+     * Build the query behind a custom report: a dataset, its date range and
+     * the filters, all ANDed. Column names must be filter columns of the
+     * dataset; the dates and filter values are bound as parameters.
+     */
+    public CustomQuery buildCustomReportQuery(ExportDataset dataset, LocalDate startDate, LocalDate endDate,
+                                              List<ReportFilter> filters) {
+        StringBuilder query = new StringBuilder(dataset.select);
+        List<Object> parameters = new ArrayList<>();
+        if (dataset.dateColumn != null) {
+            query.append(" WHERE ").append(dataset.dateColumn).append(" >= ? AND ")
+                .append(dataset.dateColumn).append(" < ?");
+            parameters.add(startDate.format(dateFormatter));
+            parameters.add(endDate.plusDays(1).format(dateFormatter));
+        } else {
+            query.append(" WHERE 1 = 1");
+        }
+        for (ReportFilter filter : filters) {
+            if (!dataset.filterColumns.contains(filter.column())) {
+                throw new IllegalArgumentException("Cannot filter " + dataset.title + " on " + filter.column());
+            }
+            query.append(" AND ").append(filter.column()).append(" ").append(filter.operator().sql);
+            parameters.add(filter.operator().bindValue(filter.value()));
+        }
+        query.append(" ORDER BY ").append(dataset.orderBy);
+        return new CustomQuery(query.toString(), parameters);
+    }
 
-/**
- * Trend Data class for charts
- */
-class TrendData {
-    private String period;
-    private int orderCount;
-    private int totalQuantity;
-    private double totalValue;
-    private double averageCompletion;
+    /**
+     * Generate custom report based on SQL query, with the default row and time limits
+     */
+    public QueryResult executeCustomQuery(String query) {
+        try {
+            return executeCustomQuery(new CustomQuery(query, List.of()), DEFAULT_MAX_ROWS, DEFAULT_TIMEOUT_SECONDS,
+                                      new QueryHandle());
+        } catch (SQLException e) {
+            System.err.println("Error executing custom query: " + e.getMessage());
+            e.printStackTrace();
+            return QueryResult.empty();
+        }
+    }
 
-    // Getters and Setters
-    public String getPeriod() { return period; }
-    public void setPeriod(String period) { this.period = period; }
+    /**
+     * Run a custom query and keep at most maxRows rows as a shared column
+     * header plus one Object[] per row
+     */
+    public QueryResult executeCustomQuery(CustomQuery query, int maxRows, int timeoutSeconds, QueryHandle handle)
+            throws SQLException {
+        List<Object[]> rows = new ArrayList<>();
+        String[][] header = new String[1][];
 
-    public int getOrderCount() { return orderCount; }
-    public void setOrderCount(int orderCount) { this.orderCount = orderCount; }
+        try {
+            streamCustomQuery(query, maxRows, timeoutSeconds, new RowHandler() {
+                @Override
+                public void header(String[] columns) {
+                    header[0] = columns;
+                }
 
-    public int getTotalQuantity() { return totalQuantity; }
-    public void setTotalQuantity(int totalQuantity) { this.totalQuantity = totalQuantity; }
+                @Override
+                public void row(Object[] values) {
+                    rows.add(values);
+                }
+            }, handle);
+        } catch (IOException e) {
+            // The in-memory handler never throws
+            throw new SQLException("Unexpected I/O error collecting query rows", e);
+        }
 
-    public double getTotalValue() { return totalValue; }
-    public void setTotalValue(double totalValue) { this.totalValue = totalValue; }
+        return new QueryResult(header[0] != null ? header[0] : new String[0], rows, handle.isTruncated());
+    }
 
-    public double getAverageCompletion() { return averageCompletion; }
-    public void setAverageCompletion(double averageCompletion) { this.averageCompletion = averageCompletion; }
-}
+    /**
+     * Stream a custom query to the handler on its own read-only pooled connection.
+     * Stops after maxRows rows (marking the handle truncated), fails with
+     * SQLTimeoutException once timeoutSeconds have passed, including time spent in
+     * a slow handler, and ends with a CancellationException when the handle is
+     * cancelled. Each row is delivered as a new array the handler may keep.
+     */
+    public long streamCustomQuery(CustomQuery query, int maxRows, int timeoutSeconds,
+                                  RowHandler handler, QueryHandle handle) throws SQLException, IOException {
+        Connection queryConnection = DatabaseConnection.getConnection();
+        boolean wasReadOnly = queryConnection.isReadOnly();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        long rows = 0;
 
-/**
- * Efficiency Data class
- */
-class EfficiencyData {
-    private String productionLine;
-    private int totalOrders;
-    private int completedOrders;
-    private double averageCompletion;
-    private int totalQuantity;
-    private double efficiency;
+        try (PreparedStatement stmt = queryConnection.prepareStatement(query.sql(),
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            for (int i = 0; i < query.parameters().size(); i++) {
+                stmt.setObject(i + 1, query.parameters().get(i));
+            }
+            // Ad-hoc SQL must not modify data
+            queryConnection.setReadOnly(true);
+            stmt.setFetchSize(Integer.MIN_VALUE);
+            // One extra row tells us the result was cut off
+            stmt.setMaxRows(maxRows + 1);
+            stmt.setQueryTimeout(timeoutSeconds);
 
-    public void calculateEfficiency() {
-        if (totalOrders > 0) {
-            efficiency = (double) completedOrders / totalOrders * 100;
-        }
-    }
+            handle.statement = stmt;
+            if (handle.isCancelled()) {
+                throw new CancellationException("Query cancelled");
+            }
 
-    // Getters and Setters
-    public String getProductionLine() { return productionLine; }
-    public void setProductionLine(String productionLine) { this.productionLine = productionLine; }
+            try (ResultSet rs = stmt.executeQuery()) {
+                ResultSetMetaData metadata = rs.getMetaData();
+                int columnCount = metadata.getColumnCount();
 
-    public int getTotalOrders() { return totalOrders; }
-    public void setTotalOrders(int totalOrders) { this.totalOrders = totalOrders; }
+                String[] columns = new String[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    columns[i] = metadata.getColumnLabel(i + 1);
+                }
+                handler.header(columns);
 
-    public int getCompletedOrders() { return completedOrders; }
-    public void setCompletedOrders(int completedOrders) { this.completedOrders = completedOrders; }
+                while (rs.next()) {
+                    if (rows == maxRows) {
+                        handle.truncated = true;
+                        break;
+                    }
+                    if (handle.isCancelled()) {
+                        throw new CancellationException("Query cancelled after " + rows + " rows");
+                    }
+                    if (System.nanoTime() > deadline) {
+                        stmt.cancel();
+                        throw new SQLTimeoutException("Custom query exceeded " + timeoutSeconds + " seconds");
+                    }
 
-    public double getAverageCompletion() { return averageCompletion; }
-    public void setAverageCompletion(double averageCompletion) { this.averageCompletion = averageCompletion; }
+                    Object[] values = new Object[columnCount];
+                    for (int i = 0; i < columnCount; i++) {
+                        values[i] = rs.getObject(i + 1);
+                    }
+                    handler.row(values);
+                    rows++;
+                }
+            }
+        } catch (SQLException e) {
+            // The driver reports a cancelled statement as an SQL error
+            if (handle.isCancelled()) {
+                throw new CancellationException("Query cancelled");
+            }
+            throw e;
+        } finally {
+            handle.statement = null;
+            try {
+                queryConnection.setReadOnly(wasReadOnly);
+            } catch (SQLException e) {
+                System.err.println("Error restoring connection mode: " + e.getMessage());
+            }
+            DatabaseConnection.releaseConnection(queryConnection);
+        }
 
-    public int getTotalQuantity() { return totalQuantity; }
-    public void setTotalQuantity(int totalQuantity) { this.totalQuantity = totalQuantity; }
+        return rows;
+    }
 
-    public double getEfficiency() { return efficiency; }
+    /**
+     * The same period keys as the trend cube, e.g. 2026-W05, 2026-02 or 2026-Q1
+     */
+    private String getGroupByClause(String period) {
+        switch (period.toUpperCase()) {
+            case "DAILY":
+                return "DATE(order_date)";
+            case "WEEKLY":
+                return "CONCAT(YEAR(order_date), '-W', LPAD(WEEK(order_date), 2, '0'))";
+            case "MONTHLY":
+                return "DATE_FORMAT(order_date, '%Y-%m')";
+            case "QUARTERLY":
+                return "CONCAT(YEAR(order_date), '-Q', QUARTER(order_date))";
+            default:
+                return "DATE(order_date)";
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,213 @@
+package com.mycompany.manufacturing_system;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory copy of the roles table's permissions.
+ * Each role's permissions are held as an immutable bit mask, one bit per
+ * Permission, so hasPermission() is a map lookup and a bit test that never
+ * touches the database. The whole map is replaced when the roles table
+ * changes; a cheap checksum query (permissions.refreshSeconds, default 60)
+ * detects that. Roles without stored permissions get the built-in defaults.
+ */
+public class RolePermissions {
+    private static final Logger logger = Logger.getLogger(RolePermissions.class.getName());
+
+    /**
+     * A permission, named as in the roles.permissions JSON
+     */
+    public enum Permission {
+        USER_MANAGEMENT("user_management"),
+        PRODUCTION_MANAGEMENT("production_management"),
+        REPORTS("reports"),
+        SYSTEM_SETTINGS("system_settings"),
+        ALL_ORDERS("all_orders"),
+        OWN_ORDERS("own_orders");
+
+        private final String key;
+
+        Permission(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        long bit() {
+            return 1L << ordinal();
+        }
+    }
+
+    private static final long ALL = (1L << Permission.values().length) - 1;
+    // Every role but ADMIN, as the checks in User used to grant
+    private static final long USER_DEFAULT = Permission.REPORTS.bit() | Permission.OWN_ORDERS.bit();
+
+    private static final Pattern JSON_FLAG = Pattern.compile("\"(\\w+)\"\\s*:\\s*(true|false)");
+
+    private static final RolePermissions SHARED =
+        new RolePermissions(Long.getLong("permissions.refreshSeconds", 60));
+    private static volatile boolean schemaReady = false;
+
+    private final long refreshSeconds;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "role-permissions");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // Replaced as a whole, never modified
+    private volatile Map<String, Long> roleMasks = Map.of();
+    private long loadedChecksum = -1;
+
+    public RolePermissions(long refreshSeconds) {
+        this.refreshSeconds = refreshSeconds;
+    }
+
+    /**
+     * The permissions shared by the whole application
+     */
+    public static RolePermissions shared() {
+        return SHARED;
+    }
+
+    /**
+     * Load the roles now and check for changes periodically
+     */
+    public void start() {
+        refresh();
+        executor.scheduleWithFixedDelay(this::refresh, refreshSeconds, refreshSeconds, TimeUnit.SECONDS);
+    }
+
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Whether the user's role grants the permission. Inactive users have none.
+     */
+    public boolean hasPermission(User user, Permission permission) {
+        if (user == null || !user.isActive()) {
+            return false;
+        }
+        return (maskFor(user.getRole()) & permission.bit()) != 0;
+    }
+
+    /**
+     * Whether the role grants the permission
+     */
+    public boolean hasPermission(String role, Permission permission) {
+        return (maskFor(role) & permission.bit()) != 0;
+    }
+
+    private long maskFor(String role) {
+        if (role == null) {
+            return 0;
+        }
+        Long mask = roleMasks.get(role);
+        return mask != null ? mask : defaultMask(role);
+    }
+
+    /**
+     * Reload the roles if the table changed since the last load
+     */
+    public synchronized void refresh() {
+        Connection connection = null;
+        try {
+            connection = DatabaseConnection.getConnection();
+            ensureSchema(connection);
+            long checksum = checksum(connection);
+            if (checksum != loadedChecksum) {
+                roleMasks = load(connection);
+                loadedChecksum = checksum;
+                logger.info("Loaded permissions for " + roleMasks.size() + " roles");
+            }
+        } catch (SQLException e) {
+            logger.warning("Failed to refresh role permissions: " + e.getMessage());
+        } finally {
+            DatabaseConnection.releaseConnection(connection);
+        }
+    }
+
+    private static long checksum(Connection connection) throws SQLException {
+        String query = """
+            SELECT COUNT(*) AS role_count,
+                   COALESCE(SUM(CRC32(CONCAT_WS('|', role_id, role_name, COALESCE(permissions, '')))), 0) AS checksum
+            FROM roles
+            """;
+        try (PreparedStatement stmt = connection.prepareStatement(query);
+             ResultSet rs = stmt.executeQuery()) {
+            rs.next();
+            return rs.getLong("checksum") * 31 + rs.getLong("role_count");
+        }
+    }
+
+    private static Map<String, Long> load(Connection connection) throws SQLException {
+        Map<String, Long> masks = new HashMap<>();
+        try (PreparedStatement stmt = connection.prepareStatement("SELECT role_name, permissions FROM roles");
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                String role = rs.getString("role_name");
+                masks.put(role, parse(role, rs.getString("permissions")));
+            }
+        }
+        return Map.copyOf(masks);
+    }
+
+    /**
+     * Mask from a permissions JSON object such as {"reports": true}.
+     * Unknown keys are ignored; missing JSON means the role's defaults.
+     */
+    static long parse(String role, String json) {
+        if (json == null || json.isBlank()) {
+            return defaultMask(role);
+        }
+        long mask = 0;
+        Matcher matcher = JSON_FLAG.matcher(json);
+        while (matcher.find()) {
+            if (!"true".equals(matcher.group(2))) {
+                continue;
+            }
+            for (Permission permission : Permission.values()) {
+                if (permission.key.equals(matcher.group(1))) {
+                    mask |= permission.bit();
+                }
+            }
+        }
+        return mask;
+    }
+
+    private static long defaultMask(String role) {
+        return "ADMIN".equals(role) ? ALL : USER_DEFAULT;
+    }
+
+    /**
+     * Databases created by DatabaseConnection have no permissions column
+     */
+    private static void ensureSchema(Connection connection) throws SQLException {
+        if (schemaReady) {
+            return;
+        }
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("ALTER TABLE roles ADD COLUMN permissions LONGTEXT NULL");
+        } catch (SQLException e) {
+            // 1060: duplicate column, already there
+            if (e.getErrorCode() != 1060) {
+                throw e;
+            }
+        }
+        schemaReady = true;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,288 @@
+package com.mycompany.manufacturing_system;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * In-memory type-ahead index over a few text fields of each row, so a
+ * search box can filter as the user types without a query per keystroke.
+ * Every word start in a field (the start of the field, or a letter or digit
+ * after any other character) is an entry, and the entries are kept sorted
+ * by the text that follows them: the rows with a word starting with the
+ * query are one binary search and one contiguous run away. An entry is a
+ * packed long pointing into the row's lower-cased text, so no substrings
+ * are held. Changes build a new snapshot that is published whole; queries
+ * take no lock and never see half of a change.
+ */
+final class SearchIndex<T, K> {
+    /** Most rows a search box shows, so a one-letter query stays cheap to filter */
+    static final int MAX_RESULTS = Integer.getInteger("search.maxResults", 1000);
+
+    private static final char FIELD_END = '\u0000';
+    private static final int OFFSET_BITS = 16;
+    private static final int MAX_TEXT = (1 << OFFSET_BITS) - 1;
+
+    private final Function<T, K> key;
+    private final List<Function<T, String>> fields;
+    private final Map<K, Integer> slots = new HashMap<>(); // guarded by this
+    private volatile Snapshot snapshot = new Snapshot(new Object[0], new String[0], new long[0]);
+
+    /**
+     * @param key    identifies a row, so a changed row replaces its old entries
+     * @param fields the text fields searched, in the order their matches rank
+     */
+    SearchIndex(Function<T, K> key, List<Function<T, String>> fields) {
+        this.key = key;
+        this.fields = List.copyOf(fields);
+    }
+
+    /**
+     * Replace the whole index with rows, e.g. after a full load. Call off the FX thread.
+     */
+    synchronized void rebuild(List<T> rows) {
+        slots.clear();
+        List<Object> keys = new ArrayList<>(rows.size());
+        List<String> texts = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            K rowKey = key.apply(row);
+            Integer slot = slots.putIfAbsent(rowKey, keys.size());
+            if (slot == null) {
+                keys.add(rowKey);
+                texts.add(text(row));
+            } else {
+                texts.set(slot, text(row));
+            }
+        }
+        String[] textArray = texts.toArray(new String[0]);
+        long[] entries = sorted(entriesOf(textArray, 0, textArray.length), textArray);
+        snapshot = new Snapshot(keys.toArray(), textArray, entries);
+    }
+
+    /**
+     * Add or re-index changed rows, such as a delta from DeltaSync. Only the
+     * entries of those rows are sorted; the rest are merged around them.
+     * Call off the FX thread.
+     */
+    synchronized void update(List<T> changed) {
+        Snapshot current = snapshot;
+        Object[] keys = Arrays.copyOf(current.keys, current.keys.length + changed.size());
+        String[] texts = Arrays.copyOf(current.texts, keys.length);
+        int size = current.keys.length;
+        BitSet stale = new BitSet(size);
+        BitSet touched = new BitSet(keys.length);
+        for (T row : changed) {
+            K rowKey = key.apply(row);
+            Integer slot = slots.get(rowKey);
+            if (slot == null) {
+                slot = size++;
+                slots.put(rowKey, slot);
+                keys[slot] = rowKey;
+            } else if (slot < current.keys.length) {
+                stale.set(slot);
+            }
+            texts[slot] = text(row);
+            touched.set(slot);
+        }
+        keys = Arrays.copyOf(keys, size);
+        texts = Arrays.copyOf(texts, size);
+
+        long[] added = new long[0];
+        for (int slot = touched.nextSetBit(0); slot >= 0; slot = touched.nextSetBit(slot + 1)) {
+            long[] rowEntries = entriesOf(texts, slot, slot + 1);
+            int at = added.length;
+            added = Arrays.copyOf(added, at + rowEntries.length);
+            System.arraycopy(rowEntries, 0, added, at, rowEntries.length);
+        }
+        added = sorted(added, texts);
+
+        // Old entries of unchanged rows keep their order, and their text is the same in texts
+        long[] kept = new long[current.entries.length];
+        int keptCount = 0;
+        for (long entry : current.entries) {
+            if (!stale.get(slotOf(entry))) {
+                kept[keptCount++] = entry;
+            }
+        }
+        // A delta is small, so find where each added entry goes and copy the kept runs between
+        long[] merged = new long[keptCount + added.length];
+        int from = 0;
+        int k = 0;
+        for (long entry : added) {
+            int low = from;
+            int high = keptCount;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compareEntries(kept[mid], entry, texts) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            System.arraycopy(kept, from, merged, k, low - from);
+            k += low - from;
+            merged[k++] = entry;
+            from = low;
+        }
+        System.arraycopy(kept, from, merged, k, keptCount - from);
+        snapshot = new Snapshot(keys, texts, merged);
+    }
+
+    /**
+     * Keys of up to limit rows with a word that starts with query, ignoring
+     * case, in the order of the matched words. Safe on any thread.
+     */
+    List<K> search(String query, int limit) {
+        String prefix = normalize(query);
+        Snapshot current = snapshot;
+        List<K> found = new ArrayList<>();
+        if (prefix.isEmpty()) {
+            return found;
+        }
+        long[] entries = current.entries;
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareToPrefix(entries[mid], current.texts, prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        BitSet seen = new BitSet(current.keys.length);
+        for (int i = low; i < entries.length && found.size() < limit; i++) {
+            if (compareToPrefix(entries[i], current.texts, prefix) != 0) {
+                break;
+            }
+            int slot = slotOf(entries[i]);
+            if (!seen.get(slot)) {
+                seen.set(slot);
+                @SuppressWarnings("unchecked")
+                K match = (K) current.keys[slot];
+                found.add(match);
+            }
+        }
+        return found;
+    }
+
+    static String normalize(String query) {
+        return query == null ? "" : query.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private String text(T row) {
+        StringBuilder text = new StringBuilder();
+        for (Function<T, String> field : fields) {
+            String value = field.apply(row);
+            if (value != null) {
+                text.append(value.toLowerCase(Locale.ROOT).replace(FIELD_END, ' '));
+            }
+            text.append(FIELD_END);
+        }
+        return text.length() > MAX_TEXT ? text.substring(0, MAX_TEXT) : text.toString();
+    }
+
+    /**
+     * Entries for every word start in the texts of slots from .. to
+     */
+    private static long[] entriesOf(String[] texts, int from, int to) {
+        long[] entries = new long[16];
+        int count = 0;
+        for (int slot = from; slot < to; slot++) {
+            String text = texts[slot];
+            for (int offset = 0; offset < text.length(); offset++) {
+                char c = text.charAt(offset);
+                boolean wordStart = Character.isLetterOrDigit(c)
+                    && (offset == 0 || !Character.isLetterOrDigit(text.charAt(offset - 1)));
+                if (wordStart) {
+                    if (count == entries.length) {
+                        entries = Arrays.copyOf(entries, count * 2);
+                    }
+                    entries[count++] = ((long) slot << OFFSET_BITS) | offset;
+                }
+            }
+        }
+        return Arrays.copyOf(entries, count);
+    }
+
+    private static long[] sorted(long[] entries, String[] texts) {
+        Long[] boxed = new Long[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            boxed[i] = entries[i];
+        }
+        Arrays.sort(boxed, (a, b) -> compareEntries(a, b, texts));
+        long[] result = new long[entries.length];
+        for (int i = 0; i < boxed.length; i++) {
+            result[i] = boxed[i];
+        }
+        return result;
+    }
+
+    /**
+     * Order by the text from each entry to the end of its field, then by position
+     */
+    private static int compareEntries(long a, long b, String[] texts) {
+        String textA = texts[slotOf(a)];
+        String textB = texts[slotOf(b)];
+        int i = offsetOf(a);
+        int j = offsetOf(b);
+        while (true) {
+            char ca = i < textA.length() ? textA.charAt(i) : FIELD_END;
+            char cb = j < textB.length() ? textB.charAt(j) : FIELD_END;
+            if (ca != cb) {
+                return Character.compare(ca, cb);
+            }
+            if (ca == FIELD_END) {
+                return Long.compare(a, b);
+            }
+            i++;
+            j++;
+        }
+    }
+
+    /**
+     * 0 if the text at entry starts with prefix, otherwise the sign of the
+     * text compared with prefix
+     */
+    private static int compareToPrefix(long entry, String[] texts, String prefix) {
+        String text = texts[slotOf(entry)];
+        int offset = offsetOf(entry);
+        for (int p = 0; p < prefix.length(); p++) {
+            int i = offset + p;
+            char c = i < text.length() ? text.charAt(i) : FIELD_END;
+            if (c != prefix.charAt(p)) {
+                return Character.compare(c, prefix.charAt(p));
+            }
+        }
+        return 0;
+    }
+
+    private static int slotOf(long entry) {
+        return (int) (entry >>> OFFSET_BITS);
+    }
+
+    private static int offsetOf(long entry) {
+        return (int) (entry & MAX_TEXT);
+    }
+
+    /**
+     * One published state of the index: the key and text of each slot, and
+     * the entries sorted by the text they point at
+     */
+    private static final class Snapshot {
+        final Object[] keys;
+        final String[] texts;
+        final long[] entries;
+
+        Snapshot(Object[] keys, String[] texts, long[] entries) {
+            this.keys = keys;
+            this.texts = texts;
+            this.entries = entries;
+        }
+    }
+}
\ No newline at end of file
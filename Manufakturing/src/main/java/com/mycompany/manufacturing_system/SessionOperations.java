@@ -0,0 +1,148 @@
+package com.mycompany.manufacturing_system;
+
+import java.sql.SQLException;
+import java.util.concurrent.Executor;
+
+/**
+ * The Operations objects of one login session, shared by all of its views.
+ * Each is opened on first use, so a screen visited again reuses its
+ * connection and skips the table setup. Each has its own serial loader and
+ * is only touched there, because its connection runs one statement at a
+ * time. close() returns the connections to the pool at logout.
+ */
+public class SessionOperations {
+    private final Executor manufacturingLoader = BackgroundExecutor.serial();
+    private final Executor inventoryLoader = BackgroundExecutor.serial();
+    private final Executor qualityLoader = BackgroundExecutor.serial();
+    private final Executor reportsLoader = BackgroundExecutor.serial();
+    private final Executor userLoader = BackgroundExecutor.serial();
+
+    private ManufacturingOperations manufacturing; // only touched on manufacturingLoader
+    private InventoryOperations inventory; // only touched on inventoryLoader
+    private QualityOperations quality; // only touched on qualityLoader
+    private ReportsOperations reports; // only touched on reportsLoader
+    private UserDirectory userDirectory; // only touched on userLoader
+    private volatile boolean closed;
+
+    public SessionOperations() {
+    }
+
+    public Executor manufacturingLoader() {
+        return manufacturingLoader;
+    }
+
+    public Executor inventoryLoader() {
+        return inventoryLoader;
+    }
+
+    public Executor qualityLoader() {
+        return qualityLoader;
+    }
+
+    public Executor reportsLoader() {
+        return reportsLoader;
+    }
+
+    public Executor userLoader() {
+        return userLoader;
+    }
+
+    /**
+     * Call on manufacturingLoader
+     */
+    public ManufacturingOperations manufacturing() throws SQLException {
+        checkOpen();
+        if (manufacturing == null) {
+            manufacturing = new ManufacturingOperations();
+        }
+        return manufacturing;
+    }
+
+    /**
+     * Call on inventoryLoader
+     */
+    public InventoryOperations inventory() throws SQLException {
+        checkOpen();
+        if (inventory == null) {
+            inventory = new InventoryOperations();
+        }
+        return inventory;
+    }
+
+    /**
+     * Call on qualityLoader
+     */
+    public QualityOperations quality() throws SQLException {
+        checkOpen();
+        if (quality == null) {
+            quality = new QualityOperations();
+        }
+        return quality;
+    }
+
+    /**
+     * Call on reportsLoader
+     */
+    public ReportsOperations reports() throws SQLException {
+        checkOpen();
+        if (reports == null) {
+            reports = new ReportsOperations();
+        }
+        return reports;
+    }
+
+    /**
+     * Call on userLoader
+     */
+    public UserDirectory userDirectory() throws SQLException {
+        checkOpen();
+        if (userDirectory == null) {
+            userDirectory = new UserDirectory();
+        }
+        return userDirectory;
+    }
+
+    private void checkOpen() throws SQLException {
+        if (closed) {
+            throw new SQLException("Session closed");
+        }
+    }
+
+    /**
+     * Release the connections once the work already queued on each loader
+     * is done. Later calls fail with an SQLException.
+     */
+    public void close() {
+        closed = true;
+        manufacturingLoader.execute(() -> {
+            if (manufacturing != null) {
+                manufacturing.close();
+                manufacturing = null;
+            }
+        });
+        inventoryLoader.execute(() -> {
+            if (inventory != null) {
+                inventory.close();
+                inventory = null;
+            }
+        });
+        qualityLoader.execute(() -> {
+            if (quality != null) {
+                quality.close();
+                quality = null;
+            }
+        });
+        reportsLoader.execute(() -> {
+            if (reports != null) {
+                reports.close();
+                reports = null;
+            }
+        });
+        userLoader.execute(() -> {
+            if (userDirectory != null) {
+                userDirectory.close();
+                userDirectory = null;
+            }
+        });
+    }
+}
\ No newline at end of file
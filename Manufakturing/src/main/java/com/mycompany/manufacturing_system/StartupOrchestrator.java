@@ -0,0 +1,150 @@
+package com.mycompany.manufacturing_system;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+/**
+ * Runs application startup as named phases. A phase starts on a background
+ * thread as soon as the phases it depends on have finished, so independent
+ * work such as the database schema, class loading and the login stage
+ * overlaps. A phase fails, and is skipped, when one of its dependencies
+ * failed. Once every phase is done the timing of each is logged.
+ */
+public class StartupOrchestrator {
+    private final Logger log;
+    private final long createdAt = System.nanoTime();
+    private final Map<String, Phase> phases = new LinkedHashMap<>(); // guarded by this
+
+    /**
+     * @param log where the timing report goes, e.g. the logger with the log file
+     */
+    public StartupOrchestrator(Logger log) {
+        this.log = log;
+    }
+
+    /**
+     * Run work on a background thread once the phases named in after have finished
+     */
+    public synchronized CompletableFuture<Void> start(String name, Runnable work, String... after) {
+        CompletableFuture<?>[] dependencies = new CompletableFuture<?>[after.length];
+        for (int i = 0; i < after.length; i++) {
+            dependencies[i] = phase(after[i]);
+        }
+        Phase phase = new Phase(name);
+        phase.future = CompletableFuture.allOf(dependencies)
+            .thenRunAsync(() -> phase.time(work), BackgroundExecutor.shared());
+        phases.put(name, phase);
+        return phase.future;
+    }
+
+    /**
+     * Run work on the calling thread, timed as a phase. Exceptions are rethrown.
+     */
+    public void run(String name, Runnable work) {
+        Phase phase = new Phase(name);
+        synchronized (this) {
+            phases.put(name, phase);
+        }
+        try {
+            phase.time(work);
+            phase.future = CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            phase.future = CompletableFuture.failedFuture(e);
+            throw e;
+        }
+    }
+
+    /**
+     * The completion of a phase started earlier
+     */
+    public synchronized CompletableFuture<Void> phase(String name) {
+        Phase phase = phases.get(name);
+        if (phase == null || phase.future == null) {
+            throw new IllegalArgumentException("Unknown startup phase: " + name);
+        }
+        return phase.future;
+    }
+
+    /**
+     * Log that something happened, with the time since the JVM started
+     */
+    public void logMilestone(String what) {
+        log.info(what + " " + sinceJvmStartMillis() + " ms after JVM start");
+    }
+
+    /**
+     * Log the timing report once every phase started so far has finished
+     */
+    public void reportWhenDone() {
+        List<Phase> started;
+        synchronized (this) {
+            started = new ArrayList<>(phases.values());
+        }
+        CompletableFuture<?>[] futures = started.stream()
+            .map(phase -> phase.future)
+            .toArray(CompletableFuture<?>[]::new);
+        // Done means finished either way, so a failed phase does not hide the report
+        CompletableFuture.allOf(futures).handle((done, error) -> {
+            log.info(report(started));
+            return null;
+        });
+    }
+
+    private String report(List<Phase> started) {
+        StringBuilder report = new StringBuilder("Startup phases (ms since init):");
+        for (Phase phase : started) {
+            report.append(String.format("%n  %-10s", phase.name));
+            if (phase.startedAt == 0) {
+                report.append(" skipped, a dependency failed");
+                continue;
+            }
+            long start = (phase.startedAt - createdAt) / 1_000_000;
+            long end = (phase.endedAt - createdAt) / 1_000_000;
+            report.append(String.format(" %6d .. %6d  %6d ms", start, end, end - start));
+            if (phase.failure != null) {
+                report.append("  failed: ").append(phase.failure.getMessage());
+            }
+        }
+        report.append(String.format("%nAll startup phases done %d ms after JVM start", sinceJvmStartMillis()));
+        return report.toString();
+    }
+
+    private static long sinceJvmStartMillis() {
+        return ProcessHandle.current().info().startInstant()
+            .map(start -> Duration.between(start, Instant.now()).toMillis())
+            .orElse(-1L);
+    }
+
+    /**
+     * One phase and when it ran
+     */
+    private static final class Phase {
+        final String name;
+        volatile CompletableFuture<Void> future;
+        volatile long startedAt;
+        volatile long endedAt;
+        volatile Throwable failure;
+
+        Phase(String name) {
+            this.name = name;
+        }
+
+        void time(Runnable work) {
+            startedAt = System.nanoTime();
+            try {
+                work.run();
+            } catch (RuntimeException e) {
+                failure = e;
+                throw e;
+            } finally {
+                endedAt = System.nanoTime();
+            }
+        }
+    }
+}
\ No newline at end of file
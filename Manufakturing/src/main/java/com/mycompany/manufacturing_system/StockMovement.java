@@ -0,0 +1,115 @@
+package com.mycompany.manufacturing_system;
+
+import javafx.beans.property.*;
+import java.time.LocalDateTime;
+
+/**
+ * Stock Movement model class, a table row over a StockMovementRecord.
+ * Properties are created on first use, see PropertyRow; setters go through
+ * the property.
+ */
+class StockMovement extends PropertyRow {
+    private static final int MOVEMENT_ID = 0;
+    private static final int ITEM_CODE = 1;
+    private static final int MOVEMENT_TYPE = 2;
+    private static final int QUANTITY = 3;
+    private static final int REFERENCE = 4;
+    private static final int NOTES = 5;
+    private static final int MOVEMENT_DATE = 6;
+    private static final int USER = 7;
+    private static final int LOCATION_FROM = 8;
+    private static final int LOCATION_TO = 9;
+    private static final int UNIT_COST = 10;
+    private static final int FIELD_COUNT = 11;
+
+    private final StockMovementRecord record;
+
+    public StockMovement() {
+        this(new StockMovementRecord("", "", "", 0, "", "", LocalDateTime.now(), "", "", "", 0.0));
+    }
+
+    StockMovement(StockMovementRecord record) {
+        this.record = record;
+    }
+
+    @Override
+    protected int fieldCount() {
+        return FIELD_COUNT;
+    }
+
+    /**
+     * The row's current values
+     */
+    StockMovementRecord toRecord() {
+        if (createdPropertyCount() == 0) {
+            return record;
+        }
+        return new StockMovementRecord(getMovementId(), getItemCode(), getMovementType(), getQuantity(),
+            getReference(), getNotes(), getMovementDate(), getUser(), getLocationFrom(), getLocationTo(),
+            getUnitCost());
+    }
+
+    // Getters
+    public String getMovementId() { return getString(MOVEMENT_ID, record.movementId()); }
+    public String getItemCode() { return getString(ITEM_CODE, record.itemCode()); }
+    public String getMovementType() { return getString(MOVEMENT_TYPE, record.movementType()); }
+    public int getQuantity() { return getInt(QUANTITY, record.quantity()); }
+    public String getReference() { return getString(REFERENCE, record.reference()); }
+    public String getNotes() { return getString(NOTES, record.notes()); }
+    public LocalDateTime getMovementDate() { return getObject(MOVEMENT_DATE, record.movementDate()); }
+    public String getUser() { return getString(USER, record.user()); }
+    public String getLocationFrom() { return getString(LOCATION_FROM, record.locationFrom()); }
+    public String getLocationTo() { return getString(LOCATION_TO, record.locationTo()); }
+    public double getUnitCost() { return getDouble(UNIT_COST, record.unitCost()); }
+
+    // Property getters, created on first use
+    public StringProperty movementIdProperty() {
+        return property(MOVEMENT_ID, () -> new SimpleStringProperty(this, "movementId", record.movementId()));
+    }
+    public StringProperty itemCodeProperty() {
+        return property(ITEM_CODE, () -> new SimpleStringProperty(this, "itemCode", record.itemCode()));
+    }
+    public StringProperty movementTypeProperty() {
+        return property(MOVEMENT_TYPE, () -> new SimpleStringProperty(this, "movementType",
+            record.movementType()));
+    }
+    public IntegerProperty quantityProperty() {
+        return property(QUANTITY, () -> new SimpleIntegerProperty(this, "quantity", record.quantity()));
+    }
+    public StringProperty referenceProperty() {
+        return property(REFERENCE, () -> new SimpleStringProperty(this, "reference", record.reference()));
+    }
+    public StringProperty notesProperty() {
+        return property(NOTES, () -> new SimpleStringProperty(this, "notes", record.notes()));
+    }
+    public ObjectProperty<LocalDateTime> movementDateProperty() {
+        return property(MOVEMENT_DATE, () -> new SimpleObjectProperty<>(this, "movementDate",
+            record.movementDate()));
+    }
+    public StringProperty userProperty() {
+        return property(USER, () -> new SimpleStringProperty(this, "user", record.user()));
+    }
+    public StringProperty locationFromProperty() {
+        return property(LOCATION_FROM, () -> new SimpleStringProperty(this, "locationFrom",
+            record.locationFrom()));
+    }
+    public StringProperty locationToProperty() {
+        return property(LOCATION_TO, () -> new SimpleStringProperty(this, "locationTo", record.locationTo()));
+    }
+    public DoubleProperty unitCostProperty() {
+        return property(UNIT_COST, () -> new SimpleDoubleProperty(this, "unitCost", record.unitCost()));
+    }
+
+    // Setters
+    public void setMovementId(String movementId) { movementIdProperty().set(movementId); }
+    public void setItemCode(String itemCode) { itemCodeProperty().set(itemCode); }
+    public void setMovementType(String movementType) { movementTypeProperty().set(movementType); }
+    public void setQuantity(int quantity) { quantityProperty().set(quantity); }
+    public void setReference(String reference) { referenceProperty().set(reference); }
+    public void setNotes(String notes) { notesProperty().set(notes); }
+    public void setMovementDate(LocalDateTime movementDate) { movementDateProperty().set(movementDate); }
+    public void setUser(String user) { userProperty().set(user); }
+    public void setLocationFrom(String locationFrom) { locationFromProperty().set(locationFrom); }
+    public void setLocationTo(String locationTo) { locationToProperty().set(locationTo); }
+    public void setUnitCost(double unitCost) { unitCostProperty().set(unitCost); }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.mycompany.manufacturing_system;
+
+import java.time.LocalDateTime;
+
+/**
+ * A stock_movements row. Immutable; a StockMovement wraps it for tables.
+ */
+record StockMovementRecord(String movementId, String itemCode, String movementType, int quantity,
+                           String reference, String notes, LocalDateTime movementDate, String user,
+                           String locationFrom, String locationTo, double unitCost) {
+
+    StockMovementRecord {
+        itemCode = StringPool.dedupe(itemCode);
+        movementType = StringPool.dedupe(movementType);
+        user = StringPool.dedupe(user);
+        locationFrom = StringPool.dedupe(locationFrom);
+        locationTo = StringPool.dedupe(locationTo);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.mycompany.manufacturing_system;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonical instances of low-cardinality column values such as categories,
+ * statuses, locations and suppliers, so rows loaded in bulk share one String
+ * per distinct value instead of holding one copy per row. The pool is
+ * bounded (stringPool.maxSize, default 10000); once full, values are
+ * returned as they are.
+ */
+final class StringPool {
+    private static final int MAX_SIZE = Integer.getInteger("stringPool.maxSize", 10000);
+    private static final ConcurrentHashMap<String, String> POOL = new ConcurrentHashMap<>();
+
+    private StringPool() {
+    }
+
+    /**
+     * The pooled instance equal to value
+     */
+    static String dedupe(String value) {
+        if (value == null) {
+            return null;
+        }
+        String pooled = POOL.get(value);
+        if (pooled != null) {
+            return pooled;
+        }
+        if (POOL.size() >= MAX_SIZE) {
+            return value;
+        }
+        pooled = POOL.putIfAbsent(value, value);
+        return pooled != null ? pooled : value;
+    }
+}
\ No newline at end of file
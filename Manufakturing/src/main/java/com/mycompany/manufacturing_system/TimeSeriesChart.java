@@ -0,0 +1,185 @@
+package com.mycompany.manufacturing_system;
+
+import javafx.animation.PauseTransition;
+import javafx.geometry.Point2D;
+import javafx.scene.chart.LineChart;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.XYChart;
+import javafx.util.Duration;
+import javafx.util.StringConverter;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Line chart over dates that only ever shows about one point per pixel.
+ * The full series are kept as primitive arrays; the chart's own data is the
+ * visible part of each series reduced with ChartDownsampler to the plot width.
+ * Resizing or zooming (mouse wheel, double-click to reset) re-samples the
+ * visible range, so the number of chart nodes stays bounded however long the
+ * report range is.
+ */
+public class TimeSeriesChart {
+    private static final double ZOOM_STEP = 1.25;
+    // Smallest zoomed range, in days
+    private static final double MIN_RANGE = 7;
+
+    private final NumberAxis xAxis = new NumberAxis();
+    private final NumberAxis yAxis = new NumberAxis();
+    private final LineChart<Number, Number> chart = new LineChart<>(xAxis, yAxis);
+    private final List<FullSeries> series = new ArrayList<>();
+    // Coalesces the bursts of width changes a window resize produces
+    private final PauseTransition resampleDelay = new PauseTransition(Duration.millis(50));
+
+    private double dataMin;
+    private double dataMax;
+
+    public TimeSeriesChart(String title, String xLabel, String yLabel) {
+        chart.setTitle(title);
+        chart.setCreateSymbols(false);
+        chart.setAnimated(false);
+        xAxis.setLabel(xLabel);
+        yAxis.setLabel(yLabel);
+        xAxis.setAutoRanging(false);
+        xAxis.setForceZeroInRange(false);
+        xAxis.setTickLabelFormatter(new StringConverter<>() {
+            @Override
+            public String toString(Number epochDay) {
+                return LocalDate.ofEpochDay(Math.round(epochDay.doubleValue())).toString();
+            }
+
+            @Override
+            public Number fromString(String text) {
+                return LocalDate.parse(text).toEpochDay();
+            }
+        });
+
+        resampleDelay.setOnFinished(e -> resample());
+        xAxis.widthProperty().addListener((obs, oldWidth, newWidth) -> resampleDelay.playFromStart());
+
+        chart.setOnScroll(e -> {
+            if (series.isEmpty() || e.getDeltaY() == 0) {
+                return;
+            }
+            Point2D local = xAxis.sceneToLocal(e.getSceneX(), e.getSceneY());
+            double anchor = xAxis.getValueForDisplay(local.getX()).doubleValue();
+            zoom(anchor, e.getDeltaY() > 0 ? 1 / ZOOM_STEP : ZOOM_STEP);
+            e.consume();
+        });
+        chart.setOnMouseClicked(e -> {
+            if (e.getClickCount() == 2) {
+                setRange(dataMin, dataMax);
+            }
+        });
+    }
+
+    public LineChart<Number, Number> getChart() {
+        return chart;
+    }
+
+    /**
+     * Replace the chart's series. Must be called on the FX thread.
+     */
+    public void setSeries(List<FullSeries> newSeries) {
+        series.clear();
+        series.addAll(newSeries);
+
+        dataMin = Double.MAX_VALUE;
+        dataMax = -Double.MAX_VALUE;
+        for (FullSeries s : series) {
+            if (s.x.length > 0) {
+                dataMin = Math.min(dataMin, s.x[0]);
+                dataMax = Math.max(dataMax, s.x[s.x.length - 1]);
+            }
+        }
+        if (dataMin > dataMax) {
+            dataMin = LocalDate.now().toEpochDay() - MIN_RANGE;
+            dataMax = LocalDate.now().toEpochDay();
+        }
+        setRange(dataMin, dataMax);
+    }
+
+    private void zoom(double anchor, double factor) {
+        double lower = xAxis.getLowerBound();
+        double upper = xAxis.getUpperBound();
+        double newRange = Math.max(MIN_RANGE, (upper - lower) * factor);
+        double fullRange = dataMax - dataMin;
+        if (newRange >= fullRange) {
+            setRange(dataMin, dataMax);
+            return;
+        }
+        // Keep the date under the pointer in place
+        double ratio = (anchor - lower) / (upper - lower);
+        double newLower = anchor - ratio * newRange;
+        newLower = Math.max(dataMin, Math.min(newLower, dataMax - newRange));
+        setRange(newLower, newLower + newRange);
+    }
+
+    private void setRange(double lower, double upper) {
+        if (upper <= lower) {
+            lower -= MIN_RANGE / 2;
+            upper += MIN_RANGE / 2;
+        }
+        xAxis.setLowerBound(lower);
+        xAxis.setUpperBound(upper);
+        xAxis.setTickUnit(Math.max(1, Math.ceil((upper - lower) / 8)));
+        resample();
+    }
+
+    /**
+     * Rebuild the chart data from the visible part of each full series
+     */
+    private void resample() {
+        double lower = xAxis.getLowerBound();
+        double upper = xAxis.getUpperBound();
+        int width = (int) xAxis.getWidth();
+        int threshold = Math.max(3, width > 0 ? width : (int) Math.max(chart.getPrefWidth(), 400));
+
+        List<XYChart.Series<Number, Number>> visible = new ArrayList<>(series.size());
+        for (FullSeries s : series) {
+            // One point beyond each edge so the line runs off the plot area
+            int from = Math.max(0, lowerIndex(s.x, lower) - 1);
+            int to = Math.min(s.x.length, lowerIndex(s.x, upper) + 1);
+
+            XYChart.Series<Number, Number> chartSeries = new XYChart.Series<>();
+            chartSeries.setName(s.name);
+            List<XYChart.Data<Number, Number>> points = new ArrayList<>();
+            for (int i : ChartDownsampler.largestTriangleThreeBuckets(s.x, s.y, from, to, threshold)) {
+                points.add(new XYChart.Data<>(s.x[i], s.y[i]));
+            }
+            chartSeries.getData().setAll(points);
+            visible.add(chartSeries);
+        }
+        chart.getData().setAll(visible);
+    }
+
+    /**
+     * Index of the first x at or after value
+     */
+    private static int lowerIndex(double[] x, double value) {
+        int index = Arrays.binarySearch(x, value);
+        if (index < 0) {
+            return -index - 1;
+        }
+        while (index > 0 && x[index - 1] == value) {
+            index--;
+        }
+        return index;
+    }
+
+    /**
+     * A complete series, x in epoch days ascending
+     */
+    public static final class FullSeries {
+        final String name;
+        final double[] x;
+        final double[] y;
+
+        public FullSeries(String name, double[] x, double[] y) {
+            this.name = name;
+            this.x = x;
+            this.y = y;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.mycompany.manufacturing_system;
+
+/**
+ * Trend Data class for charts
+ */
+class TrendData extends ReportData {
+    private String period;
+    private int orderCount;
+    private int totalQuantity;
+    private double totalValue;
+    private double averageCompletion;
+
+    // Getters and Setters
+    public String getPeriod() { return period; }
+    public void setPeriod(String period) { this.period = period; }
+
+    public int getOrderCount() { return orderCount; }
+    public void setOrderCount(int orderCount) { this.orderCount = orderCount; }
+
+    public int getTotalQuantity() { return totalQuantity; }
+    public void setTotalQuantity(int totalQuantity) { this.totalQuantity = totalQuantity; }
+
+    public double getTotalValue() { return totalValue; }
+    public void setTotalValue(double totalValue) { this.totalValue = totalValue; }
+
+    public double getAverageCompletion() { return averageCompletion; }
+    public void setAverageCompletion(double averageCompletion) { this.averageCompletion = averageCompletion; }
+}
\ No newline at end of file
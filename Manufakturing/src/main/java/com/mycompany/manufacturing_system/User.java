@@ -104,7 +104,7 @@ public class User {
     }
 
     public boolean canManageUsers() {
-        return isAdmin() && isActive();
+        return RolePermissions.shared().hasPermission(this, RolePermissions.Permission.USER_MANAGEMENT);
     }
 
     public boolean canCreateOrders() {
@@ -112,19 +112,19 @@ public class User {
     }
 
     public boolean canManageProduction() {
-        return isAdmin() && isActive(); // Only ADMIN can manage production
+        return RolePermissions.shared().hasPermission(this, RolePermissions.Permission.PRODUCTION_MANAGEMENT);
     }
 
     public boolean canViewReports() {
-        return isActive(); // Both roles can view reports, but different levels
+        return RolePermissions.shared().hasPermission(this, RolePermissions.Permission.REPORTS);
     }
 
     public boolean canViewAllOrders() {
-        return isAdmin() && isActive(); // Only ADMIN can view all orders
+        return RolePermissions.shared().hasPermission(this, RolePermissions.Permission.ALL_ORDERS);
     }
 
     public boolean canModifySystemSettings() {
-        return isAdmin() && isActive();
+        return RolePermissions.shared().hasPermission(this, RolePermissions.Permission.SYSTEM_SETTINGS);
     }
 
     // Utility methods
@@ -0,0 +1,193 @@
+package com.mycompany.manufacturing_system;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Server-side user search for the user management screen.
+ * Matches a prefix of username, full name, email or department through
+ * one index per column, pages by username (keyset, so page N costs the same
+ * as page 1), and computes the stat card counts in a single aggregate query.
+ */
+public class UserDirectory {
+    public static final int PAGE_SIZE = 100;
+
+    private static volatile boolean indexesReady = false;
+
+    private final Connection connection;
+
+    public UserDirectory() throws SQLException {
+        this(DatabaseConnection.getConnection());
+    }
+
+    UserDirectory(Connection connection) {
+        this.connection = connection;
+        ensureIndexes();
+    }
+
+    /**
+     * Return this directory's connection to the pool
+     */
+    public void close() {
+        DatabaseConnection.releaseConnection(connection);
+    }
+
+    /**
+     * Add the per-column indexes the prefix search uses. username already
+     * has one from its UNIQUE constraint.
+     */
+    private void ensureIndexes() {
+        if (indexesReady) {
+            return;
+        }
+        String[] indexes = {
+            "CREATE INDEX idx_full_name ON users (full_name)",
+            "CREATE INDEX idx_email ON users (email)",
+            "CREATE INDEX idx_department ON users (department)"
+        };
+        try (Statement stmt = connection.createStatement()) {
+            for (String index : indexes) {
+                try {
+                    stmt.execute(index);
+                } catch (SQLException e) {
+                    // 1061 = duplicate key name, the index already exists
+                    if (e.getErrorCode() != 1061) {
+                        System.err.println("Failed to create user search index: " + e.getMessage());
+                    }
+                }
+            }
+            indexesReady = true;
+        } catch (SQLException e) {
+            System.err.println("Failed to create user search indexes: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Get one page of users ordered by username.
+     *
+     * @param prefix search text matched against the start of username, full
+     *               name, email and department; null or blank for everyone
+     * @param role   role name, or null for all roles
+     * @param active active flag, or null for both
+     * @param after  username the previous page ended with, or null for the first page
+     */
+    public UserPage search(String prefix, String role, Boolean active, String after, int limit) {
+        boolean searching = prefix != null && !prefix.isBlank();
+        StringBuilder query = new StringBuilder("""
+            SELECT u.user_id, u.username, r.role_name, u.full_name, u.email, u.department, u.is_active
+            """);
+        if (searching) {
+            // One index range scan per column instead of an OR no index can serve
+            query.append("""
+                FROM (
+                    SELECT user_id FROM users WHERE username LIKE ?
+                    UNION SELECT user_id FROM users WHERE full_name LIKE ?
+                    UNION SELECT user_id FROM users WHERE email LIKE ?
+                    UNION SELECT user_id FROM users WHERE department LIKE ?
+                ) matched
+                JOIN users u ON u.user_id = matched.user_id
+                """);
+        } else {
+            query.append("FROM users u\n");
+        }
+        query.append("JOIN roles r ON u.role_id = r.role_id\nWHERE 1 = 1\n");
+        if (after != null) {
+            query.append("AND u.username > ?\n");
+        }
+        if (role != null) {
+            query.append("AND r.role_name = ?\n");
+        }
+        if (active != null) {
+            query.append("AND u.is_active = ?\n");
+        }
+        query.append("ORDER BY u.username\nLIMIT ?");
+
+        List<User> users = new ArrayList<>(limit);
+        boolean hasMore = false;
+        try (PreparedStatement stmt = connection.prepareStatement(query.toString())) {
+            int index = 1;
+            if (searching) {
+                String pattern = likePrefix(prefix.trim());
+                for (int i = 0; i < 4; i++) {
+                    stmt.setString(index++, pattern);
+                }
+            }
+            if (after != null) {
+                stmt.setString(index++, after);
+            }
+            if (role != null) {
+                stmt.setString(index++, role);
+            }
+            if (active != null) {
+                stmt.setBoolean(index++, active);
+            }
+            // One extra row tells whether another page follows
+            stmt.setInt(index, limit + 1);
+            ResultSet rs = stmt.executeQuery();
+
+            while (rs.next()) {
+                if (users.size() == limit) {
+                    hasMore = true;
+                    break;
+                }
+                users.add(new User(
+                    rs.getInt("user_id"),
+                    rs.getString("username"),
+                    "",
+                    rs.getString("role_name"),
+                    rs.getString("full_name"),
+                    rs.getString("email"),
+                    rs.getString("department"),
+                    rs.getBoolean("is_active")
+                ));
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error searching users: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        String next = hasMore ? users.get(users.size() - 1).getUsername() : null;
+        return new UserPage(users, next);
+    }
+
+    /**
+     * Get the stat card counts in one pass over users
+     */
+    public UserStatistics getStatistics() {
+        String query = """
+            SELECT COUNT(*) AS total_users,
+                   COALESCE(SUM(u.is_active = TRUE), 0) AS active_users,
+                   COALESCE(SUM(r.role_name = 'ADMIN'), 0) AS admin_count,
+                   COALESCE(SUM(r.role_name = 'USER'), 0) AS user_count
+            FROM users u
+            JOIN roles r ON u.role_id = r.role_id
+            """;
+
+        try (PreparedStatement stmt = connection.prepareStatement(query)) {
+            ResultSet rs = stmt.executeQuery();
+
+            if (rs.next()) {
+                return new UserStatistics(
+                    rs.getInt("total_users"),
+                    rs.getInt("active_users"),
+                    rs.getInt("admin_count"),
+                    rs.getInt("user_count")
+                );
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error getting user statistics: " + e.getMessage());
+            e.printStackTrace();
+        }
+        return new UserStatistics(0, 0, 0, 0);
+    }
+
+    /**
+     * LIKE pattern matching values that start with text, wildcards in text escaped
+     */
+    private static String likePrefix(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+}
\ No newline at end of file
@@ -1,8 +1,12 @@
 package com.mycompany.manufacturing_system;
 
+import javafx.animation.PauseTransition;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.FXCollections;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
 import javafx.scene.text.Font;
@@ -10,9 +14,11 @@ import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 import javafx.scene.paint.Color;
 import javafx.scene.effect.DropShadow;
-import java.util.List;
+import javafx.stage.Window;
+import javafx.util.Duration;
+import java.sql.SQLException;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 
 /**
@@ -31,22 +37,57 @@ public class UserManagementView {
     private Label activeUsersLabel;
     private Label adminCountLabel;
     private Label userCountLabel;
+    private Label shownUsersLabel;
+    private Button loadMoreButton;
+    private final SessionOperations session;
+    // Whether the session was opened for this view alone, and is closed with it
+    private final boolean ownsSession;
+    // Username the last loaded page ended with, null when there are no more
+    private String nextCursor;
+    private volatile long searchGeneration;
+
+    // Searches share the session's UserDirectory and its connection, so they run one at a time
+    private final Executor searchExecutor;
+    private final ViewLoader<UserStatistics> statisticsLoader;
+    // Waits for a pause in typing before searching
+    private final PauseTransition searchDelay = new PauseTransition(Duration.millis(250));
 
     public UserManagementView() {
-        this.userOps = new UserOperations();
         // In a real app, the current user would be properly authenticated and passed here.
         // For demonstration, we create a default admin user.
-        this.currentUser = new User("tempAdmin", "pass", "ADMIN");
+        this(new User("tempAdmin", "pass", "ADMIN"), new SessionOperations(), true);
+    }
+
+    public UserManagementView(User user, SessionOperations session) {
+        this(user, session, false);
     }
 
-    public UserManagementView(User user) {
+    private UserManagementView(User user, SessionOperations session, boolean ownsSession) {
         this.userOps = new UserOperations();
         this.currentUser = user;
+        this.session = session;
+        this.ownsSession = ownsSession;
+        this.searchExecutor = session.userLoader();
+        this.statisticsLoader = new ViewLoader<>("load user statistics", searchExecutor,
+            () -> getUserDirectory().getStatistics(), stats -> {
+                totalUsersLabel.setText(String.valueOf(stats.getTotalUsers()));
+                activeUsersLabel.setText(String.valueOf(stats.getActiveUsers()));
+                adminCountLabel.setText(String.valueOf(stats.getAdminCount()));
+                userCountLabel.setText(String.valueOf(stats.getUserCount()));
+            });
+    }
+
+    /**
+     * The session's UserDirectory, opened on first use. Only on
+     * searchExecutor, so the view never blocks the FX thread on connection or index setup.
+     */
+    private UserDirectory getUserDirectory() throws SQLException {
+        return session.userDirectory();
     }
 
     public VBox getView() {
         if (currentUser == null || !currentUser.canManageUsers()) {
-            return createAccessDeniedView();
+            return closeSessionWhenHidden(createAccessDeniedView());
         }
 
         VBox mainContainer = new VBox(20);
@@ -72,7 +113,27 @@ public class UserManagementView {
         refreshUserTable();
         refreshStatistics();
 
-        return mainContainer;
+        return closeSessionWhenHidden(mainContainer);
+    }
+
+    /**
+     * A view that opened its own session gives the session's connection back
+     * to the pool once its window is hidden; a shared session is left to the
+     * login that opened it. Such a view is not meant to be shown again.
+     */
+    private <T extends Node> T closeSessionWhenHidden(T view) {
+        if (ownsSession) {
+            ObservableValue<Boolean> showing = view.sceneProperty()
+                .flatMap(Scene::windowProperty)
+                .flatMap(Window::showingProperty)
+                .orElse(false);
+            showing.addListener((obs, wasShowing, isShowing) -> {
+                if (wasShowing && !isShowing) {
+                    session.close();
+                }
+            });
+        }
+        return view;
     }
 
     private VBox createAccessDeniedView() {
@@ -170,7 +231,8 @@ public class UserManagementView {
         searchField.setPromptText("🔍 Search users...");
         searchField.setPrefWidth(200);
         searchField.setStyle("-fx-background-color: white; -fx-background-radius: 6; -fx-border-radius: 6; -fx-border-color: #bdc3c7; -fx-padding: 8 12;");
-        searchField.textProperty().addListener((obs, oldVal, newVal) -> applyFilters());
+        searchDelay.setOnFinished(e -> applyFilters());
+        searchField.textProperty().addListener((obs, oldVal, newVal) -> searchDelay.playFromStart());
         
         roleFilter = new ComboBox<>(FXCollections.observableArrayList("All Roles", "ADMIN", "USER"));
         roleFilter.setValue("All Roles");
@@ -205,8 +267,17 @@ public class UserManagementView {
         
         userTable = createUserTable();
         VBox.setVgrow(userTable, Priority.ALWAYS);
+
+        shownUsersLabel = new Label();
+        shownUsersLabel.setStyle("-fx-text-fill: #7f8c8d;");
+        loadMoreButton = createStyledButton("Load More", "#95a5a6", 110, e -> loadUsers(nextCursor));
+        loadMoreButton.setDisable(true);
+        Region spacer = new Region();
+        HBox.setHgrow(spacer, Priority.ALWAYS);
+        HBox pagingBar = new HBox(10, shownUsersLabel, spacer, loadMoreButton);
+        pagingBar.setAlignment(Pos.CENTER_LEFT);
         
-        section.getChildren().addAll(sectionTitle, userTable);
+        section.getChildren().addAll(sectionTitle, userTable, pagingBar);
         return section;
     }
 
@@ -357,15 +428,16 @@ public class UserManagementView {
             return null;
         });
 
-        dialog.showAndWait().ifPresent(user -> {
-            if (userOps.createUser(user)) {
-                showAlert("Success", "User added successfully.", Alert.AlertType.INFORMATION);
-                refreshUserTable();
-                refreshStatistics();
-            } else {
-                showAlert("Error", "Failed to add user. Username might already exist.", Alert.AlertType.ERROR);
-            }
-        });
+        dialog.showAndWait().ifPresent(user -> ViewLoader.submit("add user", BackgroundExecutor.shared(),
+            () -> userOps.createUser(user), created -> {
+                if (created) {
+                    showAlert("Success", "User added successfully.", Alert.AlertType.INFORMATION);
+                    refreshUserTable();
+                    refreshStatistics();
+                } else {
+                    showAlert("Error", "Failed to add user. Username might already exist.", Alert.AlertType.ERROR);
+                }
+            }));
     }
 
     private void showEditUserDialog() {
@@ -399,14 +471,17 @@ public class UserManagementView {
             return null;
         });
 
-        dialog.showAndWait().ifPresent(updatedInfo -> {
-            if (userOps.updateUser(selectedUser.getUsername(), updatedInfo.getFullName(), updatedInfo.getEmail(), updatedInfo.getDepartment())) {
-                showAlert("Success", "User information updated successfully.", Alert.AlertType.INFORMATION);
-                refreshUserTable();
-            } else {
-                showAlert("Error", "Failed to update user information.", Alert.AlertType.ERROR);
-            }
-        });
+        String username = selectedUser.getUsername();
+        dialog.showAndWait().ifPresent(updatedInfo -> ViewLoader.submit("update user", BackgroundExecutor.shared(),
+            () -> userOps.updateUser(username, updatedInfo.getFullName(), updatedInfo.getEmail(), updatedInfo.getDepartment()),
+            updated -> {
+                if (updated) {
+                    showAlert("Success", "User information updated successfully.", Alert.AlertType.INFORMATION);
+                    refreshUserTable();
+                } else {
+                    showAlert("Error", "Failed to update user information.", Alert.AlertType.ERROR);
+                }
+            }));
     }
 
     private void showChangeRoleDialog() {
@@ -429,15 +504,17 @@ public class UserManagementView {
         dialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
         dialog.setResultConverter(bt -> bt == ButtonType.OK ? roleCombo.getValue() : null);
 
-        dialog.showAndWait().ifPresent(role -> {
-            if (userOps.changeUserRole(selectedUser.getUsername(), role)) {
-                showAlert("Success", "User role updated successfully.", Alert.AlertType.INFORMATION);
-                refreshUserTable();
-                refreshStatistics();
-            } else {
-                showAlert("Error", "Failed to update user role.", Alert.AlertType.ERROR);
-            }
-        });
+        String username = selectedUser.getUsername();
+        dialog.showAndWait().ifPresent(role -> ViewLoader.submit("change user role", BackgroundExecutor.shared(),
+            () -> userOps.changeUserRole(username, role), changed -> {
+                if (changed) {
+                    showAlert("Success", "User role updated successfully.", Alert.AlertType.INFORMATION);
+                    refreshUserTable();
+                    refreshStatistics();
+                } else {
+                    showAlert("Error", "Failed to update user role.", Alert.AlertType.ERROR);
+                }
+            }));
     }
 
     private void toggleUserStatus() {
@@ -454,13 +531,17 @@ public class UserManagementView {
         confirmAlert.showAndWait().ifPresent(response -> {
             if (response == ButtonType.OK) {
                 boolean newStatus = !selectedUser.isActive();
-                if (userOps.toggleUserStatus(selectedUser.getUsername(), newStatus)) {
-                    showAlert("Success", "User status updated successfully.", Alert.AlertType.INFORMATION);
-                    refreshUserTable();
-                    refreshStatistics();
-                } else {
-                    showAlert("Error", "Failed to update user status.", Alert.AlertType.ERROR);
-                }
+                String username = selectedUser.getUsername();
+                ViewLoader.submit("update user status", BackgroundExecutor.shared(),
+                    () -> userOps.toggleUserStatus(username, newStatus), toggled -> {
+                        if (toggled) {
+                            showAlert("Success", "User status updated successfully.", Alert.AlertType.INFORMATION);
+                            refreshUserTable();
+                            refreshStatistics();
+                        } else {
+                            showAlert("Error", "Failed to update user status.", Alert.AlertType.ERROR);
+                        }
+                    });
             }
         });
     }
@@ -500,13 +581,15 @@ public class UserManagementView {
             return null;
         });
 
-        dialog.showAndWait().ifPresent(password -> {
-            if (userOps.resetUserPassword(selectedUser.getUsername(), password)) {
-                showAlert("Success", "Password reset successfully.", Alert.AlertType.INFORMATION);
-            } else {
-                showAlert("Error", "Failed to reset password.", Alert.AlertType.ERROR);
-            }
-        });
+        String username = selectedUser.getUsername();
+        dialog.showAndWait().ifPresent(password -> ViewLoader.submit("reset password", BackgroundExecutor.shared(),
+            () -> userOps.resetUserPassword(username, password), reset -> {
+                if (reset) {
+                    showAlert("Success", "Password reset successfully.", Alert.AlertType.INFORMATION);
+                } else {
+                    showAlert("Error", "Failed to reset password.", Alert.AlertType.ERROR);
+                }
+            }));
     }
 
     private GridPane createUserFormGrid() {
@@ -518,26 +601,41 @@ public class UserManagementView {
     }
 
     private void applyFilters() {
-        List<User> allUsers = userOps.getAllUsers();
-        List<User> filteredUsers = allUsers.stream().filter(user -> {
-            String searchTerm = searchField.getText().toLowerCase();
-            String roleFilterValue = roleFilter.getValue();
-            String statusFilterValue = statusFilter.getValue();
-            
-            boolean searchMatch = searchTerm.isEmpty() || 
-                                  user.getUsername().toLowerCase().contains(searchTerm) ||
-                                  user.getFullName().toLowerCase().contains(searchTerm);
-            
-            boolean roleMatch = "All Roles".equals(roleFilterValue) || user.getRole().equals(roleFilterValue);
-            
-            boolean statusMatch = "All Status".equals(statusFilterValue) ||
-                                  ("Active".equals(statusFilterValue) && user.isActive()) ||
-                                  ("Inactive".equals(statusFilterValue) && !user.isActive());
-            
-            return searchMatch && roleMatch && statusMatch;
-        }).collect(Collectors.toList());
-        
-        userTable.setItems(FXCollections.observableArrayList(filteredUsers));
+        searchDelay.stop();
+        loadUsers(null);
+    }
+
+    /**
+     * Search in the background with the current filters. after is null for
+     * a new search, or the cursor of the page to append.
+     */
+    private void loadUsers(String after) {
+        long generation = after == null ? ++searchGeneration : searchGeneration;
+        String prefix = searchField.getText();
+        String role = "All Roles".equals(roleFilter.getValue()) ? null : roleFilter.getValue();
+        Boolean active = "All Status".equals(statusFilter.getValue()) ? null : "Active".equals(statusFilter.getValue());
+        loadMoreButton.setDisable(true);
+
+        ViewLoader.submit("search users", searchExecutor, () -> {
+            if (generation != searchGeneration) {
+                // A newer search is already queued
+                return null;
+            }
+            return getUserDirectory().search(prefix, role, active, after, UserDirectory.PAGE_SIZE);
+        }, page -> {
+            if (page == null || generation != searchGeneration) {
+                return;
+            }
+            if (after == null) {
+                userTable.getItems().setAll(page.getUsers());
+            } else {
+                userTable.getItems().addAll(page.getUsers());
+            }
+            nextCursor = page.getNextCursor();
+            loadMoreButton.setDisable(nextCursor == null);
+            shownUsersLabel.setText("Showing " + userTable.getItems().size()
+                + (nextCursor == null ? " users" : "+ users"));
+        });
     }
 
     private void refreshUserTable() {
@@ -545,11 +643,7 @@ public class UserManagementView {
     }
 
      private void refreshStatistics() {
-        UserStatistics stats = UserOperations.getUserStatistics();
-        totalUsersLabel.setText(String.valueOf(stats.getTotalUsers()));
-        activeUsersLabel.setText(String.valueOf(stats.getActiveUsers()));
-        adminCountLabel.setText(String.valueOf(stats.getAdminCount()));
-        userCountLabel.setText(String.valueOf(stats.getUserCount()));
+        statisticsLoader.load();
     }
 
     private void showAlert(String title, String content, Alert.AlertType type) {
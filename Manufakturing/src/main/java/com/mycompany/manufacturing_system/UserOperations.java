@@ -136,44 +136,15 @@ public class UserOperations {
     }
 
     public static UserStatistics getUserStatistics() {
-        int totalUsers = 0;
-        int activeUsers = 0;
-        int adminCount = 0;
-        int userCount = 0;
-
-        String sqlTotal = "SELECT COUNT(*) FROM users";
-        String sqlActive = "SELECT COUNT(*) FROM users WHERE is_active = TRUE";
-        String sqlAdmin = "SELECT COUNT(*) FROM users WHERE role = 'ADMIN'";
-        String sqlUser = "SELECT COUNT(*) FROM users WHERE role = 'USER'";
-
-        try (Connection conn = DatabaseConnection.getConnection()) {
-            try (Statement stmt = conn.createStatement()) {
-                ResultSet rs = stmt.executeQuery(sqlTotal);
-                if (rs.next()) {
-                    totalUsers = rs.getInt(1);
-                }
-            }
-            try (Statement stmt = conn.createStatement()) {
-                ResultSet rs = stmt.executeQuery(sqlActive);
-                if (rs.next()) {
-                    activeUsers = rs.getInt(1);
-                }
-            }
-            try (Statement stmt = conn.createStatement()) {
-                ResultSet rs = stmt.executeQuery(sqlAdmin);
-                if (rs.next()) {
-                    adminCount = rs.getInt(1);
-                }
-            }
-            try (Statement stmt = conn.createStatement()) {
-                ResultSet rs = stmt.executeQuery(sqlUser);
-                if (rs.next()) {
-                    userCount = rs.getInt(1);
-                }
-            }
+        Connection conn = null;
+        try {
+            conn = DatabaseConnection.getConnection();
+            return new UserDirectory(conn).getStatistics();
         } catch (SQLException e) {
             System.err.println("Error getting user statistics: " + e.getMessage());
+            return new UserStatistics(0, 0, 0, 0);
+        } finally {
+            DatabaseConnection.releaseConnection(conn);
         }
-        return new UserStatistics(totalUsers, activeUsers, adminCount, userCount);
     }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.mycompany.manufacturing_system;
+
+import java.util.List;
+
+/**
+ * One page of user search results
+ */
+class UserPage {
+    private final List<User> users;
+    private final String nextCursor;
+
+    UserPage(List<User> users, String nextCursor) {
+        this.users = users;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<User> getUsers() { return users; }
+
+    /**
+     * Username to pass as "after" for the next page, null on the last page
+     */
+    public String getNextCursor() { return nextCursor; }
+}
\ No newline at end of file
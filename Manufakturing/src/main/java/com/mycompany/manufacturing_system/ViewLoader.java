@@ -0,0 +1,103 @@
+package com.mycompany.manufacturing_system;
+
+import javafx.concurrent.Service;
+import javafx.concurrent.Task;
+import javafx.scene.control.Alert;
+import javafx.scene.control.ProgressIndicator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Loads a view's data off the JavaFX thread and hands it back on it.
+ * load() restarts the service, which cancels a load still in flight: its
+ * result is dropped instead of overwriting the newer one. Failures are
+ * logged and shown in an error alert. Views whose loads share one
+ * Operations connection pass a BackgroundExecutor.serial() executor.
+ */
+public final class ViewLoader<T> extends Service<T> {
+    private static final Logger logger = Logger.getLogger(ViewLoader.class.getName());
+
+    private final Callable<T> source;
+
+    /**
+     * @param description what a failure failed to do, e.g. "refresh orders"
+     * @param source      the load, run on the executor
+     * @param onLoaded    receives the result on the FX thread
+     */
+    public ViewLoader(String description, Executor executor, Callable<T> source, Consumer<T> onLoaded) {
+        this.source = source;
+        setExecutor(executor);
+        setOnSucceeded(e -> onLoaded.accept(getValue()));
+        setOnFailed(e -> showFailure(description, getException()));
+    }
+
+    /**
+     * Start a load, superseding any load still running. Call on the FX thread.
+     */
+    public void load() {
+        restart();
+    }
+
+    @Override
+    protected Task<T> createTask() {
+        return new LoadTask<>(source);
+    }
+
+    /**
+     * Small spinner that is visible only while a load runs
+     */
+    public ProgressIndicator createIndicator() {
+        ProgressIndicator indicator = new ProgressIndicator();
+        indicator.setMaxSize(20, 20);
+        indicator.setPrefSize(20, 20);
+        indicator.visibleProperty().bind(runningProperty());
+        return indicator;
+    }
+
+    /**
+     * Run a one-off database call, such as a save, off the FX thread and
+     * pass its result to onDone on the FX thread
+     */
+    public static <R> void submit(String description, Executor executor, Callable<R> work, Consumer<R> onDone) {
+        Task<R> task = new LoadTask<>(work);
+        task.setOnSucceeded(e -> onDone.accept(task.getValue()));
+        task.setOnFailed(e -> showFailure(description, task.getException()));
+        executor.execute(task);
+    }
+
+    private static void showFailure(String description, Throwable error) {
+        logger.log(Level.WARNING, "Failed to " + description, error);
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle("Error");
+        alert.setHeaderText(null);
+        alert.setContentText("Failed to " + description + ": "
+            + (error != null ? error.getMessage() : "unknown error"));
+        alert.show();
+    }
+
+    /**
+     * Task that is never interrupted when cancelled. Interrupting a virtual
+     * thread blocked in socket I/O closes the socket, and with it the
+     * connection the view's next load needs.
+     */
+    private static class LoadTask<R> extends Task<R> {
+        private final Callable<R> work;
+
+        LoadTask(Callable<R> work) {
+            this.work = work;
+        }
+
+        @Override
+        protected R call() throws Exception {
+            return work.call();
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return super.cancel(false);
+        }
+    }
+}
\ No newline at end of file